@@ -0,0 +1,109 @@
+package cit.edu.workforce.Config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ConditionalRequestInterceptor - Answers unchanged polling GETs with 304 Not Modified
+ * New file: Derives an ETag and Last-Modified from {@link ResourceVersionRegistry} for
+ * mapped read endpoints and checks If-None-Match / If-Modified-Since before the controller
+ * runs, so unchanged responses skip repository access and JSON serialization entirely.
+ * Mapped endpoints must not carry method-level checks stricter than the URL security rules,
+ * since a 304 is returned before method security is evaluated.
+ */
+@Component
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    // Collections with endpoints such as "today" whose results change with the date. The services
+    // filter on LocalDate.now in this same zone, never the database clock, so both agree at midnight.
+    private static final Set<String> DATE_SENSITIVE =
+            Set.of(ResourceVersionRegistry.TRAINING_PROGRAMS, ResourceVersionRegistry.EVENTS);
+
+    // Filtered on the current time, so their results change whenever an event starts; not cached
+    private static final List<PathPattern> EXCLUDED_PATHS = List.of(
+            PathPatternParser.defaultInstance.parse("/api/events/active-and-upcoming"));
+
+    private static final Map<PathPattern, String> COLLECTION_PATHS = new LinkedHashMap<>();
+
+    static {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        COLLECTION_PATHS.put(parser.parse("/api/hr/employees"), ResourceVersionRegistry.EMPLOYEES);
+        COLLECTION_PATHS.put(parser.parse("/api/hr/employees/active"), ResourceVersionRegistry.EMPLOYEES);
+        COLLECTION_PATHS.put(parser.parse("/api/hr/employees/inactive"), ResourceVersionRegistry.EMPLOYEES);
+        COLLECTION_PATHS.put(parser.parse("/api/hr/employees/accounts/deactivated"), ResourceVersionRegistry.EMPLOYEES);
+        COLLECTION_PATHS.put(parser.parse("/api/benefit-plans/**"), ResourceVersionRegistry.BENEFIT_PLANS);
+        COLLECTION_PATHS.put(parser.parse("/api/training-programs/**"), ResourceVersionRegistry.TRAINING_PROGRAMS);
+        COLLECTION_PATHS.put(parser.parse("/api/events/**"), ResourceVersionRegistry.EVENTS);
+    }
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    @Autowired
+    public ConditionalRequestInterceptor(ResourceVersionRegistry resourceVersionRegistry) {
+        this.resourceVersionRegistry = resourceVersionRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streamed responses re-enter on an async dispatch after the body is written
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        String collection = resolveCollection(request);
+        if (collection == null) {
+            return true;
+        }
+
+        String etag = resourceVersionRegistry.etag(collection);
+        if (DATE_SENSITIVE.contains(collection)) {
+            etag = etag.substring(0, etag.length() - 1) + "-" + LocalDate.now(ZONE_ID) + "\"";
+        }
+
+        // Let clients keep the body but revalidate on every use; also stops the
+        // security headers from marking these responses no-store
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        // Sets ETag and Last-Modified on the response, and the 304 status when they match
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(etag, resourceVersionRegistry.lastModified(collection));
+    }
+
+    private String resolveCollection(HttpServletRequest request) {
+        var path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+                : ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+        for (PathPattern excluded : EXCLUDED_PATHS) {
+            if (excluded.matches(path)) {
+                return null;
+            }
+        }
+        for (Map.Entry<PathPattern, String> entry : COLLECTION_PATHS.entrySet()) {
+            if (entry.getKey().matches(path)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package cit.edu.workforce.Config;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * DatabaseVendor - Which database the application is connected to
+ * New file: Production runs on PostgreSQL, but features built on PostgreSQL-only SQL (full-text
+ * search, exclusion constraints) keep a portable fallback so the application still starts and
+ * works on H2. The vendor is read from the connection metadata once.
+ */
+@Component
+public class DatabaseVendor {
+
+    private final DataSource dataSource;
+    private volatile DatabaseDriver driver;
+
+    public DatabaseVendor(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public boolean isPostgres() {
+        return driver() == DatabaseDriver.POSTGRESQL;
+    }
+
+    /**
+     * Vendor id as used in migration locations, e.g. "postgresql" or "h2"
+     */
+    public String id() {
+        return driver().getId();
+    }
+
+    private DatabaseDriver driver() {
+        DatabaseDriver current = driver;
+        if (current == null) {
+            current = detect(dataSource);
+            driver = current;
+        }
+        return current;
+    }
+
+    static DatabaseDriver detect(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName);
+        } catch (MetaDataAccessException e) {
+            return DatabaseDriver.UNKNOWN;
+        }
+    }
+}
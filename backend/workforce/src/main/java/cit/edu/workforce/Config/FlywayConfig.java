@@ -0,0 +1,48 @@
+package cit.edu.workforce.Config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * FlywayConfig - Versioned database migrations
+ * New file: Tables are still created by Hibernate's schema update, so migrations run right
+ * after the EntityManagerFactory is built instead of before it. Migrations own everything
+ * Hibernate does not manage well: the index plan, constraints and data backfills.
+ * Databases created before migrations existed are baselined at version 0, so V1 onwards apply.
+ * Portable migrations live in db/migration and PostgreSQL-only ones in db/vendor/postgresql;
+ * version numbers are shared, so other databases simply skip the vendor-specific versions.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .locations("classpath:db/migration",
+                        "classpath:db/vendor/" + DatabaseVendor.detect(configuration.getDataSource()).getId());
+    }
+
+    /**
+     * Skip the default migration that Spring Boot runs before JPA starts
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    /**
+     * Migrate once all singletons, including the EntityManagerFactory, are initialized
+     * and before the web server starts accepting requests
+     */
+    @Bean
+    public SmartInitializingSingleton flywayMigrationAfterSchemaUpdate(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
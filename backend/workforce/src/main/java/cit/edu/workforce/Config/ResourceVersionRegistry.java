@@ -0,0 +1,71 @@
+package cit.edu.workforce.Config;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ResourceVersionRegistry - In-memory version counters for cacheable GET collections
+ * New file: Each collection has a counter bumped after a write to any entity its responses
+ * are built from. ETags embed an id of this process, so a restart never reuses a tag
+ * for different data. Counters live in memory and assume a single application instance.
+ */
+@Component
+public class ResourceVersionRegistry {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String BENEFIT_PLANS = "benefit-plans";
+    public static final String TRAINING_PROGRAMS = "training-programs";
+    public static final String EVENTS = "events";
+
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, CollectionVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Record that the given collections changed
+     */
+    public void bump(String... collections) {
+        for (String collection : collections) {
+            versionOf(collection).bump();
+        }
+    }
+
+    /**
+     * Weak ETag for the current state of a collection
+     */
+    public String etag(String collection) {
+        return "W/\"" + collection + "-" + instanceId + "-" + versionOf(collection).version.get() + "\"";
+    }
+
+    /**
+     * Time of the last change to a collection, in epoch milliseconds
+     */
+    public long lastModified(String collection) {
+        return versionOf(collection).lastModified;
+    }
+
+    private CollectionVersion versionOf(String collection) {
+        return versions.computeIfAbsent(collection, key -> new CollectionVersion());
+    }
+
+    private static final class CollectionVersion {
+
+        private final AtomicLong version = new AtomicLong();
+
+        // HTTP dates have second precision; round up so a change is never reported as older
+        private volatile long lastModified = nextSecond();
+
+        private void bump() {
+            version.incrementAndGet();
+            lastModified = nextSecond();
+        }
+
+        private static long nextSecond() {
+            return Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1).toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package cit.edu.workforce.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * WebMvcConfig - Spring MVC configuration
+ * New file: Registers the conditional GET interceptor for cacheable read endpoints
+ * and sets the timeout for streamed list responses
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // Streamed exports of large tables can take longer than the container's default async timeout
+    private static final long STREAMING_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+    private final ConditionalRequestInterceptor conditionalRequestInterceptor;
+
+    @Autowired
+    public WebMvcConfig(ConditionalRequestInterceptor conditionalRequestInterceptor) {
+        this.conditionalRequestInterceptor = conditionalRequestInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalRequestInterceptor)
+                .addPathPatterns("/api/hr/employees/**", "/api/benefit-plans/**",
+                        "/api/training-programs/**", "/api/events/**");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(STREAMING_TIMEOUT_MILLIS);
+    }
+}
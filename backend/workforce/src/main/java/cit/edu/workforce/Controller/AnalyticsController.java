@@ -0,0 +1,69 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.HeadcountSnapshotDTO;
+import cit.edu.workforce.DTO.HeadcountSummaryDTO;
+import cit.edu.workforce.Service.HeadcountAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AnalyticsController - Provides API endpoints for HR analytics
+ * New file: Serves aggregate headcount figures and their daily history
+ */
+@RestController
+@RequestMapping("/api/hr/analytics")
+@Tag(name = "HR Analytics", description = "Aggregate workforce analytics APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class AnalyticsController {
+
+    private final HeadcountAnalyticsService headcountAnalyticsService;
+
+    @Autowired
+    public AnalyticsController(HeadcountAnalyticsService headcountAnalyticsService) {
+        this.headcountAnalyticsService = headcountAnalyticsService;
+    }
+
+    /**
+     * Get the current headcount by department, job title, role, employment status and hire cohort
+     */
+    @GetMapping("/headcount")
+    @Operation(summary = "Get headcount", description = "Get the current headcount broken down by department, job title, role, employment status and hire year")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<HeadcountSummaryDTO> getHeadcount() {
+        return ResponseEntity.ok(headcountAnalyticsService.getHeadcountSummary());
+    }
+
+    /**
+     * Get the daily headcount history of one dimension
+     */
+    @GetMapping("/headcount/trend")
+    @Operation(summary = "Get headcount trend", description = "Get daily headcount snapshots for a dimension (defaults to the last 30 days)")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<List<HeadcountSnapshotDTO>> getHeadcountTrend(
+            @Parameter(description = "Dimension (TOTAL, DEPARTMENT, JOB_TITLE, ROLE, EMPLOYMENT_STATUS, HIRE_COHORT)") @RequestParam(defaultValue = "TOTAL") String dimension,
+            @Parameter(description = "Start date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(headcountAnalyticsService.getHeadcountTrend(dimension, from, to));
+    }
+
+    /**
+     * Take today's headcount snapshot immediately instead of waiting for the nightly job
+     */
+    @PostMapping("/headcount/snapshots")
+    @Operation(summary = "Take headcount snapshot", description = "Record today's headcount snapshot now (replaces today's rows)")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<Map<String, Integer>> takeHeadcountSnapshot() {
+        return ResponseEntity.ok(Map.of("rows", headcountAnalyticsService.takeDailySnapshot()));
+    }
+}
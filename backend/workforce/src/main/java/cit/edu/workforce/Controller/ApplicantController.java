@@ -2,9 +2,13 @@ package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.ApplicantDTO;
 import cit.edu.workforce.Service.ApplicantService;
+import cit.edu.workforce.Service.FileDownloadService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 
@@ -29,10 +34,12 @@ import java.io.IOException;
 public class ApplicantController {
 
     private final ApplicantService applicantService;
+    private final FileDownloadService fileDownloadService;
 
     @Autowired
-    public ApplicantController(ApplicantService applicantService) {
+    public ApplicantController(ApplicantService applicantService, FileDownloadService fileDownloadService) {
         this.applicantService = applicantService;
+        this.fileDownloadService = fileDownloadService;
     }
 
     /**
@@ -56,6 +63,20 @@ public class ApplicantController {
         return ResponseEntity.ok(applicants);
     }
 
+    /**
+     * Stream all applicants (HR/Admin only)
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "Stream all applicants", description = "Stream every applicant as a JSON array or NDJSON without loading the whole table into memory (HR/Admin only)")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllApplicants(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(applicantService.streamAllApplicants(ndjson));
+    }
+
     /**
      * Get applicant by ID
      */
@@ -69,6 +90,20 @@ public class ApplicantController {
         return ResponseEntity.ok(applicant);
     }
 
+    /**
+     * View an applicant's resume
+     */
+    @GetMapping("/{applicantId}/resume")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN') or @applicantService.hasPermissionToViewApplicant(#applicantId)")
+    @Operation(summary = "View applicant resume", description = "Stream the applicant's resume PDF inline. Supports Range and If-Range requests; pass v=<version> to make the response cacheable for good")
+    public void viewResume(
+            @Parameter(description = "Applicant ID") @PathVariable String applicantId,
+            @Parameter(description = "Version of the resume being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadService.send(request, response, applicantService.getResumeFile(applicantId, v), true);
+    }
+
     /**
      * Get current user's applicant profile
      */
@@ -0,0 +1,74 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.ApplicantDuplicateDTO;
+import cit.edu.workforce.Service.ApplicantDuplicateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * ApplicantDuplicateController - Review queue for applicants who registered more than once
+ * New file: Lists flagged pairs, lets HR dismiss false matches and run a full scan
+ */
+@RestController
+@RequestMapping("/api/hr/applicants/duplicates")
+@Tag(name = "Applicant Duplicates", description = "Review likely duplicate applicants (HR/Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class ApplicantDuplicateController {
+
+    private final ApplicantDuplicateService applicantDuplicateService;
+
+    @Autowired
+    public ApplicantDuplicateController(ApplicantDuplicateService applicantDuplicateService) {
+        this.applicantDuplicateService = applicantDuplicateService;
+    }
+
+    /**
+     * Get flagged duplicate pairs (HR/Admin only)
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Get likely duplicates", description = "Get pairs of applicants that are probably the same person, most similar first (HR/Admin only)")
+    public ResponseEntity<Page<ApplicantDuplicateDTO>> getDuplicates(
+            @Parameter(description = "OPEN or DISMISSED") @RequestParam(defaultValue = "OPEN") String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(applicantDuplicateService.getDuplicates(status, PageRequest.of(page, Math.min(size, 100))));
+    }
+
+    /**
+     * Dismiss a flagged pair (HR/Admin only)
+     */
+    @PutMapping("/{duplicateId}/dismiss")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Dismiss a duplicate", description = "Mark a flagged pair as different people so it is not flagged again (HR/Admin only)")
+    public ResponseEntity<Void> dismissDuplicate(@PathVariable String duplicateId) {
+        applicantDuplicateService.dismiss(duplicateId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Scan all applicants for duplicates (HR/Admin only)
+     */
+    @PostMapping("/scan")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Scan for duplicates", description = "Cluster all applicants and flag likely duplicates not yet recorded. Also runs weekly (HR/Admin only)")
+    public ResponseEntity<Map<String, Integer>> scanDuplicates() {
+        return ResponseEntity.ok(applicantDuplicateService.scanAll());
+    }
+}
@@ -0,0 +1,48 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.ApplicantSearchResultDTO;
+import cit.edu.workforce.Service.ResumeIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ApplicantSearchController - Resume full-text search for recruiters
+ * New file: Searches inside applicants' resumes rather than only their names
+ */
+@RestController
+@RequestMapping("/api/hr/applicants")
+@Tag(name = "Applicant Search", description = "Search applicants by resume content (HR/Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class ApplicantSearchController {
+
+    private final ResumeIndexService resumeIndexService;
+
+    @Autowired
+    public ApplicantSearchController(ResumeIndexService resumeIndexService) {
+        this.resumeIndexService = resumeIndexService;
+    }
+
+    /**
+     * Search resumes (HR/Admin only)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Search resumes", description = "Full-text search over applicant resumes, ranked by relevance with highlighted matches. Supports quoted phrases, OR and -excluded terms (HR/Admin only)")
+    public ResponseEntity<Page<ApplicantSearchResultDTO>> searchResumes(
+            @Parameter(description = "Search terms, e.g. \"project manager\" java -intern") @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(resumeIndexService.search(q, PageRequest.of(page, Math.min(size, 100))));
+    }
+}
@@ -1,7 +1,11 @@
 package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.ApplicationRecordDTO;
+import cit.edu.workforce.DTO.RankedApplicationDTO;
+import cit.edu.workforce.DTO.RecruitmentFunnelDTO;
 import cit.edu.workforce.Service.ApplicationRecordService;
+import cit.edu.workforce.Service.IdempotencyService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -55,6 +60,20 @@ public class ApplicationRecordController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * Stream all applications (HR/Admin only)
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "Stream all applications", description = "Stream every job application as a JSON array or NDJSON without loading the whole table into memory (HR/Admin only)")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllApplications(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(applicationRecordService.streamAllApplications(ndjson));
+    }
+
     /**
      * Get application by ID
      */
@@ -110,6 +129,33 @@ public class ApplicationRecordController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * Get applications to a job listing ranked by resume match (HR/Admin only)
+     */
+    @GetMapping("/job/{jobId}/ranked")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Get ranked applications by job listing", description = "Retrieve job applications for a specific job listing, best resume match first, with pagination support (HR/Admin only). New applications are scored within moments of being submitted")
+    public ResponseEntity<Page<RankedApplicationDTO>> getRankedApplicationsByJobListing(
+            @Parameter(description = "Job ID") @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<RankedApplicationDTO> applications = applicationRecordService.getRankedApplicationsByJobListing(
+                jobId, PageRequest.of(page, size));
+        return ResponseEntity.ok(applications);
+    }
+
+    /**
+     * Get the recruitment funnel per job listing (HR/Admin only)
+     */
+    @GetMapping("/funnel")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Get recruitment funnel", description = "Get application counts per status, conversion rates and time-in-stage percentiles for each job listing, or for one (HR/Admin only)")
+    public ResponseEntity<List<RecruitmentFunnelDTO>> getFunnels(
+            @Parameter(description = "Job ID (optional)") @RequestParam(required = false) String jobId) {
+        return ResponseEntity.ok(applicationRecordService.getFunnels(jobId));
+    }
+
     /**
      * Get applications by status (HR/Admin only)
      */
@@ -166,12 +212,14 @@ public class ApplicationRecordController {
      * Create a new application
      */
     @PostMapping
-    @Operation(summary = "Create application", description = "Create a new job application")
+    @Operation(summary = "Create application", description = "Create a new job application. Retrying with the same Idempotency-Key returns the application the first attempt created")
     public ResponseEntity<ApplicationRecordDTO> createApplication(
             @Parameter(description = "Applicant ID") @RequestParam String applicantId,
-            @Parameter(description = "Job ID") @RequestParam String jobId) {
+            @Parameter(description = "Job ID") @RequestParam String jobId,
+            @Parameter(description = "Client-generated key that makes retries safe (optional)")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         
-        ApplicationRecordDTO createdApplication = applicationRecordService.createApplication(applicantId, jobId);
+        ApplicationRecordDTO createdApplication = applicationRecordService.createApplication(applicantId, jobId, idempotencyKey);
         return new ResponseEntity<>(createdApplication, HttpStatus.CREATED);
     }
 
@@ -0,0 +1,61 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.ApprovalInboxPageDTO;
+import cit.edu.workforce.Service.ApprovalInboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * ApprovalInboxController - One inbox for every request awaiting HR review
+ * New file: Pages through pending leave, overtime, reimbursement, document, certification and
+ * employee records oldest first, and serves the badge counts shown in the navigation
+ */
+@RestController
+@RequestMapping("/api/hr/inbox")
+@Tag(name = "Approval Inbox", description = "Pending approvals across all request types (HR/Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class ApprovalInboxController {
+
+    private final ApprovalInboxService approvalInboxService;
+
+    @Autowired
+    public ApprovalInboxController(ApprovalInboxService approvalInboxService) {
+        this.approvalInboxService = approvalInboxService;
+    }
+
+    /**
+     * Get a page of pending items (HR/Admin only)
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Get approval inbox", description = "Pending items of every type, oldest first. Pass nextCursor of the previous page to get the next one (HR/Admin only)")
+    public ResponseEntity<ApprovalInboxPageDTO> getInbox(
+            @Parameter(description = "LEAVE, OVERTIME, REIMBURSEMENT, DOCUMENT, CERTIFICATION or EMPLOYEE")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(approvalInboxService.getInbox(category, cursor, Math.max(1, Math.min(size, 100))));
+    }
+
+    /**
+     * Get the number of pending items per type (HR/Admin only)
+     */
+    @GetMapping("/counts")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    @Operation(summary = "Get approval badge counts", description = "Number of pending items per type and in total (HR/Admin only)")
+    public ResponseEntity<Map<String, Long>> getBadgeCounts() {
+        return ResponseEntity.ok(approvalInboxService.getBadgeCounts());
+    }
+}
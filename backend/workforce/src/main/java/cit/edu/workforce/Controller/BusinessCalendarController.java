@@ -0,0 +1,112 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.HolidayDTO;
+import cit.edu.workforce.DTO.WorkScheduleDTO;
+import cit.edu.workforce.Service.BusinessCalendarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * BusinessCalendarController - Admin API for the company calendar
+ * New file: Maintains holidays and per-employee work weeks, which decide how many working
+ * days a leave request takes
+ */
+@RestController
+@RequestMapping("/api/admin/calendar")
+@Tag(name = "Business Calendar", description = "Holidays and work weeks (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class BusinessCalendarController {
+
+    private final BusinessCalendarService businessCalendarService;
+
+    @Autowired
+    public BusinessCalendarController(BusinessCalendarService businessCalendarService) {
+        this.businessCalendarService = businessCalendarService;
+    }
+
+    /**
+     * Get the holidays of a year (Admin only)
+     */
+    @GetMapping("/holidays")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get holidays", description = "Get the company holidays of a year (Admin only)")
+    public ResponseEntity<List<HolidayDTO>> getHolidays(
+            @Parameter(description = "Calendar year; defaults to the current year") @RequestParam(required = false) Integer year) {
+        return ResponseEntity.ok(businessCalendarService.getHolidays(year != null ? year : LocalDate.now().getYear()));
+    }
+
+    /**
+     * Add a holiday (Admin only)
+     */
+    @PostMapping("/holidays")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Add holiday", description = "Add a company-wide non-working day (Admin only)")
+    public ResponseEntity<HolidayDTO> createHoliday(@Valid @RequestBody HolidayDTO holidayDTO) {
+        return new ResponseEntity<>(businessCalendarService.createHoliday(holidayDTO), HttpStatus.CREATED);
+    }
+
+    /**
+     * Update a holiday (Admin only)
+     */
+    @PutMapping("/holidays/{holidayId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Update holiday", description = "Change the date or name of a holiday (Admin only)")
+    public ResponseEntity<HolidayDTO> updateHoliday(@PathVariable String holidayId,
+                                                    @Valid @RequestBody HolidayDTO holidayDTO) {
+        return ResponseEntity.ok(businessCalendarService.updateHoliday(holidayId, holidayDTO));
+    }
+
+    /**
+     * Delete a holiday (Admin only)
+     */
+    @DeleteMapping("/holidays/{holidayId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Delete holiday", description = "Remove a holiday (Admin only)")
+    public ResponseEntity<Void> deleteHoliday(@PathVariable String holidayId) {
+        businessCalendarService.deleteHoliday(holidayId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get an employee's work week (Admin only)
+     */
+    @GetMapping("/schedules/{employeeId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get work schedule", description = "Get the days of the week an employee works (Admin only)")
+    public ResponseEntity<WorkScheduleDTO> getWorkSchedule(@PathVariable String employeeId) {
+        return ResponseEntity.ok(businessCalendarService.getWorkSchedule(employeeId));
+    }
+
+    /**
+     * Set an employee's work week (Admin only)
+     */
+    @PutMapping("/schedules/{employeeId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Set work schedule", description = "Give an employee a work week other than Monday to Friday (Admin only)")
+    public ResponseEntity<WorkScheduleDTO> setWorkSchedule(@PathVariable String employeeId,
+                                                           @Valid @RequestBody WorkScheduleDTO workScheduleDTO) {
+        return ResponseEntity.ok(businessCalendarService.setWorkSchedule(employeeId, workScheduleDTO.getWorkDays()));
+    }
+
+    /**
+     * Reset an employee to the company work week (Admin only)
+     */
+    @DeleteMapping("/schedules/{employeeId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Reset work schedule", description = "Put an employee back on the company Monday to Friday week (Admin only)")
+    public ResponseEntity<Void> deleteWorkSchedule(@PathVariable String employeeId) {
+        businessCalendarService.deleteWorkSchedule(employeeId);
+        return ResponseEntity.noContent().build();
+    }
+}
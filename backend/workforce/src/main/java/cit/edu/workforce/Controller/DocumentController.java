@@ -3,17 +3,21 @@ package cit.edu.workforce.Controller;
 import cit.edu.workforce.DTO.DocumentDTO;
 import cit.edu.workforce.Entity.DocumentEntity;
 import cit.edu.workforce.Service.DocumentService;
+import cit.edu.workforce.Service.FileDownloadService;
+import cit.edu.workforce.Service.ThumbnailService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,10 +28,15 @@ import java.util.stream.Collectors;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final FileDownloadService fileDownloadService;
+    private final ThumbnailService thumbnailService;
 
     @Autowired
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, FileDownloadService fileDownloadService,
+                              ThumbnailService thumbnailService) {
         this.documentService = documentService;
+        this.fileDownloadService = fileDownloadService;
+        this.thumbnailService = thumbnailService;
     }
 
     @PostMapping("/employees/{employeeId}/documents")
@@ -87,30 +96,36 @@ public class DocumentController {
     }
 
     @GetMapping("/documents/{documentId}/download")
-    public ResponseEntity<byte[]> downloadDocument(@PathVariable String documentId) {
-        DocumentEntity document = documentService.getDocumentById(documentId);
-        byte[] fileContent = documentService.getDocumentContent(documentId);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(document.getFileType()));
-        headers.setContentDispositionFormData("attachment", document.getFileName());
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(fileContent);
+    @Operation(summary = "Download document", description = "Download the document content. Supports Range and If-Range requests; pass v=<contentHash> to make the response cacheable for good")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN') or @documentService.hasAccessToDocument(#documentId)")
+    public void downloadDocument(
+            @PathVariable String documentId,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadService.send(request, response, documentService.getDocumentFile(documentId, v), false);
     }
 
     @GetMapping("/documents/{documentId}/view")
-    public ResponseEntity<byte[]> viewDocument(@PathVariable String documentId) {
-        DocumentEntity document = documentService.getDocumentById(documentId);
-        byte[] fileContent = documentService.getDocumentContent(documentId);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(document.getFileType()));
-        headers.setContentDispositionFormData("inline", document.getFileName());
+    @Operation(summary = "View document", description = "Display the document content inline. Supports Range and If-Range requests; pass v=<contentHash> to make the response cacheable for good")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN') or @documentService.hasAccessToDocument(#documentId)")
+    public void viewDocument(
+            @PathVariable String documentId,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadService.send(request, response, documentService.getDocumentFile(documentId, v), true);
+    }
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(fileContent);
+    @GetMapping("/documents/{documentId}/thumbnail")
+    @Operation(summary = "Document thumbnail", description = "JPEG preview of an image document or the first page of a PDF. Returns 404 for other file types and 503 while the preview is still being generated; pass v=<contentHash> to make the response cacheable for good")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN') or @documentService.hasAccessToDocument(#documentId)")
+    public void getDocumentThumbnail(
+            @PathVariable String documentId,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        FileDownloadService.StoredFile document = documentService.getDocumentFile(documentId, v);
+        fileDownloadService.send(request, response, thumbnailService.getThumbnailFile(document, v), true);
     }
-}
\ No newline at end of file
+}
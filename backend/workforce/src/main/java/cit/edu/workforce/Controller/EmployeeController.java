@@ -4,6 +4,7 @@ import cit.edu.workforce.DTO.EmployeeDTO;
 import cit.edu.workforce.Entity.DepartmentEntity;
 import cit.edu.workforce.Service.DepartmentService;
 import cit.edu.workforce.Service.EmployeeService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
@@ -80,6 +82,17 @@ public class EmployeeController {
         }
     }
 
+    @GetMapping("/hr/employees/stream")
+    @Operation(summary = "Stream all employees", description = "Stream every employee as a JSON array or NDJSON without loading the whole table into memory")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(employeeService.streamAllEmployees(ndjson));
+    }
+
     @GetMapping("/hr/employees/active")
     @Operation(summary = "Get all active employees", description = "Get a paginated list of all active employees")
     @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
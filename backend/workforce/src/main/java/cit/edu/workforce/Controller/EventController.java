@@ -2,6 +2,7 @@ package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.EventDTO;
 import cit.edu.workforce.Service.EventService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -17,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -44,11 +46,14 @@ public class EventController {
         return new ResponseEntity<>(createdEvent, HttpStatus.CREATED);
     }
     
-    @Operation(summary = "Get all events", description = "Returns a list of all events")
+    @Operation(summary = "Get all events", description = "Returns a list of all events, streamed as a JSON array or NDJSON")
     @GetMapping
-    public ResponseEntity<List<EventDTO>> getAllEvents() {
-        List<EventDTO> events = eventService.getAllEvents();
-        return new ResponseEntity<>(events, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getAllEvents(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(eventService.streamAllEvents(ndjson));
     }
     
     @Operation(summary = "Get paginated events", description = "Returns a paginated list of events")
@@ -181,7 +181,7 @@ public class ImprovementPlanController {
     @Operation(summary = "Get improvement plans by status", description = "Get all improvement plans with a specific status")
     @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
     public ResponseEntity<Page<ImprovementPlanDTO>> getImprovementPlansByStatus(
-            @Parameter(description = "Status filter (Open, Completed, Cancelled)") @RequestParam(required = false, defaultValue = "Open") String status,
+            @Parameter(description = "Status filter (Open, Overdue, Completed, Cancelled)") @RequestParam(required = false, defaultValue = "Open") String status,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "startDate") String sortBy,
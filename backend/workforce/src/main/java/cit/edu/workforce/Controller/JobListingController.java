@@ -1,7 +1,9 @@
 package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.JobListingDTO;
+import cit.edu.workforce.Service.JobBoardService;
 import cit.edu.workforce.Service.JobListingService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,11 +14,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -31,10 +37,12 @@ import java.util.List;
 public class JobListingController {
 
     private final JobListingService jobListingService;
+    private final JobBoardService jobBoardService;
 
     @Autowired
-    public JobListingController(JobListingService jobListingService) {
+    public JobListingController(JobListingService jobListingService, JobBoardService jobBoardService) {
         this.jobListingService = jobListingService;
+        this.jobBoardService = jobBoardService;
     }
 
     /**
@@ -57,6 +65,19 @@ public class JobListingController {
         return ResponseEntity.ok(jobListings);
     }
 
+    /**
+     * Stream all job listings
+     */
+    @GetMapping("/stream")
+    @Operation(summary = "Stream all job listings", description = "Stream every job listing as a JSON array or NDJSON without loading the whole table into memory")
+    public ResponseEntity<StreamingResponseBody> streamAllJobListings(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(jobListingService.streamAllJobListings(ndjson));
+    }
+
     /**
      * Get all active job listings
      */
@@ -77,6 +98,24 @@ public class JobListingController {
         return ResponseEntity.ok(jobListings);
     }
 
+    /**
+     * Get the public job board
+     */
+    @GetMapping("/board")
+    @Operation(summary = "Get the job board", description = "Active job listings open to external applicants, newest first and without application counts, served from an in-memory snapshot that is rebuilt when listings change. Send If-None-Match with the last ETag to get 304 Not Modified")
+    public ResponseEntity<byte[]> getJobBoard(
+            @Parameter(description = "Job type filter (INTERNAL, EXTERNAL, BOTH)") @RequestParam(required = false) String jobType,
+            @Parameter(description = "Department filter") @RequestParam(required = false) String departmentId,
+            @Parameter(description = "Text to find in the title or description") @RequestParam(required = false) String q) {
+        JobBoardService.BoardBody board = jobBoardService.getBoard(jobType, departmentId, q);
+        // A matching If-None-Match is answered with 304 by Spring from the ETag below
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(board.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic().mustRevalidate())
+                .body(board.json());
+    }
+
     /**
      * Get a job listing by ID
      */
@@ -177,9 +216,12 @@ public class JobListingController {
      * Search job listings
      */
     @GetMapping("/search")
-    @Operation(summary = "Search job listings", description = "Search for job listings by title or description with pagination support")
+    @Operation(summary = "Search job listings", description = "Search active job listings by title, qualifications or description, optionally filtered by department, job type and employment type. Results are ranked by relevance on PostgreSQL; sortBy applies only on other databases")
     public ResponseEntity<Page<JobListingDTO>> searchJobListings(
-            @Parameter(description = "Search term") @RequestParam String searchTerm,
+            @Parameter(description = "Search terms; quoted phrases, OR and -exclusions are supported") @RequestParam String searchTerm,
+            @Parameter(description = "Department filter") @RequestParam(required = false) String departmentId,
+            @Parameter(description = "Job type filter (INTERNAL, EXTERNAL, BOTH)") @RequestParam(required = false) String jobType,
+            @Parameter(description = "Employment type filter (FULL_TIME, PART_TIME, CONTRACT)") @RequestParam(required = false) String employmentType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "datePosted") String sortBy,
@@ -190,7 +232,8 @@ public class JobListingController {
                 sortDirection.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
                 sortBy);
         
-        Page<JobListingDTO> jobListings = jobListingService.searchJobListings(searchTerm, pageable);
+        Page<JobListingDTO> jobListings = jobListingService.searchJobListings(
+                searchTerm, departmentId, jobType, employmentType, pageable);
         return ResponseEntity.ok(jobListings);
     }
 
@@ -1,6 +1,9 @@
 package cit.edu.workforce.Controller;
 
+import cit.edu.workforce.DTO.LeaveBalanceDTO;
+import cit.edu.workforce.DTO.LeaveCalendarDTO;
 import cit.edu.workforce.DTO.LeaveRequestDTO;
+import cit.edu.workforce.Service.LeaveCalendarService;
 import cit.edu.workforce.Service.LeaveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +22,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -37,10 +41,12 @@ import java.util.Map;
 public class LeaveController {
 
     private final LeaveService leaveService;
+    private final LeaveCalendarService leaveCalendarService;
 
     @Autowired
-    public LeaveController(LeaveService leaveService) {
+    public LeaveController(LeaveService leaveService, LeaveCalendarService leaveCalendarService) {
         this.leaveService = leaveService;
+        this.leaveCalendarService = leaveCalendarService;
     }
 
     /**
@@ -161,6 +167,20 @@ public class LeaveController {
         return ResponseEntity.ok(leaveService.getEmployeeLeaveRequests(employeeId, pageable));
     }
 
+    /**
+     * Get how many employees of a department are on leave each day of a month
+     * Admin/HR only endpoint
+     */
+    @GetMapping("/hr/leave/calendar")
+    @Operation(summary = "Get team leave calendar", description = "Get daily approved leave and availability counts for a department and month")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<LeaveCalendarDTO> getLeaveCalendar(
+            @Parameter(description = "Department ID") @RequestParam String departmentId,
+            @Parameter(description = "Month in yyyy-MM format; defaults to the current month") @RequestParam(required = false) String month) {
+        String period = month != null ? month : YearMonth.now().toString();
+        return ResponseEntity.ok(leaveCalendarService.getCalendar(departmentId, period));
+    }
+
     /**
      * Approve a leave request
      * Admin/HR only endpoint
@@ -187,12 +207,33 @@ public class LeaveController {
         return ResponseEntity.ok(leaveService.reviewLeaveRequest(id, "REJECTED"));
     }
 
+    /**
+     * Get leave balances for the current employee
+     */
+    @GetMapping("/employee/leave-balances")
+    @Operation(summary = "Get my leave balances", description = "Get allocated, used and remaining days per leave type for the current employee")
+    @PreAuthorize("hasAnyRole('ROLE_EMPLOYEE', 'ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<List<LeaveBalanceDTO>> getMyLeaveBalances() {
+        return ResponseEntity.ok(leaveService.getCurrentEmployeeLeaveBalances());
+    }
+
+    /**
+     * Get leave balances for a specific employee
+     * Admin/HR only endpoint
+     */
+    @GetMapping("/hr/leave-balances/employee/{employeeId}")
+    @Operation(summary = "Get employee leave balances", description = "Get allocated, used and remaining days per leave type for an employee")
+    @PreAuthorize("hasAnyRole('ROLE_HR', 'ROLE_ADMIN')")
+    public ResponseEntity<List<LeaveBalanceDTO>> getEmployeeLeaveBalances(@PathVariable String employeeId) {
+        return ResponseEntity.ok(leaveService.getEmployeeLeaveBalances(employeeId));
+    }
+
     /**
      * Cancel a pending leave request
      * Employee can only cancel their own requests
      */
     @PatchMapping("/employee/leave-requests/{id}/cancel")
-    @Operation(summary = "Cancel leave request", description = "Cancel a pending leave request")
+    @Operation(summary = "Cancel leave request", description = "Cancel a pending leave request, or an approved one that has not started; approved days are returned to the balance")
     @PreAuthorize("hasAnyRole('ROLE_EMPLOYEE', 'ROLE_HR', 'ROLE_ADMIN') and @leaveService.isOwnLeaveRequest(#id)")
     public ResponseEntity<LeaveRequestDTO> cancelLeaveRequest(@PathVariable String id) {
         return ResponseEntity.ok(leaveService.cancelLeaveRequest(id));
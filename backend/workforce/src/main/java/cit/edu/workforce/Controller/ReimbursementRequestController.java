@@ -1,11 +1,15 @@
 package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.ReimbursementRequestDTO;
+import cit.edu.workforce.Service.FileDownloadService;
 import cit.edu.workforce.Service.ReimbursementRequestService;
+import cit.edu.workforce.Service.ThumbnailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -19,7 +23,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -43,10 +46,16 @@ import java.util.Map;
 public class ReimbursementRequestController {
 
     private final ReimbursementRequestService reimbursementRequestService;
+    private final FileDownloadService fileDownloadService;
+    private final ThumbnailService thumbnailService;
 
     @Autowired
-    public ReimbursementRequestController(ReimbursementRequestService reimbursementRequestService) {
+    public ReimbursementRequestController(ReimbursementRequestService reimbursementRequestService,
+                                          FileDownloadService fileDownloadService,
+                                          ThumbnailService thumbnailService) {
         this.reimbursementRequestService = reimbursementRequestService;
+        this.fileDownloadService = fileDownloadService;
+        this.thumbnailService = thumbnailService;
     }
 
     /**
@@ -105,24 +114,47 @@ public class ReimbursementRequestController {
             @RequestParam(value = "receiptImage1", required = true) MultipartFile receiptImage1,
             @RequestParam(value = "receiptImage2", required = false) MultipartFile receiptImage2) {
         
-        try {
-            ReimbursementRequestDTO dto = new ReimbursementRequestDTO();
-            dto.setExpenseDate(LocalDate.parse(expenseDate));
-            dto.setAmountRequested(new BigDecimal(amountRequested));
-            dto.setReason(reason);
-            dto.setReceiptImage1(receiptImage1.getBytes());
-            
-            if (receiptImage2 != null && !receiptImage2.isEmpty()) {
-                dto.setReceiptImage2(receiptImage2.getBytes());
-            }
-
-            return new ResponseEntity<>(
-                    reimbursementRequestService.createReimbursementRequest(dto),
-                    HttpStatus.CREATED);
-        } catch (IOException e) {
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST, "Failed to process receipt images: " + e.getMessage());
-        }
+        ReimbursementRequestDTO dto = new ReimbursementRequestDTO();
+        dto.setExpenseDate(LocalDate.parse(expenseDate));
+        dto.setAmountRequested(new BigDecimal(amountRequested));
+        dto.setReason(reason);
+
+        return new ResponseEntity<>(
+                reimbursementRequestService.createReimbursementRequest(dto, receiptImage1, receiptImage2),
+                HttpStatus.CREATED);
+    }
+
+    /**
+     * Get a receipt image of a reimbursement request
+     * Employees can only access their own requests, HR/Admin can access any
+     */
+    @GetMapping("/reimbursement-requests/{reimbursementId}/receipts/{slot}")
+    @Operation(summary = "Get receipt", description = "Stream receipt 1 or 2 of a reimbursement request. Pass v=<contentHash> to make the response cacheable for good")
+    @PreAuthorize("hasAnyRole('ROLE_EMPLOYEE', 'ROLE_HR', 'ROLE_ADMIN')")
+    public void getReceipt(
+            @Parameter(description = "Reimbursement request ID") @PathVariable String reimbursementId,
+            @Parameter(description = "Receipt slot (1 or 2)") @PathVariable int slot,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadService.send(request, response, reimbursementRequestService.getReceiptFile(reimbursementId, slot, v), true);
+    }
+
+    /**
+     * Get a small preview of a receipt
+     * Employees can only access their own requests, HR/Admin can access any
+     */
+    @GetMapping("/reimbursement-requests/{reimbursementId}/receipts/{slot}/thumbnail")
+    @Operation(summary = "Get receipt thumbnail", description = "JPEG preview of receipt 1 or 2. Returns 503 while the preview is still being generated; pass v=<contentHash> to make the response cacheable for good")
+    @PreAuthorize("hasAnyRole('ROLE_EMPLOYEE', 'ROLE_HR', 'ROLE_ADMIN')")
+    public void getReceiptThumbnail(
+            @Parameter(description = "Reimbursement request ID") @PathVariable String reimbursementId,
+            @Parameter(description = "Receipt slot (1 or 2)") @PathVariable int slot,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        FileDownloadService.StoredFile receipt = reimbursementRequestService.getReceiptFile(reimbursementId, slot, v);
+        fileDownloadService.send(request, response, thumbnailService.getThumbnailFile(receipt, v), true);
     }
 
     /**
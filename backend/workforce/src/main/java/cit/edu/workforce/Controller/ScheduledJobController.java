@@ -0,0 +1,44 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.ScheduledJobRunDTO;
+import cit.edu.workforce.Service.ScheduledJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * ScheduledJobController - Status of scheduled jobs
+ * New file: Reports the last run of each lock-guarded job on the instance that serves the
+ * request; aggregated timings are under /actuator/metrics/scheduled.job.duration
+ */
+@RestController
+@RequestMapping("/api/admin/scheduled-jobs")
+@Tag(name = "Scheduled Jobs", description = "Scheduled job status (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class ScheduledJobController {
+
+    private final ScheduledJobService scheduledJobService;
+
+    @Autowired
+    public ScheduledJobController(ScheduledJobService scheduledJobService) {
+        this.scheduledJobService = scheduledJobService;
+    }
+
+    /**
+     * Get the last run of each scheduled job (Admin only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Get scheduled job runs", description = "Last run, outcome and run counts of each scheduled job on this instance (Admin only)")
+    public ResponseEntity<List<ScheduledJobRunDTO>> getScheduledJobRuns() {
+        return ResponseEntity.ok(scheduledJobService.getLastRuns());
+    }
+}
@@ -0,0 +1,45 @@
+package cit.edu.workforce.Controller;
+
+import cit.edu.workforce.DTO.SyncResponseDTO;
+import cit.edu.workforce.Service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * SyncController - Provides delta sync API endpoints for the mobile client
+ * New file: Lets clients fetch only rows created, updated or deleted since their last sync
+ */
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sync", description = "Delta sync APIs for offline-capable clients")
+@SecurityRequirement(name = "bearerAuth")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Get the changes of one resource since a change version
+     */
+    @GetMapping("/{resource}")
+    @Operation(summary = "Sync resource changes",
+            description = "Get rows created, updated or deleted after the given change version, plus the next high-water mark. "
+                    + "Resources: employees, leave-requests, overtime-requests, benefit-plans, benefit-enrollments, "
+                    + "training-programs, training-enrollments")
+    public ResponseEntity<SyncResponseDTO<?>> getChanges(
+            @Parameter(description = "Sync resource name") @PathVariable String resource,
+            @Parameter(description = "High-water mark from the previous sync (0 for a full download)") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "High-water mark id from the previous sync, if any") @RequestParam(required = false) String sinceId,
+            @Parameter(description = "Maximum rows per page (1-1000)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(syncService.getChanges(resource, since, sinceId, limit));
+    }
+}
@@ -2,11 +2,15 @@ package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.CertificateDTO;
 import cit.edu.workforce.DTO.TrainingEnrollmentDTO;
+import cit.edu.workforce.Service.FileDownloadService;
+import cit.edu.workforce.Service.ThumbnailService;
 import cit.edu.workforce.Service.TrainingEnrollmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -14,10 +18,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +41,12 @@ public class TrainingEnrollmentController {
     
     @Autowired
     private TrainingEnrollmentService trainingEnrollmentService;
+
+    @Autowired
+    private FileDownloadService fileDownloadService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
     
     @Operation(summary = "Create a new training program enrollment", 
               description = "Enrolls an employee in a training program. Requires HR or Admin role.")
@@ -215,4 +228,41 @@ public class TrainingEnrollmentController {
         TrainingEnrollmentDTO updatedEnrollment = trainingEnrollmentService.addCertificate(enrollmentId, certificateDTO);
         return new ResponseEntity<>(updatedEnrollment, HttpStatus.OK);
     }
-} 
\ No newline at end of file
+
+    @Operation(summary = "Upload certificate file",
+              description = "Uploads a certificate file (PDF or image) to an enrollment and marks it as completed")
+    @PostMapping(value = "/training-enrollments/{enrollmentId}/certificates/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TrainingEnrollmentDTO> uploadCertificate(
+            @Parameter(description = "Enrollment ID") @PathVariable String enrollmentId,
+            @Parameter(description = "Certificate file (PDF, PNG or JPEG)") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Remarks") @RequestParam(required = false) String remarks) {
+
+        TrainingEnrollmentDTO updatedEnrollment = trainingEnrollmentService.uploadCertificate(enrollmentId, file, remarks);
+        return new ResponseEntity<>(updatedEnrollment, HttpStatus.OK);
+    }
+
+    @Operation(summary = "View certificate file",
+              description = "Streams an uploaded certificate file inline. Supports Range requests; pass v=<contentHash> to make the response cacheable for good")
+    @GetMapping("/training-enrollments/certificates/{certificateId}/file")
+    @PreAuthorize("hasAnyRole('HR', 'ADMIN') or @trainingEnrollmentService.isCertificateOwner(#certificateId)")
+    public void viewCertificateFile(
+            @Parameter(description = "Certificate ID") @PathVariable String certificateId,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        fileDownloadService.send(request, response, trainingEnrollmentService.getCertificateFile(certificateId, v), true);
+    }
+
+    @Operation(summary = "View certificate thumbnail",
+              description = "JPEG preview of an uploaded certificate. Returns 503 while the preview is still being generated; pass v=<contentHash> to make the response cacheable for good")
+    @GetMapping("/training-enrollments/certificates/{certificateId}/thumbnail")
+    @PreAuthorize("hasAnyRole('HR', 'ADMIN') or @trainingEnrollmentService.isCertificateOwner(#certificateId)")
+    public void viewCertificateThumbnail(
+            @Parameter(description = "Certificate ID") @PathVariable String certificateId,
+            @Parameter(description = "Content hash of the version being requested") @RequestParam(required = false) String v,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        FileDownloadService.StoredFile certificate = trainingEnrollmentService.getCertificateFile(certificateId, v);
+        fileDownloadService.send(request, response, thumbnailService.getThumbnailFile(certificate, v), true);
+    }
+}
@@ -2,6 +2,7 @@ package cit.edu.workforce.Controller;
 
 import cit.edu.workforce.DTO.TrainingProgramDTO;
 import cit.edu.workforce.Service.TrainingProgramService;
+import cit.edu.workforce.Service.JsonStreamingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -17,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -45,11 +47,14 @@ public class TrainingProgramController {
         return new ResponseEntity<>(createdProgram, HttpStatus.CREATED);
     }
     
-    @Operation(summary = "Get all training programs", description = "Returns a list of all training programs")
+    @Operation(summary = "Get all training programs", description = "Returns a list of all training programs, streamed as a JSON array or NDJSON")
     @GetMapping("/training-programs")
-    public ResponseEntity<List<TrainingProgramDTO>> getAllTrainingPrograms() {
-        List<TrainingProgramDTO> programs = trainingProgramService.getAllTrainingPrograms();
-        return new ResponseEntity<>(programs, HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getAllTrainingPrograms(
+            @Parameter(description = "Output format: json (array) or ndjson (one object per line)") @RequestParam(defaultValue = "json") String format) {
+        boolean ndjson = JsonStreamingService.isNdjson(format);
+        return ResponseEntity.ok()
+                .contentType(JsonStreamingService.mediaType(ndjson))
+                .body(trainingProgramService.streamAllTrainingPrograms(ndjson));
     }
     
     @Operation(summary = "Get paginated training programs", description = "Returns a paginated list of training programs")
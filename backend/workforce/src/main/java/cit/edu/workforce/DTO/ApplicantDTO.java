@@ -20,6 +20,7 @@ public class ApplicantDTO {
     private String email;
     private String phoneNumber;
     private String resumePdfPath;
+    private String resumeContentHash; // Pass as ?v= on the resume link
     private boolean isInternal;
     private LocalDate applicationDate;
     private int totalApplications; // Count of job applications from this applicant
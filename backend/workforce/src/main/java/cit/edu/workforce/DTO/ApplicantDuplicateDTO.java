@@ -0,0 +1,28 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ApplicantDuplicateDTO - A flagged pair of probably duplicate applicants
+ * New file: Carries enough of both applicants for HR to decide without opening each one
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantDuplicateDTO {
+
+    private String duplicateId;
+    private String applicantId;
+    private String applicantName;
+    private String applicantEmail;
+    private String duplicateOfId;
+    private String duplicateOfName;
+    private String duplicateOfEmail;
+    private double similarity;
+    private String status;
+    private LocalDateTime detectedAt;
+}
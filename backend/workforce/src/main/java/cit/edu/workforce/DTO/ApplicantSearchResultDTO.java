@@ -0,0 +1,23 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ApplicantSearchResultDTO - An applicant matched by resume full-text search
+ * New file: Carries the relevance rank and highlighted resume fragments for one match
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantSearchResultDTO {
+
+    private String applicantId;
+    private String fullName;
+    private String email;
+    private boolean isInternal;
+    private String resumeContentHash; // Pass as ?v= on the resume link
+    private double rank;
+    private String highlight; // HTML-escaped resume fragments with matches wrapped in <mark>
+}
@@ -0,0 +1,25 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ApprovalInboxItemDTO - One item waiting for HR review
+ * New file: Common projection of pending leave, overtime, reimbursement, document,
+ * certification and employee records in the approval inbox
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxItemDTO {
+
+    private String category; // LEAVE, OVERTIME, REIMBURSEMENT, DOCUMENT, CERTIFICATION, EMPLOYEE
+    private String itemId; // ID of the record in its own API
+    private String employeeId;
+    private String employeeName;
+    private LocalDateTime submittedAt;
+    private String summary; // Leave type, reason, document type, certificate name or email
+}
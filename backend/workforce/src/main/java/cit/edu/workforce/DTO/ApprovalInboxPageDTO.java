@@ -0,0 +1,21 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ApprovalInboxPageDTO - One page of the approval inbox
+ * New file: Pages are addressed by cursor rather than number, so items reviewed while HR
+ * pages through the inbox do not shift later pages
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalInboxPageDTO {
+
+    private List<ApprovalInboxItemDTO> items; // Oldest first
+    private String nextCursor; // Pass back to get the next page; null on the last page
+}
@@ -17,6 +17,8 @@ public class CertificateDTO {
     
     private String certificateId;
     private String filePath;
+    private String contentHash; // Set for uploaded files; pass as ?v= on the file link
+    private Long fileSize;
     private LocalDateTime uploadedAt;
     private String status;
     private LocalDateTime verifiedAt;
@@ -17,4 +17,7 @@ public class DocumentDTO {
     private LocalDateTime uploadedAt;
     private LocalDateTime approvedAt;
     private String employeeId;
+    // Pass as ?v= on download and view links so browsers can cache the bytes for good
+    private String contentHash;
+    private Long fileSize;
 } 
\ No newline at end of file
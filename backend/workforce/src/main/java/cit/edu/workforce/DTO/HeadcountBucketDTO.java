@@ -0,0 +1,19 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * HeadcountBucketDTO - One group of a headcount breakdown
+ * New file: Populated directly by GROUP BY projection queries so that no employee rows are loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountBucketDTO {
+
+    private String key;
+    private String label;
+    private long headcount;
+}
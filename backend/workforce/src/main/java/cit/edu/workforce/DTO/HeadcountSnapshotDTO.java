@@ -0,0 +1,23 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * HeadcountSnapshotDTO - Data Transfer Object for a stored daily headcount row
+ * New file: Used to return headcount trends without rescanning employee history
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountSnapshotDTO {
+
+    private LocalDate snapshotDate;
+    private String dimension;
+    private String bucketKey;
+    private String bucketLabel;
+    private long headcount;
+}
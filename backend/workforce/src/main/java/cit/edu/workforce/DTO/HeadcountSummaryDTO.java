@@ -0,0 +1,27 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * HeadcountSummaryDTO - Organization headcount broken down by several dimensions
+ * New file: Returned by the HR analytics endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountSummaryDTO {
+
+    private long totalEmployees;
+    private long activeEmployees;
+    private List<HeadcountBucketDTO> byDepartment;
+    private List<HeadcountBucketDTO> byJobTitle;
+    private List<HeadcountBucketDTO> byRole;
+    private List<HeadcountBucketDTO> byEmploymentStatus;
+    private List<HeadcountBucketDTO> byHireCohort;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,27 @@
+package cit.edu.workforce.DTO;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * HolidayDTO - Data Transfer Object for company holidays
+ * New file: Used by the admin calendar API
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayDTO {
+
+    private String holidayId;
+
+    @NotNull(message = "Holiday date is required")
+    private LocalDate holidayDate;
+
+    @NotBlank(message = "Holiday name is required")
+    private String name;
+}
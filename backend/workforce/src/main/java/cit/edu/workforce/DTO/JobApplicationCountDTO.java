@@ -0,0 +1,19 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JobApplicationCountDTO - Number of applications for one job listing
+ * New file: Populated directly by GROUP BY projection queries so that a page of listings
+ * needs one count query instead of one per listing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCountDTO {
+
+    private String jobId;
+    private long applicationCount;
+}
@@ -0,0 +1,22 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * LeaveCalendarDTO - Team availability calendar of a department for one month
+ * New file: Returned by the HR leave calendar endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveCalendarDTO {
+
+    private String departmentId;
+    private String month; // yyyy-MM
+    private long headcount; // Active employees of the department
+    private List<LeaveCalendarDayDTO> days;
+}
@@ -0,0 +1,22 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveCalendarDayDTO - Leave coverage of a department on one day
+ * New file: One entry of the team availability calendar
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveCalendarDayDTO {
+
+    private LocalDate date;
+    private int onLeave; // Employees with approved leave on this day
+    private long available; // Active employees of the department not on leave
+    private boolean workingDay; // False on weekends and company holidays
+}
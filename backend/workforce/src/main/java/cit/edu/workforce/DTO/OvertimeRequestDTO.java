@@ -24,6 +24,7 @@ public class OvertimeRequestDTO {
     private LocalTime startTime;
     private LocalTime endTime;
     private BigDecimal totalHours;
+    private boolean restDay; // Worked on a rest day or holiday of the employee
     private String reason;
     private String status;
     private String reviewedBy;
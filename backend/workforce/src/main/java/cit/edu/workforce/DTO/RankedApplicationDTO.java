@@ -0,0 +1,26 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * RankedApplicationDTO - An application to a job listing with its match score
+ * New file: Returned best match first; applications that have not been scored yet come last
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedApplicationDTO {
+
+    private String applicationId;
+    private String applicantId;
+    private String applicantName;
+    private boolean isInternal;
+    private LocalDate applicationDate;
+    private String status;
+    private Double score; // Null until the application has been scored
+    private String matchedTerms; // Comma-separated listing terms found in the resume
+}
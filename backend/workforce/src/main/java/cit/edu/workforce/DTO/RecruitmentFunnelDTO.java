@@ -0,0 +1,26 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * RecruitmentFunnelDTO - Recruitment funnel of one job listing
+ * New file: Counts per status, conversion between stages and time spent in each stage
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecruitmentFunnelDTO {
+
+    private String jobId;
+    private String jobTitle;
+    private Map<String, Long> currentCounts; // Applications in each status now
+    private Map<String, Long> enteredCounts; // Applications that ever reached each status
+    private double shortlistRate; // Share of applications that were shortlisted
+    private double hireRate; // Share of applications that led to a hire
+    private double rejectionRate; // Share of applications that were rejected
+    private Map<String, StageDurationDTO> timeInStage; // PENDING and SHORTLISTED
+}
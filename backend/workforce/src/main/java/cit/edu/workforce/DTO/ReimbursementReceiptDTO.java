@@ -0,0 +1,24 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReimbursementReceiptDTO - Metadata of a receipt attached to a reimbursement request
+ * New file: The image itself is fetched from /api/reimbursement-requests/{id}/receipts/{slot}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReimbursementReceiptDTO {
+
+    private int slot;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private String contentHash; // Pass as ?v= on the receipt link
+    private LocalDateTime uploadedAt;
+}
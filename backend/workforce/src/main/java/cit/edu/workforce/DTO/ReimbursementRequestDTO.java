@@ -1,5 +1,6 @@
 package cit.edu.workforce.DTO;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * ReimbursementRequestDTO - Data Transfer Object for reimbursement request information
@@ -23,8 +25,12 @@ public class ReimbursementRequestDTO {
     private LocalDate requestDate;
     private LocalDate expenseDate;
     private BigDecimal amountRequested;
+    // Accepted from JSON clients on create and update; responses list receipt metadata instead
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private byte[] receiptImage1;
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private byte[] receiptImage2;
+    private List<ReimbursementReceiptDTO> receipts;
     private String reason;
     private String status;
     private String reviewedById;
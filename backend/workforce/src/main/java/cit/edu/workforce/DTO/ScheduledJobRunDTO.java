@@ -0,0 +1,27 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ScheduledJobRunDTO - Last run of a scheduled job on this instance
+ * New file: Reported by the admin scheduled jobs endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobRunDTO {
+
+    private String jobName;
+    private String outcome; // COMPLETED, SKIPPED (another instance holds the lock) or FAILED
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private int rowsAffected;
+    private String error;
+    private long completedRuns; // Since this instance started
+    private long skippedRuns;
+    private long failedRuns;
+}
@@ -0,0 +1,21 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * StageDurationDTO - How long applications stayed in one status before moving on
+ * New file: Percentiles are estimated from a logarithmic histogram, so they are accurate to
+ * within their bucket; they are null when no application has left the status yet.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageDurationDTO {
+
+    private long samples;
+    private Double p50Hours;
+    private Double p90Hours;
+    private Double p99Hours;
+}
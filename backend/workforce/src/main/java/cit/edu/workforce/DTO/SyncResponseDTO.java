@@ -0,0 +1,29 @@
+package cit.edu.workforce.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * SyncResponseDTO - One page of changes for a delta sync resource
+ * New file: Clients upsert {@code upserts} by id, drop {@code deletedIds}, store
+ * {@code highWaterMark} and {@code highWaterMarkId} and pass them back as {@code since}
+ * and {@code sinceId} on the next call. The id is null when the page ends a whole version.
+ * When {@code fullResync} is set the client must replace its local copy entirely.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponseDTO<T> {
+
+    private String resource;
+    private long since;
+    private long highWaterMark;
+    private String highWaterMarkId;
+    private boolean hasMore;
+    private boolean fullResync;
+    private List<T> upserts;
+    private List<String> deletedIds;
+}
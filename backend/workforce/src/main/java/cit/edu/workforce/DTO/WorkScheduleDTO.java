@@ -0,0 +1,26 @@
+package cit.edu.workforce.DTO;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * WorkScheduleDTO - Data Transfer Object for an employee's work week
+ * New file: Used by the admin calendar API
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkScheduleDTO {
+
+    private String employeeId;
+
+    @NotEmpty(message = "At least one work day is required")
+    private List<DayOfWeek> workDays;
+
+    private boolean companyDefault; // True when the employee has no schedule of their own
+}
@@ -0,0 +1,61 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * ApplicantDuplicateEntity - A pair of applicants that are probably the same person
+ * New file: Written by ApplicantDuplicateService when an external applicant registers with
+ * details close to an existing applicant's, or by the batch scan. HR reviews the pairs and
+ * dismisses false matches; dismissed pairs are not flagged again.
+ */
+@Entity
+@Table(name = "applicant_duplicate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_applicant_duplicate_applicant_id_duplicate_of_id",
+                columnNames = {"applicant_id", "duplicate_of_id"}),
+        indexes = @Index(name = "idx_applicant_duplicate_status", columnList = "status, similarity"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantDuplicateEntity {
+
+    public static final String OPEN = "OPEN";
+    public static final String DISMISSED = "DISMISSED";
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "duplicate_id", updatable = false, nullable = false, length = 36)
+    private String duplicateId;
+
+    // The newer registration
+    @Column(name = "applicant_id", nullable = false, length = 36)
+    private String applicantId;
+
+    // The earlier registration it appears to duplicate
+    @Column(name = "duplicate_of_id", nullable = false, length = 36)
+    private String duplicateOfId;
+
+    // Estimated Jaccard similarity of the two applicants' name, email and phone shingles
+    @Column(name = "similarity", nullable = false)
+    private double similarity;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        detectedAt = LocalDateTime.now();
+        if (status == null) {
+            status = OPEN;
+        }
+    }
+}
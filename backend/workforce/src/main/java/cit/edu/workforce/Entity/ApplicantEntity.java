@@ -37,8 +37,16 @@ public class ApplicantEntity {
     @Column(name = "phone_number")
     private String phoneNumber;
     
+    // Resumes uploaded before the blob store; new uploads only set the content hash
     @Column(name = "resume_pdf_path")
     private String resumePdfPath;
+
+    // SHA-256 of the resume PDF in the BlobStore
+    @Column(name = "resume_content_hash", length = 64)
+    private String resumeContentHash;
+
+    @Column(name = "resume_file_size")
+    private Long resumeFileSize;
     
     @Column(name = "is_internal", nullable = false)
     private boolean isInternal = false;
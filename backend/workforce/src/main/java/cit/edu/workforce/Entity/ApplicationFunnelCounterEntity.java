@@ -0,0 +1,45 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * ApplicationFunnelCounterEntity - Application counts of one job listing in one status
+ * New file: Maintained by RecruitmentFunnelService in the same transaction as the application
+ * change, so the funnel is read without touching application_record. current_count is how many
+ * applications are in the status now; entered_count is how many ever reached it.
+ */
+@Entity
+@Table(name = "application_funnel_counter")
+@IdClass(ApplicationFunnelCounterEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationFunnelCounterEntity {
+
+    @Id
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Id
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "current_count", nullable = false)
+    private long currentCount;
+
+    @Column(name = "entered_count", nullable = false)
+    private long enteredCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String jobId;
+        private String status;
+    }
+}
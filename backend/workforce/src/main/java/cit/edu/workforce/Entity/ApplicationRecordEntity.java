@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * New file: This entity represents applications submitted by applicants for job listings
  */
 @Entity
-@Table(name = "application_record")
+// One application per applicant and listing; enforced in the database so concurrent submissions cannot both succeed
+@Table(name = "application_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_record_applicant_id_job_id",
+                columnNames = {"applicant_id", "job_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -34,6 +37,10 @@ public class ApplicationRecordEntity {
     
     @Column(name = "reviewed_at")
     private LocalDateTime reviewedAt;
+
+    // When the application entered its current status; used for time-in-stage analytics
+    @Column(name = "stage_entered_at")
+    private LocalDateTime stageEnteredAt;
     
     // New relationship added: Application belongs to an applicant
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,5 +65,8 @@ public class ApplicationRecordEntity {
         if (status == null) {
             status = "PENDING";
         }
+        if (stageEnteredAt == null) {
+            stageEnteredAt = LocalDateTime.now();
+        }
     }
 } 
\ No newline at end of file
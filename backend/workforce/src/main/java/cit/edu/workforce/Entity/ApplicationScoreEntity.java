@@ -0,0 +1,52 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ApplicationScoreEntity - Precomputed match score of an application against its job listing
+ * New file: One row per application, written by ApplicantMatchingService. The resume version
+ * the score was computed from is recorded, so a later resume upload or a resume indexed after
+ * the application arrived is detected and rescored.
+ */
+@Entity
+@Table(name = "application_score", indexes = {
+        @Index(name = "idx_application_score_job", columnList = "job_id, score")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationScoreEntity {
+
+    @Id
+    @Column(name = "application_id", updatable = false, nullable = false, length = 36)
+    private String applicationId;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    // BM25 score; only comparable between applications to the same listing
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    // Listing terms found in the resume, best contribution first
+    @Column(name = "matched_terms", length = 500)
+    private String matchedTerms;
+
+    // Content hash of the indexed resume text that was scored; null if there was none
+    @Column(name = "resume_hash", length = 64)
+    private String resumeHash;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        scoredAt = LocalDateTime.now();
+    }
+}
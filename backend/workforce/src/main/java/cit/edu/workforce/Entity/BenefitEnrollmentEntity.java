@@ -17,11 +17,16 @@ import java.util.List;
  * including enrollment date, status, and any cancellation reason.
  */
 @Entity
-@Table(name = "benefit_enrollment")
+@Table(name = "benefit_enrollment",
+        indexes = {
+                @Index(name = "idx_benefit_enrollment_change_version", columnList = "change_version"),
+                @Index(name = "idx_benefit_enrollment_emp_id_change_version", columnList = "emp_id, change_version")
+        })
+@EntityListeners({ChangeTrackingListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class BenefitEnrollmentEntity {
+public class BenefitEnrollmentEntity implements ChangeTracked {
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
 
@@ -54,6 +59,10 @@ public class BenefitEnrollmentEntity {
     @OneToMany(mappedBy = "benefitEnrollment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BenefitDependentEntity> dependents = new ArrayList<>();
     
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         if (enrollmentDate == null) {
@@ -63,4 +72,19 @@ public class BenefitEnrollmentEntity {
             status = "Active";
         }
     }
+
+    @Override
+    public String syncResource() {
+        return "benefit-enrollments";
+    }
+
+    @Override
+    public String syncId() {
+        return enrollmentId;
+    }
+
+    @Override
+    public String syncOwnerId() {
+        return employee != null ? employee.getEmployeeId() : null;
+    }
 } 
\ No newline at end of file
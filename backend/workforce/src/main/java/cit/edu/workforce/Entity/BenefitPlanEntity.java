@@ -17,11 +17,15 @@ import java.util.List;
  * name, description, provider, eligibility criteria, and maximum coverage amount.
  */
 @Entity
-@Table(name = "benefit_plan")
+@Table(name = "benefit_plan",
+        indexes = {
+                @Index(name = "idx_benefit_plan_change_version", columnList = "change_version")
+        })
+@EntityListeners({ChangeTrackingListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class BenefitPlanEntity {
+public class BenefitPlanEntity implements ChangeTracked {
 
     @Id
     @GeneratedValue(generator = "custom-benefit-plan-id")
@@ -57,8 +61,22 @@ public class BenefitPlanEntity {
     @OneToMany(mappedBy = "benefitPlan", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BenefitEnrollmentEntity> enrollments = new ArrayList<>();
 
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    @Override
+    public String syncResource() {
+        return "benefit-plans";
+    }
+
+    @Override
+    public String syncId() {
+        return planId;
+    }
 } 
\ No newline at end of file
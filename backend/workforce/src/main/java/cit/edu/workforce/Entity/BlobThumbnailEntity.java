@@ -0,0 +1,50 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * BlobThumbnailEntity - Thumbnail generated for a stored blob
+ * New file: Thumbnails depend only on the source bytes, so they are keyed by the source content
+ * hash and shared by every document, receipt or certificate with the same content. Sources that
+ * cannot be rendered are recorded too, so they are not retried on every request.
+ */
+@Entity
+@Table(name = "blob_thumbnail")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlobThumbnailEntity {
+
+    public static final String READY = "READY";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @Column(name = "source_hash", updatable = false, nullable = false, length = 64)
+    private String sourceHash;
+
+    // Hash of the JPEG thumbnail in the BlobStore; null unless READY
+    @Column(name = "thumbnail_hash", length = 64)
+    private String thumbnailHash;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
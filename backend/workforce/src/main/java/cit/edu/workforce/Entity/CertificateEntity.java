@@ -30,7 +30,17 @@ public class CertificateEntity {
     private String certificateId;
 
     @Column(name = "file_path", nullable = false)
-    private String filePath; // Uploaded certificate PDF
+    private String filePath; // Uploaded certificate PDF, or the original file name for uploads in the blob store
+
+    // SHA-256 of the uploaded file in the BlobStore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "file_type")
+    private String fileType;
 
     @Column(name = "uploaded_at", nullable = false)
     private LocalDateTime uploadedAt;
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.GenericGenerator;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Entity
 @Table(name = "employee_certification")
@@ -15,6 +17,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class CertificationEntity {
 
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
     @Id
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
@@ -37,4 +41,13 @@ public class CertificationEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     private EmployeeEntity employee;
+
+    // Submission time, used to order the HR approval inbox
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now(ZONE_ID);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package cit.edu.workforce.Entity;
+
+/**
+ * ChangeTracked - Contract for entities exposed through the delta sync API
+ * New file: Implementing entities carry a change version stamped by
+ * {@link ChangeTrackingListener} and describe how their deletes are recorded as tombstones.
+ */
+public interface ChangeTracked {
+
+    Long getChangeVersion();
+
+    void setChangeVersion(Long changeVersion);
+
+    /**
+     * Sync resource name this entity belongs to, e.g. "leave-requests"
+     */
+    String syncResource();
+
+    /**
+     * Primary key reported to clients in tombstones
+     */
+    String syncId();
+
+    /**
+     * Employee that owns the row, or null for shared catalog rows such as benefit plans
+     */
+    default String syncOwnerId() {
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package cit.edu.workforce.Entity;
+
+import cit.edu.workforce.Utils.ChangeVersionClock;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * ChangeTrackingListener - JPA listener that maintains change versions for delta sync
+ * New file: Stamps a fresh version on every insert and update, and writes a tombstone row
+ * when a tracked entity is deleted. The tombstone goes through JDBC on the transaction's
+ * own connection, so it commits or rolls back together with the delete itself.
+ */
+@Component
+public class ChangeTrackingListener {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    private static final String INSERT_TOMBSTONE =
+            "INSERT INTO sync_tombstone (tombstone_id, resource, entity_id, owner_id, change_version, deleted_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeTrackingListener(@Lazy JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void stampChangeVersion(Object entity) {
+        if (entity instanceof ChangeTracked tracked) {
+            tracked.setChangeVersion(ChangeVersionClock.next());
+        }
+    }
+
+    @PostRemove
+    public void recordTombstone(Object entity) {
+        if (entity instanceof ChangeTracked tracked) {
+            jdbcTemplate.update(INSERT_TOMBSTONE,
+                    UUID.randomUUID().toString(),
+                    tracked.syncResource(),
+                    tracked.syncId(),
+                    tracked.syncOwnerId(),
+                    ChangeVersionClock.next(),
+                    Timestamp.valueOf(LocalDateTime.now(ZONE_ID)));
+        }
+    }
+}
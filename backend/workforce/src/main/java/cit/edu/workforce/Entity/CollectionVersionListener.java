@@ -0,0 +1,66 @@
+package cit.edu.workforce.Entity;
+
+import cit.edu.workforce.Config.ResourceVersionRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static cit.edu.workforce.Config.ResourceVersionRegistry.BENEFIT_PLANS;
+import static cit.edu.workforce.Config.ResourceVersionRegistry.EMPLOYEES;
+import static cit.edu.workforce.Config.ResourceVersionRegistry.EVENTS;
+import static cit.edu.workforce.Config.ResourceVersionRegistry.TRAINING_PROGRAMS;
+
+/**
+ * CollectionVersionListener - JPA listener that bumps cached GET collection versions
+ * New file: Maps each entity to the collections whose responses include its data, e.g.
+ * enrollment counts shown on benefit plans. Versions move only after commit, so an ETag
+ * handed out never describes data that was later rolled back.
+ */
+@Component
+public class CollectionVersionListener {
+
+    private static final Map<Class<?>, String[]> AFFECTED_COLLECTIONS = Map.of(
+            EmployeeEntity.class, new String[]{EMPLOYEES},
+            DepartmentEntity.class, new String[]{EMPLOYEES},
+            JobTitleEntity.class, new String[]{EMPLOYEES},
+            RoleEntity.class, new String[]{EMPLOYEES},
+            UserAccountEntity.class, new String[]{EMPLOYEES, TRAINING_PROGRAMS, EVENTS},
+            BenefitPlanEntity.class, new String[]{BENEFIT_PLANS},
+            BenefitEnrollmentEntity.class, new String[]{BENEFIT_PLANS},
+            TrainingProgramEntity.class, new String[]{TRAINING_PROGRAMS},
+            TrainingEnrollmentEntity.class, new String[]{TRAINING_PROGRAMS, EVENTS},
+            EventEntity.class, new String[]{EVENTS});
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    public CollectionVersionListener(@Lazy ResourceVersionRegistry resourceVersionRegistry) {
+        this.resourceVersionRegistry = resourceVersionRegistry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onEntityChanged(Object entity) {
+        String[] collections = AFFECTED_COLLECTIONS.get(Hibernate.getClass(entity));
+        if (collections == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resourceVersionRegistry.bump(collections);
+                }
+            });
+        } else {
+            resourceVersionRegistry.bump(collections);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "department")
+@EntityListeners({HeadcountCacheListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,8 +27,12 @@ public class DocumentEntity {
     @Column(name = "file_name")
     private String fileName;
 
-    @Column(name = "file_content", columnDefinition = "bytea")
-    private byte[] fileContent;
+    // SHA-256 of the file bytes, which live in the BlobStore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
 
     @Column(name = "file_type")
     private String fileType;
@@ -12,11 +12,15 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "employee")
+@Table(name = "employee",
+        indexes = {
+                @Index(name = "idx_employee_change_version", columnList = "change_version")
+        })
+@EntityListeners({HeadcountCacheListener.class, ChangeTrackingListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class EmployeeEntity {
+public class EmployeeEntity implements ChangeTracked {
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
 
@@ -93,8 +97,27 @@ public class EmployeeEntity {
     @JoinColumn(name = "user_id")
     private UserAccountEntity userAccount;
 
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now(ZONE_ID);
     }
+
+    @Override
+    public String syncResource() {
+        return "employees";
+    }
+
+    @Override
+    public String syncId() {
+        return employeeId;
+    }
+
+    @Override
+    public String syncOwnerId() {
+        return employeeId;
+    }
 }
\ No newline at end of file
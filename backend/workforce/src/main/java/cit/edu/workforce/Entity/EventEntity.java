@@ -17,6 +17,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "event")
+@EntityListeners(CollectionVersionListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package cit.edu.workforce.Entity;
+
+import cit.edu.workforce.Service.HeadcountAnalyticsService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * HeadcountCacheListener - JPA listener that reacts to writes behind the headcount figures
+ * New file: Employees are saved from several services and the OAuth2 handlers, and the
+ * breakdown is labelled with department, job title and role names, so cached headcount
+ * figures are invalidated here rather than in every caller. Invalidation is deferred until
+ * commit so a concurrent reader cannot re-cache the pre-commit state.
+ */
+@Component
+public class HeadcountCacheListener {
+
+    private final HeadcountAnalyticsService headcountAnalyticsService;
+
+    public HeadcountCacheListener(@Lazy HeadcountAnalyticsService headcountAnalyticsService) {
+        this.headcountAnalyticsService = headcountAnalyticsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onHeadcountChanged(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    headcountAnalyticsService.evictHeadcountCache();
+                }
+            });
+        } else {
+            headcountAnalyticsService.evictHeadcountCache();
+        }
+    }
+}
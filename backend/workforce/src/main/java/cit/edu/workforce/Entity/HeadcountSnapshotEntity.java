@@ -0,0 +1,58 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * HeadcountSnapshotEntity - Daily headcount per dimension bucket
+ * New file: One row per (date, dimension, bucket) so trends can be charted
+ * from this table instead of reconstructing history from the employee table.
+ */
+@Entity
+@Table(name = "headcount_snapshot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_headcount_snapshot_date_dimension_bucket",
+                columnNames = {"snapshot_date", "dimension", "bucket_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountSnapshotEntity {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "snapshot_id", updatable = false, nullable = false, length = 36)
+    private String snapshotId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "dimension", nullable = false, length = 32)
+    private String dimension; // DEPARTMENT, JOB_TITLE, ROLE, EMPLOYMENT_STATUS, HIRE_COHORT, TOTAL
+
+    @Column(name = "bucket_key", nullable = false)
+    private String bucketKey;
+
+    @Column(name = "bucket_label")
+    private String bucketLabel;
+
+    @Column(name = "headcount", nullable = false)
+    private long headcount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now(ZONE_ID);
+    }
+}
@@ -0,0 +1,47 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * HolidayEntity - A company-wide non-working day
+ * New file: Public and company holidays maintained by admins. BusinessCalendarService
+ * excludes them from working-day counts for every employee.
+ */
+@Entity
+@Table(name = "holiday",
+        uniqueConstraints = @UniqueConstraint(name = "uk_holiday_holiday_date", columnNames = "holiday_date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayEntity {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "holiday_id", updatable = false, nullable = false, length = 36)
+    private String holidayId;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now(ZONE_ID);
+    }
+}
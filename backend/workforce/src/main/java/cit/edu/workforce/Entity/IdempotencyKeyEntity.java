@@ -0,0 +1,42 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyKeyEntity - A client-supplied Idempotency-Key and the resource it created
+ * New file: Rows are written in the same transaction as the resource, so a key is recorded
+ * exactly when its request took effect. Keys are scoped to the caller and expire after a day.
+ */
+@Entity
+@Table(name = "idempotency_key",
+        indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyEntity {
+
+    // SHA-256 of the caller and the key, so keys of any length fit
+    @Id
+    @Column(name = "key_hash", updatable = false, nullable = false, length = 64)
+    private String keyHash;
+
+    // SHA-256 of the request parameters; a reused key must come with the same request
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "resource_id", nullable = false, length = 36)
+    private String resourceId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
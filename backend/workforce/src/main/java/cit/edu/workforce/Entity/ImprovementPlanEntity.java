@@ -49,5 +49,5 @@ public class ImprovementPlanEntity {
     private LocalDate endDate;
 
     @Column(name = "status", nullable = false)
-    private String status; // Open, Completed, Cancelled
+    private String status; // Open, Overdue (set by the expiry sweep), Completed, Cancelled
 } 
\ No newline at end of file
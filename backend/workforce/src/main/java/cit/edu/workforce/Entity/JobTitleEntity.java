@@ -9,6 +9,7 @@ import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Table(name = "job_title")
+@EntityListeners({HeadcountCacheListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
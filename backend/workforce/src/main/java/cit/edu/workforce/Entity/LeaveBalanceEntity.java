@@ -15,9 +15,13 @@ import java.time.ZoneId;
  * LeaveBalanceEntity - Represents an employee's leave balance
  * New file: This entity stores information about the employee's leave balance,
  * including allocated, used, and remaining days.
+ * Balances only change through LeaveBalanceService, which posts a ledger entry and applies
+ * it with a single conditional UPDATE.
  */
 @Entity
-@Table(name = "leave_balance")
+@Table(name = "leave_balance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_leave_balance_emp_id_leave_type",
+                columnNames = {"emp_id", "leave_type"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,73 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * LeaveLedgerEntryEntity - One change to an employee's leave balance
+ * New file: The ledger is append-only; rows are never updated or deleted. Accruals add days,
+ * approved leave deducts them and cancelling approved leave reverses the deduction, so the sum
+ * of a balance's entries always explains its current row in leave_balance. The entry key is
+ * unique, which makes every posting idempotent: a month is accrued and a leave request is
+ * deducted at most once, even when two approvals race.
+ */
+@Entity
+@Table(name = "leave_ledger_entry",
+        uniqueConstraints = @UniqueConstraint(name = "uk_leave_ledger_entry_entry_key", columnNames = "entry_key"),
+        indexes = @Index(name = "idx_leave_ledger_entry_balance_id_created_at", columnList = "balance_id, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveLedgerEntryEntity {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    public static final String ACCRUAL = "ACCRUAL";
+    public static final String DEDUCTION = "DEDUCTION";
+    public static final String REVERSAL = "REVERSAL";
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "entry_id", updatable = false, nullable = false, length = 36)
+    private String entryId;
+
+    @Column(name = "balance_id", updatable = false, nullable = false, length = 16)
+    private String balanceId;
+
+    @Column(name = "emp_id", updatable = false, nullable = false, length = 16)
+    private String employeeId;
+
+    @Column(name = "leave_type", updatable = false, nullable = false)
+    private String leaveType;
+
+    @Column(name = "entry_type", updatable = false, nullable = false, length = 16)
+    private String entryType;
+
+    // Positive for accruals and reversals, negative for deductions
+    @Column(name = "days", updatable = false, precision = 6, scale = 2, nullable = false)
+    private BigDecimal days;
+
+    // The leave request behind a deduction or reversal
+    @Column(name = "leave_id", updatable = false, length = 16)
+    private String leaveId;
+
+    // e.g. ACCRUAL:2025-06:LB-XXXXXXXXXX or DEDUCTION:LV-XXXXXXXXXX
+    @Column(name = "entry_key", updatable = false, nullable = false, length = 64)
+    private String entryKey;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now(ZONE_ID);
+    }
+}
@@ -17,11 +17,16 @@ import java.time.ZoneId;
  * leave type, date range, reason, and approval status.
  */
 @Entity
-@Table(name = "leave_request")
+@Table(name = "leave_request",
+        indexes = {
+                @Index(name = "idx_leave_request_change_version", columnList = "change_version"),
+                @Index(name = "idx_leave_request_emp_id_change_version", columnList = "emp_id, change_version")
+        })
+@EntityListeners(ChangeTrackingListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class LeaveRequestEntity {
+public class LeaveRequestEntity implements ChangeTracked {
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
 
@@ -52,7 +57,7 @@ public class LeaveRequestEntity {
     private String reason;
 
     @Column(name = "status", nullable = false)
-    private String status = "PENDING"; // PENDING, APPROVED, REJECTED
+    private String status = "PENDING"; // PENDING, APPROVED, REJECTED, CANCELED
 
     // New relationship added: Leave request is reviewed by a User
     @ManyToOne(fetch = FetchType.LAZY)
@@ -68,6 +73,10 @@ public class LeaveRequestEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now(ZONE_ID);
@@ -77,4 +86,19 @@ public class LeaveRequestEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now(ZONE_ID);
     }
+
+    @Override
+    public String syncResource() {
+        return "leave-requests";
+    }
+
+    @Override
+    public String syncId() {
+        return leaveId;
+    }
+
+    @Override
+    public String syncOwnerId() {
+        return employee != null ? employee.getEmployeeId() : null;
+    }
 } 
\ No newline at end of file
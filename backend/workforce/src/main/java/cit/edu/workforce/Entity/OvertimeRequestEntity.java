@@ -18,11 +18,16 @@ import java.time.ZoneId;
  * date, start/end times, reason, and approval status.
  */
 @Entity
-@Table(name = "overtime_request")
+@Table(name = "overtime_request",
+        indexes = {
+                @Index(name = "idx_overtime_request_change_version", columnList = "change_version"),
+                @Index(name = "idx_overtime_request_emp_id_change_version", columnList = "emp_id, change_version")
+        })
+@EntityListeners(ChangeTrackingListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class OvertimeRequestEntity {
+public class OvertimeRequestEntity implements ChangeTracked {
 
     private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
 
@@ -69,6 +74,10 @@ public class OvertimeRequestEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now(ZONE_ID);
@@ -78,4 +87,19 @@ public class OvertimeRequestEntity {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now(ZONE_ID);
     }
+
+    @Override
+    public String syncResource() {
+        return "overtime-requests";
+    }
+
+    @Override
+    public String syncId() {
+        return otRequestId;
+    }
+
+    @Override
+    public String syncOwnerId() {
+        return employee != null ? employee.getEmployeeId() : null;
+    }
 } 
\ No newline at end of file
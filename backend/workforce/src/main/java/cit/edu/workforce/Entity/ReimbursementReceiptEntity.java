@@ -0,0 +1,61 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReimbursementReceiptEntity - A receipt attached to a reimbursement request
+ * New file: Receipts used to be bytea columns on reimbursement_request, which every list and
+ * approval query loaded. This table only keeps receipt metadata; the image bytes live in the
+ * BlobStore and are fetched on demand. Slot 1 and 2 match the former receiptImage1/receiptImage2.
+ */
+@Entity
+@Table(name = "reimbursement_receipt",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reimbursement_receipt_reimbursement_id_slot",
+                columnNames = {"reimbursement_id", "slot"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReimbursementReceiptEntity {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "receipt_id", updatable = false, nullable = false, length = 36)
+    private String receiptId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reimbursement_id", nullable = false)
+    private ReimbursementRequestEntity reimbursementRequest;
+
+    @Column(name = "slot", nullable = false)
+    private int slot;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_type")
+    private String fileType;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    // SHA-256 of the receipt in the BlobStore
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (uploadedAt == null) {
+            uploadedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.hibernate.annotations.GenericGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * ReimbursementRequestEntity - Represents an employee's request for reimbursement
@@ -41,11 +43,10 @@ public class ReimbursementRequestEntity {
     @Column(name = "amount_requested", precision = 10, scale = 2, nullable = false)
     private BigDecimal amountRequested;
 
-    @Column(name = "receipt_image1", columnDefinition = "bytea")
-    private byte[] receiptImage1;
-
-    @Column(name = "receipt_image2", columnDefinition = "bytea")
-    private byte[] receiptImage2;
+    // Receipt metadata only; the images live in the BlobStore
+    @OneToMany(mappedBy = "reimbursementRequest", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("slot ASC")
+    private List<ReimbursementReceiptEntity> receipts = new ArrayList<>();
 
     @Column(name = "reason", columnDefinition = "TEXT", nullable = false)
     private String reason;
@@ -0,0 +1,48 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ResumeTextEntity - Text extracted from an applicant's resume for full-text search
+ * New file: One row per applicant with a resume, recording which resume version (content hash)
+ * the text came from. The search_vector tsvector column and its GIN index are maintained by the
+ * database (see db/vendor/postgresql), so they are not mapped here.
+ */
+@Entity
+@Table(name = "resume_text")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeTextEntity {
+
+    public static final String INDEXED = "INDEXED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @Column(name = "applicant_id", updatable = false, nullable = false, length = 36)
+    private String applicantId;
+
+    // Resume version the text was extracted from
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "resume_text", columnDefinition = "TEXT")
+    private String resumeText;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "indexed_at", nullable = false)
+    private LocalDateTime indexedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        indexedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,48 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * StageDurationBucketEntity - One bucket of a time-in-stage histogram
+ * New file: When an application leaves a status, the time it spent there is counted in a
+ * logarithmic bucket of its job listing and status (bucket 0 is under an hour, bucket n covers
+ * 2^(n-1) to 2^n hours). A listing needs at most a few dozen rows however many applications it
+ * gets, and percentiles are estimated from the bucket counts.
+ */
+@Entity
+@Table(name = "application_stage_duration")
+@IdClass(StageDurationBucketEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageDurationBucketEntity {
+
+    @Id
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Id
+    @Column(name = "stage", nullable = false, length = 20)
+    private String stage;
+
+    @Id
+    @Column(name = "bucket", nullable = false)
+    private int bucket;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String jobId;
+        private String stage;
+        private int bucket;
+    }
+}
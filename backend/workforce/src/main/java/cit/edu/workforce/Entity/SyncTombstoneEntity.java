@@ -0,0 +1,44 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SyncTombstoneEntity - Record of a deleted row for delta sync clients
+ * New file: Rows are inserted by {@link ChangeTrackingListener} when a tracked entity is
+ * removed, so clients syncing since an older version learn which ids to drop locally.
+ */
+@Entity
+@Table(name = "sync_tombstone",
+        indexes = {
+                @Index(name = "idx_sync_tombstone_resource_version", columnList = "resource, change_version"),
+                @Index(name = "idx_sync_tombstone_resource_owner_version", columnList = "resource, owner_id, change_version")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstoneEntity {
+
+    @Id
+    @Column(name = "tombstone_id", updatable = false, nullable = false, length = 36)
+    private String tombstoneId;
+
+    @Column(name = "resource", nullable = false, length = 32)
+    private String resource;
+
+    @Column(name = "entity_id", nullable = false, length = 36)
+    private String entityId;
+
+    @Column(name = "owner_id", length = 16)
+    private String ownerId;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
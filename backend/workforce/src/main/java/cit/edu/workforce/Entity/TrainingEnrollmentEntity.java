@@ -16,11 +16,16 @@ import java.util.List;
  * New file: This entity tracks an employee's enrollment status, type, and completion for training programs and events
  */
 @Entity
-@Table(name = "training_enrollment")
+@Table(name = "training_enrollment",
+        indexes = {
+                @Index(name = "idx_training_enrollment_change_version", columnList = "change_version"),
+                @Index(name = "idx_training_enrollment_emp_id_change_version", columnList = "emp_id, change_version")
+        })
+@EntityListeners({ChangeTrackingListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TrainingEnrollmentEntity {
+public class TrainingEnrollmentEntity implements ChangeTracked {
 
     @Id
     @GeneratedValue(generator = "custom-enrollment-id")
@@ -59,6 +64,10 @@ public class TrainingEnrollmentEntity {
     @OneToMany(mappedBy = "trainingEnrollment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CertificateEntity> certificates = new ArrayList<>();
     
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
     @PrePersist
     protected void onCreate() {
         enrolledDate = LocalDate.now();
@@ -66,4 +75,19 @@ public class TrainingEnrollmentEntity {
             status = "Enrolled";
         }
     }
+
+    @Override
+    public String syncResource() {
+        return "training-enrollments";
+    }
+
+    @Override
+    public String syncId() {
+        return enrollmentId;
+    }
+
+    @Override
+    public String syncOwnerId() {
+        return employee != null ? employee.getEmployeeId() : null;
+    }
 } 
\ No newline at end of file
@@ -14,11 +14,15 @@ import java.util.List;
  * TrainingProgramEntity - Represents the training program table in the database
  */
 @Entity
-@Table(name = "TRAINING_PROGRAM")
+@Table(name = "TRAINING_PROGRAM",
+        indexes = {
+                @Index(name = "idx_training_program_change_version", columnList = "change_version")
+        })
+@EntityListeners({ChangeTrackingListener.class, CollectionVersionListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TrainingProgramEntity {
+public class TrainingProgramEntity implements ChangeTracked {
     
     @Id
     @GeneratedValue(generator = "training-program-id")
@@ -54,4 +58,18 @@ public class TrainingProgramEntity {
     // New relationship added: Training Program has many Training Enrollments
     @OneToMany(mappedBy = "trainingProgram", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TrainingEnrollmentEntity> enrollments = new ArrayList<>();
+
+    // Stamped by ChangeTrackingListener on every insert and update
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    @Override
+    public String syncResource() {
+        return "training-programs";
+    }
+
+    @Override
+    public String syncId() {
+        return trainingId;
+    }
 } 
\ No newline at end of file
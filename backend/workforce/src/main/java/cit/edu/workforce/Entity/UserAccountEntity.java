@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_account")
+@EntityListeners(CollectionVersionListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,40 @@
+package cit.edu.workforce.Entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * WorkScheduleEntity - The days of the week an employee works
+ * New file: Only employees who do not follow the company's Monday to Friday week have a row.
+ */
+@Entity
+@Table(name = "work_schedule")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkScheduleEntity {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    @Id
+    @Column(name = "emp_id", updatable = false, nullable = false, length = 16)
+    private String employeeId;
+
+    // Bit 0 is Monday, bit 6 is Sunday
+    @Column(name = "work_days", nullable = false)
+    private int workDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now(ZONE_ID);
+    }
+}
@@ -0,0 +1,37 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.ApplicantDuplicateEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ApplicantDuplicateRepository - Repository for flagged duplicate applicants
+ * New file: Provides the HR review queue and lookups by applicant
+ */
+@Repository
+public interface ApplicantDuplicateRepository extends JpaRepository<ApplicantDuplicateEntity, String> {
+
+    /**
+     * Find flagged pairs by status, most similar first
+     */
+    Page<ApplicantDuplicateEntity> findByStatusOrderBySimilarityDesc(String status, Pageable pageable);
+
+    /**
+     * Find every pair involving any of the given applicants
+     */
+    @Query("SELECT d FROM ApplicantDuplicateEntity d WHERE d.applicantId IN ?1 OR d.duplicateOfId IN ?1")
+    List<ApplicantDuplicateEntity> findInvolving(List<String> applicantIds);
+
+    /**
+     * Delete every pair involving an applicant
+     */
+    @Modifying
+    @Query("DELETE FROM ApplicantDuplicateEntity d WHERE d.applicantId = ?1 OR d.duplicateOfId = ?1")
+    int deleteInvolving(String applicantId);
+}
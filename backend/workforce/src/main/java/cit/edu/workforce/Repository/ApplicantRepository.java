@@ -2,14 +2,22 @@ package cit.edu.workforce.Repository;
 
 import cit.edu.workforce.Entity.ApplicantEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * ApplicantRepository - Repository for applicants
@@ -28,6 +36,12 @@ public interface ApplicantRepository extends JpaRepository<ApplicantEntity, Stri
      */
     Optional<ApplicantEntity> findByUser(UserAccountEntity user);
     
+    /**
+     * Whether an applicant is internal, without loading the applicant
+     */
+    @Query("SELECT a.isInternal FROM ApplicantEntity a WHERE a.applicantId = :applicantId")
+    Optional<Boolean> findIsInternalById(@Param("applicantId") String applicantId);
+
     /**
      * Find applicants by internal status
      */
@@ -52,4 +66,12 @@ public interface ApplicantRepository extends JpaRepository<ApplicantEntity, Stri
      * Search applicants by name
      */
     Page<ApplicantEntity> findByFullNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Stream all applicants through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT a FROM ApplicantEntity a LEFT JOIN FETCH a.user ORDER BY a.applicantId")
+    Stream<ApplicantEntity> streamAll();
 } 
\ No newline at end of file
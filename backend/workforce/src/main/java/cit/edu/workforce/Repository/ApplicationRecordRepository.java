@@ -1,17 +1,29 @@
 package cit.edu.workforce.Repository;
 
+import cit.edu.workforce.DTO.JobApplicationCountDTO;
+import cit.edu.workforce.DTO.RankedApplicationDTO;
 import cit.edu.workforce.Entity.ApplicantEntity;
 import cit.edu.workforce.Entity.ApplicationRecordEntity;
 import cit.edu.workforce.Entity.JobListingEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * ApplicationRecordRepository - Repository for application records
@@ -85,11 +97,62 @@ public interface ApplicationRecordRepository extends JpaRepository<ApplicationRe
      */
     List<ApplicationRecordEntity> findByApplicantAndJobListing(ApplicantEntity applicant, JobListingEntity jobListing);
     
+    /**
+     * Insert a pending application unless the applicant already applied to the listing (PostgreSQL only).
+     * Relies on the unique (applicant_id, job_id) constraint, so concurrent submissions cannot both succeed.
+     * The conflict target is left out: the only other unique key is the random application id, and
+     * H2's PostgreSQL mode, used by the tests, only accepts the untargeted form.
+     *
+     * @return 1 if the application was inserted, 0 if one already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_record (application_id, applicant_id, job_id, status, stage_entered_at) "
+            + "VALUES (:applicationId, :applicantId, :jobId, 'PENDING', :submittedAt) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("applicationId") String applicationId,
+                       @Param("applicantId") String applicantId,
+                       @Param("jobId") String jobId,
+                       @Param("submittedAt") LocalDateTime submittedAt);
+
+    /**
+     * Find an application with the associations used for its DTO
+     */
+    @Query("SELECT r FROM ApplicationRecordEntity r JOIN FETCH r.applicant JOIN FETCH r.jobListing j "
+            + "LEFT JOIN FETCH j.department LEFT JOIN FETCH r.reviewedBy WHERE r.applicationId = :applicationId")
+    Optional<ApplicationRecordEntity> findWithDetailsById(@Param("applicationId") String applicationId);
+
     /**
      * Count applications by job listing
      */
     long countByJobListing(JobListingEntity jobListing);
+
+    /**
+     * Count applications for several job listings in one query.
+     * Listings without applications are absent from the result.
+     */
+    @Query("SELECT new cit.edu.workforce.DTO.JobApplicationCountDTO(a.jobListing.jobId, COUNT(a)) "
+            + "FROM ApplicationRecordEntity a WHERE a.jobListing IN :jobListings GROUP BY a.jobListing.jobId")
+    List<JobApplicationCountDTO> countByJobListingIn(@Param("jobListings") Collection<JobListingEntity> jobListings);
+
+    /**
+     * Count applications for every job listing that has any
+     */
+    @Query("SELECT new cit.edu.workforce.DTO.JobApplicationCountDTO(a.jobListing.jobId, COUNT(a)) "
+            + "FROM ApplicationRecordEntity a GROUP BY a.jobListing.jobId")
+    List<JobApplicationCountDTO> countGroupedByJobListing();
     
+    /**
+     * Applications to a job listing, best match score first.
+     * Applications that have not been scored yet follow the scored ones.
+     */
+    @Query(value = "SELECT new cit.edu.workforce.DTO.RankedApplicationDTO(a.applicationId, ap.applicantId, ap.fullName, "
+            + "ap.isInternal, ap.applicationDate, a.status, s.score, s.matchedTerms) "
+            + "FROM ApplicationRecordEntity a JOIN a.applicant ap "
+            + "LEFT JOIN ApplicationScoreEntity s ON s.applicationId = a.applicationId "
+            + "WHERE a.jobListing.jobId = :jobId ORDER BY s.score DESC NULLS LAST, a.applicationId",
+            countQuery = "SELECT COUNT(a) FROM ApplicationRecordEntity a WHERE a.jobListing.jobId = :jobId")
+    Page<RankedApplicationDTO> findRankedByJobId(@Param("jobId") String jobId, Pageable pageable);
+
     /**
      * Count applications by applicant
      */
@@ -110,4 +173,12 @@ public interface ApplicationRecordRepository extends JpaRepository<ApplicationRe
      */
     @Query("SELECT a FROM ApplicationRecordEntity a WHERE a.jobListing = :jobListing AND a.status = :status AND a.reviewedAt BETWEEN :startDateTime AND :endDateTime")
     List<ApplicationRecordEntity> findByJobListingAndStatusAndReviewedAtBetween(JobListingEntity jobListing, String status, LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    /**
+     * Stream all application records through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r FROM ApplicationRecordEntity r JOIN FETCH r.applicant JOIN FETCH r.jobListing j LEFT JOIN FETCH j.department LEFT JOIN FETCH r.reviewedBy ORDER BY r.applicationId")
+    Stream<ApplicationRecordEntity> streamAll();
 } 
\ No newline at end of file
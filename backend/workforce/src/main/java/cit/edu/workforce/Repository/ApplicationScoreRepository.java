@@ -0,0 +1,13 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.ApplicationScoreEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ApplicationScoreRepository - Repository for precomputed application match scores
+ * New file: Rows are keyed by application ID; ranked reads go through ApplicationRecordRepository
+ */
+@Repository
+public interface ApplicationScoreRepository extends JpaRepository<ApplicationScoreEntity, String> {
+}
@@ -6,6 +6,7 @@ import cit.edu.workforce.Entity.EmployeeEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -38,4 +39,20 @@ public interface BenefitEnrollmentRepository extends JpaRepository<BenefitEnroll
      * Find benefit enrollments by employee and status with pagination
      */
     Page<BenefitEnrollmentEntity> findByEmployeeAndStatus(EmployeeEntity employee, String status, Pageable pageable);
+
+    /**
+     * Find benefit enrollments after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT b FROM BenefitEnrollmentEntity b WHERE b.changeVersion > ?1 OR (b.changeVersion = ?1 AND b.enrollmentId > ?2) " +
+           "ORDER BY b.changeVersion, b.enrollmentId")
+    List<BenefitEnrollmentEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Find benefit enrollments of an employee after a sync position, ordered by change version then id
+     */
+    @Query("SELECT b FROM BenefitEnrollmentEntity b WHERE b.employee = ?1 " +
+           "AND (b.changeVersion > ?2 OR (b.changeVersion = ?2 AND b.enrollmentId > ?3)) " +
+           "ORDER BY b.changeVersion, b.enrollmentId")
+    List<BenefitEnrollmentEntity> findChangedAfterByEmployee(EmployeeEntity employee, Long changeVersion, String afterId, Pageable pageable);
 } 
\ No newline at end of file
@@ -4,6 +4,7 @@ import cit.edu.workforce.Entity.BenefitPlanEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -44,4 +45,12 @@ public interface BenefitPlanRepository extends JpaRepository<BenefitPlanEntity,
      * Find paginated benefit plans by provider
      */
     Page<BenefitPlanEntity> findByProviderAndIsActiveTrue(String provider, Pageable pageable);
+
+    /**
+     * Find benefit plans after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT b FROM BenefitPlanEntity b WHERE b.changeVersion > ?1 OR (b.changeVersion = ?1 AND b.planId > ?2) " +
+           "ORDER BY b.changeVersion, b.planId")
+    List<BenefitPlanEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.BlobThumbnailEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * BlobThumbnailRepository - Repository for generated thumbnails
+ * New file: Thumbnails are looked up by the content hash of their source blob
+ */
+@Repository
+public interface BlobThumbnailRepository extends JpaRepository<BlobThumbnailEntity, String> {
+}
@@ -2,16 +2,23 @@ package cit.edu.workforce.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import cit.edu.workforce.DTO.HeadcountBucketDTO;
 import cit.edu.workforce.Entity.EmployeeEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<EmployeeEntity, String> {
 
@@ -40,4 +47,48 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, String
 
     @Query("SELECT e FROM EmployeeEntity e WHERE e.status = false AND e.userAccount IS NOT NULL AND e.userAccount.isActive = false")
     Page<EmployeeEntity> findByStatusDeactivated(Pageable pageable);
+
+    long countByStatus(Boolean status);
+
+    long countByDepartmentDepartmentIdAndStatus(String departmentId, Boolean status);
+
+    @Query("SELECT new cit.edu.workforce.DTO.HeadcountBucketDTO(d.departmentId, d.departmentName, COUNT(e)) "
+            + "FROM EmployeeEntity e LEFT JOIN e.department d WHERE e.status = true "
+            + "GROUP BY d.departmentId, d.departmentName")
+    List<HeadcountBucketDTO> countActiveByDepartment();
+
+    @Query("SELECT new cit.edu.workforce.DTO.HeadcountBucketDTO(j.jobId, j.jobName, COUNT(e)) "
+            + "FROM EmployeeEntity e LEFT JOIN e.jobTitle j WHERE e.status = true "
+            + "GROUP BY j.jobId, j.jobName")
+    List<HeadcountBucketDTO> countActiveByJobTitle();
+
+    @Query("SELECT new cit.edu.workforce.DTO.HeadcountBucketDTO(r.roleId, r.roleName, COUNT(e)) "
+            + "FROM EmployeeEntity e LEFT JOIN e.role r WHERE e.status = true "
+            + "GROUP BY r.roleId, r.roleName")
+    List<HeadcountBucketDTO> countActiveByRole();
+
+    @Query("SELECT new cit.edu.workforce.DTO.HeadcountBucketDTO(e.employmentStatus, e.employmentStatus, COUNT(e)) "
+            + "FROM EmployeeEntity e WHERE e.status = true GROUP BY e.employmentStatus")
+    List<HeadcountBucketDTO> countActiveByEmploymentStatus();
+
+    @Query("SELECT new cit.edu.workforce.DTO.HeadcountBucketDTO(CAST(YEAR(e.hireDate) AS String), "
+            + "CAST(YEAR(e.hireDate) AS String), COUNT(e)) "
+            + "FROM EmployeeEntity e WHERE e.status = true GROUP BY YEAR(e.hireDate)")
+    List<HeadcountBucketDTO> countActiveByHireYear();
+
+    /**
+     * Find employees after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT e FROM EmployeeEntity e WHERE e.changeVersion > ?1 OR (e.changeVersion = ?1 AND e.employeeId > ?2) " +
+           "ORDER BY e.changeVersion, e.employeeId")
+    List<EmployeeEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Stream all employees through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT e FROM EmployeeEntity e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.jobTitle LEFT JOIN FETCH e.role LEFT JOIN FETCH e.userAccount ORDER BY e.employeeId")
+    Stream<EmployeeEntity> streamAll();
 }
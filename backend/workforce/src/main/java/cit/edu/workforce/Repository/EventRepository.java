@@ -2,14 +2,20 @@ package cit.edu.workforce.Repository;
 
 import cit.edu.workforce.Entity.EventEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * EventRepository - Repository for managing events
@@ -79,20 +85,23 @@ public interface EventRepository extends JpaRepository<EventEntity, String> {
     Page<EventEntity> findByLocationContainingIgnoreCase(String location, Pageable pageable);
     
     /**
-     * Find events that are active and scheduled in the future
+     * Find events that are active and scheduled at or after a time.
+     * The time is passed in rather than read from the database clock, which may run in another zone.
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.isActive = true AND e.eventDatetime >= CURRENT_TIMESTAMP")
-    List<EventEntity> findActiveAndUpcomingEvents();
+    @Query("SELECT e FROM EventEntity e WHERE e.isActive = true AND e.eventDatetime >= ?1")
+    List<EventEntity> findActiveAndUpcomingEvents(LocalDateTime now);
     
     /**
-     * Find paginated events that are active and scheduled in the future
+     * Find paginated events that are active and scheduled at or after a time
      */
-    @Query("SELECT e FROM EventEntity e WHERE e.isActive = true AND e.eventDatetime >= CURRENT_TIMESTAMP")
-    Page<EventEntity> findActiveAndUpcomingEvents(Pageable pageable);
-    
+    @Query("SELECT e FROM EventEntity e WHERE e.isActive = true AND e.eventDatetime >= ?1")
+    Page<EventEntity> findActiveAndUpcomingEvents(LocalDateTime now, Pageable pageable);
+
     /**
-     * Find events happening today
+     * Stream all events through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
      */
-    @Query("SELECT e FROM EventEntity e WHERE FUNCTION('DATE', e.eventDatetime) = CURRENT_DATE")
-    List<EventEntity> findEventsHappeningToday();
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT e FROM EventEntity e LEFT JOIN FETCH e.createdBy ORDER BY e.eventDatetime")
+    Stream<EventEntity> streamAll();
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.HeadcountSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HeadcountSnapshotRepository - Repository for daily headcount snapshots
+ * New file: Provides methods to store and read headcount time series
+ */
+@Repository
+public interface HeadcountSnapshotRepository extends JpaRepository<HeadcountSnapshotEntity, String> {
+
+    /**
+     * Find the snapshot rows of one dimension within a date range, oldest first
+     */
+    List<HeadcountSnapshotEntity> findByDimensionAndSnapshotDateBetweenOrderBySnapshotDateAscBucketKeyAsc(
+            String dimension, LocalDate from, LocalDate to);
+
+    /**
+     * Check whether a snapshot was already taken for a date
+     */
+    boolean existsBySnapshotDate(LocalDate snapshotDate);
+
+    /**
+     * Remove all rows of a date so the snapshot can be retaken
+     */
+    @Modifying
+    @Query("DELETE FROM HeadcountSnapshotEntity s WHERE s.snapshotDate = ?1")
+    int deleteBySnapshotDate(LocalDate snapshotDate);
+}
@@ -0,0 +1,26 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.HolidayEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HolidayRepository - Repository for company holidays
+ * New file: Holidays are read a year at a time by BusinessCalendarService
+ */
+@Repository
+public interface HolidayRepository extends JpaRepository<HolidayEntity, String> {
+
+    /**
+     * Find the holidays in a date range, in date order
+     */
+    List<HolidayEntity> findByHolidayDateBetweenOrderByHolidayDateAsc(LocalDate from, LocalDate to);
+
+    /**
+     * Check whether a date is already a holiday
+     */
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
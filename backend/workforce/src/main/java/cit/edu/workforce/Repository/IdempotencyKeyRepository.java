@@ -0,0 +1,24 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyKeyRepository - Repository for recorded Idempotency-Keys
+ * New file: Provides lookup by key hash and bulk expiry
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Delete keys recorded before a cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.createdAt < ?1")
+    int deleteByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -2,14 +2,21 @@ package cit.edu.workforce.Repository;
 
 import cit.edu.workforce.Entity.DepartmentEntity;
 import cit.edu.workforce.Entity.JobListingEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * JobListingRepository - Repository for job listings
@@ -84,9 +91,35 @@ public interface JobListingRepository extends JpaRepository<JobListingEntity, St
     Page<JobListingEntity> findByTitleContainingIgnoreCaseAndIsActiveTrue(String title, Pageable pageable);
     
     /**
-     * Search for job listings by title or description
+     * Ranked full-text search over active job listings (PostgreSQL only).
+     * Uses the weighted search_vector column and its GIN index (db/vendor/postgresql/V3);
+     * the query accepts web search syntax. Null filters are ignored. The pageable must be unsorted,
+     * since results are ordered by relevance.
+     * @return Page of matching job IDs, most relevant first
+     */
+    @Query(value = "SELECT j.job_id FROM job_listing j CROSS JOIN websearch_to_tsquery('english', :query) q "
+            + "WHERE j.search_vector @@ q AND j.is_active = true "
+            + "AND (CAST(:departmentId AS varchar) IS NULL OR j.department_id = :departmentId) "
+            + "AND (CAST(:jobType AS varchar) IS NULL OR UPPER(j.job_type) = UPPER(:jobType)) "
+            + "AND (CAST(:employmentType AS varchar) IS NULL OR UPPER(j.employment_type) = UPPER(:employmentType)) "
+            + "ORDER BY ts_rank_cd(j.search_vector, q) DESC, j.date_posted DESC, j.job_id",
+            countQuery = "SELECT COUNT(*) FROM job_listing j "
+            + "WHERE j.search_vector @@ websearch_to_tsquery('english', :query) AND j.is_active = true "
+            + "AND (CAST(:departmentId AS varchar) IS NULL OR j.department_id = :departmentId) "
+            + "AND (CAST(:jobType AS varchar) IS NULL OR UPPER(j.job_type) = UPPER(:jobType)) "
+            + "AND (CAST(:employmentType AS varchar) IS NULL OR UPPER(j.employment_type) = UPPER(:employmentType))",
+            nativeQuery = true)
+    Page<String> searchFullText(@Param("query") String query,
+                                @Param("departmentId") String departmentId,
+                                @Param("jobType") String jobType,
+                                @Param("employmentType") String employmentType,
+                                Pageable pageable);
+
+    /**
+     * Stream all job listings through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
      */
-    @Query("SELECT j FROM JobListingEntity j WHERE (LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR "
-            + "LOWER(j.jobDescription) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND j.isActive = true")
-    Page<JobListingEntity> searchByTitleOrDescription(String searchTerm, Pageable pageable);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT j FROM JobListingEntity j LEFT JOIN FETCH j.department ORDER BY j.jobId")
+    Stream<JobListingEntity> streamAll();
 } 
\ No newline at end of file
@@ -2,8 +2,13 @@ package cit.edu.workforce.Repository;
 
 import cit.edu.workforce.Entity.LeaveBalanceEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +22,11 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalanceEntity
      * Find all leave balances for a specific employee
      */
     List<LeaveBalanceEntity> findByEmployeeEmployeeId(String employeeId);
+
+    /**
+     * Find all leave balances for a batch of employees
+     */
+    List<LeaveBalanceEntity> findByEmployeeEmployeeIdIn(Collection<String> employeeIds);
     
     /**
      * Find a specific leave balance for an employee by leave type
@@ -27,4 +37,29 @@ public interface LeaveBalanceRepository extends JpaRepository<LeaveBalanceEntity
      * Delete all leave balances for a specific employee
      */
     void deleteByEmployeeEmployeeId(String employeeId);
-} 
\ No newline at end of file
+
+    /**
+     * Add accrued days to a balance
+     */
+    @Modifying
+    @Query("UPDATE LeaveBalanceEntity b SET b.allocatedDays = b.allocatedDays + ?2, " +
+           "b.remainingDays = b.remainingDays + ?2, b.updatedAt = ?3 WHERE b.balanceId = ?1")
+    int accrue(String balanceId, BigDecimal days, LocalDateTime updatedAt);
+
+    /**
+     * Take days from a balance only if enough remain; returns 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE LeaveBalanceEntity b SET b.usedDays = b.usedDays + ?2, " +
+           "b.remainingDays = b.remainingDays - ?2, b.updatedAt = ?3 " +
+           "WHERE b.balanceId = ?1 AND b.remainingDays >= ?2")
+    int deduct(String balanceId, BigDecimal days, LocalDateTime updatedAt);
+
+    /**
+     * Give back days taken by a deduction
+     */
+    @Modifying
+    @Query("UPDATE LeaveBalanceEntity b SET b.usedDays = b.usedDays - ?2, " +
+           "b.remainingDays = b.remainingDays + ?2, b.updatedAt = ?3 WHERE b.balanceId = ?1")
+    int reverse(String balanceId, BigDecimal days, LocalDateTime updatedAt);
+}
@@ -0,0 +1,33 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.LeaveLedgerEntryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * LeaveLedgerEntryRepository - Repository for the append-only leave ledger
+ * New file: Entries are only ever inserted and read
+ */
+@Repository
+public interface LeaveLedgerEntryRepository extends JpaRepository<LeaveLedgerEntryEntity, String> {
+
+    /**
+     * Find the entries of a balance, newest first
+     */
+    List<LeaveLedgerEntryEntity> findByBalanceIdOrderByCreatedAtDesc(String balanceId);
+
+    /**
+     * Find which of the given entry keys have already been posted
+     */
+    @Query("SELECT e.entryKey FROM LeaveLedgerEntryEntity e WHERE e.entryKey IN ?1")
+    List<String> findPostedEntryKeys(Collection<String> entryKeys);
+
+    /**
+     * Check whether an entry key has been posted
+     */
+    boolean existsByEntryKey(String entryKey);
+}
@@ -49,14 +49,50 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequestEntity
     Page<LeaveRequestEntity> findByStatus(String status, Pageable pageable);
     
     /**
-     * Find all leave requests overlapping with a date range for an employee
+     * Check whether an employee has a pending or approved leave request overlapping a date range,
+     * other than the given one. On PostgreSQL the ex_leave_request_no_overlap constraint also
+     * enforces this for concurrent inserts.
      */
-    @Query("SELECT l FROM LeaveRequestEntity l WHERE l.employee = ?1 AND ((l.startDate BETWEEN ?2 AND ?3) OR (l.endDate BETWEEN ?2 AND ?3) OR (?2 BETWEEN l.startDate AND l.endDate))")
-    List<LeaveRequestEntity> findOverlappingLeaveRequests(EmployeeEntity employee, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT COUNT(l) > 0 FROM LeaveRequestEntity l WHERE l.employee = ?1 AND l.leaveId <> ?4 " +
+           "AND l.status IN ('PENDING', 'APPROVED') AND l.startDate <= ?3 AND l.endDate >= ?2")
+    boolean existsActiveOverlap(EmployeeEntity employee, LocalDate startDate, LocalDate endDate, String excludedLeaveId);
     
+    /**
+     * Dates of one leave request
+     */
+    interface LeaveInterval {
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+    }
+
+    /**
+     * Find the approved leave intervals of a department's employees that touch a date range
+     */
+    @Query("SELECT l.startDate AS startDate, l.endDate AS endDate FROM LeaveRequestEntity l " +
+           "WHERE l.employee.department.departmentId = ?1 AND l.status = 'APPROVED' " +
+           "AND l.startDate <= ?3 AND l.endDate >= ?2")
+    List<LeaveInterval> findApprovedIntervalsByDepartment(String departmentId, LocalDate from, LocalDate to);
+
     /**
      * Count active leave requests for an employee on a specific date
      */
     @Query("SELECT COUNT(l) FROM LeaveRequestEntity l WHERE l.employee = ?1 AND ?2 BETWEEN l.startDate AND l.endDate AND l.status = 'APPROVED'")
     int countActiveLeaveRequests(EmployeeEntity employee, LocalDate date);
+
+    /**
+     * Find leave requests after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT l FROM LeaveRequestEntity l WHERE l.changeVersion > ?1 OR (l.changeVersion = ?1 AND l.leaveId > ?2) " +
+           "ORDER BY l.changeVersion, l.leaveId")
+    List<LeaveRequestEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Find leave requests of an employee after a sync position, ordered by change version then id
+     */
+    @Query("SELECT l FROM LeaveRequestEntity l WHERE l.employee = ?1 " +
+           "AND (l.changeVersion > ?2 OR (l.changeVersion = ?2 AND l.leaveId > ?3)) " +
+           "ORDER BY l.changeVersion, l.leaveId")
+    List<LeaveRequestEntity> findChangedAfterByEmployee(EmployeeEntity employee, Long changeVersion, String afterId, Pageable pageable);
 } 
\ No newline at end of file
@@ -58,4 +58,20 @@ public interface OvertimeRequestRepository extends JpaRepository<OvertimeRequest
      */
     @Query("SELECT COALESCE(SUM(o.totalHours), 0) FROM OvertimeRequestEntity o WHERE o.employee = ?1 AND o.date BETWEEN ?2 AND ?3 AND o.status = 'APPROVED'")
     double getTotalApprovedOvertimeHours(EmployeeEntity employee, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Find overtime requests after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT o FROM OvertimeRequestEntity o WHERE o.changeVersion > ?1 OR (o.changeVersion = ?1 AND o.otRequestId > ?2) " +
+           "ORDER BY o.changeVersion, o.otRequestId")
+    List<OvertimeRequestEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Find overtime requests of an employee after a sync position, ordered by change version then id
+     */
+    @Query("SELECT o FROM OvertimeRequestEntity o WHERE o.employee = ?1 " +
+           "AND (o.changeVersion > ?2 OR (o.changeVersion = ?2 AND o.otRequestId > ?3)) " +
+           "ORDER BY o.changeVersion, o.otRequestId")
+    List<OvertimeRequestEntity> findChangedAfterByEmployee(EmployeeEntity employee, Long changeVersion, String afterId, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.ReimbursementReceiptEntity;
+import cit.edu.workforce.Entity.ReimbursementRequestEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReimbursementReceiptRepository - Repository for reimbursement receipt metadata
+ * New file: Provides methods to access the receipts attached to reimbursement requests
+ */
+@Repository
+public interface ReimbursementReceiptRepository extends JpaRepository<ReimbursementReceiptEntity, String> {
+
+    /**
+     * Find the receipts of a page of requests in one query
+     */
+    List<ReimbursementReceiptEntity> findByReimbursementRequestInOrderBySlotAsc(Collection<ReimbursementRequestEntity> requests);
+
+    Optional<ReimbursementReceiptEntity> findByReimbursementRequestAndSlot(ReimbursementRequestEntity request, int slot);
+}
@@ -5,6 +5,7 @@ import cit.edu.workforce.Entity.ReimbursementRequestEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -38,7 +39,15 @@ public interface ReimbursementRequestRepository extends JpaRepository<Reimbursem
     /**
      * Find paginated reimbursement requests by status
      */
+    @EntityGraph(attributePaths = {"employee", "reviewedBy"})
     Page<ReimbursementRequestEntity> findByStatus(String status, Pageable pageable);
+
+    /**
+     * Find a page of all reimbursement requests with the employee and reviewer of each row
+     */
+    @Override
+    @EntityGraph(attributePaths = {"employee", "reviewedBy"})
+    Page<ReimbursementRequestEntity> findAll(Pageable pageable);
     
     /**
      * Find reimbursement requests by reviewer
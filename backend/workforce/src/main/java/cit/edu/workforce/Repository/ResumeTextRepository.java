@@ -0,0 +1,13 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.ResumeTextEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ResumeTextRepository - Repository for extracted resume text
+ * New file: Rows are keyed by applicant ID; searching goes through the tsvector column in SQL
+ */
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeTextEntity, String> {
+}
@@ -0,0 +1,43 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.SyncTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SyncTombstoneRepository - Repository for delete tombstones used by delta sync
+ * New file: Provides methods to read tombstones after a change version and purge old ones
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstoneEntity, String> {
+
+    /**
+     * Find tombstones of a resource after a sync position, ordered by change version then entity id
+     */
+    @Query("SELECT t FROM SyncTombstoneEntity t WHERE t.resource = ?1 " +
+           "AND (t.changeVersion > ?2 OR (t.changeVersion = ?2 AND t.entityId > ?3)) " +
+           "ORDER BY t.changeVersion, t.entityId")
+    List<SyncTombstoneEntity> findChangedAfter(String resource, Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Find tombstones of a resource owned by one employee after a sync position
+     */
+    @Query("SELECT t FROM SyncTombstoneEntity t WHERE t.resource = ?1 AND t.ownerId = ?2 " +
+           "AND (t.changeVersion > ?3 OR (t.changeVersion = ?3 AND t.entityId > ?4)) " +
+           "ORDER BY t.changeVersion, t.entityId")
+    List<SyncTombstoneEntity> findChangedAfterByOwner(
+            String resource, String ownerId, Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Delete tombstones older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM SyncTombstoneEntity t WHERE t.deletedAt < ?1")
+    int deleteByDeletedAtBefore(LocalDateTime cutoff);
+}
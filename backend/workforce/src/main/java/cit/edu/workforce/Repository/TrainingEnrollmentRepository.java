@@ -137,4 +137,20 @@ public interface TrainingEnrollmentRepository extends JpaRepository<TrainingEnro
      */
     @Query("SELECT e FROM TrainingEnrollmentEntity e WHERE e.event.isActive = true")
     List<TrainingEnrollmentEntity> findByActiveEvents();
+
+    /**
+     * Find training enrollments after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT e FROM TrainingEnrollmentEntity e WHERE e.changeVersion > ?1 OR (e.changeVersion = ?1 AND e.enrollmentId > ?2) " +
+           "ORDER BY e.changeVersion, e.enrollmentId")
+    List<TrainingEnrollmentEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Find training enrollments of an employee after a sync position, ordered by change version then id
+     */
+    @Query("SELECT e FROM TrainingEnrollmentEntity e WHERE e.employee = ?1 " +
+           "AND (e.changeVersion > ?2 OR (e.changeVersion = ?2 AND e.enrollmentId > ?3)) " +
+           "ORDER BY e.changeVersion, e.enrollmentId")
+    List<TrainingEnrollmentEntity> findChangedAfterByEmployee(EmployeeEntity employee, Long changeVersion, String afterId, Pageable pageable);
 } 
\ No newline at end of file
@@ -2,14 +2,20 @@ package cit.edu.workforce.Repository;
 
 import cit.edu.workforce.Entity.TrainingProgramEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * TrainingProgramRepository - Repository for managing training programs
@@ -79,14 +85,31 @@ public interface TrainingProgramRepository extends JpaRepository<TrainingProgram
     Page<TrainingProgramEntity> findByTrainingMode(String trainingMode, Pageable pageable);
     
     /**
-     * Find training programs that are active and have not yet ended
+     * Find training programs that are active and have not ended before a date.
+     * The date is passed in rather than read from the database clock, which may run in another zone.
      */
-    @Query("SELECT t FROM TrainingProgramEntity t WHERE t.isActive = true AND t.endDate >= CURRENT_DATE")
-    List<TrainingProgramEntity> findActiveAndNotEndedTrainingPrograms();
+    @Query("SELECT t FROM TrainingProgramEntity t WHERE t.isActive = true AND t.endDate >= ?1")
+    List<TrainingProgramEntity> findActiveAndNotEndedTrainingPrograms(LocalDate today);
     
     /**
-     * Find paginated training programs that are active and have not yet ended
+     * Find paginated training programs that are active and have not ended before a date
+     */
+    @Query("SELECT t FROM TrainingProgramEntity t WHERE t.isActive = true AND t.endDate >= ?1")
+    Page<TrainingProgramEntity> findActiveAndNotEndedTrainingPrograms(LocalDate today, Pageable pageable);
+
+    /**
+     * Find training programs after a sync position, ordered by change version then id.
+     * Rows sharing a version are paged by id, so a page may end inside a version.
+     */
+    @Query("SELECT t FROM TrainingProgramEntity t WHERE t.changeVersion > ?1 OR (t.changeVersion = ?1 AND t.trainingId > ?2) " +
+           "ORDER BY t.changeVersion, t.trainingId")
+    List<TrainingProgramEntity> findChangedAfter(Long changeVersion, String afterId, Pageable pageable);
+
+    /**
+     * Stream all training programs through a database cursor, with the associations used for DTOs fetched.
+     * Must be consumed inside a transaction and closed afterwards.
      */
-    @Query("SELECT t FROM TrainingProgramEntity t WHERE t.isActive = true AND t.endDate >= CURRENT_DATE")
-    Page<TrainingProgramEntity> findActiveAndNotEndedTrainingPrograms(Pageable pageable);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM TrainingProgramEntity t LEFT JOIN FETCH t.createdBy ORDER BY t.startDate")
+    Stream<TrainingProgramEntity> streamAll();
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package cit.edu.workforce.Repository;
+
+import cit.edu.workforce.Entity.WorkScheduleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * WorkScheduleRepository - Repository for per-employee work weeks
+ * New file: Looked up by employee ID
+ */
+@Repository
+public interface WorkScheduleRepository extends JpaRepository<WorkScheduleEntity, String> {
+}
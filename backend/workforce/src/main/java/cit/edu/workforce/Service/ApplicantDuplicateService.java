@@ -0,0 +1,478 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.ApplicantDuplicateDTO;
+import cit.edu.workforce.Entity.ApplicantDuplicateEntity;
+import cit.edu.workforce.Entity.ApplicantEntity;
+import cit.edu.workforce.Repository.ApplicantDuplicateRepository;
+import cit.edu.workforce.Repository.ApplicantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * ApplicantDuplicateService - Flags applicants who registered more than once
+ * New file: Each applicant's normalized name, email local part and phone number are broken
+ * into character shingles and summarized by a MinHash signature, whose agreement estimates
+ * the Jaccard similarity of two applicants. Signatures are split into bands and kept in an
+ * in-memory locality-sensitive hash table, so a new registration is compared only with the
+ * few applicants sharing a band instead of the whole table. Likely duplicates are recorded in
+ * applicant_duplicate for HR to review; a batch scan clusters the existing applicants.
+ */
+@Service
+public class ApplicantDuplicateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantDuplicateService.class);
+
+    // 16 bands of 4 rows: pairs at 0.6 similarity become candidates ~89% of the time,
+    // pairs at 0.3 only ~12% of the time
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int BANDS = 16;
+    private static final int ROWS = SIGNATURE_LENGTH / BANDS;
+    private static final double THRESHOLD = 0.6;
+    private static final int SHINGLE_SIZE = 3;
+
+    // Fixed, so signatures are the same on every instance and after a restart
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(SIGNATURE_LENGTH).toArray();
+
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    private static final String APPLICANTS_SQL =
+            "SELECT applicant_id, full_name, email, phone_number, application_date FROM applicant";
+
+    /**
+     * An existing applicant similar to the one being checked
+     *
+     * @param applicantId ID of the existing applicant
+     * @param similarity  Estimated Jaccard similarity, between 0 and 1
+     */
+    public record Candidate(String applicantId, double similarity) {
+    }
+
+    private final ApplicantDuplicateRepository applicantDuplicateRepository;
+    private final ApplicantRepository applicantRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApplicantDuplicateService(ApplicantDuplicateRepository applicantDuplicateRepository,
+                                     ApplicantRepository applicantRepository, JdbcTemplate jdbcTemplate) {
+        this.applicantDuplicateRepository = applicantDuplicateRepository;
+        this.applicantRepository = applicantRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Find indexed applicants that are probably the same person
+     *
+     * @param fullName    Full name
+     * @param email       Email address
+     * @param phoneNumber Phone number (optional)
+     * @return Likely duplicates, most similar first
+     */
+    public List<Candidate> findSimilar(String fullName, String email, String phoneNumber) {
+        int[] signature = signature(fullName, email, phoneNumber);
+        return signature != null ? candidates(signature, null) : List.of();
+    }
+
+    /**
+     * Record likely duplicates of a new applicant, in the caller's transaction
+     *
+     * @param applicantId The new applicant
+     * @param candidates  Result of findSimilar for the applicant's details
+     */
+    public void flagDuplicates(String applicantId, List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        for (Candidate candidate : candidates) {
+            ApplicantDuplicateEntity duplicate = new ApplicantDuplicateEntity();
+            duplicate.setApplicantId(applicantId);
+            duplicate.setDuplicateOfId(candidate.applicantId());
+            duplicate.setSimilarity(candidate.similarity());
+            applicantDuplicateRepository.save(duplicate);
+        }
+        logger.info("Applicant {} may duplicate {} existing applicant(s)", applicantId, candidates.size());
+    }
+
+    /**
+     * Add or refresh an applicant in the index once the current transaction commits
+     */
+    public void indexAfterCommit(String applicantId, String fullName, String email, String phoneNumber) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(applicantId, fullName, email, phoneNumber);
+                }
+            });
+        } else {
+            index(applicantId, fullName, email, phoneNumber);
+        }
+    }
+
+    /**
+     * Delete an applicant's flagged pairs in the caller's transaction, and drop it from the
+     * index once that commits
+     */
+    public void remove(String applicantId) {
+        applicantDuplicateRepository.deleteInvolving(applicantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unindex(applicantId);
+                }
+            });
+        } else {
+            unindex(applicantId);
+        }
+    }
+
+    /**
+     * Get flagged pairs for review
+     *
+     * @param status   OPEN or DISMISSED
+     * @param pageable Pagination information; pairs are ordered by similarity
+     * @return Page of flagged pairs, most similar first
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicantDuplicateDTO> getDuplicates(String status, Pageable pageable) {
+        String normalized = status.toUpperCase(Locale.ROOT);
+        if (!normalized.equals(ApplicantDuplicateEntity.OPEN) && !normalized.equals(ApplicantDuplicateEntity.DISMISSED)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid status. Valid values are: OPEN, DISMISSED");
+        }
+        Page<ApplicantDuplicateEntity> page = applicantDuplicateRepository.findByStatusOrderBySimilarityDesc(normalized, pageable);
+
+        // Both sides of every pair on the page in one query
+        Set<String> ids = new HashSet<>();
+        page.forEach(duplicate -> {
+            ids.add(duplicate.getApplicantId());
+            ids.add(duplicate.getDuplicateOfId());
+        });
+        Map<String, ApplicantEntity> applicants = applicantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ApplicantEntity::getApplicantId, Function.identity()));
+
+        return page.map(duplicate -> {
+            ApplicantEntity applicant = applicants.get(duplicate.getApplicantId());
+            ApplicantEntity original = applicants.get(duplicate.getDuplicateOfId());
+            return new ApplicantDuplicateDTO(
+                    duplicate.getDuplicateId(),
+                    duplicate.getApplicantId(),
+                    applicant != null ? applicant.getFullName() : null,
+                    applicant != null ? applicant.getEmail() : null,
+                    duplicate.getDuplicateOfId(),
+                    original != null ? original.getFullName() : null,
+                    original != null ? original.getEmail() : null,
+                    duplicate.getSimilarity(),
+                    duplicate.getStatus(),
+                    duplicate.getDetectedAt());
+        });
+    }
+
+    /**
+     * Mark a flagged pair as not a duplicate; the pair is not flagged again
+     *
+     * @param duplicateId Flagged pair ID
+     */
+    @Transactional
+    public void dismiss(String duplicateId) {
+        ApplicantDuplicateEntity duplicate = applicantDuplicateRepository.findById(duplicateId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Duplicate not found with ID: " + duplicateId));
+        duplicate.setStatus(ApplicantDuplicateEntity.DISMISSED);
+        applicantDuplicateRepository.save(duplicate);
+    }
+
+    /**
+     * Load every applicant into the index
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        jdbcTemplate.query(APPLICANTS_SQL, rs -> {
+            index(rs.getString("applicant_id"), rs.getString("full_name"),
+                    rs.getString("email"), rs.getString("phone_number"));
+        });
+        logger.info("Indexed {} applicants for duplicate detection", signatures.size());
+    }
+
+    /**
+     * Cluster all applicants and flag every member of a cluster against its earliest registration.
+     * Rebuilds the index from the table first, so it also repairs any drift.
+     *
+     * @return Number of clusters found and of new pairs flagged
+     */
+    @Scheduled(cron = "0 0 2 * * SUN", zone = "Asia/Manila")
+    @Transactional
+    public Map<String, Integer> scanAll() {
+        Map<String, LocalDate> registered = new HashMap<>();
+        signatures.clear();
+        buckets.clear();
+        jdbcTemplate.query(APPLICANTS_SQL, rs -> {
+            String applicantId = rs.getString("applicant_id");
+            index(applicantId, rs.getString("full_name"), rs.getString("email"), rs.getString("phone_number"));
+            registered.put(applicantId, rs.getObject("application_date", LocalDate.class));
+        });
+
+        // Union-find over candidate pairs above the threshold
+        Map<String, String> parent = new HashMap<>();
+        signatures.forEach((applicantId, signature) -> {
+            for (Candidate candidate : candidates(signature, applicantId)) {
+                union(parent, applicantId, candidate.applicantId());
+            }
+        });
+        Map<String, List<String>> clusters = new HashMap<>();
+        for (String applicantId : parent.keySet()) {
+            clusters.computeIfAbsent(find(parent, applicantId), root -> new ArrayList<>()).add(applicantId);
+        }
+
+        Set<String> recorded = new HashSet<>();
+        Comparator<String> byRegistration = Comparator
+                .comparing((String id) -> registered.get(id), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Comparator.naturalOrder());
+        int flagged = 0;
+        for (List<String> members : clusters.values()) {
+            members.sort(byRegistration);
+            String earliest = members.get(0);
+            applicantDuplicateRepository.findInvolving(members).forEach(duplicate -> {
+                recorded.add(pairKey(duplicate.getApplicantId(), duplicate.getDuplicateOfId()));
+            });
+            for (String member : members.subList(1, members.size())) {
+                if (recorded.add(pairKey(member, earliest))) {
+                    ApplicantDuplicateEntity duplicate = new ApplicantDuplicateEntity();
+                    duplicate.setApplicantId(member);
+                    duplicate.setDuplicateOfId(earliest);
+                    duplicate.setSimilarity(similarity(signatures.get(member), signatures.get(earliest)));
+                    applicantDuplicateRepository.save(duplicate);
+                    flagged++;
+                }
+            }
+        }
+
+        logger.info("Duplicate applicant scan found {} clusters and flagged {} new pairs", clusters.size(), flagged);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("clusters", clusters.size());
+        result.put("flagged", flagged);
+        return result;
+    }
+
+    private void index(String applicantId, String fullName, String email, String phoneNumber) {
+        unindex(applicantId);
+        int[] signature = signature(fullName, email, phoneNumber);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(applicantId, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), key -> ConcurrentHashMap.newKeySet()).add(applicantId);
+        }
+    }
+
+    private void unindex(String applicantId) {
+        int[] previous = signatures.remove(applicantId);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(previous, band);
+            Set<String> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(applicantId);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key, bucket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applicants sharing at least one band with the signature whose estimated similarity passes the threshold
+     */
+    private List<Candidate> candidates(int[] signature, String excludeId) {
+        Set<String> seen = new HashSet<>();
+        List<Candidate> candidates = new ArrayList<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<String> bucket = buckets.get(bandKey(signature, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (String applicantId : bucket) {
+                if (applicantId.equals(excludeId) || !seen.add(applicantId)) {
+                    continue;
+                }
+                int[] other = signatures.get(applicantId);
+                double similarity = other != null ? similarity(signature, other) : 0;
+                if (similarity >= THRESHOLD) {
+                    candidates.add(new Candidate(applicantId, similarity));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+        return candidates;
+    }
+
+    /**
+     * MinHash signature of an applicant's shingles, or null if there is nothing to compare
+     */
+    private static int[] signature(String fullName, String email, String phoneNumber) {
+        Set<String> shingles = shingles(fullName, email, phoneNumber);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long value = shingle.hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) (mix(value ^ SEEDS[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Character shingles of the normalized fields, prefixed by field so a name never matches an email
+     */
+    private static Set<String> shingles(String fullName, String email, String phoneNumber) {
+        Set<String> shingles = new HashSet<>();
+        if (fullName != null) {
+            // Accents, punctuation and word order are ignored: "José dela Cruz" matches "Cruz, Jose Dela"
+            String stripped = MARKS.matcher(Normalizer.normalize(fullName, Normalizer.Form.NFD)).replaceAll("");
+            String name = Arrays.stream(NON_LETTERS.split(stripped.toLowerCase(Locale.ROOT)))
+                    .filter(token -> !token.isEmpty())
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+            addShingles(shingles, "n", name);
+        }
+        if (email != null) {
+            // Only the local part: people re-register with the same handle on another provider.
+            // Plus-addressing and separators are dropped.
+            String local = email.toLowerCase(Locale.ROOT);
+            int at = local.indexOf('@');
+            local = at >= 0 ? local.substring(0, at) : local;
+            int plus = local.indexOf('+');
+            local = plus >= 0 ? local.substring(0, plus) : local;
+            addShingles(shingles, "e", NON_ALPHANUMERIC.matcher(local).replaceAll(""));
+        }
+        if (phoneNumber != null) {
+            // The last ten digits, so +63 917... and 0917... agree
+            String digits = NON_DIGITS.matcher(phoneNumber).replaceAll("");
+            if (digits.length() >= 7) {
+                addShingles(shingles, "p", digits.substring(Math.max(0, digits.length() - 10)));
+            }
+        }
+        return shingles;
+    }
+
+    private static void addShingles(Set<String> shingles, String field, String value) {
+        if (value.isEmpty()) {
+            return;
+        }
+        if (value.length() <= SHINGLE_SIZE) {
+            shingles.add(field + ":" + value);
+            return;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= value.length(); i++) {
+            shingles.add(field + ":" + value.substring(i, i + SHINGLE_SIZE));
+        }
+    }
+
+    private static double similarity(int[] a, int[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        int matches = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / SIGNATURE_LENGTH;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 31 + signature[i];
+        }
+        return mix(key);
+    }
+
+    /**
+     * The MurmurHash3 64-bit finalizer
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static String pairKey(String a, String b) {
+        return a.compareTo(b) < 0 ? a + "|" + b : b + "|" + a;
+    }
+
+    private static String find(Map<String, String> parent, String id) {
+        String root = id;
+        while (!parent.getOrDefault(root, root).equals(root)) {
+            root = parent.get(root);
+        }
+        // Path compression
+        String current = id;
+        while (!current.equals(root)) {
+            String next = parent.get(current);
+            parent.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    private static void union(Map<String, String> parent, String a, String b) {
+        parent.putIfAbsent(a, a);
+        parent.putIfAbsent(b, b);
+        String rootA = find(parent, a);
+        String rootB = find(parent, b);
+        if (!rootA.equals(rootB)) {
+            parent.put(rootA, rootB);
+        }
+    }
+}
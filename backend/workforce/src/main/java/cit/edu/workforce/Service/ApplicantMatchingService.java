@@ -0,0 +1,417 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.ApplicationScoreEntity;
+import cit.edu.workforce.Entity.ResumeTextEntity;
+import cit.edu.workforce.Repository.ApplicationScoreRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * ApplicantMatchingService - Ranks the applicants of a job listing by how well their resume matches it
+ * New file: The listing's title, qualifications and description form a weighted query that is
+ * scored against each applicant's indexed resume text with BM25. Documents are tokenized into
+ * sparse vectors of term IDs from a shared vocabulary, and document frequencies come from every
+ * indexed resume, so scores for one listing stay comparable as applications arrive one at a time.
+ * A new application is scored on its own once it commits; editing a listing rescores its
+ * applications, and a periodic sweep catches resumes indexed or replaced after the application.
+ * Scores are stored in application_score and read back already sorted.
+ */
+@Service
+public class ApplicantMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantMatchingService.class);
+
+    // Standard BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // A term in the title says more about the role than one in the description
+    private static final double TITLE_WEIGHT = 3;
+    private static final double QUALIFICATIONS_WEIGHT = 2;
+    private static final double DESCRIPTION_WEIGHT = 1;
+
+    private static final int MAX_MATCHED_TERMS = 10;
+    private static final int MAX_TERM_LENGTH = 40;
+    private static final int SWEEP_BATCH_SIZE = 200;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    // Stored scores were computed with older corpus statistics; once the number of resumes
+    // moves by more than this fraction, the statistics are rebuilt and every listing rescored
+    private static final double CORPUS_DRIFT = 0.1;
+
+    // Keeps terms like C++ and C# intact
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "was", "we", "will", "with",
+            "you", "your", "able", "must", "should", "can", "etc", "who", "work", "working", "years", "year");
+
+    private static final String APPLICATIONS_SQL =
+            "SELECT a.application_id, a.job_id, r.content_hash, r.resume_text FROM application_record a " +
+            "LEFT JOIN resume_text r ON r.applicant_id = a.applicant_id ";
+
+    private static final String LISTING_SQL =
+            "SELECT title, qualifications, job_description FROM job_listing WHERE job_id = ?";
+
+    // Applications never scored, or scored against a resume version that has since changed
+    private static final String STALE_SQL =
+            "SELECT a.application_id FROM application_record a " +
+            "LEFT JOIN application_score s ON s.application_id = a.application_id " +
+            "LEFT JOIN resume_text r ON r.applicant_id = a.applicant_id " +
+            "WHERE s.application_id IS NULL OR s.resume_hash IS DISTINCT FROM r.content_hash " +
+            "ORDER BY a.application_id LIMIT " + SWEEP_BATCH_SIZE;
+
+    private static final String REMOVED_SQL =
+            "DELETE FROM application_score s WHERE NOT EXISTS " +
+            "(SELECT 1 FROM application_record a WHERE a.application_id = s.application_id)";
+
+    private static final String CORPUS_SQL =
+            "SELECT resume_text FROM resume_text WHERE status = '" + ResumeTextEntity.INDEXED + "'";
+
+    private static final String CORPUS_SIZE_SQL =
+            "SELECT COUNT(*) FROM resume_text WHERE status = '" + ResumeTextEntity.INDEXED + "'";
+
+    /**
+     * Term counts of one document, sorted by term ID
+     */
+    private record SparseVector(int[] terms, int[] counts, int length) {
+    }
+
+    /**
+     * Weighted terms of a job listing, sorted by term ID
+     */
+    private record QueryVector(int[] terms, double[] weights, String[] words) {
+    }
+
+    /**
+     * Document frequencies over all indexed resumes, indexed by term ID
+     */
+    private record CorpusStats(int documentCount, double averageLength, int[] documentFrequency) {
+
+        double idf(int term) {
+            int df = term < documentFrequency.length ? documentFrequency[term] : 0;
+            return Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    private record Match(double score, String matchedTerms) {
+    }
+
+    private final ApplicationScoreRepository applicationScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Integer> vocabulary = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTermId = new AtomicInteger();
+    private volatile CorpusStats corpus;
+
+    @Autowired
+    public ApplicantMatchingService(ApplicationScoreRepository applicationScoreRepository, JdbcTemplate jdbcTemplate) {
+        this.applicationScoreRepository = applicationScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // One worker: scoring is CPU bound and keeps writes for a listing in order
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "applicant-matcher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Score a new application once the current transaction commits
+     */
+    public void requestScoring(String applicationId) {
+        afterCommit("application:" + applicationId, () -> scoreApplication(applicationId));
+    }
+
+    /**
+     * Rescore every application to a job listing once the current transaction commits
+     */
+    public void requestJobRescoring(String jobId) {
+        afterCommit("job:" + jobId, () -> scoreJob(jobId));
+    }
+
+    /**
+     * Score applications the queue missed and drop scores of deleted applications
+     */
+    @Scheduled(initialDelay = 120_000, fixedDelay = 300_000)
+    public void scoreStaleApplications() {
+        jdbcTemplate.update(REMOVED_SQL);
+        List<String> batch;
+        boolean progressed;
+        do {
+            batch = jdbcTemplate.queryForList(STALE_SQL, String.class);
+            progressed = false;
+            for (String applicationId : batch) {
+                progressed |= scoreApplication(applicationId);
+            }
+            // Stop if a whole batch failed, instead of fetching it again
+        } while (progressed && batch.size() == SWEEP_BATCH_SIZE);
+    }
+
+    /**
+     * Rebuild the corpus statistics once the resume collection has drifted, rescoring every listing
+     */
+    @Scheduled(initialDelay = 600_000, fixedDelay = 3_600_000)
+    public void refreshCorpus() {
+        CorpusStats current = corpus;
+        Integer size = jdbcTemplate.queryForObject(CORPUS_SIZE_SQL, Integer.class);
+        if (current != null && size != null
+                && Math.abs(size - current.documentCount()) <= CORPUS_DRIFT * Math.max(current.documentCount(), 1)) {
+            return;
+        }
+        rebuildCorpus();
+        List<String> jobIds = jdbcTemplate.queryForList("SELECT DISTINCT job_id FROM application_record", String.class);
+        jobIds.forEach(this::scoreJob);
+        logger.info("Rebuilt resume corpus statistics and rescored applications to {} job listings", jobIds.size());
+    }
+
+    private void afterCommit(String key, Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(key, task);
+                }
+            });
+        } else {
+            submit(key, task);
+        }
+    }
+
+    private void submit(String key, Runnable task) {
+        if (!queued.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                queued.remove(key);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            // Applications are picked up by the next sweep; listing edits by the next corpus rebuild
+            queued.remove(key);
+        }
+    }
+
+    /**
+     * Score one application against its listing
+     *
+     * @return Whether a score was stored
+     */
+    private boolean scoreApplication(String applicationId) {
+        try {
+            List<ApplicationScoreEntity> scores = new ArrayList<>();
+            Map<String, QueryVector> queries = new HashMap<>();
+            jdbcTemplate.query(APPLICATIONS_SQL + "WHERE a.application_id = ?", rs -> {
+                String jobId = rs.getString("job_id");
+                QueryVector query = queries.computeIfAbsent(jobId, this::loadQuery);
+                scores.add(score(rs.getString("application_id"), jobId, query,
+                        rs.getString("content_hash"), rs.getString("resume_text")));
+            }, applicationId);
+            applicationScoreRepository.saveAll(scores);
+            return !scores.isEmpty();
+        } catch (RuntimeException e) {
+            // The application was deleted meanwhile, or another worker stored the score first
+            logger.debug("Skipped scoring application {}: {}", applicationId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void scoreJob(String jobId) {
+        try {
+            QueryVector query = loadQuery(jobId);
+            List<ApplicationScoreEntity> scores = new ArrayList<>();
+            // Rows are scored as they are read, so only one resume text is held at a time
+            jdbcTemplate.query(APPLICATIONS_SQL + "WHERE a.job_id = ?", rs -> {
+                scores.add(score(rs.getString("application_id"), jobId, query,
+                        rs.getString("content_hash"), rs.getString("resume_text")));
+            }, jobId);
+            applicationScoreRepository.saveAll(scores);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to rescore applications to job listing {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private ApplicationScoreEntity score(String applicationId, String jobId, QueryVector query,
+                                         String resumeHash, String resumeText) {
+        Match match = resumeText != null
+                ? match(query, vectorize(resumeText), corpus())
+                : new Match(0, null);
+        ApplicationScoreEntity entity = new ApplicationScoreEntity();
+        entity.setApplicationId(applicationId);
+        entity.setJobId(jobId);
+        entity.setScore(match.score());
+        entity.setMatchedTerms(match.matchedTerms());
+        entity.setResumeHash(resumeHash);
+        return entity;
+    }
+
+    /**
+     * BM25 over the terms the listing and the resume share, found by merging the sorted term arrays
+     */
+    private static Match match(QueryVector query, SparseVector document, CorpusStats stats) {
+        double lengthNorm = K1 * (1 - B + B * document.length() / Math.max(stats.averageLength(), 1));
+        double[] contributions = new double[query.terms().length];
+        double score = 0;
+        int q = 0;
+        int d = 0;
+        while (q < query.terms().length && d < document.terms().length) {
+            int queryTerm = query.terms()[q];
+            int documentTerm = document.terms()[d];
+            if (queryTerm < documentTerm) {
+                q++;
+            } else if (queryTerm > documentTerm) {
+                d++;
+            } else {
+                int tf = document.counts()[d];
+                contributions[q] = query.weights()[q] * stats.idf(queryTerm) * tf * (K1 + 1) / (tf + lengthNorm);
+                score += contributions[q];
+                q++;
+                d++;
+            }
+        }
+
+        String matchedTerms = IntStream.range(0, contributions.length)
+                .filter(i -> contributions[i] > 0)
+                .boxed()
+                .sorted((a, b) -> Double.compare(contributions[b], contributions[a]))
+                .limit(MAX_MATCHED_TERMS)
+                .map(i -> query.words()[i])
+                .collect(Collectors.joining(", "));
+        return new Match(score, matchedTerms.isEmpty() ? null : matchedTerms);
+    }
+
+    private QueryVector loadQuery(String jobId) {
+        Map<Integer, Double> weights = new HashMap<>();
+        Map<Integer, String> words = new HashMap<>();
+        jdbcTemplate.query(LISTING_SQL, rs -> {
+            addTerms(rs.getString("title"), TITLE_WEIGHT, weights, words);
+            addTerms(rs.getString("qualifications"), QUALIFICATIONS_WEIGHT, weights, words);
+            addTerms(rs.getString("job_description"), DESCRIPTION_WEIGHT, weights, words);
+        }, jobId);
+
+        int[] terms = weights.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        double[] termWeights = new double[terms.length];
+        String[] termWords = new String[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            termWeights[i] = weights.get(terms[i]);
+            termWords[i] = words.get(terms[i]);
+        }
+        return new QueryVector(terms, termWeights, termWords);
+    }
+
+    private void addTerms(String text, double weight, Map<Integer, Double> weights, Map<Integer, String> words) {
+        for (String token : tokenize(text)) {
+            int term = termId(token);
+            weights.merge(term, weight, Double::sum);
+            words.putIfAbsent(term, token);
+        }
+    }
+
+    private SparseVector vectorize(String text) {
+        List<String> tokens = tokenize(text);
+        int[] ids = new int[tokens.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = termId(tokens.get(i));
+        }
+        Arrays.sort(ids);
+
+        // Run-length encode the sorted IDs into (term, count) pairs
+        int[] terms = new int[ids.length];
+        int[] counts = new int[ids.length];
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (distinct > 0 && terms[distinct - 1] == ids[i]) {
+                counts[distinct - 1]++;
+            } else {
+                terms[distinct] = ids[i];
+                counts[distinct] = 1;
+                distinct++;
+            }
+        }
+        return new SparseVector(Arrays.copyOf(terms, distinct), Arrays.copyOf(counts, distinct), ids.length);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= 2 && token.length() <= MAX_TERM_LENGTH && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private int termId(String term) {
+        return vocabulary.computeIfAbsent(term, key -> nextTermId.getAndIncrement());
+    }
+
+    private CorpusStats corpus() {
+        CorpusStats current = corpus;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return corpus != null ? corpus : rebuildCorpus();
+        }
+    }
+
+    private synchronized CorpusStats rebuildCorpus() {
+        int[][] documentFrequency = {new int[Math.max(nextTermId.get(), 1024)]};
+        long[] totals = new long[2];
+        jdbcTemplate.query(CORPUS_SQL, rs -> {
+            SparseVector document = vectorize(rs.getString("resume_text"));
+            for (int term : document.terms()) {
+                if (term >= documentFrequency[0].length) {
+                    documentFrequency[0] = Arrays.copyOf(documentFrequency[0], Math.max(term + 1, documentFrequency[0].length * 2));
+                }
+                documentFrequency[0][term]++;
+            }
+            totals[0]++;
+            totals[1] += document.length();
+        });
+
+        int documentCount = (int) totals[0];
+        double averageLength = documentCount > 0 ? (double) totals[1] / documentCount : 0;
+        CorpusStats rebuilt = new CorpusStats(documentCount, averageLength, documentFrequency[0]);
+        corpus = rebuilt;
+        return rebuilt;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -7,6 +7,7 @@ import cit.edu.workforce.Repository.ApplicantRepository;
 import cit.edu.workforce.Repository.ApplicationRecordRepository;
 import cit.edu.workforce.Repository.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -16,16 +17,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -38,34 +37,40 @@ public class ApplicantService {
     private final ApplicantRepository applicantRepository;
     private final UserAccountRepository userAccountRepository;
     private final ApplicationRecordRepository applicationRecordRepository;
-    private final String uploadDirectory = "uploads/resumes";
+    private final JsonStreamingService jsonStreamingService;
+    private final UploadService uploadService;
+    private final BlobStore blobStore;
+    private final ResumeIndexService resumeIndexService;
+    private final ApplicantDuplicateService applicantDuplicateService;
 
     @Autowired
     public ApplicantService(
             ApplicantRepository applicantRepository,
             UserAccountRepository userAccountRepository,
-            ApplicationRecordRepository applicationRecordRepository) {
+            ApplicationRecordRepository applicationRecordRepository,
+            JsonStreamingService jsonStreamingService,
+            UploadService uploadService,
+            BlobStore blobStore,
+            ResumeIndexService resumeIndexService,
+            ApplicantDuplicateService applicantDuplicateService) {
         this.applicantRepository = applicantRepository;
         this.userAccountRepository = userAccountRepository;
         this.applicationRecordRepository = applicationRecordRepository;
-        
-        // Create the upload directory if it doesn't exist
-        File directory = new File(uploadDirectory);
-        if (!directory.exists()) {
-            directory.mkdirs();
-        }
+        this.jsonStreamingService = jsonStreamingService;
+        this.uploadService = uploadService;
+        this.blobStore = blobStore;
+        this.resumeIndexService = resumeIndexService;
+        this.applicantDuplicateService = applicantDuplicateService;
     }
 
     /**
-     * Get all applicants
+     * Stream all applicants as a JSON array or NDJSON
      *
-     * @return List of applicant DTOs
+     * @param ndjson Write one object per line instead of a JSON array
+     * @return Response body that streams the applicants
      */
-    @Transactional(readOnly = true)
-    public List<ApplicantDTO> getAllApplicants() {
-        return applicantRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamAllApplicants(boolean ndjson) {
+        return jsonStreamingService.stream(applicantRepository::streamAll, this::convertToDTO, ndjson);
     }
 
     /**
@@ -186,13 +191,18 @@ public class ApplicantService {
         applicant.setApplicationDate(LocalDate.now());
 
         // Handle resume upload if provided
-        if (resumeFile != null && !resumeFile.isEmpty()) {
-            String resumePath = saveResume(resumeFile);
-            applicant.setResumePdfPath(resumePath);
+        boolean hasResume = resumeFile != null && !resumeFile.isEmpty();
+        if (hasResume) {
+            saveResume(applicant, resumeFile);
         }
 
         // Save and return
         ApplicantEntity savedApplicant = applicantRepository.save(applicant);
+        if (hasResume) {
+            resumeIndexService.requestIndexing(savedApplicant.getApplicantId());
+        }
+        applicantDuplicateService.indexAfterCommit(savedApplicant.getApplicantId(),
+                savedApplicant.getFullName(), savedApplicant.getEmail(), savedApplicant.getPhoneNumber());
         return convertToDTO(savedApplicant);
     }
     
@@ -258,14 +268,21 @@ public class ApplicantService {
 
         // Handle resume upload if provided
         if (resumeFile != null && !resumeFile.isEmpty()) {
-            String resumePath = saveResume(resumeFile);
-            applicant.setResumePdfPath(resumePath);
+            saveResume(applicant, resumeFile);
         } else {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Resume is required for external applicants");
         }
 
+        // Look for earlier registrations of the same person before this one joins the index
+        List<ApplicantDuplicateService.Candidate> duplicates =
+                applicantDuplicateService.findSimilar(fullName, email, phoneNumber);
+
         // Save and return
         ApplicantEntity savedApplicant = applicantRepository.save(applicant);
+        resumeIndexService.requestIndexing(savedApplicant.getApplicantId());
+        // Flagged for HR review only; the applicant is not told about other applicants
+        applicantDuplicateService.flagDuplicates(savedApplicant.getApplicantId(), duplicates);
+        applicantDuplicateService.indexAfterCommit(savedApplicant.getApplicantId(), fullName, email, phoneNumber);
         return convertToDTO(savedApplicant);
     }
 
@@ -298,6 +315,8 @@ public class ApplicantService {
                     "You don't have permission to update this applicant");
         }
 
+        String previousDetails = applicant.getFullName() + "|" + applicant.getEmail() + "|" + applicant.getPhoneNumber();
+
         // Update fields if provided
         if (fullName != null && !fullName.trim().isEmpty()) {
             applicant.setFullName(fullName);
@@ -319,24 +338,21 @@ public class ApplicantService {
         }
 
         // Handle resume upload if provided
-        if (resumeFile != null && !resumeFile.isEmpty()) {
-            String resumePath = saveResume(resumeFile);
-            
-            // Delete old resume file if exists
-            if (applicant.getResumePdfPath() != null) {
-                try {
-                    Files.deleteIfExists(Paths.get(applicant.getResumePdfPath()));
-                } catch (IOException e) {
-                    // Log the error but continue
-                    System.err.println("Failed to delete old resume file: " + e.getMessage());
-                }
-            }
-            
-            applicant.setResumePdfPath(resumePath);
+        boolean hasResume = resumeFile != null && !resumeFile.isEmpty();
+        if (hasResume) {
+            saveResume(applicant, resumeFile);
         }
 
         // Save and return
         ApplicantEntity updatedApplicant = applicantRepository.save(applicant);
+        if (hasResume) {
+            resumeIndexService.requestIndexing(updatedApplicant.getApplicantId());
+        }
+        String details = updatedApplicant.getFullName() + "|" + updatedApplicant.getEmail() + "|" + updatedApplicant.getPhoneNumber();
+        if (!details.equals(previousDetails)) {
+            applicantDuplicateService.indexAfterCommit(updatedApplicant.getApplicantId(),
+                    updatedApplicant.getFullName(), updatedApplicant.getEmail(), updatedApplicant.getPhoneNumber());
+        }
         return convertToDTO(updatedApplicant);
     }
 
@@ -365,17 +381,13 @@ public class ApplicantService {
                     "Cannot delete applicant with existing applications");
         }
 
-        // Delete resume file if exists
-        if (applicant.getResumePdfPath() != null) {
-            try {
-                Files.deleteIfExists(Paths.get(applicant.getResumePdfPath()));
-            } catch (IOException e) {
-                // Log the error but continue
-                System.err.println("Failed to delete resume file: " + e.getMessage());
-            }
-        }
+        // Delete legacy resume file if exists. Stored blobs may be shared, so they are left
+        // for the unreferenced blob sweep.
+        deleteLegacyResume(applicant);
 
-        // Delete applicant
+        // Delete applicant, its resume search entry and any duplicate flags
+        resumeIndexService.removeFromIndex(applicantId);
+        applicantDuplicateService.remove(applicantId);
         applicantRepository.delete(applicant);
     }
 
@@ -403,6 +415,38 @@ public class ApplicantService {
                 .orElse(null);
     }
 
+    /**
+     * Get the resume of an applicant for download.
+     * Resumes in the blob store are versioned by content hash. Legacy resume files got a
+     * random name on every upload, so their file name identifies the content.
+     *
+     * @param applicantId Applicant ID
+     * @param version     Version of the resume the client asked for, if any
+     * @return The stored resume file
+     */
+    @Transactional(readOnly = true)
+    public FileDownloadService.StoredFile getResumeFile(String applicantId, String version) {
+        ApplicantEntity applicant = applicantRepository.findById(applicantId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Applicant not found with ID: " + applicantId));
+        String fileName = applicant.getFullName() + " - Resume.pdf";
+
+        if (applicant.getResumeContentHash() != null) {
+            String hash = applicant.getResumeContentHash();
+            return new FileDownloadService.StoredFile(
+                    blobStore.resource(hash), "application/pdf", fileName, hash, hash.equals(version));
+        }
+        if (applicant.getResumePdfPath() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Applicant has no resume");
+        }
+
+        Path path = Paths.get(applicant.getResumePdfPath());
+        String name = path.getFileName().toString();
+        String etag = name.endsWith(".pdf") ? name.substring(0, name.length() - 4) : name;
+        return new FileDownloadService.StoredFile(
+                new FileSystemResource(path), "application/pdf", fileName, etag, etag.equals(version));
+    }
+
     /**
      * Check if the current user has permission to view the specified applicant
      *
@@ -462,26 +506,34 @@ public class ApplicantService {
     }
 
     /**
-     * Save resume file
+     * Store a resume in the blob store and point the applicant at it
      *
+     * @param applicant  Applicant entity
      * @param resumeFile Resume file
-     * @return Path to saved resume
      */
-    private String saveResume(MultipartFile resumeFile) throws IOException {
-        // Validate file type (e.g., PDF only)
-        String contentType = resumeFile.getContentType();
-        if (contentType == null || !contentType.equals("application/pdf")) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only PDF files are allowed for resumes");
-        }
-
-        // Generate unique filename
-        String filename = UUID.randomUUID().toString() + ".pdf";
-        Path targetLocation = Paths.get(uploadDirectory).resolve(filename);
+    private void saveResume(ApplicantEntity applicant, MultipartFile resumeFile) {
+        UploadService.StoredUpload upload = uploadService.store(resumeFile, UploadService.UploadPolicy.RESUME);
 
-        // Save the file
-        Files.copy(resumeFile.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        deleteLegacyResume(applicant);
+        applicant.setResumePdfPath(null);
+        applicant.setResumeContentHash(upload.hash());
+        applicant.setResumeFileSize(upload.size());
+    }
 
-        return targetLocation.toString();
+    /**
+     * Delete a resume file saved under uploads/resumes before resumes moved to the blob store
+     *
+     * @param applicant Applicant entity
+     */
+    private void deleteLegacyResume(ApplicantEntity applicant) {
+        if (applicant.getResumePdfPath() != null) {
+            try {
+                Files.deleteIfExists(Paths.get(applicant.getResumePdfPath()));
+            } catch (IOException e) {
+                // Log the error but continue
+                System.err.println("Failed to delete resume file: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -497,6 +549,7 @@ public class ApplicantService {
         dto.setEmail(applicant.getEmail());
         dto.setPhoneNumber(applicant.getPhoneNumber());
         dto.setResumePdfPath(applicant.getResumePdfPath());
+        dto.setResumeContentHash(applicant.getResumeContentHash());
         dto.setInternal(applicant.isInternal());
         dto.setApplicationDate(applicant.getApplicationDate());
         
@@ -1,6 +1,9 @@
 package cit.edu.workforce.Service;
 
+import cit.edu.workforce.Config.DatabaseVendor;
 import cit.edu.workforce.DTO.ApplicationRecordDTO;
+import cit.edu.workforce.DTO.RankedApplicationDTO;
+import cit.edu.workforce.DTO.RecruitmentFunnelDTO;
 import cit.edu.workforce.Entity.ApplicantEntity;
 import cit.edu.workforce.Entity.ApplicationRecordEntity;
 import cit.edu.workforce.Entity.JobListingEntity;
@@ -10,18 +13,24 @@ import cit.edu.workforce.Repository.ApplicationRecordRepository;
 import cit.edu.workforce.Repository.JobListingRepository;
 import cit.edu.workforce.Repository.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -35,29 +44,49 @@ public class ApplicationRecordService {
     private final ApplicantRepository applicantRepository;
     private final JobListingRepository jobListingRepository;
     private final UserAccountRepository userAccountRepository;
+    private final JsonStreamingService jsonStreamingService;
+    private final ApplicantMatchingService applicantMatchingService;
+    private final JobListingService jobListingService;
+    private final IdempotencyService idempotencyService;
+    private final DatabaseVendor databaseVendor;
+    private final RecruitmentFunnelService recruitmentFunnelService;
+    private final TransactionTemplate newTransaction;
 
     @Autowired
     public ApplicationRecordService(
             ApplicationRecordRepository applicationRecordRepository,
             ApplicantRepository applicantRepository,
             JobListingRepository jobListingRepository,
-            UserAccountRepository userAccountRepository) {
+            UserAccountRepository userAccountRepository,
+            JsonStreamingService jsonStreamingService,
+            ApplicantMatchingService applicantMatchingService,
+            JobListingService jobListingService,
+            IdempotencyService idempotencyService,
+            DatabaseVendor databaseVendor,
+            RecruitmentFunnelService recruitmentFunnelService,
+            PlatformTransactionManager transactionManager) {
         this.applicationRecordRepository = applicationRecordRepository;
         this.applicantRepository = applicantRepository;
         this.jobListingRepository = jobListingRepository;
         this.userAccountRepository = userAccountRepository;
+        this.jsonStreamingService = jsonStreamingService;
+        this.applicantMatchingService = applicantMatchingService;
+        this.jobListingService = jobListingService;
+        this.idempotencyService = idempotencyService;
+        this.databaseVendor = databaseVendor;
+        this.recruitmentFunnelService = recruitmentFunnelService;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
-     * Get all application records
+     * Stream all application records as a JSON array or NDJSON
      *
-     * @return List of application record DTOs
+     * @param ndjson Write one object per line instead of a JSON array
+     * @return Response body that streams the application records
      */
-    @Transactional(readOnly = true)
-    public List<ApplicationRecordDTO> getAllApplications() {
-        return applicationRecordRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamAllApplications(boolean ndjson) {
+        return jsonStreamingService.stream(applicationRecordRepository::streamAll, this::convertToDTO, ndjson);
     }
 
     /**
@@ -193,6 +222,46 @@ public class ApplicationRecordService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Get application records for a job listing ranked by how well the applicant's resume matches it.
+     * Scores are precomputed, so this is a single indexed query.
+     *
+     * @param jobId    Job listing ID
+     * @param pageable Pagination information; sorting is by match score
+     * @return Page of ranked applications, best match first
+     */
+    @Transactional(readOnly = true)
+    public Page<RankedApplicationDTO> getRankedApplicationsByJobListing(String jobId, Pageable pageable) {
+        if (!jobListingRepository.existsById(jobId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job listing not found with ID: " + jobId);
+        }
+
+        // Only HR and admins can view all applications for a job listing
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isAdminOrHR = authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_HR"));
+
+        if (!isAdminOrHR) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+                    "You don't have permission to view all applications for this job listing");
+        }
+
+        return applicationRecordRepository.findRankedByJobId(jobId, pageable);
+    }
+
+    /**
+     * Get the recruitment funnel of every job listing, or of one
+     *
+     * @param jobId Only this job listing, if set
+     * @return Funnels with counts, conversion rates and time in stage
+     */
+    public List<RecruitmentFunnelDTO> getFunnels(String jobId) {
+        if (jobId != null && !jobListingRepository.existsById(jobId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job listing not found with ID: " + jobId);
+        }
+        return recruitmentFunnelService.getFunnels(jobId);
+    }
+
     /**
      * Get application records by status
      *
@@ -298,53 +367,101 @@ public class ApplicationRecordService {
     }
 
     /**
-     * Create a new application record
+     * Create a new application record.
+     * The listing's eligibility comes from a cached snapshot and the insert relies on the unique
+     * (applicant_id, job_id) constraint, so concurrent double submissions create one application.
+     * A request repeated with the same Idempotency-Key returns the application the first one created.
      *
-     * @param applicantId Applicant ID
-     * @param jobId       Job listing ID
+     * @param applicantId    Applicant ID
+     * @param jobId          Job listing ID
+     * @param idempotencyKey Idempotency-Key header value (optional)
      * @return Created application record DTO
      */
     @Transactional
-    public ApplicationRecordDTO createApplication(String applicantId, String jobId) {
+    public ApplicationRecordDTO createApplication(String applicantId, String jobId, String idempotencyKey) {
+        String existingId = idempotencyService.findResource(idempotencyKey, "createApplication", applicantId, jobId);
+        if (existingId != null) {
+            return replayApplication(existingId);
+        }
+
         // Validate inputs
-        ApplicantEntity applicant = applicantRepository.findById(applicantId)
+        boolean internalApplicant = applicantRepository.findIsInternalById(applicantId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Applicant not found with ID: " + applicantId));
 
-        JobListingEntity jobListing = jobListingRepository.findById(jobId)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND, "Job listing not found with ID: " + jobId));
+        JobListingService.ApplicationEligibility eligibility = jobListingService.getApplicationEligibility(jobId);
 
         // Check if the job listing is active
-        if (!jobListing.isActive()) {
+        if (!eligibility.active()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot apply to an inactive job listing");
         }
 
         // Check if the application deadline has passed
-        if (jobListing.getApplicationDeadline().isBefore(LocalDate.now())) {
+        if (eligibility.applicationDeadline().isBefore(LocalDate.now())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Application deadline has passed");
         }
 
         // Check if the job type matches the applicant type (internal vs external)
-        if (jobListing.getJobType().equals("INTERNAL") && !applicant.isInternal()) {
+        if (eligibility.jobType().equals("INTERNAL") && !internalApplicant) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "External applicants cannot apply for internal job listings");
         }
 
-        // Check if the applicant has already applied for this job
-        applicationRecordRepository.findByApplicantAndJobListing(applicant, jobListing).stream().findFirst()
-                .ifPresent(existingApplication -> {
-                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "You have already applied for this job");
-                });
+        // Insert unless the applicant has already applied for this job
+        String applicationId = insertIfAbsent(applicantId, jobId, idempotencyKey);
+        if (applicationId == null) {
+            // A concurrent request with the same key may have won the race; it has committed by now
+            existingId = idempotencyService.findResource(idempotencyKey, "createApplication", applicantId, jobId);
+            if (existingId != null) {
+                return replayApplication(existingId);
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "You have already applied for this job");
+        }
+        recruitmentFunnelService.recordSubmission(jobId);
 
-        // Create new application record
-        ApplicationRecordEntity application = new ApplicationRecordEntity();
-        application.setApplicant(applicant);
-        application.setJobListing(jobListing);
-        application.setStatus("PENDING");
+        applicantMatchingService.requestScoring(applicationId);
+        return convertToDTO(applicationRecordRepository.findWithDetailsById(applicationId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Application was not saved")));
+    }
 
-        // Save and return
-        ApplicationRecordEntity savedApplication = applicationRecordRepository.save(application);
-        return convertToDTO(savedApplication);
+    /**
+     * Insert a pending application and record the Idempotency-Key with it
+     *
+     * @return ID of the new application, or null if the applicant already applied for the job
+     */
+    private String insertIfAbsent(String applicantId, String jobId, String idempotencyKey) {
+        if (databaseVendor.isPostgres()) {
+            // A concurrent insert of the same pair waits for the other transaction, then does nothing
+            String applicationId = UUID.randomUUID().toString();
+            if (applicationRecordRepository.insertIfAbsent(applicationId, applicantId, jobId, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            idempotencyService.recordResource(idempotencyKey, applicationId, "createApplication", applicantId, jobId);
+            return applicationId;
+        }
+
+        // Without ON CONFLICT the unique constraint rejects the second insert. A failed flush leaves
+        // the session unusable, so the insert runs in a transaction of its own; the key commits with
+        // it so that a concurrent retry losing the race finds the application.
+        try {
+            return newTransaction.execute(status -> {
+                ApplicationRecordEntity application = new ApplicationRecordEntity();
+                application.setApplicant(applicantRepository.getReferenceById(applicantId));
+                application.setJobListing(jobListingRepository.getReferenceById(jobId));
+                application.setStatus("PENDING");
+                String applicationId = applicationRecordRepository.saveAndFlush(application).getApplicationId();
+                idempotencyService.recordResource(idempotencyKey, applicationId, "createApplication", applicantId, jobId);
+                return applicationId;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    private ApplicationRecordDTO replayApplication(String applicationId) {
+        return convertToDTO(applicationRecordRepository.findWithDetailsById(applicationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                        "The application created with this " + IdempotencyService.HEADER + " no longer exists")));
     }
 
     /**
@@ -382,10 +499,17 @@ public class ApplicationRecordService {
                         HttpStatus.NOT_FOUND, "User not found with email: " + email));
 
         // Update application
-        application.setStatus(status);
+        LocalDateTime now = LocalDateTime.now();
+        String newStatus = status.toUpperCase();
+        if (!newStatus.equalsIgnoreCase(application.getStatus())) {
+            recruitmentFunnelService.recordTransition(application.getJobListing().getJobId(),
+                    application.getStatus(), newStatus, application.getStageEnteredAt(), now);
+            application.setStageEnteredAt(now);
+        }
+        application.setStatus(newStatus);
         application.setRemarks(remarks);
         application.setReviewedBy(reviewer);
-        application.setReviewedAt(LocalDateTime.now());
+        application.setReviewedAt(now);
 
         // Save and return
         ApplicationRecordEntity updatedApplication = applicationRecordRepository.save(application);
@@ -0,0 +1,229 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.ApprovalInboxItemDTO;
+import cit.edu.workforce.DTO.ApprovalInboxPageDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * ApprovalInboxService - Everything waiting for HR review in one list
+ * New file: Pending leave, overtime, reimbursement, document, certification and employee
+ * records are projected onto the same columns and combined with UNION ALL, ordered oldest
+ * first and paged with a keyset cursor, so a page costs the same however deep it is. Badge
+ * counts are in-memory counters moved by each service's create and review paths once their
+ * transaction commits; a periodic recount corrects drift from other instances and from
+ * paths that do not report.
+ */
+@Service
+public class ApprovalInboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalInboxService.class);
+
+    public static final String LEAVE = "LEAVE";
+    public static final String OVERTIME = "OVERTIME";
+    public static final String REIMBURSEMENT = "REIMBURSEMENT";
+    public static final String DOCUMENT = "DOCUMENT";
+    public static final String CERTIFICATION = "CERTIFICATION";
+    public static final String EMPLOYEE = "EMPLOYEE";
+
+    private static final String PENDING = "PENDING";
+    // Rows created before their timestamp column existed sort first instead of breaking the cursor
+    private static final String EPOCH = "TIMESTAMP '1970-01-01 00:00:00'";
+
+    // Each branch projects the same named columns so it can also be queried on its own
+    private static final Map<String, String> BRANCHES = new LinkedHashMap<>();
+
+    static {
+        BRANCHES.put(LEAVE,
+                "SELECT 'LEAVE' AS category, l.leave_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(l.created_at, " + EPOCH + ") AS submitted_at, l.leave_type AS summary " +
+                "FROM leave_request l JOIN employee e ON e.employee_id = l.emp_id WHERE l.status = 'PENDING'");
+        BRANCHES.put(OVERTIME,
+                "SELECT 'OVERTIME' AS category, o.ot_request_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(o.created_at, " + EPOCH + ") AS submitted_at, o.reason AS summary " +
+                "FROM overtime_request o JOIN employee e ON e.employee_id = o.emp_id WHERE o.status = 'PENDING'");
+        BRANCHES.put(REIMBURSEMENT,
+                "SELECT 'REIMBURSEMENT' AS category, r.reimbursement_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(CAST(r.request_date AS TIMESTAMP), " + EPOCH + ") AS submitted_at, r.reason AS summary " +
+                "FROM reimbursement_request r JOIN employee e ON e.employee_id = r.emp_id WHERE r.status = 'PENDING'");
+        BRANCHES.put(DOCUMENT,
+                "SELECT 'DOCUMENT' AS category, d.document_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(d.uploaded_at, " + EPOCH + ") AS submitted_at, d.document_type AS summary " +
+                "FROM documents d LEFT JOIN employee e ON e.employee_id = d.employee_id WHERE d.status = 'PENDING'");
+        BRANCHES.put(CERTIFICATION,
+                "SELECT 'CERTIFICATION' AS category, c.certificate_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(c.created_at, CAST(c.issue_date AS TIMESTAMP), " + EPOCH + ") AS submitted_at, c.certificate_name AS summary " +
+                "FROM employee_certification c LEFT JOIN employee e ON e.employee_id = c.employee_id WHERE c.status = 'PENDING'");
+        BRANCHES.put(EMPLOYEE,
+                "SELECT 'EMPLOYEE' AS category, e.employee_id AS item_id, e.employee_id, " +
+                "e.first_name || ' ' || e.last_name AS employee_name, COALESCE(e.created_at, " + EPOCH + ") AS submitted_at, e.email AS summary " +
+                "FROM employee e WHERE e.employment_status = 'PENDING'");
+    }
+
+    private static final String COUNT_SQL =
+            "SELECT 'LEAVE' AS category, COUNT(*) AS pending FROM leave_request WHERE status = 'PENDING' " +
+            "UNION ALL SELECT 'OVERTIME', COUNT(*) FROM overtime_request WHERE status = 'PENDING' " +
+            "UNION ALL SELECT 'REIMBURSEMENT', COUNT(*) FROM reimbursement_request WHERE status = 'PENDING' " +
+            "UNION ALL SELECT 'DOCUMENT', COUNT(*) FROM documents WHERE status = 'PENDING' " +
+            "UNION ALL SELECT 'CERTIFICATION', COUNT(*) FROM employee_certification WHERE status = 'PENDING' " +
+            "UNION ALL SELECT 'EMPLOYEE', COUNT(*) FROM employee WHERE employment_status = 'PENDING'";
+
+    private record Cursor(LocalDateTime submittedAt, String category, String itemId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, AtomicLong> counts = new LinkedHashMap<>();
+
+    @Autowired
+    public ApprovalInboxService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        BRANCHES.keySet().forEach(category -> counts.put(category, new AtomicLong()));
+    }
+
+    /**
+     * Get a page of pending items, oldest first
+     *
+     * @param category Only items of this category, if set
+     * @param cursor   nextCursor of the previous page, or null for the first page
+     * @param size     Page size
+     * @return The page and the cursor of the next one
+     */
+    public ApprovalInboxPageDTO getInbox(String category, String cursor, int size) {
+        String union;
+        if (category == null || category.isBlank()) {
+            union = String.join(" UNION ALL ", BRANCHES.values());
+        } else {
+            union = BRANCHES.get(category.toUpperCase(Locale.ROOT));
+            if (union == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Invalid category. Valid values are: " + String.join(", ", BRANCHES.keySet()));
+            }
+        }
+
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM (").append(union).append(") inbox");
+        Cursor after = decodeCursor(cursor);
+        if (after != null) {
+            sql.append(" WHERE (submitted_at, category, item_id) > (?, ?, ?)");
+            args.add(Timestamp.valueOf(after.submittedAt()));
+            args.add(after.category());
+            args.add(after.itemId());
+        }
+        // One extra row tells whether there is a next page without a COUNT
+        sql.append(" ORDER BY submitted_at, category, item_id LIMIT ?");
+        args.add(size + 1);
+
+        List<ApprovalInboxItemDTO> items = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Timestamp submittedAt = rs.getTimestamp("submitted_at");
+            return new ApprovalInboxItemDTO(
+                    rs.getString("category"),
+                    rs.getString("item_id"),
+                    rs.getString("employee_id"),
+                    rs.getString("employee_name"),
+                    submittedAt != null ? submittedAt.toLocalDateTime() : null,
+                    rs.getString("summary"));
+        }, args.toArray());
+
+        String nextCursor = null;
+        if (items.size() > size) {
+            items = new ArrayList<>(items.subList(0, size));
+            nextCursor = encodeCursor(items.get(size - 1));
+        }
+        return new ApprovalInboxPageDTO(items, nextCursor);
+    }
+
+    /**
+     * Get the number of pending items per category, and their total
+     */
+    public Map<String, Long> getBadgeCounts() {
+        Map<String, Long> badges = counts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Math.max(0, entry.getValue().get()),
+                        (a, b) -> a, LinkedHashMap::new));
+        badges.put("TOTAL", badges.values().stream().mapToLong(Long::longValue).sum());
+        return badges;
+    }
+
+    /**
+     * Move a badge counter for a status change once the current transaction commits
+     *
+     * @param category       Inbox category
+     * @param previousStatus Status before the change, or null for a new record
+     * @param newStatus      Status after the change, or null for a deleted record
+     */
+    public void recordStatusChange(String category, String previousStatus, String newStatus) {
+        int delta = (PENDING.equals(newStatus) ? 1 : 0) - (PENDING.equals(previousStatus) ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        AtomicLong counter = counts.get(category);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.addAndGet(delta);
+                }
+            });
+        } else {
+            counter.addAndGet(delta);
+        }
+    }
+
+    /**
+     * Reset the counters from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 300_000, fixedDelay = 300_000)
+    public void reconcileCounts() {
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            AtomicLong counter = counts.get(rs.getString("category"));
+            long pending = rs.getLong("pending");
+            long previous = counter.getAndSet(pending);
+            if (previous != pending) {
+                logger.debug("Approval inbox {} count corrected from {} to {}", rs.getString("category"), previous, pending);
+            }
+        });
+    }
+
+    private static String encodeCursor(ApprovalInboxItemDTO item) {
+        String raw = item.getSubmittedAt() + "|" + item.getCategory() + "|" + item.getItemId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new Cursor(LocalDateTime.parse(parts[0]), parts[1], parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class AuthService {
     private final EmailDomainListService emailDomainListService;
     private final UserDetailsService userDetailsService;
     private final RefreshTokenService refreshTokenService;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public AuthService(
@@ -46,7 +47,8 @@ public class AuthService {
             JwtTokenProvider jwtTokenProvider,
             EmailDomainListService emailDomainListService,
             UserDetailsService userDetailsService,
-            RefreshTokenService refreshTokenService) {
+            RefreshTokenService refreshTokenService,
+            ApprovalInboxService approvalInboxService) {
         this.userAccountRepository = userAccountRepository;
         this.employeeRepository = employeeRepository;
         this.roleRepository = roleRepository;
@@ -54,6 +56,7 @@ public class AuthService {
         this.emailDomainListService = emailDomainListService;
         this.userDetailsService = userDetailsService;
         this.refreshTokenService = refreshTokenService;
+        this.approvalInboxService = approvalInboxService;
     }
 
     @Transactional
@@ -154,6 +157,7 @@ public class AuthService {
         employee.setRole(role);
         employee.setUserAccount(userAccount);
         employeeRepository.save(employee);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, null, employee.getEmploymentStatus());
 
         // Generate JWT token
         String jwt = jwtTokenProvider.generateTokenWithClaims(
@@ -324,7 +324,7 @@ public class BenefitEnrollmentService {
      * @param enrollment Benefit enrollment entity
      * @return Benefit enrollment DTO
      */
-    private BenefitEnrollmentDTO convertToDTO(BenefitEnrollmentEntity enrollment) {
+    BenefitEnrollmentDTO convertToDTO(BenefitEnrollmentEntity enrollment) {
         BenefitEnrollmentDTO dto = new BenefitEnrollmentDTO();
         dto.setEnrollmentId(enrollment.getEnrollmentId());
         dto.setEmployeeId(enrollment.getEmployee().getEmployeeId());
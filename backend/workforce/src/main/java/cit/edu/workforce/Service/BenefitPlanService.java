@@ -207,7 +207,7 @@ public class BenefitPlanService {
      * @param benefitPlan Benefit plan entity
      * @return Benefit plan DTO
      */
-    private BenefitPlanDTO convertToDTO(BenefitPlanEntity benefitPlan) {
+    BenefitPlanDTO convertToDTO(BenefitPlanEntity benefitPlan) {
         BenefitPlanDTO dto = new BenefitPlanDTO();
         dto.setPlanId(benefitPlan.getPlanId());
         dto.setPlanName(benefitPlan.getPlanName());
@@ -0,0 +1,159 @@
+package cit.edu.workforce.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * BlobGarbageCollectionService - Reference counting and cleanup for the BlobStore
+ * New file: Documents, resumes, certificates, receipts and thumbnails all point at blobs by
+ * content hash, and identical files share one blob. Rows never delete a blob themselves; this
+ * job counts the references to every blob straight from those columns and deletes blobs that
+ * nothing references. Counting from the source columns means the counts cannot drift from the
+ * data. A grace period protects blobs written for uploads whose rows are not committed yet.
+ * Each run also publishes how much space deduplication and compression save:
+ * blobs.logical.bytes (bytes as referenced), blobs.stored.bytes (bytes on disk),
+ * blobs.saved.bytes, blobs.count, blobs.shared (blobs with more than one reference),
+ * and the blobs.collected / blobs.collected.bytes counters.
+ */
+@Service
+public class BlobGarbageCollectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobGarbageCollectionService.class);
+
+    // Every column that holds a blob hash
+    private static final String REFERENCES_SQL =
+            "SELECT hash, COUNT(*) FROM (" +
+            "SELECT content_hash AS hash FROM documents " +
+            "UNION ALL SELECT resume_content_hash FROM applicant " +
+            "UNION ALL SELECT content_hash FROM certificate " +
+            "UNION ALL SELECT content_hash FROM reimbursement_receipt " +
+            "UNION ALL SELECT thumbnail_hash FROM blob_thumbnail" +
+            ") refs WHERE hash IS NOT NULL GROUP BY hash";
+
+    // Thumbnails of files that are gone; their thumbnail blobs are then collected too
+    private static final String ORPHANED_THUMBNAILS_SQL =
+            "DELETE FROM blob_thumbnail t WHERE t.created_at < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM documents d WHERE d.content_hash = t.source_hash) " +
+            "AND NOT EXISTS (SELECT 1 FROM applicant a WHERE a.resume_content_hash = t.source_hash) " +
+            "AND NOT EXISTS (SELECT 1 FROM certificate c WHERE c.content_hash = t.source_hash) " +
+            "AND NOT EXISTS (SELECT 1 FROM reimbursement_receipt r WHERE r.content_hash = t.source_hash)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+    private final Duration gracePeriod;
+
+    private final AtomicLong logicalBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong blobCount = new AtomicLong();
+    private final AtomicLong sharedBlobs = new AtomicLong();
+    private final Counter collectedBlobs;
+    private final Counter collectedBytes;
+
+    @Autowired
+    public BlobGarbageCollectionService(JdbcTemplate jdbcTemplate, BlobStore blobStore, MeterRegistry meterRegistry,
+                                        @Value("${app.blob-store.gc-grace-hours:24}") long graceHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStore = blobStore;
+        this.gracePeriod = Duration.ofHours(graceHours);
+
+        Gauge.builder("blobs.logical.bytes", logicalBytes, AtomicLong::get)
+                .description("Bytes of every referenced file, counting shared files once per reference")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("blobs.stored.bytes", storedBytes, AtomicLong::get)
+                .description("Bytes the blob store uses on disk")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("blobs.saved.bytes", this, service -> service.logicalBytes.get() - service.storedBytes.get())
+                .description("Bytes saved by deduplication and compression")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("blobs.count", blobCount, AtomicLong::get)
+                .description("Blobs in the store")
+                .register(meterRegistry);
+        Gauge.builder("blobs.shared", sharedBlobs, AtomicLong::get)
+                .description("Blobs referenced by more than one row")
+                .register(meterRegistry);
+        this.collectedBlobs = Counter.builder("blobs.collected")
+                .description("Unreferenced blobs deleted")
+                .register(meterRegistry);
+        this.collectedBytes = Counter.builder("blobs.collected.bytes")
+                .description("Disk space freed by deleting unreferenced blobs")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delete unreferenced blobs and refresh the storage metrics
+     */
+    @Scheduled(initialDelay = 300_000, fixedDelay = 3_600_000)
+    public void collectGarbage() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        jdbcTemplate.update(ORPHANED_THUMBNAILS_SQL, LocalDateTime.now().minus(gracePeriod));
+
+        // Read after the thumbnail cleanup so thumbnails dropped above are collected in this run
+        Map<String, Long> references = new HashMap<>();
+        jdbcTemplate.query(REFERENCES_SQL, rs -> {
+            references.put(rs.getString(1), rs.getLong(2));
+        });
+
+        long logical = 0;
+        long stored = 0;
+        long count = 0;
+        long shared = 0;
+        long deleted = 0;
+        long freed = 0;
+        try (Stream<BlobStore.BlobInfo> blobs = blobStore.list()) {
+            Iterator<BlobStore.BlobInfo> iterator = blobs.iterator();
+            while (iterator.hasNext()) {
+                BlobStore.BlobInfo blob = iterator.next();
+                long referenceCount = references.getOrDefault(blob.hash(), 0L);
+                if (referenceCount == 0 && blob.lastModified().isBefore(cutoff)) {
+                    if (blobStore.delete(blob.hash())) {
+                        deleted++;
+                        freed += blob.storedSize();
+                        collectedBlobs.increment();
+                        collectedBytes.increment(blob.storedSize());
+                    }
+                    continue;
+                }
+                logical += blob.size() * referenceCount;
+                stored += blob.storedSize();
+                count++;
+                if (referenceCount > 1) {
+                    shared++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Metrics keep their previous values until a run completes
+            logger.warn("Blob garbage collection stopped early: {}", e.getMessage());
+            return;
+        }
+
+        logicalBytes.set(logical);
+        storedBytes.set(stored);
+        blobCount.set(count);
+        sharedBlobs.set(shared);
+        if (deleted > 0) {
+            logger.info("Deleted {} unreferenced blobs, freeing {} bytes", deleted, freed);
+        }
+    }
+}
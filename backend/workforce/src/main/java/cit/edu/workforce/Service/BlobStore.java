@@ -0,0 +1,71 @@
+package cit.edu.workforce.Service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * BlobStore - Storage for uploaded file bytes
+ * New file: Bytes are addressed by the lowercase hex SHA-256 of their content, so rows only
+ * keep the hash and identical uploads share one stored copy. Implementations must make a
+ * blob visible only once it is completely written.
+ * Blobs are never deleted when a row stops using them, because other rows may share them;
+ * BlobGarbageCollectionService removes blobs nothing references any more.
+ */
+public interface BlobStore {
+
+    /**
+     * Store the content of the stream and return its hash and size.
+     * Storing content that already exists is a no-op.
+     */
+    default StoredBlob put(InputStream content) throws IOException {
+        return put(content, false);
+    }
+
+    /**
+     * Store the content of the stream, compressing it at rest when it is worth it.
+     * Compression is transparent: open and resource always return the original bytes.
+     *
+     * @param compressible Whether the content type is likely to shrink (PDF, legacy Office files)
+     */
+    StoredBlob put(InputStream content, boolean compressible) throws IOException;
+
+    /**
+     * Open the content of a blob for reading
+     */
+    InputStream open(String hash) throws IOException;
+
+    /**
+     * Get a blob as a Resource. File-backed stores return a file Resource so downloads
+     * can be sent without copying the bytes through the heap.
+     */
+    Resource resource(String hash);
+
+    boolean exists(String hash);
+
+    /**
+     * Delete a blob. Returns false if it did not exist.
+     */
+    boolean delete(String hash) throws IOException;
+
+    /**
+     * List every stored blob. The stream must be closed.
+     */
+    Stream<BlobInfo> list() throws IOException;
+
+    record StoredBlob(String hash, long size) {
+    }
+
+    /**
+     * A stored blob
+     *
+     * @param size         Size of the original content
+     * @param storedSize   Bytes used at rest, smaller than size when compressed
+     * @param lastModified When the blob was last written or uploaded again
+     */
+    record BlobInfo(String hash, long size, long storedSize, Instant lastModified) {
+    }
+}
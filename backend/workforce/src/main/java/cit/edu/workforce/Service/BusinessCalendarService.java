@@ -0,0 +1,329 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.HolidayDTO;
+import cit.edu.workforce.DTO.WorkScheduleDTO;
+import cit.edu.workforce.Entity.HolidayEntity;
+import cit.edu.workforce.Entity.WorkScheduleEntity;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.HolidayRepository;
+import cit.edu.workforce.Repository.WorkScheduleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * BusinessCalendarService - Working days of the company and its employees
+ * New file: A day is a working day when it falls on one of the employee's work days (Monday to
+ * Friday unless the employee has a schedule of their own) and is not a company holiday. For
+ * each year and work week the calendar builds a prefix-sum array of working days by day of the
+ * year, so counting the working days in a range is two array lookups per year it spans.
+ * Arrays and schedules are cached in memory; changes made through this service evict them once
+ * they commit, and everything is dropped hourly to pick up changes made on other instances.
+ */
+@Service
+public class BusinessCalendarService {
+
+    // Bit 0 is Monday, bit 6 is Sunday
+    public static final int DEFAULT_WORK_DAYS = 0b0011111;
+
+    private record YearKey(int year, int workDays) {
+    }
+
+    private final HolidayRepository holidayRepository;
+    private final WorkScheduleRepository workScheduleRepository;
+    private final EmployeeRepository employeeRepository;
+
+    // Holidays of a year as a set of days of the year
+    private final Map<Integer, BitSet> holidays = new ConcurrentHashMap<>();
+    // Working days from January 1 up to and including each day of the year; index 0 is 0
+    private final Map<YearKey, int[]> prefixSums = new ConcurrentHashMap<>();
+    private final Map<String, Integer> schedules = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BusinessCalendarService(HolidayRepository holidayRepository,
+                                   WorkScheduleRepository workScheduleRepository,
+                                   EmployeeRepository employeeRepository) {
+        this.holidayRepository = holidayRepository;
+        this.workScheduleRepository = workScheduleRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Count an employee's working days in a date range
+     *
+     * @param employeeId Employee whose work week applies, or null for the company week
+     * @param startDate  First day, inclusive
+     * @param endDate    Last day, inclusive
+     * @return Working days in the range, 0 if the range is empty
+     */
+    public int countWorkingDays(String employeeId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return 0;
+        }
+        int workDays = workDays(employeeId);
+        if (startDate.getYear() == endDate.getYear()) {
+            int[] prefix = prefixSums(startDate.getYear(), workDays);
+            return prefix[endDate.getDayOfYear()] - prefix[startDate.getDayOfYear() - 1];
+        }
+
+        int[] first = prefixSums(startDate.getYear(), workDays);
+        int count = first[first.length - 1] - first[startDate.getDayOfYear() - 1];
+        for (int year = startDate.getYear() + 1; year < endDate.getYear(); year++) {
+            int[] full = prefixSums(year, workDays);
+            count += full[full.length - 1];
+        }
+        return count + prefixSums(endDate.getYear(), workDays)[endDate.getDayOfYear()];
+    }
+
+    /**
+     * Whether a date is a working day for an employee
+     *
+     * @param employeeId Employee whose work week applies, or null for the company week
+     * @param date       The date
+     * @return False on the employee's rest days and on holidays
+     */
+    public boolean isWorkingDay(String employeeId, LocalDate date) {
+        return countWorkingDays(employeeId, date, date) == 1;
+    }
+
+    /**
+     * Whether a date is a company holiday
+     */
+    public boolean isHoliday(LocalDate date) {
+        return holidays(date.getYear()).get(date.getDayOfYear());
+    }
+
+    /**
+     * Get the holidays of a year
+     *
+     * @param year Calendar year
+     * @return Holidays in date order
+     */
+    @Transactional(readOnly = true)
+    public List<HolidayDTO> getHolidays(int year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(
+                        LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Add a holiday
+     *
+     * @param holidayDTO Date and name
+     * @return Created holiday
+     */
+    @Transactional
+    public HolidayDTO createHoliday(HolidayDTO holidayDTO) {
+        if (holidayRepository.existsByHolidayDate(holidayDTO.getHolidayDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A holiday already exists on " + holidayDTO.getHolidayDate());
+        }
+        HolidayEntity holiday = new HolidayEntity();
+        holiday.setHolidayDate(holidayDTO.getHolidayDate());
+        holiday.setName(holidayDTO.getName());
+        HolidayEntity savedHoliday = holidayRepository.save(holiday);
+        evictYearAfterCommit(savedHoliday.getHolidayDate().getYear());
+        return convertToDTO(savedHoliday);
+    }
+
+    /**
+     * Change a holiday's date or name
+     *
+     * @param holidayId  Holiday ID
+     * @param holidayDTO New date and name
+     * @return Updated holiday
+     */
+    @Transactional
+    public HolidayDTO updateHoliday(String holidayId, HolidayDTO holidayDTO) {
+        HolidayEntity holiday = findHoliday(holidayId);
+        LocalDate previousDate = holiday.getHolidayDate();
+        if (!previousDate.equals(holidayDTO.getHolidayDate())
+                && holidayRepository.existsByHolidayDate(holidayDTO.getHolidayDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A holiday already exists on " + holidayDTO.getHolidayDate());
+        }
+        holiday.setHolidayDate(holidayDTO.getHolidayDate());
+        holiday.setName(holidayDTO.getName());
+        HolidayEntity savedHoliday = holidayRepository.save(holiday);
+        evictYearAfterCommit(previousDate.getYear());
+        evictYearAfterCommit(savedHoliday.getHolidayDate().getYear());
+        return convertToDTO(savedHoliday);
+    }
+
+    /**
+     * Remove a holiday
+     *
+     * @param holidayId Holiday ID
+     */
+    @Transactional
+    public void deleteHoliday(String holidayId) {
+        HolidayEntity holiday = findHoliday(holidayId);
+        holidayRepository.delete(holiday);
+        evictYearAfterCommit(holiday.getHolidayDate().getYear());
+    }
+
+    /**
+     * Get an employee's work week
+     *
+     * @param employeeId Employee ID
+     * @return The employee's work days, or the company's if they have no schedule
+     */
+    @Transactional(readOnly = true)
+    public WorkScheduleDTO getWorkSchedule(String employeeId) {
+        requireEmployee(employeeId);
+        return workScheduleRepository.findById(employeeId)
+                .map(schedule -> new WorkScheduleDTO(employeeId, toDays(schedule.getWorkDays()), false))
+                .orElseGet(() -> new WorkScheduleDTO(employeeId, toDays(DEFAULT_WORK_DAYS), true));
+    }
+
+    /**
+     * Give an employee a work week of their own
+     *
+     * @param employeeId Employee ID
+     * @param workDays   Days of the week the employee works
+     * @return The saved work week
+     */
+    @Transactional
+    public WorkScheduleDTO setWorkSchedule(String employeeId, List<DayOfWeek> workDays) {
+        requireEmployee(employeeId);
+        if (workDays == null || workDays.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one work day is required");
+        }
+        WorkScheduleEntity schedule = workScheduleRepository.findById(employeeId).orElseGet(WorkScheduleEntity::new);
+        schedule.setEmployeeId(employeeId);
+        schedule.setWorkDays(toMask(workDays));
+        WorkScheduleEntity savedSchedule = workScheduleRepository.save(schedule);
+        evictScheduleAfterCommit(employeeId);
+        return new WorkScheduleDTO(employeeId, toDays(savedSchedule.getWorkDays()), false);
+    }
+
+    /**
+     * Put an employee back on the company work week
+     *
+     * @param employeeId Employee ID
+     */
+    @Transactional
+    public void deleteWorkSchedule(String employeeId) {
+        if (workScheduleRepository.existsById(employeeId)) {
+            workScheduleRepository.deleteById(employeeId);
+        }
+        evictScheduleAfterCommit(employeeId);
+    }
+
+    /**
+     * Drop all cached calendars and schedules
+     */
+    @Scheduled(initialDelay = 3_600_000, fixedDelay = 3_600_000)
+    public void clearCaches() {
+        holidays.clear();
+        prefixSums.clear();
+        schedules.clear();
+    }
+
+    private int workDays(String employeeId) {
+        if (employeeId == null) {
+            return DEFAULT_WORK_DAYS;
+        }
+        return schedules.computeIfAbsent(employeeId, id -> workScheduleRepository.findById(id)
+                .map(WorkScheduleEntity::getWorkDays)
+                .orElse(DEFAULT_WORK_DAYS));
+    }
+
+    private int[] prefixSums(int year, int workDays) {
+        return prefixSums.computeIfAbsent(new YearKey(year, workDays), key -> {
+            BitSet yearHolidays = holidays(year);
+            int length = Year.of(year).length();
+            int[] prefix = new int[length + 1];
+            LocalDate date = LocalDate.of(year, 1, 1);
+            for (int day = 1; day <= length; day++, date = date.plusDays(1)) {
+                boolean working = (workDays & (1 << (date.getDayOfWeek().getValue() - 1))) != 0
+                        && !yearHolidays.get(day);
+                prefix[day] = prefix[day - 1] + (working ? 1 : 0);
+            }
+            return prefix;
+        });
+    }
+
+    private BitSet holidays(int year) {
+        return holidays.computeIfAbsent(year, key -> {
+            BitSet days = new BitSet(367);
+            holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(
+                            LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                    .forEach(holiday -> days.set(holiday.getHolidayDate().getDayOfYear()));
+            return days;
+        });
+    }
+
+    private void evictYearAfterCommit(int year) {
+        afterCommit(() -> {
+            holidays.remove(year);
+            prefixSums.keySet().removeIf(key -> key.year() == year);
+        });
+    }
+
+    private void evictScheduleAfterCommit(String employeeId) {
+        afterCommit(() -> schedules.remove(employeeId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private HolidayEntity findHoliday(String holidayId) {
+        return holidayRepository.findById(holidayId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Holiday not found"));
+    }
+
+    private void requireEmployee(String employeeId) {
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found");
+        }
+    }
+
+    private static int toMask(List<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static List<DayOfWeek> toDays(int mask) {
+        List<DayOfWeek> days = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private HolidayDTO convertToDTO(HolidayEntity holiday) {
+        return new HolidayDTO(holiday.getHolidayId(), holiday.getHolidayDate(), holiday.getName());
+    }
+}
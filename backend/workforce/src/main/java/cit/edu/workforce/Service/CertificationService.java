@@ -25,15 +25,18 @@ public class CertificationService {
     private final CertificationRepository certificationRepository;
     private final EmployeeRepository employeeRepository;
     private final DocumentService documentService;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public CertificationService(
             CertificationRepository certificationRepository,
             EmployeeRepository employeeRepository,
-            DocumentService documentService) {
+            DocumentService documentService,
+            ApprovalInboxService approvalInboxService) {
         this.certificationRepository = certificationRepository;
         this.employeeRepository = employeeRepository;
         this.documentService = documentService;
+        this.approvalInboxService = approvalInboxService;
     }
 
     @Transactional(readOnly = true)
@@ -83,6 +86,7 @@ public class CertificationService {
             }
         }
 
+        approvalInboxService.recordStatusChange(ApprovalInboxService.CERTIFICATION, null, certification.getStatus());
         return certificationRepository.save(certification);
     }
 
@@ -127,6 +131,7 @@ public class CertificationService {
         CertificationEntity certification = certificationRepository.findById(certificationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certification not found"));
 
+        approvalInboxService.recordStatusChange(ApprovalInboxService.CERTIFICATION, certification.getStatus(), "APPROVED");
         certification.setStatus("APPROVED");
         return certificationRepository.save(certification);
     }
@@ -136,6 +141,7 @@ public class CertificationService {
         CertificationEntity certification = certificationRepository.findById(certificationId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certification not found"));
 
+        approvalInboxService.recordStatusChange(ApprovalInboxService.CERTIFICATION, certification.getStatus(), "REJECTED");
         certification.setStatus("REJECTED");
         return certificationRepository.save(certification);
     }
@@ -7,6 +7,8 @@ import cit.edu.workforce.Repository.DocumentRepository;
 import cit.edu.workforce.Repository.EmployeeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,8 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,11 +34,22 @@ public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final EmployeeRepository employeeRepository;
+    private final BlobStore blobStore;
+    private final UploadService uploadService;
+    private final ApprovalInboxService approvalInboxService;
+    private final LegacyBlobMigrationService legacyBlobMigrationService;
 
     @Autowired
-    public DocumentService(DocumentRepository documentRepository, EmployeeRepository employeeRepository) {
+    public DocumentService(DocumentRepository documentRepository, EmployeeRepository employeeRepository,
+                           BlobStore blobStore, UploadService uploadService,
+                           ApprovalInboxService approvalInboxService,
+                           LegacyBlobMigrationService legacyBlobMigrationService) {
         this.documentRepository = documentRepository;
         this.employeeRepository = employeeRepository;
+        this.blobStore = blobStore;
+        this.uploadService = uploadService;
+        this.approvalInboxService = approvalInboxService;
+        this.legacyBlobMigrationService = legacyBlobMigrationService;
     }
 
     /**
@@ -50,21 +66,20 @@ public class DocumentService {
         EmployeeEntity employee = employeeRepository.findById(employeeId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
 
-        try {
-            // Save document metadata to database
-            DocumentEntity document = new DocumentEntity();
-            document.setDocumentType(documentType);
-            document.setFileName(file.getOriginalFilename());
-            document.setFileType(file.getContentType());
-            document.setFileContent(file.getBytes());
-            document.setStatus("PENDING");
-            document.setUploadedAt(LocalDateTime.now());
-            document.setEmployee(employee);
-
-            return documentRepository.save(document);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to save document: " + e.getMessage());
-        }
+        // Store the bytes in the blob store and only the metadata in the database
+        UploadService.StoredUpload upload = uploadService.store(file, UploadService.UploadPolicy.DOCUMENT);
+        DocumentEntity document = new DocumentEntity();
+        document.setDocumentType(documentType);
+        document.setFileName(file.getOriginalFilename());
+        document.setFileType(upload.contentType());
+        document.setContentHash(upload.hash());
+        document.setFileSize(upload.size());
+        document.setStatus("PENDING");
+        document.setUploadedAt(LocalDateTime.now());
+        document.setEmployee(employee);
+
+        approvalInboxService.recordStatusChange(ApprovalInboxService.DOCUMENT, null, document.getStatus());
+        return documentRepository.save(document);
     }
 
     /**
@@ -106,6 +121,7 @@ public class DocumentService {
         DocumentEntity document = documentRepository.findById(documentId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found"));
 
+        approvalInboxService.recordStatusChange(ApprovalInboxService.DOCUMENT, document.getStatus(), "APPROVED");
         document.setStatus("APPROVED");
         document.setApprovedAt(LocalDateTime.now());
 
@@ -123,6 +139,7 @@ public class DocumentService {
         DocumentEntity document = documentRepository.findById(documentId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found"));
 
+        approvalInboxService.recordStatusChange(ApprovalInboxService.DOCUMENT, document.getStatus(), "REJECTED");
         document.setStatus("REJECTED");
 
         return documentRepository.save(document);
@@ -165,13 +182,49 @@ public class DocumentService {
     }
 
     /**
-     * Get document content by ID
+     * Get the stored content of a document for download.
+     * The immutable flag is set when the client asked for this exact version of the content.
+     * Documents uploaded before the blob store are read from their legacy column until they are moved.
      */
     @Transactional(readOnly = true)
-    public byte[] getDocumentContent(String documentId) {
+    public FileDownloadService.StoredFile getDocumentFile(String documentId, String version) {
         DocumentEntity document = documentRepository.findById(documentId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found"));
-        return document.getFileContent();
+        if (document.getContentHash() == null) {
+            return getLegacyDocumentFile(document, version);
+        }
+        return new FileDownloadService.StoredFile(
+            blobStore.resource(document.getContentHash()),
+            document.getFileType(),
+            document.getFileName(),
+            document.getContentHash(),
+            document.getContentHash().equals(version));
+    }
+
+    /**
+     * Serve a document whose bytes are still in the legacy column. The ETag is the SHA-256 the
+     * blob store will key it by, so cached copies stay valid once the document is moved.
+     */
+    private FileDownloadService.StoredFile getLegacyDocumentFile(DocumentEntity document, String version) {
+        byte[] content = legacyBlobMigrationService.readLegacyDocument(document.getDocumentId());
+        if (content == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Document content not found");
+        }
+        String hash;
+        try {
+            hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        long uploadedAt = document.getUploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Resource resource = new ByteArrayResource(content) {
+            @Override
+            public long lastModified() {
+                return uploadedAt;
+            }
+        };
+        return new FileDownloadService.StoredFile(resource, document.getFileType(), document.getFileName(), hash,
+            hash.equals(version));
     }
 
     /**
@@ -186,19 +239,19 @@ public class DocumentService {
         DocumentEntity document = documentRepository.findById(documentId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Document not found"));
 
-        try {
-            // Update document metadata
-            document.setFileName(file.getOriginalFilename());
-            document.setFileType(file.getContentType());
-            document.setFileContent(file.getBytes());
-            document.setStatus("PENDING"); // Reset status to pending for review
-            document.setUploadedAt(LocalDateTime.now());
-            document.setApprovedAt(null); // Clear approval timestamp
-
-            return documentRepository.save(document);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to replace document: " + e.getMessage());
-        }
+        // Update document metadata. The previous blob may be shared with other
+        // documents, so it is left for the unreferenced blob sweep.
+        UploadService.StoredUpload upload = uploadService.store(file, UploadService.UploadPolicy.DOCUMENT);
+        document.setFileName(file.getOriginalFilename());
+        document.setFileType(upload.contentType());
+        document.setContentHash(upload.hash());
+        document.setFileSize(upload.size());
+        approvalInboxService.recordStatusChange(ApprovalInboxService.DOCUMENT, document.getStatus(), "PENDING");
+        document.setStatus("PENDING"); // Reset status to pending for review
+        document.setUploadedAt(LocalDateTime.now());
+        document.setApprovedAt(null); // Clear approval timestamp
+
+        return documentRepository.save(document);
     }
 
     /**
@@ -212,7 +265,9 @@ public class DocumentService {
             document.getStatus(),
             document.getUploadedAt(),
             document.getApprovedAt(),
-            document.getEmployee().getEmployeeId()
+            document.getEmployee().getEmployeeId(),
+            document.getContentHash(),
+            document.getFileSize()
         );
     }
 }
\ No newline at end of file
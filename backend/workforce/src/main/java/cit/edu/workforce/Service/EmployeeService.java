@@ -13,12 +13,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
  
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService {
@@ -29,6 +28,8 @@ public class EmployeeService {
     private final DepartmentService departmentService;
     private final JobTitleService jobTitleService;
     private final EmailDomainListService emailDomainListService;
+    private final JsonStreamingService jsonStreamingService;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public EmployeeService(
@@ -37,20 +38,21 @@ public class EmployeeService {
             RoleService roleService,
             DepartmentService departmentService,
             JobTitleService jobTitleService,
-            EmailDomainListService emailDomainListService) {
+            EmailDomainListService emailDomainListService,
+            JsonStreamingService jsonStreamingService,
+            ApprovalInboxService approvalInboxService) {
         this.employeeRepository = employeeRepository;
         this.userAccountService = userAccountService;
         this.roleService = roleService;
         this.departmentService = departmentService;
         this.jobTitleService = jobTitleService;
         this.emailDomainListService = emailDomainListService;
+        this.jsonStreamingService = jsonStreamingService;
+        this.approvalInboxService = approvalInboxService;
     }
 
-    @Transactional(readOnly = true)
-    public List<EmployeeDTO> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamAllEmployees(boolean ndjson) {
+        return jsonStreamingService.stream(employeeRepository::streamAll, this::convertToDTO, ndjson);
     }
 
     @Transactional(readOnly = true)
@@ -241,6 +243,7 @@ public class EmployeeService {
         employee.setUserAccount(userAccount);
 
         EmployeeEntity savedEmployee = employeeRepository.save(employee);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, null, savedEmployee.getEmploymentStatus());
         return convertToDTO(savedEmployee);
     }
 
@@ -304,6 +307,7 @@ public class EmployeeService {
 
 
         EmployeeEntity savedEmployee = employeeRepository.save(employee);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, null, savedEmployee.getEmploymentStatus());
         return convertToDTO(savedEmployee);
     }
 
@@ -456,6 +460,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
 
         employee.setStatus(false);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, employee.getEmploymentStatus(), "PENDING");
         employee.setEmploymentStatus("PENDING");
 
         // Also deactivate the user account if it exists
@@ -475,6 +480,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
 
         employee.setStatus(true);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, employee.getEmploymentStatus(), "HIRED");
         employee.setEmploymentStatus("HIRED");
 
         // Also activate the user account if it exists
@@ -526,6 +532,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job title not found"));
 
         employee.setJobTitle(jobTitle);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.EMPLOYEE, employee.getEmploymentStatus(), "HIRED");
         employee.setEmploymentStatus("HIRED");
         EmployeeEntity updatedEmployee = employeeRepository.save(employee);
         return convertToDTO(updatedEmployee);
@@ -556,7 +563,7 @@ public class EmployeeService {
         return convertToDTO(updatedEmployee);
     }
 
-    private EmployeeDTO convertToDTO(EmployeeEntity employee) {
+    EmployeeDTO convertToDTO(EmployeeEntity employee) {
         EmployeeDTO dto = new EmployeeDTO();
         dto.setEmployeeId(employee.getEmployeeId());
         dto.setIdNumber(employee.getIdNumber());
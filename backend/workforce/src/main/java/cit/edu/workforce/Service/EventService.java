@@ -14,9 +14,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -32,7 +34,11 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final UserAccountRepository userAccountRepository;
+    private final JsonStreamingService jsonStreamingService;
     
+    // Same zone as the date in ConditionalRequestInterceptor's ETags for this collection
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
     private static final List<String> VALID_EVENT_TYPES = Arrays.asList("Seminar", "Webinar", "Workshop", "Meeting", "Other");
 
     /**
@@ -152,14 +158,13 @@ public class EventService {
     }
 
     /**
-     * Get all events
+     * Stream all events as a JSON array or NDJSON
      * 
-     * @return List of event DTOs
+     * @param ndjson Write one object per line instead of a JSON array
+     * @return Response body that streams the events
      */
-    public List<EventDTO> getAllEvents() {
-        return eventRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamAllEvents(boolean ndjson) {
+        return jsonStreamingService.stream(eventRepository::streamAll, this::convertToDTO, ndjson);
     }
 
     /**
@@ -195,7 +200,7 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<EventDTO> getActiveAndUpcomingEvents() {
-        return eventRepository.findActiveAndUpcomingEvents().stream()
+        return eventRepository.findActiveAndUpcomingEvents(LocalDateTime.now(ZONE_ID)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -253,8 +258,9 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public List<EventDTO> getEventsHappeningToday() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(23, 59, 59);
+        LocalDate today = LocalDate.now(ZONE_ID);
+        LocalDateTime startOfDay = today.atStartOfDay();
+        LocalDateTime endOfDay = today.atTime(23, 59, 59);
         
         return eventRepository.findByEventDatetimeBetween(startOfDay, endOfDay).stream()
                 .map(this::convertToDTO)
@@ -0,0 +1,104 @@
+package cit.edu.workforce.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * ExpirySweepService - Closes records whose end date has passed
+ * New file: Job listings past their application deadline are deactivated, open improvement
+ * plans past their end date are marked Overdue and approved certifications past their expiry
+ * date are marked EXPIRED. Each sweep is a set-based UPDATE run in bounded chunks, each chunk
+ * committed on its own, so a large backlog never holds row locks for long. The sweeps run
+ * through ScheduledJobService, so only one instance does the work.
+ */
+@Service
+public class ExpirySweepService {
+
+    public static final String JOB_LISTINGS_JOB = "expire-job-listings";
+    public static final String IMPROVEMENT_PLANS_JOB = "expire-improvement-plans";
+    public static final String CERTIFICATIONS_JOB = "expire-certifications";
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String EXPIRE_JOB_LISTINGS_SQL =
+            "UPDATE job_listing SET is_active = false WHERE job_id IN (" +
+            "SELECT job_id FROM job_listing WHERE is_active = true AND application_deadline < ? " +
+            "ORDER BY job_id LIMIT " + CHUNK_SIZE + ")";
+
+    private static final String EXPIRE_IMPROVEMENT_PLANS_SQL =
+            "UPDATE improvement_plan SET status = 'Overdue' WHERE plan_id IN (" +
+            "SELECT plan_id FROM improvement_plan WHERE status = 'Open' AND end_date < ? " +
+            "ORDER BY plan_id LIMIT " + CHUNK_SIZE + ")";
+
+    private static final String EXPIRE_CERTIFICATIONS_SQL =
+            "UPDATE employee_certification SET status = 'EXPIRED' WHERE certificate_id IN (" +
+            "SELECT certificate_id FROM employee_certification WHERE status = 'APPROVED' AND expiry_date < ? " +
+            "ORDER BY certificate_id LIMIT " + CHUNK_SIZE + ")";
+
+    private final ScheduledJobService scheduledJobService;
+    private final JobBoardService jobBoardService;
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public ExpirySweepService(ScheduledJobService scheduledJobService, JobBoardService jobBoardService,
+                              CacheManager cacheManager) {
+        this.scheduledJobService = scheduledJobService;
+        this.jobBoardService = jobBoardService;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Deactivate job listings whose application deadline has passed. Runs every hour,
+     * so a listing closes within an hour of midnight on its deadline.
+     */
+    @Scheduled(cron = "0 1 * * * *", zone = "Asia/Manila")
+    public void expireJobListings() {
+        int rows = scheduledJobService.runExclusively(JOB_LISTINGS_JOB,
+                jdbcTemplate -> updateInChunks(jdbcTemplate, EXPIRE_JOB_LISTINGS_SQL, LocalDate.now()));
+        if (rows > 0) {
+            // The board and the cached eligibility checks still show the listings as active
+            Cache eligibility = cacheManager.getCache(JobListingService.ELIGIBILITY_CACHE);
+            if (eligibility != null) {
+                eligibility.clear();
+            }
+            jobBoardService.refreshAfterCommit();
+        }
+    }
+
+    /**
+     * Mark open improvement plans past their end date as Overdue
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Manila")
+    public void expireImprovementPlans() {
+        scheduledJobService.runExclusively(IMPROVEMENT_PLANS_JOB,
+                jdbcTemplate -> updateInChunks(jdbcTemplate, EXPIRE_IMPROVEMENT_PLANS_SQL, LocalDate.now()));
+    }
+
+    /**
+     * Mark approved certifications past their expiry date as EXPIRED
+     */
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Manila")
+    public void expireCertifications() {
+        scheduledJobService.runExclusively(CERTIFICATIONS_JOB,
+                jdbcTemplate -> updateInChunks(jdbcTemplate, EXPIRE_CERTIFICATIONS_SQL, LocalDate.now()));
+    }
+
+    /**
+     * Repeat a chunked UPDATE until a chunk comes back short
+     */
+    private static int updateInChunks(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql, args);
+            total += updated;
+        } while (updated == CHUNK_SIZE);
+        return total;
+    }
+}
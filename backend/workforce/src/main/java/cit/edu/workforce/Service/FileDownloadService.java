@@ -0,0 +1,178 @@
+package cit.edu.workforce.Service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * FileDownloadService - Writes stored files to HTTP responses
+ * New file: Files are streamed from disk instead of being loaded into a byte[]. On Tomcat the
+ * bytes are handed to the connector's sendfile support, and elsewhere they are copied with
+ * FileChannel.transferTo. Supports conditional requests (ETag, Last-Modified), single byte
+ * ranges with If-Range, and HEAD, so large PDFs can be previewed page by page and resumed.
+ */
+@Service
+public class FileDownloadService {
+
+    // Tomcat request attributes for handing the response body to the connector's sendfile
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "private, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "private, no-cache";
+
+    /**
+     * A file to send
+     *
+     * @param resource    Where the bytes are read from
+     * @param contentType Stored MIME type, or null for application/octet-stream
+     * @param fileName    Name offered to the client
+     * @param etag        Strong ETag value (without quotes) that changes whenever the bytes change
+     * @param immutable   Whether the request URL pins this exact content, so it may be cached for good
+     */
+    public record StoredFile(Resource resource, String contentType, String fileName, String etag, boolean immutable) {
+    }
+
+    /**
+     * Write a file to the response, honoring conditional and range headers
+     *
+     * @param inline true to display in the browser, false to download as an attachment
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, StoredFile file, boolean inline)
+            throws IOException {
+        Resource resource = file.resource();
+        if (!resource.exists() || !resource.isReadable()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "File content not found");
+            return;
+        }
+        long length = resource.contentLength();
+        long lastModified = resource.lastModified();
+        String etag = "\"" + file.etag() + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Sets ETag and Last-Modified, and answers 304 or 412 on its own
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setContentType(file.contentType() != null ? file.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.builder(inline ? "inline" : "attachment")
+                        .filename(file.fileName() != null ? file.fileName() : file.etag(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            if (length == 0 || range.getRangeStart(length) >= length) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+        if (resource.isFile()) {
+            sendFile(request, response, resource.getFile().toPath(), start, count);
+        } else {
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+            }
+        }
+    }
+
+    /**
+     * The single range to serve, or null to serve the whole file.
+     * Malformed, multi-range and outdated (If-Range mismatch) requests get the whole file,
+     * which RFC 9110 allows; browsers and PDF viewers only ask for one range at a time.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(request, ifRange, etag, lastModified)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    private boolean ifRangeMatches(HttpServletRequest request, String ifRange, String etag, long lastModified) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires a strong comparison, so weak validators never match
+            return ifRange.equals(etag);
+        }
+        long ifRangeDate;
+        try {
+            ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ifRangeDate >= 0 && ifRangeDate / 1000 == lastModified / 1000;
+    }
+
+    private void sendFile(HttpServletRequest request, HttpServletResponse response, Path path, long start, long count)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // The connector writes the bytes from the page cache straight to the socket
+            // once this request returns
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,175 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.HeadcountBucketDTO;
+import cit.edu.workforce.DTO.HeadcountSnapshotDTO;
+import cit.edu.workforce.DTO.HeadcountSummaryDTO;
+import cit.edu.workforce.Entity.HeadcountSnapshotEntity;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.HeadcountSnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * HeadcountAnalyticsService - Service for organization headcount analytics
+ * New file: Computes headcount breakdowns with GROUP BY projection queries, caches the
+ * result until an employee changes, and stores one snapshot per day for trend reports.
+ */
+@Service
+public class HeadcountAnalyticsService {
+
+    public static final String HEADCOUNT_CACHE = "headcount";
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+    private static final String UNASSIGNED_KEY = "UNASSIGNED";
+    private static final List<String> DIMENSIONS =
+            List.of("TOTAL", "DEPARTMENT", "JOB_TITLE", "ROLE", "EMPLOYMENT_STATUS", "HIRE_COHORT");
+
+    private final EmployeeRepository employeeRepository;
+    private final HeadcountSnapshotRepository headcountSnapshotRepository;
+
+    @Autowired
+    public HeadcountAnalyticsService(
+            EmployeeRepository employeeRepository,
+            HeadcountSnapshotRepository headcountSnapshotRepository) {
+        this.employeeRepository = employeeRepository;
+        this.headcountSnapshotRepository = headcountSnapshotRepository;
+    }
+
+    /**
+     * Get the current headcount breakdown.
+     * Cached until the next employee, department, job title or role insert, update or delete.
+     */
+    @Cacheable(HEADCOUNT_CACHE)
+    @Transactional(readOnly = true)
+    public HeadcountSummaryDTO getHeadcountSummary() {
+        HeadcountSummaryDTO summary = new HeadcountSummaryDTO();
+        summary.setTotalEmployees(employeeRepository.count());
+        summary.setActiveEmployees(employeeRepository.countByStatus(true));
+        summary.setByDepartment(normalize(employeeRepository.countActiveByDepartment()));
+        summary.setByJobTitle(normalize(employeeRepository.countActiveByJobTitle()));
+        summary.setByRole(normalize(employeeRepository.countActiveByRole()));
+        summary.setByEmploymentStatus(normalize(employeeRepository.countActiveByEmploymentStatus()));
+        summary.setByHireCohort(normalize(employeeRepository.countActiveByHireYear()));
+        summary.setGeneratedAt(LocalDateTime.now(ZONE_ID));
+        return summary;
+    }
+
+    /**
+     * Drop the cached headcount breakdown
+     */
+    @CacheEvict(value = HEADCOUNT_CACHE, allEntries = true)
+    public void evictHeadcountCache() {
+        // Eviction is handled by the annotation
+    }
+
+    /**
+     * Get the stored daily headcount of one dimension between two dates
+     *
+     * @param dimension One of TOTAL, DEPARTMENT, JOB_TITLE, ROLE, EMPLOYMENT_STATUS, HIRE_COHORT
+     * @param from      First snapshot date (inclusive)
+     * @param to        Last snapshot date (inclusive)
+     * @return Snapshot rows ordered by date
+     */
+    @Transactional(readOnly = true)
+    public List<HeadcountSnapshotDTO> getHeadcountTrend(String dimension, LocalDate from, LocalDate to) {
+        String normalizedDimension = dimension == null ? "TOTAL" : dimension.toUpperCase();
+        if (!DIMENSIONS.contains(normalizedDimension)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid dimension. Valid values are: " + String.join(", ", DIMENSIONS));
+        }
+
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be after start date");
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now(ZONE_ID);
+        LocalDate start = from != null ? from : end.minusDays(30);
+
+        return headcountSnapshotRepository
+                .findByDimensionAndSnapshotDateBetweenOrderBySnapshotDateAscBucketKeyAsc(normalizedDimension, start, end)
+                .stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Record today's headcount. Runs every night and can be re-run; a second run
+     * for the same date replaces the earlier rows.
+     *
+     * @return Number of snapshot rows written
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Manila")
+    @Transactional
+    public int takeDailySnapshot() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        headcountSnapshotRepository.deleteBySnapshotDate(today);
+
+        List<HeadcountSnapshotEntity> rows = new ArrayList<>();
+        rows.add(toSnapshot(today, "TOTAL",
+                new HeadcountBucketDTO("ACTIVE", "Active employees", employeeRepository.countByStatus(true))));
+        addSnapshots(rows, today, "DEPARTMENT", employeeRepository.countActiveByDepartment());
+        addSnapshots(rows, today, "JOB_TITLE", employeeRepository.countActiveByJobTitle());
+        addSnapshots(rows, today, "ROLE", employeeRepository.countActiveByRole());
+        addSnapshots(rows, today, "EMPLOYMENT_STATUS", employeeRepository.countActiveByEmploymentStatus());
+        addSnapshots(rows, today, "HIRE_COHORT", employeeRepository.countActiveByHireYear());
+
+        headcountSnapshotRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    private void addSnapshots(List<HeadcountSnapshotEntity> rows, LocalDate date, String dimension,
+            List<HeadcountBucketDTO> buckets) {
+        for (HeadcountBucketDTO bucket : normalize(buckets)) {
+            rows.add(toSnapshot(date, dimension, bucket));
+        }
+    }
+
+    private HeadcountSnapshotEntity toSnapshot(LocalDate date, String dimension, HeadcountBucketDTO bucket) {
+        HeadcountSnapshotEntity snapshot = new HeadcountSnapshotEntity();
+        snapshot.setSnapshotDate(date);
+        snapshot.setDimension(dimension);
+        snapshot.setBucketKey(bucket.getKey());
+        snapshot.setBucketLabel(bucket.getLabel());
+        snapshot.setHeadcount(bucket.getHeadcount());
+        return snapshot;
+    }
+
+    /**
+     * Replace null group keys (employees without a department, job title or role)
+     * and sort buckets by size
+     */
+    private List<HeadcountBucketDTO> normalize(List<HeadcountBucketDTO> buckets) {
+        for (HeadcountBucketDTO bucket : buckets) {
+            if (bucket.getKey() == null) {
+                bucket.setKey(UNASSIGNED_KEY);
+                bucket.setLabel("Unassigned");
+            }
+        }
+        buckets.sort(Comparator.comparingLong(HeadcountBucketDTO::getHeadcount).reversed()
+                .thenComparing(HeadcountBucketDTO::getKey));
+        return buckets;
+    }
+
+    private HeadcountSnapshotDTO convertToDTO(HeadcountSnapshotEntity entity) {
+        return new HeadcountSnapshotDTO(
+                entity.getSnapshotDate(),
+                entity.getDimension(),
+                entity.getBucketKey(),
+                entity.getBucketLabel(),
+                entity.getHeadcount());
+    }
+}
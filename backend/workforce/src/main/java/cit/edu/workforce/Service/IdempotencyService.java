@@ -0,0 +1,126 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.IdempotencyKeyEntity;
+import cit.edu.workforce.Repository.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * IdempotencyService - Support for the Idempotency-Key request header
+ * New file: A client that retries a create request with the same key gets the resource the first
+ * attempt created instead of a second one or an error. The key is recorded in the caller's
+ * transaction together with the resource it created, and is only valid for the request it was
+ * first used with.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Duration RETENTION = Duration.ofHours(24);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+    }
+
+    /**
+     * Find the resource an earlier request with this key created
+     *
+     * @param key     Idempotency-Key header value; null if the client sent none
+     * @param request The operation and its parameters, identifying the request
+     * @return ID of the resource created earlier, or null if the key has not been used
+     */
+    @Transactional(readOnly = true)
+    public String findResource(String key, String... request) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        return idempotencyKeyRepository.findById(keyHash(key))
+                .map(recorded -> {
+                    if (!recorded.getRequestHash().equals(requestHash(request))) {
+                        throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                                HEADER + " was already used for a different request");
+                    }
+                    return recorded.getResourceId();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * Record the resource a request created, in the caller's transaction
+     *
+     * @param key        Idempotency-Key header value; nothing is recorded if null
+     * @param resourceId ID of the created resource
+     * @param request    The operation and its parameters, as passed to findResource
+     */
+    @Transactional
+    public void recordResource(String key, String resourceId, String... request) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        IdempotencyKeyEntity entity = new IdempotencyKeyEntity();
+        entity.setKeyHash(keyHash(key));
+        entity.setRequestHash(requestHash(request));
+        entity.setResourceId(resourceId);
+        try {
+            idempotencyKeyRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // Only reachable when the same key is sent concurrently with different requests
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Another request with the same " + HEADER + " is in progress");
+        }
+    }
+
+    /**
+     * Forget keys past the retention window
+     */
+    @Scheduled(cron = "0 45 0 * * *", zone = "Asia/Manila")
+    @Transactional
+    public int purgeExpiredKeys() {
+        return idempotencyKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(RETENTION));
+    }
+
+    /**
+     * Keys are scoped to the caller, so two users cannot collide on the same key
+     */
+    private static String keyHash(String key) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String caller = authentication != null ? authentication.getName() : "";
+        return sha256(caller + "\n" + key.trim());
+    }
+
+    private static String requestHash(String... request) {
+        return sha256(String.join("\n", request));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class ImprovementPlanService {
     private final EmployeeRepository employeeRepository;
     private final UserAccountRepository userAccountRepository;
     
-    private static final List<String> VALID_STATUSES = Arrays.asList("Open", "Completed", "Cancelled");
+    private static final List<String> VALID_STATUSES = Arrays.asList("Open", "Overdue", "Completed", "Cancelled");
 
     @Autowired
     public ImprovementPlanService(
@@ -0,0 +1,311 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.JobListingDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.beans.PropertyDescriptor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * JobBoardService - Pre-serialized snapshot of the public job board
+ * New file: Active job listings are read much more often than HR changes them, so they are
+ * loaded once into an immutable snapshot and each filter combination is serialized to JSON
+ * bytes a single time. The snapshot is rebuilt after a job listing change commits, and every
+ * few minutes to pick up department renames and application counts. Board requests are
+ * served from memory with a content-derived ETag and never touch the database.
+ * The board is public, so it leaves out internal listings and application counts. The paged
+ * active listing reads for signed-in users are filtered, sorted and paged from the same snapshot.
+ */
+@Service
+public class JobBoardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobBoardService.class);
+
+    // Search results are cached per snapshot up to this many distinct queries
+    private static final int MAX_CACHED_SEARCHES = 500;
+
+    /**
+     * A serialized board response
+     *
+     * @param json Response body; never modified after creation
+     * @param etag Strong ETag derived from the body
+     */
+    public record BoardBody(byte[] json, String etag) {
+    }
+
+    /**
+     * @param listings      All active listings, newest first
+     * @param byId          The same listings by job ID
+     * @param boardListings The listings shown on the public board
+     * @param bodies        Serialized board bodies by filter key
+     */
+    private record Snapshot(List<JobListingDTO> listings, Map<String, JobListingDTO> byId,
+                            List<JobListingDTO> boardListings, Map<String, BoardBody> bodies) {
+    }
+
+    // Leaves application counts off the public board
+    @JsonIgnoreProperties("totalApplications")
+    private abstract static class BoardListing {
+    }
+
+    private final JobListingService jobListingService;
+    private final ObjectMapper boardMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public JobBoardService(@Lazy JobListingService jobListingService, ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.jobListingService = jobListingService;
+        this.boardMapper = objectMapper.copy().addMixIn(JobListingDTO.class, BoardListing.class);
+        // Rebuilds run after another transaction committed, so they need their own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Get the serialized board for a filter combination
+     *
+     * @param jobType      Only listings of this job type, if set
+     * @param departmentId Only listings of this department, if set
+     * @param query        Only listings whose title or description contains this text, if set
+     * @return JSON array of active listings open to external applicants, newest first
+     */
+    public BoardBody getBoard(String jobType, String departmentId, String query) {
+        Snapshot current = currentSnapshot();
+        String type = blankToNull(jobType);
+        String department = blankToNull(departmentId);
+        String search = blankToNull(query);
+
+        String key = (type != null ? type.toUpperCase(Locale.ROOT) : "*") + "|" + (department != null ? department : "*")
+                + (search != null ? "|" + search.toLowerCase(Locale.ROOT) : "");
+        BoardBody body = current.bodies().get(key);
+        if (body != null) {
+            return body;
+        }
+
+        Predicate<JobListingDTO> filter = listing -> (type == null || type.equalsIgnoreCase(listing.getJobType()))
+                && (department == null || department.equals(listing.getDepartmentId()))
+                && (search == null || contains(listing.getTitle(), search) || contains(listing.getJobDescription(), search));
+        body = serialize(current.boardListings().stream().filter(filter).collect(Collectors.toList()));
+        // Filter-only combinations are bounded by the data; free-text searches are not
+        if (search == null || current.bodies().size() < MAX_CACHED_SEARCHES) {
+            current.bodies().putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Get a page of active job listings
+     *
+     * @param jobType  Only listings of this job type, if set
+     * @param pageable Pagination information; any job listing property can be sorted on
+     * @return Page of active job listing DTOs
+     */
+    public Page<JobListingDTO> getActiveListings(String jobType, Pageable pageable) {
+        String type = blankToNull(jobType);
+        return page(currentSnapshot().listings().stream()
+                .filter(listing -> type == null || type.equalsIgnoreCase(listing.getJobType()))
+                .toList(), pageable);
+    }
+
+    /**
+     * Substring search over active job listings.
+     * Matches the whole search term in the title, qualifications or description. Null filters are ignored.
+     *
+     * @param pageable Pagination information; any job listing property can be sorted on
+     * @return Page of matching job listing DTOs
+     */
+    public Page<JobListingDTO> search(String searchTerm, String departmentId, String jobType,
+                                      String employmentType, Pageable pageable) {
+        return page(currentSnapshot().listings().stream()
+                .filter(listing -> contains(listing.getTitle(), searchTerm)
+                        || contains(listing.getQualifications(), searchTerm)
+                        || contains(listing.getJobDescription(), searchTerm))
+                .filter(listing -> departmentId == null || departmentId.equals(listing.getDepartmentId()))
+                .filter(listing -> jobType == null || jobType.equalsIgnoreCase(listing.getJobType()))
+                .filter(listing -> employmentType == null || employmentType.equalsIgnoreCase(listing.getEmploymentType()))
+                .toList(), pageable);
+    }
+
+    /**
+     * Look up a page of job IDs, such as a ranked search result, in the snapshot.
+     * Listings deactivated since the IDs were read are left out.
+     *
+     * @param jobIds Page of job IDs, in the order to return them
+     * @return Page of job listing DTOs
+     */
+    public Page<JobListingDTO> getListings(Page<String> jobIds) {
+        Map<String, JobListingDTO> byId = currentSnapshot().byId();
+        List<JobListingDTO> listings = jobIds.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(listings, jobIds.getPageable(), jobIds.getTotalElements());
+    }
+
+    /**
+     * Rebuild the board once the current transaction commits
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshQuietly();
+                }
+            });
+        } else {
+            refreshQuietly();
+        }
+    }
+
+    /**
+     * Periodic rebuild for changes that do not go through JobListingService
+     */
+    @Scheduled(initialDelay = 300_000, fixedDelay = 300_000)
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // The previous snapshot stays in place; clearing it makes the next request retry
+            logger.warn("Failed to rebuild the job board: {}", e.getMessage());
+            snapshot = null;
+        }
+    }
+
+    private synchronized Snapshot refresh() {
+        List<JobListingDTO> listings = transactionTemplate.execute(status -> jobListingService.getActiveJobListings());
+        List<JobListingDTO> sorted = Objects.requireNonNull(listings).stream()
+                .sorted(Comparator.comparing(JobListingDTO::getDatePosted, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(JobListingDTO::getJobId))
+                .toList();
+
+        // Internal listings are only for employees, who read them through the paged endpoints
+        List<JobListingDTO> boardListings = sorted.stream()
+                .filter(listing -> !"INTERNAL".equalsIgnoreCase(listing.getJobType()))
+                .toList();
+
+        Map<String, BoardBody> bodies = new ConcurrentHashMap<>();
+        // Serialize the common combinations up front so no request pays for it
+        bodies.put("*|*", serialize(boardListings));
+        Set<String> jobTypes = boardListings.stream()
+                .map(JobListingDTO::getJobType)
+                .filter(Objects::nonNull)
+                .map(type -> type.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        for (String jobType : jobTypes) {
+            bodies.put(jobType + "|*", serialize(boardListings.stream()
+                    .filter(listing -> jobType.equalsIgnoreCase(listing.getJobType()))
+                    .toList()));
+        }
+
+        Map<String, JobListingDTO> byId = sorted.stream()
+                .collect(Collectors.toUnmodifiableMap(JobListingDTO::getJobId, Function.identity()));
+        Snapshot rebuilt = new Snapshot(sorted, byId, boardListings, bodies);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : refresh();
+        }
+    }
+
+    private static Page<JobListingDTO> page(List<JobListingDTO> matches, Pageable pageable) {
+        List<JobListingDTO> sorted = pageable.getSort().isSorted()
+                ? matches.stream().sorted(comparator(pageable.getSort())).toList()
+                : matches;
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    /**
+     * Compare listings as the database would sort them, with nulls last and the job ID breaking ties
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<JobListingDTO> comparator(Sort sort) {
+        Comparator<JobListingDTO> comparator = null;
+        for (Sort.Order order : sort) {
+            PropertyDescriptor property = BeanUtils.getPropertyDescriptor(JobListingDTO.class, order.getProperty());
+            if (property == null || property.getReadMethod() == null
+                    || !Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(property.getPropertyType()))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot sort job listings by " + order.getProperty());
+            }
+            Comparator<Comparable<Object>> values = order.isAscending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+            Comparator<JobListingDTO> byProperty = Comparator.comparing(
+                    listing -> (Comparable<Object>) ReflectionUtils.invokeMethod(property.getReadMethod(), listing),
+                    Comparator.nullsLast(values));
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return Objects.requireNonNull(comparator).thenComparing(JobListingDTO::getJobId);
+    }
+
+    private BoardBody serialize(List<JobListingDTO> listings) {
+        try {
+            byte[] json = boardMapper.writeValueAsBytes(listings);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String etag = "\"" + HexFormat.of().formatHex(digest.digest(json), 0, 16) + "\"";
+            return new BoardBody(json, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to build the job board");
+        }
+    }
+
+    private static boolean contains(String text, String search) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(search.toLowerCase(Locale.ROOT));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,5 +1,7 @@
 package cit.edu.workforce.Service;
 
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.DTO.JobApplicationCountDTO;
 import cit.edu.workforce.DTO.JobListingDTO;
 import cit.edu.workforce.Entity.DepartmentEntity;
 import cit.edu.workforce.Entity.JobListingEntity;
@@ -7,15 +9,23 @@ import cit.edu.workforce.Repository.ApplicationRecordRepository;
 import cit.edu.workforce.Repository.DepartmentRepository;
 import cit.edu.workforce.Repository.JobListingRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,30 +35,76 @@ import java.util.stream.Collectors;
 @Service
 public class JobListingService {
 
+    public static final String ELIGIBILITY_CACHE = "jobEligibility";
+
     private final JobListingRepository jobListingRepository;
     private final DepartmentRepository departmentRepository;
     private final ApplicationRecordRepository applicationRecordRepository;
+    private final JsonStreamingService jsonStreamingService;
+    private final JobBoardService jobBoardService;
+    private final ApplicantMatchingService applicantMatchingService;
+    private final DatabaseVendor databaseVendor;
+    private final CacheManager cacheManager;
 
     @Autowired
     public JobListingService(
             JobListingRepository jobListingRepository,
             DepartmentRepository departmentRepository,
-            ApplicationRecordRepository applicationRecordRepository) {
+            ApplicationRecordRepository applicationRecordRepository,
+            JsonStreamingService jsonStreamingService,
+            JobBoardService jobBoardService,
+            ApplicantMatchingService applicantMatchingService,
+            DatabaseVendor databaseVendor,
+            CacheManager cacheManager) {
         this.jobListingRepository = jobListingRepository;
         this.departmentRepository = departmentRepository;
         this.applicationRecordRepository = applicationRecordRepository;
+        this.jsonStreamingService = jsonStreamingService;
+        this.jobBoardService = jobBoardService;
+        this.applicantMatchingService = applicantMatchingService;
+        this.databaseVendor = databaseVendor;
+        this.cacheManager = cacheManager;
     }
 
     /**
-     * Get all job listings
+     * The fields that decide whether a job listing accepts applications
      *
-     * @return List of job listing DTOs
+     * @param active              Whether the listing is active
+     * @param applicationDeadline Last day applications are accepted
+     * @param jobType             INTERNAL, EXTERNAL or BOTH
+     */
+    public record ApplicationEligibility(boolean active, LocalDate applicationDeadline, String jobType) {
+    }
+
+    /**
+     * Get what an application to a job listing is checked against.
+     * Cached until the listing is updated, activated, deactivated or deleted, so application
+     * submissions do not load the listing.
+     *
+     * @param jobId Job listing ID
+     * @return Eligibility snapshot of the listing
      */
+    @Cacheable(ELIGIBILITY_CACHE)
     @Transactional(readOnly = true)
-    public List<JobListingDTO> getAllJobListings() {
-        return jobListingRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public ApplicationEligibility getApplicationEligibility(String jobId) {
+        JobListingEntity jobListing = jobListingRepository.findById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Job listing not found with ID: " + jobId));
+        return new ApplicationEligibility(jobListing.isActive(), jobListing.getApplicationDeadline(), jobListing.getJobType());
+    }
+
+    /**
+     * Stream all job listings as a JSON array or NDJSON
+     *
+     * @param ndjson Write one object per line instead of a JSON array
+     * @return Response body that streams the job listings
+     */
+    public StreamingResponseBody streamAllJobListings(boolean ndjson) {
+        // The counts for every listing are loaded once up front, not per streamed row
+        Map<String, Long> applicationCounts = toCountMap(applicationRecordRepository.countGroupedByJobListing());
+        return jsonStreamingService.stream(jobListingRepository::streamAll,
+                jobListing -> convertToDTO(jobListing, applicationCounts.getOrDefault(jobListing.getJobId(), 0L)),
+                ndjson);
     }
 
     /**
@@ -59,8 +115,7 @@ public class JobListingService {
      */
     @Transactional(readOnly = true)
     public Page<JobListingDTO> getAllJobListings(Pageable pageable) {
-        return jobListingRepository.findAll(pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(jobListingRepository.findAll(pageable));
     }
 
     /**
@@ -70,21 +125,17 @@ public class JobListingService {
      */
     @Transactional(readOnly = true)
     public List<JobListingDTO> getActiveJobListings() {
-        return jobListingRepository.findByIsActiveTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(jobListingRepository.findByIsActiveTrue());
     }
 
     /**
-     * Get paginated active job listings
+     * Get paginated active job listings, from the job board snapshot
      *
      * @param pageable Pagination information
      * @return Page of active job listing DTOs
      */
-    @Transactional(readOnly = true)
     public Page<JobListingDTO> getActiveJobListings(Pageable pageable) {
-        return jobListingRepository.findByIsActiveTrue(pageable)
-                .map(this::convertToDTO);
+        return jobBoardService.getActiveListings(null, pageable);
     }
 
     /**
@@ -114,9 +165,7 @@ public class JobListingService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Department not found with ID: " + departmentId));
 
-        return jobListingRepository.findByDepartment(department).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(jobListingRepository.findByDepartment(department));
     }
 
     /**
@@ -132,8 +181,7 @@ public class JobListingService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Department not found with ID: " + departmentId));
 
-        return jobListingRepository.findByDepartment(department, pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(jobListingRepository.findByDepartment(department, pageable));
     }
 
     /**
@@ -148,9 +196,7 @@ public class JobListingService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Department not found with ID: " + departmentId));
 
-        return jobListingRepository.findByDepartmentAndIsActiveTrue(department).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(jobListingRepository.findByDepartmentAndIsActiveTrue(department));
     }
 
     /**
@@ -166,8 +212,7 @@ public class JobListingService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Department not found with ID: " + departmentId));
 
-        return jobListingRepository.findByDepartmentAndIsActiveTrue(department, pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(jobListingRepository.findByDepartmentAndIsActiveTrue(department, pageable));
     }
 
     /**
@@ -179,9 +224,7 @@ public class JobListingService {
     @Transactional(readOnly = true)
     public List<JobListingDTO> getJobListingsByJobType(String jobType) {
         validateJobType(jobType);
-        return jobListingRepository.findByJobType(jobType).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(jobListingRepository.findByJobType(jobType));
     }
 
     /**
@@ -194,8 +237,7 @@ public class JobListingService {
     @Transactional(readOnly = true)
     public Page<JobListingDTO> getJobListingsByJobType(String jobType, Pageable pageable) {
         validateJobType(jobType);
-        return jobListingRepository.findByJobType(jobType, pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(jobListingRepository.findByJobType(jobType, pageable));
     }
 
     /**
@@ -207,36 +249,54 @@ public class JobListingService {
     @Transactional(readOnly = true)
     public List<JobListingDTO> getActiveJobListingsByJobType(String jobType) {
         validateJobType(jobType);
-        return jobListingRepository.findByJobTypeAndIsActiveTrue(jobType).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(jobListingRepository.findByJobTypeAndIsActiveTrue(jobType));
     }
 
     /**
-     * Get paginated active job listings by job type
+     * Get paginated active job listings by job type, from the job board snapshot
      *
      * @param jobType   Job type
      * @param pageable  Pagination information
      * @return Page of active job listing DTOs
      */
-    @Transactional(readOnly = true)
     public Page<JobListingDTO> getActiveJobListingsByJobType(String jobType, Pageable pageable) {
         validateJobType(jobType);
-        return jobListingRepository.findByJobTypeAndIsActiveTrue(jobType, pageable)
-                .map(this::convertToDTO);
+        return jobBoardService.getActiveListings(jobType, pageable);
     }
 
     /**
-     * Search for job listings by title or description
+     * Search active job listings.
+     * On PostgreSQL this is an indexed full-text search ranked by relevance, with title matches
+     * weighted above qualifications and the description; the pageable's sort is not used.
+     * Other databases fall back to a substring match sorted by the pageable.
+     * Either way the listings themselves come from the job board snapshot.
      *
-     * @param searchTerm Search term
-     * @param pageable   Pagination information
+     * @param searchTerm     Search terms; quoted phrases, OR and -exclusions are supported
+     * @param departmentId   Department filter (optional)
+     * @param jobType        Job type filter (optional)
+     * @param employmentType Employment type filter (optional)
+     * @param pageable       Pagination information
      * @return Page of job listing DTOs
      */
     @Transactional(readOnly = true)
-    public Page<JobListingDTO> searchJobListings(String searchTerm, Pageable pageable) {
-        return jobListingRepository.searchByTitleOrDescription(searchTerm, pageable)
-                .map(this::convertToDTO);
+    public Page<JobListingDTO> searchJobListings(String searchTerm, String departmentId, String jobType,
+                                                 String employmentType, Pageable pageable) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search term is required");
+        }
+        if (jobType != null) {
+            validateJobType(jobType);
+        }
+        if (employmentType != null) {
+            validateEmploymentType(employmentType);
+        }
+
+        if (databaseVendor.isPostgres()) {
+            Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return jobBoardService.getListings(jobListingRepository.searchFullText(
+                    searchTerm.trim(), departmentId, jobType, employmentType, unsorted));
+        }
+        return jobBoardService.search(searchTerm.trim(), departmentId, jobType, employmentType, pageable);
     }
 
     /**
@@ -300,6 +360,7 @@ public class JobListingService {
 
         // Save and return
         JobListingEntity savedJobListing = jobListingRepository.save(jobListing);
+        jobBoardService.refreshAfterCommit();
         return convertToDTO(savedJobListing);
     }
 
@@ -334,6 +395,11 @@ public class JobListingService {
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "Job listing not found with ID: " + jobId));
 
+        // Applicants are ranked against these three fields
+        boolean matchTextChanged = (title != null && !title.trim().isEmpty() && !title.equals(jobListing.getTitle()))
+                || (jobDescription != null && !jobDescription.equals(jobListing.getJobDescription()))
+                || (qualifications != null && !qualifications.equals(jobListing.getQualifications()));
+
         // Update fields if provided
         if (title != null && !title.trim().isEmpty()) {
             jobListing.setTitle(title);
@@ -377,6 +443,11 @@ public class JobListingService {
 
         // Save and return
         JobListingEntity updatedJobListing = jobListingRepository.save(jobListing);
+        jobBoardService.refreshAfterCommit();
+        evictEligibilityAfterCommit(jobId);
+        if (matchTextChanged) {
+            applicantMatchingService.requestJobRescoring(jobId);
+        }
         return convertToDTO(updatedJobListing);
     }
 
@@ -394,6 +465,8 @@ public class JobListingService {
 
         jobListing.setActive(false);
         JobListingEntity deactivatedJobListing = jobListingRepository.save(jobListing);
+        jobBoardService.refreshAfterCommit();
+        evictEligibilityAfterCommit(jobId);
         return convertToDTO(deactivatedJobListing);
     }
 
@@ -411,6 +484,8 @@ public class JobListingService {
 
         jobListing.setActive(true);
         JobListingEntity activatedJobListing = jobListingRepository.save(jobListing);
+        jobBoardService.refreshAfterCommit();
+        evictEligibilityAfterCommit(jobId);
         return convertToDTO(activatedJobListing);
     }
 
@@ -433,6 +508,8 @@ public class JobListingService {
         }
 
         jobListingRepository.delete(jobListing);
+        jobBoardService.refreshAfterCommit();
+        evictEligibilityAfterCommit(jobId);
     }
 
     /**
@@ -442,6 +519,41 @@ public class JobListingService {
      * @return Job listing DTO
      */
     private JobListingDTO convertToDTO(JobListingEntity jobListing) {
+        return convertToDTO(jobListing, applicationRecordRepository.countByJobListing(jobListing));
+    }
+
+    /**
+     * Convert a list of job listings, counting the applications of all of them in one query
+     */
+    private List<JobListingDTO> convertToDTOs(List<JobListingEntity> jobListings) {
+        Map<String, Long> applicationCounts = countApplications(jobListings);
+        return jobListings.stream()
+                .map(jobListing -> convertToDTO(jobListing, applicationCounts.getOrDefault(jobListing.getJobId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a page of job listings, counting the applications of all rows in one query
+     */
+    private Page<JobListingDTO> convertToDTOs(Page<JobListingEntity> jobListings) {
+        Map<String, Long> applicationCounts = countApplications(jobListings.getContent());
+        return jobListings.map(jobListing ->
+                convertToDTO(jobListing, applicationCounts.getOrDefault(jobListing.getJobId(), 0L)));
+    }
+
+    private Map<String, Long> countApplications(List<JobListingEntity> jobListings) {
+        if (jobListings.isEmpty()) {
+            return Map.of();
+        }
+        return toCountMap(applicationRecordRepository.countByJobListingIn(jobListings));
+    }
+
+    private static Map<String, Long> toCountMap(List<JobApplicationCountDTO> counts) {
+        return counts.stream()
+                .collect(Collectors.toMap(JobApplicationCountDTO::getJobId, JobApplicationCountDTO::getApplicationCount));
+    }
+
+    private JobListingDTO convertToDTO(JobListingEntity jobListing, long totalApplications) {
         JobListingDTO dto = new JobListingDTO();
         dto.setJobId(jobListing.getJobId());
         dto.setTitle(jobListing.getTitle());
@@ -459,13 +571,32 @@ public class JobListingService {
         dto.setApplicationDeadline(jobListing.getApplicationDeadline());
         dto.setActive(jobListing.isActive());
         
-        // Get total number of applications for this job listing
-        long totalApplications = applicationRecordRepository.countByJobListing(jobListing);
         dto.setTotalApplications((int) totalApplications);
         
         return dto;
     }
 
+    /**
+     * Drop a listing's cached eligibility once the current transaction commits,
+     * so a concurrent submission cannot cache the old values again in between
+     */
+    private void evictEligibilityAfterCommit(String jobId) {
+        Cache cache = cacheManager.getCache(ELIGIBILITY_CACHE);
+        if (cache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(jobId);
+                }
+            });
+        } else {
+            cache.evict(jobId);
+        }
+    }
+
     /**
      * Validate employment type
      *
@@ -0,0 +1,105 @@
+package cit.edu.workforce.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * JsonStreamingService - Writes unbounded query results to the response as they are read
+ * New file: Rows come from a repository Stream backed by a database cursor, are converted
+ * and written one at a time, and the persistence context is cleared every few hundred rows.
+ * Memory use therefore stays flat however large the table grows.
+ */
+@Service
+public class JsonStreamingService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public JsonStreamingService(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parse the format request parameter: "json" for a JSON array, "ndjson" for one object per line
+     */
+    public static boolean isNdjson(String format) {
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("json".equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be json or ndjson");
+    }
+
+    /**
+     * Content type matching the chosen format
+     */
+    public static MediaType mediaType(boolean ndjson) {
+        return ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Build a response body that runs the query in its own read-only transaction
+     * once the response is being written, and streams each converted row.
+     */
+    public <E, D> StreamingResponseBody stream(Supplier<Stream<E>> query, Function<E, D> converter, boolean ndjson) {
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<E> rows = query.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+
+                int written = 0;
+                Iterator<E> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(converter.apply(iterator.next()));
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written % CLEAR_INTERVAL == 0) {
+                        generator.flush();
+                        entityManager.clear();
+                    }
+                }
+
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
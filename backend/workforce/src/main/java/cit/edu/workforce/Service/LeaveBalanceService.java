@@ -0,0 +1,307 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.LeaveBalanceDTO;
+import cit.edu.workforce.Entity.EmployeeEntity;
+import cit.edu.workforce.Entity.LeaveBalanceEntity;
+import cit.edu.workforce.Entity.LeaveLedgerEntryEntity;
+import cit.edu.workforce.Entity.LeaveRequestEntity;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.LeaveBalanceRepository;
+import cit.edu.workforce.Repository.LeaveLedgerEntryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * LeaveBalanceService - Leave balances kept by an append-only ledger
+ * New file: Every change to a balance is posted as a leave_ledger_entry row and then applied
+ * with a single conditional UPDATE, never by reading the balance and writing it back, so
+ * concurrent approvals cannot overdraw it: the second UPDATE waits for the first and re-checks
+ * the remaining days. Balances accrue monthly per leave type in batches of employees, and the
+ * balance rows themselves are what the balance endpoints read.
+ */
+@Service
+public class LeaveBalanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaveBalanceService.class);
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    public static final String ACCRUAL_JOB = "accrue-leave";
+
+    // Days earned per month of service; leave types not listed here are not balance-tracked
+    private static final Map<String, BigDecimal> MONTHLY_ACCRUAL = new LinkedHashMap<>();
+
+    // Request leave types arrive as codes ("VL") or as the labels clients show ("Vacation Leave (VL)")
+    private static final Map<String, String> TRACKED_LEAVE_TYPES = Map.of(
+            "vl", "Vacation", "vacation", "Vacation",
+            "sl", "Sick", "sick", "Sick",
+            "el", "Emergency", "emergency", "Emergency");
+
+    private static final Pattern LEAVE_TYPE_CODE = Pattern.compile("\\(([a-z]+)\\)$");
+
+    static {
+        MONTHLY_ACCRUAL.put("Vacation", new BigDecimal("1.25"));
+        MONTHLY_ACCRUAL.put("Sick", new BigDecimal("1.25"));
+        MONTHLY_ACCRUAL.put("Emergency", new BigDecimal("0.25"));
+    }
+
+    private static final int ACCRUAL_BATCH_SIZE = 200;
+
+    // Active employees hired by the end of the period, in employee_id order
+    private static final String ACCRUAL_BATCH_SQL =
+            "SELECT employee_id FROM employee WHERE status = true AND hire_date <= ? AND employee_id > ? " +
+            "ORDER BY employee_id LIMIT " + ACCRUAL_BATCH_SIZE;
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerEntryRepository leaveLedgerEntryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ScheduledJobService scheduledJobService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public LeaveBalanceService(LeaveBalanceRepository leaveBalanceRepository,
+                               LeaveLedgerEntryRepository leaveLedgerEntryRepository,
+                               EmployeeRepository employeeRepository,
+                               ScheduledJobService scheduledJobService,
+                               PlatformTransactionManager transactionManager) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerEntryRepository = leaveLedgerEntryRepository;
+        this.employeeRepository = employeeRepository;
+        this.scheduledJobService = scheduledJobService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Deduct an approved leave request from its balance, in the caller's transaction
+     *
+     * @param leaveRequest The request being approved
+     */
+    public void deduct(LeaveRequestEntity leaveRequest) {
+        String leaveType = trackedLeaveType(leaveRequest.getLeaveType());
+        if (leaveType == null) {
+            return;
+        }
+        String employeeId = leaveRequest.getEmployee().getEmployeeId();
+        // Employees hired since the last accrual have no balance row yet: open one at zero
+        LeaveBalanceEntity balance = leaveBalanceRepository.findByEmployeeEmployeeIdAndLeaveType(employeeId, leaveType)
+                .orElseGet(() -> openBalance(employeeId, leaveType, LocalDate.of(LocalDate.now(ZONE_ID).getYear() + 1, 1, 1)));
+
+        BigDecimal days = leaveRequest.getTotalDays();
+        post(balance, LeaveLedgerEntryEntity.DEDUCTION, days.negate(), leaveRequest.getLeaveId(),
+                LeaveLedgerEntryEntity.DEDUCTION + ":" + leaveRequest.getLeaveId());
+        if (leaveBalanceRepository.deduct(balance.getBalanceId(), days, LocalDateTime.now(ZONE_ID)) == 0) {
+            // Rolls back the ledger entry with the rest of the transaction
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Insufficient " + leaveType + " leave balance for " + days.stripTrailingZeros().toPlainString() + " day(s)");
+        }
+    }
+
+    /**
+     * Give back the days of a cancelled approved leave request, in the caller's transaction
+     *
+     * @param leaveRequest The approved request being cancelled
+     */
+    public void reverse(LeaveRequestEntity leaveRequest) {
+        String deductionKey = LeaveLedgerEntryEntity.DEDUCTION + ":" + leaveRequest.getLeaveId();
+        String leaveType = trackedLeaveType(leaveRequest.getLeaveType());
+        if (leaveType == null || !leaveLedgerEntryRepository.existsByEntryKey(deductionKey)) {
+            // Approved before balances were tracked; nothing was taken
+            return;
+        }
+        LeaveBalanceEntity balance = leaveBalanceRepository
+                .findByEmployeeEmployeeIdAndLeaveType(leaveRequest.getEmployee().getEmployeeId(), leaveType)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "Leave balance not found"));
+
+        BigDecimal days = leaveRequest.getTotalDays();
+        post(balance, LeaveLedgerEntryEntity.REVERSAL, days, leaveRequest.getLeaveId(),
+                LeaveLedgerEntryEntity.REVERSAL + ":" + leaveRequest.getLeaveId());
+        leaveBalanceRepository.reverse(balance.getBalanceId(), days, LocalDateTime.now(ZONE_ID));
+    }
+
+    /**
+     * Get an employee's leave balances
+     *
+     * @param employee The employee
+     * @return One balance per tracked leave type the employee has accrued
+     */
+    public List<LeaveBalanceDTO> getBalances(EmployeeEntity employee) {
+        String employeeName = employee.getFirstName() + " " + employee.getLastName();
+        return leaveBalanceRepository.findByEmployeeEmployeeId(employee.getEmployeeId()).stream()
+                .sorted(Comparator.comparing(LeaveBalanceEntity::getLeaveType))
+                .map(balance -> new LeaveBalanceDTO(
+                        balance.getBalanceId(),
+                        employee.getEmployeeId(),
+                        employeeName,
+                        balance.getLeaveType(),
+                        balance.getAllocatedDays(),
+                        balance.getUsedDays(),
+                        balance.getRemainingDays(),
+                        balance.getResetDate()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Accrue the current month when the application starts, so new deployments and
+     * instances that were down on the 1st have balances; accruals are posted at most once
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void accrueOnStartup() {
+        accrueCurrentMonth();
+    }
+
+    /**
+     * Accrue leave for the new month
+     */
+    @Scheduled(cron = "0 15 0 1 * *", zone = "Asia/Manila")
+    public void accrueCurrentMonth() {
+        YearMonth period = YearMonth.now(ZONE_ID);
+        scheduledJobService.runExclusively(ACCRUAL_JOB, jdbcTemplate -> accrue(jdbcTemplate, period));
+    }
+
+    /**
+     * Accrue one month for every active employee, one transaction per batch of employees
+     */
+    private int accrue(JdbcTemplate jdbcTemplate, YearMonth period) {
+        int posted = 0;
+        String lastEmployeeId = "";
+        List<String> batch;
+        do {
+            batch = jdbcTemplate.queryForList(ACCRUAL_BATCH_SQL, String.class, period.atEndOfMonth(), lastEmployeeId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<String> employeeIds = batch;
+            Integer batchPosted = transactionTemplate.execute(status -> accrueBatch(employeeIds, period));
+            posted += Objects.requireNonNull(batchPosted);
+            lastEmployeeId = batch.get(batch.size() - 1);
+        } while (batch.size() == ACCRUAL_BATCH_SIZE);
+        return posted;
+    }
+
+    private int accrueBatch(List<String> employeeIds, YearMonth period) {
+        Map<String, LeaveBalanceEntity> balances = leaveBalanceRepository.findByEmployeeEmployeeIdIn(employeeIds).stream()
+                .collect(Collectors.toMap(
+                        balance -> balanceKey(balance.getEmployee().getEmployeeId(), balance.getLeaveType()),
+                        Function.identity()));
+
+        LocalDate resetDate = LocalDate.of(period.getYear() + 1, 1, 1);
+        List<LeaveBalanceEntity> accruing = new ArrayList<>();
+        for (String employeeId : employeeIds) {
+            for (String leaveType : MONTHLY_ACCRUAL.keySet()) {
+                LeaveBalanceEntity balance = balances.get(balanceKey(employeeId, leaveType));
+                accruing.add(balance != null ? balance : openBalance(employeeId, leaveType, resetDate));
+            }
+        }
+
+        Set<String> posted = new HashSet<>(leaveLedgerEntryRepository.findPostedEntryKeys(
+                accruing.stream().map(balance -> accrualKey(period, balance)).toList()));
+        LocalDateTime now = LocalDateTime.now(ZONE_ID);
+        int count = 0;
+        for (LeaveBalanceEntity balance : accruing) {
+            String entryKey = accrualKey(period, balance);
+            if (posted.contains(entryKey)) {
+                continue;
+            }
+            BigDecimal days = MONTHLY_ACCRUAL.get(balance.getLeaveType());
+            post(balance, LeaveLedgerEntryEntity.ACCRUAL, days, null, entryKey);
+            leaveBalanceRepository.accrue(balance.getBalanceId(), days, now);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Create an empty balance; its unique key rejects a second balance of the same type
+     */
+    private LeaveBalanceEntity openBalance(String employeeId, String leaveType, LocalDate resetDate) {
+        LeaveBalanceEntity balance = new LeaveBalanceEntity();
+        balance.setEmployee(employeeRepository.getReferenceById(employeeId));
+        balance.setLeaveType(leaveType);
+        balance.setAllocatedDays(BigDecimal.ZERO);
+        balance.setUsedDays(BigDecimal.ZERO);
+        balance.setRemainingDays(BigDecimal.ZERO);
+        balance.setResetDate(resetDate);
+        try {
+            return leaveBalanceRepository.saveAndFlush(balance);
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("{} leave balance of {} was opened concurrently", leaveType, employeeId);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Leave balance is being updated, please try again");
+        }
+    }
+
+    /**
+     * Append a ledger entry; its unique key rejects a second posting of the same change
+     */
+    private void post(LeaveBalanceEntity balance, String entryType, BigDecimal days, String leaveId, String entryKey) {
+        LeaveLedgerEntryEntity entry = new LeaveLedgerEntryEntity();
+        entry.setBalanceId(balance.getBalanceId());
+        entry.setEmployeeId(balance.getEmployee().getEmployeeId());
+        entry.setLeaveType(balance.getLeaveType());
+        entry.setEntryType(entryType);
+        entry.setDays(days);
+        entry.setLeaveId(leaveId);
+        entry.setEntryKey(entryKey);
+        try {
+            leaveLedgerEntryRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Ledger entry {} was already posted", entryKey);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "This leave balance change was already applied");
+        }
+    }
+
+    /**
+     * The tracked leave type matching a request's leave type, or null if it is not tracked.
+     * "VL", "Vacation", "Vacation Leave" and "Vacation Leave (VL)" all map to "Vacation".
+     */
+    private static String trackedLeaveType(String leaveType) {
+        if (leaveType == null) {
+            return null;
+        }
+        String key = leaveType.trim().toLowerCase(Locale.ROOT);
+        Matcher code = LEAVE_TYPE_CODE.matcher(key);
+        if (code.find()) {
+            key = code.group(1);
+        } else if (key.endsWith(" leave")) {
+            key = key.substring(0, key.length() - " leave".length()).trim();
+        }
+        return TRACKED_LEAVE_TYPES.get(key);
+    }
+
+    private static String accrualKey(YearMonth period, LeaveBalanceEntity balance) {
+        return LeaveLedgerEntryEntity.ACCRUAL + ":" + period + ":" + balance.getBalanceId();
+    }
+
+    private static String balanceKey(String employeeId, String leaveType) {
+        return employeeId + "|" + leaveType;
+    }
+}
@@ -0,0 +1,159 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.LeaveCalendarDTO;
+import cit.edu.workforce.DTO.LeaveCalendarDayDTO;
+import cit.edu.workforce.Entity.DepartmentEntity;
+import cit.edu.workforce.Entity.LeaveRequestEntity;
+import cit.edu.workforce.Repository.DepartmentRepository;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.LeaveRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LeaveCalendarService - How many people of a department are on leave each day
+ * New file: The approved leave intervals touching a month are fetched in one range query and
+ * turned into daily counts with a difference array: +1 on each interval's first day, -1 after
+ * its last, then a running sum, so the cost is O(days + intervals) however long the leaves are.
+ * Calendars are cached per department and month and evicted when a leave in that department
+ * and month is approved or cancelled.
+ */
+@Service
+public class LeaveCalendarService {
+
+    public static final String LEAVE_CALENDAR_CACHE = "leaveCalendar";
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final BusinessCalendarService businessCalendarService;
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public LeaveCalendarService(LeaveRequestRepository leaveRequestRepository,
+                                EmployeeRepository employeeRepository,
+                                DepartmentRepository departmentRepository,
+                                BusinessCalendarService businessCalendarService,
+                                CacheManager cacheManager) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.businessCalendarService = businessCalendarService;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Get the daily leave coverage of a department
+     *
+     * @param departmentId Department ID
+     * @param month        Month in yyyy-MM format
+     * @return One entry per day of the month
+     */
+    @Cacheable(value = LEAVE_CALENDAR_CACHE, key = "#departmentId + '|' + #month")
+    @Transactional(readOnly = true)
+    public LeaveCalendarDTO getCalendar(String departmentId, String month) {
+        YearMonth period = parseMonth(month);
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Department not found with ID: " + departmentId);
+        }
+
+        LocalDate first = period.atDay(1);
+        LocalDate last = period.atEndOfMonth();
+        int length = period.lengthOfMonth();
+
+        // Approved requests of one employee never overlap, so each interval is one person
+        int[] onLeave = countPerDay(
+                leaveRequestRepository.findApprovedIntervalsByDepartment(departmentId, first, last), first, last);
+
+        long headcount = employeeRepository.countByDepartmentDepartmentIdAndStatus(departmentId, true);
+        List<LeaveCalendarDayDTO> days = new ArrayList<>(length);
+        for (int day = 0; day < length; day++) {
+            LocalDate date = first.plusDays(day);
+            days.add(new LeaveCalendarDayDTO(date, onLeave[day], Math.max(0, headcount - onLeave[day]),
+                    businessCalendarService.isWorkingDay(null, date)));
+        }
+        return new LeaveCalendarDTO(departmentId, period.toString(), headcount, days);
+    }
+
+    /**
+     * Count the intervals covering each day of a window
+     *
+     * @param intervals Inclusive date intervals; parts outside the window are ignored
+     * @param first     First day of the window
+     * @param last      Last day of the window
+     * @return Number of intervals covering each day, indexed from the first day
+     */
+    static int[] countPerDay(List<? extends LeaveRequestRepository.LeaveInterval> intervals,
+                             LocalDate first, LocalDate last) {
+        int length = (int) ChronoUnit.DAYS.between(first, last) + 1;
+        int[] difference = new int[length + 1];
+        for (LeaveRequestRepository.LeaveInterval interval : intervals) {
+            if (interval.getEndDate().isBefore(first) || interval.getStartDate().isAfter(last)) {
+                continue;
+            }
+            LocalDate start = interval.getStartDate().isBefore(first) ? first : interval.getStartDate();
+            LocalDate end = interval.getEndDate().isAfter(last) ? last : interval.getEndDate();
+            difference[(int) ChronoUnit.DAYS.between(first, start)]++;
+            difference[(int) ChronoUnit.DAYS.between(first, end) + 1]--;
+        }
+
+        int[] counts = new int[length];
+        int running = 0;
+        for (int day = 0; day < length; day++) {
+            running += difference[day];
+            counts[day] = running;
+        }
+        return counts;
+    }
+
+    /**
+     * Evict the calendars a leave request appears in, once the current transaction commits
+     *
+     * @param leaveRequest An approved leave request that was just approved or cancelled
+     */
+    public void evictAfterCommit(LeaveRequestEntity leaveRequest) {
+        DepartmentEntity department = leaveRequest.getEmployee().getDepartment();
+        Cache cache = cacheManager.getCache(LEAVE_CALENDAR_CACHE);
+        if (department == null || cache == null) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        YearMonth last = YearMonth.from(leaveRequest.getEndDate());
+        for (YearMonth month = YearMonth.from(leaveRequest.getStartDate()); !month.isAfter(last); month = month.plusMonths(1)) {
+            keys.add(department.getDepartmentId() + "|" + month);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    keys.forEach(cache::evict);
+                }
+            });
+        } else {
+            keys.forEach(cache::evict);
+        }
+    }
+
+    private static YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Month must be in yyyy-MM format");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package cit.edu.workforce.Service;
 
+import cit.edu.workforce.DTO.LeaveBalanceDTO;
 import cit.edu.workforce.DTO.LeaveRequestDTO;
 import cit.edu.workforce.Entity.EmployeeEntity;
 import cit.edu.workforce.Entity.LeaveRequestEntity;
@@ -8,6 +9,8 @@ import cit.edu.workforce.Repository.EmployeeRepository;
 import cit.edu.workforce.Repository.LeaveRequestRepository;
 import cit.edu.workforce.Repository.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -18,9 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.Period;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -32,18 +35,35 @@ import java.util.stream.Collectors;
 @Service
 public class LeaveService {
 
+    private static final String OVERLAP_MESSAGE = "You already have a leave request for this period";
+
+    // PostgreSQL exclusion_violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
     private final UserAccountRepository userAccountRepository;
+    private final LeaveBalanceService leaveBalanceService;
+    private final BusinessCalendarService businessCalendarService;
+    private final LeaveCalendarService leaveCalendarService;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public LeaveService(
             LeaveRequestRepository leaveRequestRepository,
             EmployeeRepository employeeRepository,
-            UserAccountRepository userAccountRepository) {
+            UserAccountRepository userAccountRepository,
+            LeaveBalanceService leaveBalanceService,
+            BusinessCalendarService businessCalendarService,
+            LeaveCalendarService leaveCalendarService,
+            ApprovalInboxService approvalInboxService) {
         this.leaveRequestRepository = leaveRequestRepository;
         this.employeeRepository = employeeRepository;
         this.userAccountRepository = userAccountRepository;
+        this.leaveBalanceService = leaveBalanceService;
+        this.businessCalendarService = businessCalendarService;
+        this.leaveCalendarService = leaveCalendarService;
+        this.approvalInboxService = approvalInboxService;
     }
 
     /**
@@ -75,15 +95,13 @@ public class LeaveService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be after start date");
             }
             
-            // Check if employee has any overlapping leave requests
-            List<LeaveRequestEntity> overlappingRequests = leaveRequestRepository.findOverlappingLeaveRequests(
-                    employee, startDate, endDate);
-            if (!overlappingRequests.isEmpty()) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "You already have a leave request for this period");
+            // Check if employee has any pending or approved leave requests for these dates
+            if (leaveRequestRepository.existsActiveOverlap(employee, startDate, endDate, "")) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, OVERLAP_MESSAGE);
             }
             
             // Calculate total days
-            BigDecimal totalDays = calculateTotalLeaveDays(startDate, endDate);
+            BigDecimal totalDays = calculateTotalLeaveDays(employee.getEmployeeId(), startDate, endDate);
             
             // Create leave request
             LeaveRequestEntity leaveRequest = new LeaveRequestEntity();
@@ -97,7 +115,8 @@ public class LeaveService {
             leaveRequest.setCreatedAt(LocalDateTime.now());
             leaveRequest.setUpdatedAt(LocalDateTime.now());
             
-            LeaveRequestEntity savedRequest = leaveRequestRepository.save(leaveRequest);
+            LeaveRequestEntity savedRequest = saveCheckingOverlap(leaveRequest);
+            approvalInboxService.recordStatusChange(ApprovalInboxService.LEAVE, null, savedRequest.getStatus());
             return convertToDTO(savedRequest);
         } catch (ResponseStatusException e) {
             throw e;
@@ -166,16 +185,23 @@ public class LeaveService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only cancel your own leave requests");
         }
         
-        // Verify that the leave request is in PENDING status
-        if (!"PENDING".equals(leaveRequest.getStatus())) {
+        // Pending requests can always be canceled; approved ones until the leave starts,
+        // and their days go back to the balance
+        boolean approved = "APPROVED".equals(leaveRequest.getStatus());
+        if (approved && leaveRequest.getStartDate().isAfter(LocalDate.now())) {
+            leaveBalanceService.reverse(leaveRequest);
+            leaveCalendarService.evictAfterCommit(leaveRequest);
+        } else if (!"PENDING".equals(leaveRequest.getStatus())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
-                    "Only pending leave requests can be canceled");
+                    "Only pending or upcoming approved leave requests can be canceled");
         }
         
         // Update status to CANCELED
+        String previousStatus = leaveRequest.getStatus();
         leaveRequest.setStatus("CANCELED");
         
         LeaveRequestEntity updatedRequest = leaveRequestRepository.save(leaveRequest);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.LEAVE, previousStatus, updatedRequest.getStatus());
         return convertToDTO(updatedRequest);
     }
 
@@ -186,6 +212,14 @@ public class LeaveService {
     public LeaveRequestDTO updateLeaveRequest(String leaveId, LeaveRequestDTO leaveRequestDTO) {
         LeaveRequestEntity leaveRequest = leaveRequestRepository.findById(leaveId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Leave request not found"));
+
+        // The days of approved requests are already deducted from a balance
+        if ("APPROVED".equals(leaveRequest.getStatus())
+                && (leaveRequestDTO.getLeaveType() != null || leaveRequestDTO.getStartDate() != null
+                        || leaveRequestDTO.getEndDate() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Approved leave requests cannot be changed; cancel the request and submit a new one");
+        }
         
         // Update fields
         if (leaveRequestDTO.getLeaveType() != null && !leaveRequestDTO.getLeaveType().isEmpty()) {
@@ -196,12 +230,17 @@ public class LeaveService {
             if (leaveRequestDTO.getEndDate().isBefore(leaveRequestDTO.getStartDate())) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End date must be after start date");
             }
+
+            if ("PENDING".equals(leaveRequest.getStatus()) && leaveRequestRepository.existsActiveOverlap(
+                    leaveRequest.getEmployee(), leaveRequestDTO.getStartDate(), leaveRequestDTO.getEndDate(), leaveId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, OVERLAP_MESSAGE);
+            }
             
             leaveRequest.setStartDate(leaveRequestDTO.getStartDate());
             leaveRequest.setEndDate(leaveRequestDTO.getEndDate());
             
             // Recalculate total days
-            BigDecimal totalDays = calculateTotalLeaveDays(
+            BigDecimal totalDays = calculateTotalLeaveDays(leaveRequest.getEmployee().getEmployeeId(),
                     leaveRequestDTO.getStartDate(), leaveRequestDTO.getEndDate());
             leaveRequest.setTotalDays(totalDays);
         }
@@ -210,7 +249,7 @@ public class LeaveService {
             leaveRequest.setReason(leaveRequestDTO.getReason());
         }
         
-        LeaveRequestEntity updatedRequest = leaveRequestRepository.save(leaveRequest);
+        LeaveRequestEntity updatedRequest = saveCheckingOverlap(leaveRequest);
         return convertToDTO(updatedRequest);
     }
 
@@ -234,12 +273,19 @@ public class LeaveService {
                     "Only pending leave requests can be reviewed");
         }
         
+        // Take the days from the employee's balance; fails if not enough remain
+        if ("APPROVED".equals(status)) {
+            leaveBalanceService.deduct(leaveRequest);
+            leaveCalendarService.evictAfterCommit(leaveRequest);
+        }
+
         // Update leave request
         leaveRequest.setStatus(status);
         leaveRequest.setReviewedBy(getCurrentUser());
         leaveRequest.setReviewedAt(LocalDateTime.now());
         
         LeaveRequestEntity updatedRequest = leaveRequestRepository.save(leaveRequest);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.LEAVE, "PENDING", status);
         return convertToDTO(updatedRequest);
     }
 
@@ -265,21 +311,56 @@ public class LeaveService {
     }
 
     /**
-     * Calculate total days between start and end dates
+     * Get leave balances for the current employee
+     */
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceDTO> getCurrentEmployeeLeaveBalances() {
+        return leaveBalanceService.getBalances(getCurrentEmployee());
+    }
+
+    /**
+     * Get leave balances for a specific employee (HR only)
      */
-    private BigDecimal calculateTotalLeaveDays(LocalDate startDate, LocalDate endDate) {
-        if (startDate.equals(endDate)) {
-            return BigDecimal.ONE;
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceDTO> getEmployeeLeaveBalances(String employeeId) {
+        EmployeeEntity employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
+        return leaveBalanceService.getBalances(employee);
+    }
+
+    /**
+     * Save and flush a leave request, so that an overlap rejected by the database's
+     * ex_leave_request_no_overlap constraint (a concurrent submission that passed the same
+     * check) is reported like the service's own check
+     */
+    private LeaveRequestEntity saveCheckingOverlap(LeaveRequestEntity leaveRequest) {
+        try {
+            return leaveRequestRepository.saveAndFlush(leaveRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, OVERLAP_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Calculate the employee's working days between start and end dates, inclusive.
+     * Rest days and holidays are not taken from the leave balance.
+     */
+    private BigDecimal calculateTotalLeaveDays(String employeeId, LocalDate startDate, LocalDate endDate) {
+        int days = businessCalendarService.countWorkingDays(employeeId, startDate, endDate);
+        if (days == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The selected dates contain no working days");
         }
-        
-        int days = Period.between(startDate, endDate).getDays() + 1; // inclusive
         return new BigDecimal(days);
     }
 
     /**
      * Convert LeaveRequestEntity to LeaveRequestDTO
      */
-    private LeaveRequestDTO convertToDTO(LeaveRequestEntity entity) {
+    LeaveRequestDTO convertToDTO(LeaveRequestEntity entity) {
         if (entity == null) {
             return null;
         }
@@ -0,0 +1,402 @@
+package cit.edu.workforce.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+/**
+ * LegacyBlobMigrationService - Moves legacy bytea file columns into the BlobStore
+ * New file: Documents and reimbursement receipts uploaded before the blob store kept their bytes
+ * in documents.file_content and reimbursement_request.receipt_image1/2. This job copies them out
+ * in small batches, records the hash and size and clears the column. The blob is written before
+ * the row is updated, so an interrupted run is simply repeated. Once no rows are left the job
+ * stops; the empty columns can then be dropped.
+ * Resumes saved under uploads/resumes, and certificate files under the upload directory, are
+ * moved the same way so identical files are stored once. Certificate paths outside the upload
+ * directory were entered by hand and are left alone.
+ */
+@Service
+public class LegacyBlobMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyBlobMigrationService.class);
+
+    // Documents are up to 10MB each, so only a few are read per batch
+    private static final int BATCH_SIZE = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStore blobStore;
+    private final Path uploadRoot;
+
+    private volatile boolean documentsFinished;
+    private volatile boolean receiptsFinished;
+    private volatile boolean resumesFinished;
+    private volatile boolean certificatesFinished;
+
+    @Autowired
+    public LegacyBlobMigrationService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                      BlobStore blobStore,
+                                      @Value("${app.document.upload-dir:uploads}") String uploadDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blobStore = blobStore;
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Migrate every remaining legacy file, one batch at a time
+     */
+    @Scheduled(initialDelay = 30_000, fixedDelay = 600_000)
+    public void migrateLegacyBlobs() {
+        if (!documentsFinished) {
+            documentsFinished = !hasLegacyColumn("documents", "file_content") || migrateLegacyDocuments();
+        }
+        if (!receiptsFinished) {
+            receiptsFinished = !hasLegacyColumn("reimbursement_request", "receipt_image1") || migrateLegacyReceipts();
+        }
+        if (!resumesFinished) {
+            resumesFinished = migrateLegacyResumes();
+        }
+        if (!certificatesFinished) {
+            certificatesFinished = migrateLegacyCertificates();
+        }
+    }
+
+    /**
+     * Read a document's bytes from the legacy column, for downloads of documents this job has
+     * not moved yet. The bytes are read into memory, as every download did before the blob store.
+     *
+     * @return The bytes, or null if the document has none there
+     */
+    public byte[] readLegacyDocument(String documentId) {
+        if (documentsFinished || !hasLegacyColumn("documents", "file_content")) {
+            return null;
+        }
+        return jdbcTemplate.query("SELECT file_content FROM documents WHERE document_id = ?",
+                rs -> rs.next() ? rs.getBytes(1) : null, documentId);
+    }
+
+    /**
+     * Returns true once no document is left to migrate
+     */
+    private boolean migrateLegacyDocuments() {
+
+        int migrated = 0;
+        int failed = 0;
+        String lastId = "";
+        List<String> batch;
+        do {
+            // Keyset over document_id so rows that fail are skipped instead of retried forever
+            batch = jdbcTemplate.queryForList(
+                    "SELECT document_id FROM documents " +
+                    "WHERE content_hash IS NULL AND file_content IS NOT NULL AND document_id > ? " +
+                    "ORDER BY document_id LIMIT " + BATCH_SIZE,
+                    String.class, lastId);
+            for (String documentId : batch) {
+                if (migrateDocument(documentId)) {
+                    migrated++;
+                } else {
+                    failed++;
+                }
+                lastId = documentId;
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (migrated > 0 || failed > 0) {
+            logger.info("Moved {} legacy documents into the blob store, {} failed", migrated, failed);
+        }
+        // Failed rows are retried on the next run
+        return failed == 0;
+    }
+
+    /**
+     * Returns true once no reimbursement request is left with inline receipts
+     */
+    private boolean migrateLegacyReceipts() {
+        int migrated = 0;
+        int failed = 0;
+        String lastId = "";
+        List<String> batch;
+        do {
+            batch = jdbcTemplate.queryForList(
+                    "SELECT reimbursement_id FROM reimbursement_request " +
+                    "WHERE (receipt_image1 IS NOT NULL OR receipt_image2 IS NOT NULL) AND reimbursement_id > ? " +
+                    "ORDER BY reimbursement_id LIMIT " + BATCH_SIZE,
+                    String.class, lastId);
+            for (String reimbursementId : batch) {
+                // Non-short-circuit &, so the second receipt is tried even if the first fails
+                if (migrateReceipt(reimbursementId, 1) & migrateReceipt(reimbursementId, 2)) {
+                    migrated++;
+                } else {
+                    failed++;
+                }
+                lastId = reimbursementId;
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (migrated > 0 || failed > 0) {
+            logger.info("Moved the receipts of {} reimbursement requests into the blob store, {} failed", migrated, failed);
+        }
+        return failed == 0;
+    }
+
+    /**
+     * Copy one inline receipt into the blob store and record it in reimbursement_receipt
+     */
+    private boolean migrateReceipt(String reimbursementId, int slot) {
+        String column = "receipt_image" + slot;
+        try {
+            BlobStore.StoredBlob blob = jdbcTemplate.query(
+                    "SELECT " + column + " FROM reimbursement_request WHERE reimbursement_id = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream in = rs.getBinaryStream(1)) {
+                            return in == null ? null : blobStore.put(in);
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    },
+                    reimbursementId);
+            if (blob == null) {
+                return true;
+            }
+            String fileType = detectType(blob.hash());
+            // The insert and the column reset commit together; a rerun after a crash
+            // finds the receipt row already present and only clears the column
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(
+                        "INSERT INTO reimbursement_receipt " +
+                        "(receipt_id, reimbursement_id, slot, file_name, file_type, file_size, content_hash, uploaded_at) " +
+                        "SELECT ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS " +
+                        "(SELECT 1 FROM reimbursement_receipt WHERE reimbursement_id = ? AND slot = ?)",
+                        UUID.randomUUID().toString(), reimbursementId, slot, "receipt-" + slot, fileType,
+                        blob.size(), blob.hash(), LocalDateTime.now(), reimbursementId, slot);
+                jdbcTemplate.update(
+                        "UPDATE reimbursement_request SET " + column + " = NULL WHERE reimbursement_id = ?",
+                        reimbursementId);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to move receipt {} of reimbursement request {} into the blob store: {}",
+                    slot, reimbursementId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Receipts were stored without a type, so detect it from the stored bytes
+     */
+    private String detectType(String hash) {
+        try (InputStream in = blobStore.open(hash)) {
+            return UploadService.detectType(in.readNBytes(12), null);
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
+
+    /**
+     * Copy the bytes of one document into the blob store and point the row at them
+     */
+    private boolean migrateDocument(String documentId) {
+        try {
+            BlobStore.StoredBlob blob = jdbcTemplate.query(
+                    "SELECT file_content, file_type FROM documents WHERE document_id = ?",
+                    rs -> {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        try (InputStream in = rs.getBinaryStream(1)) {
+                            return in == null ? null : blobStore.put(in, UploadService.isCompressible(rs.getString(2)));
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    },
+                    documentId);
+            if (blob == null) {
+                return true;
+            }
+            jdbcTemplate.update(
+                    "UPDATE documents SET content_hash = ?, file_size = ?, file_content = NULL " +
+                    "WHERE document_id = ? AND content_hash IS NULL",
+                    blob.hash(), blob.size(), documentId);
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to move document {} into the blob store: {}", documentId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns true once no applicant is left with a resume file outside the blob store
+     */
+    private boolean migrateLegacyResumes() {
+        int migrated = 0;
+        int failed = 0;
+        String lastId = "";
+        List<Map<String, Object>> batch;
+        do {
+            batch = jdbcTemplate.queryForList(
+                    "SELECT applicant_id, resume_pdf_path FROM applicant " +
+                    "WHERE resume_content_hash IS NULL AND resume_pdf_path IS NOT NULL AND applicant_id > ? " +
+                    "ORDER BY applicant_id LIMIT " + BATCH_SIZE,
+                    lastId);
+            for (Map<String, Object> row : batch) {
+                String applicantId = (String) row.get("applicant_id");
+                String storedPath = (String) row.get("resume_pdf_path");
+                Path path = legacyFile(storedPath, "Applicant " + applicantId);
+                if (path != null) {
+                    // Every applicant saved with the same path shares the file, so all move together
+                    if (migrateFile(path, true, blob -> jdbcTemplate.update(
+                            "UPDATE applicant SET resume_content_hash = ?, resume_file_size = ?, resume_pdf_path = NULL " +
+                            "WHERE resume_pdf_path = ? AND resume_content_hash IS NULL",
+                            blob.hash(), blob.size(), storedPath))) {
+                        migrated++;
+                    } else {
+                        failed++;
+                    }
+                }
+                lastId = applicantId;
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (migrated > 0 || failed > 0) {
+            logger.info("Moved {} legacy resumes into the blob store, {} failed", migrated, failed);
+        }
+        return failed == 0;
+    }
+
+    /**
+     * Returns true once no certificate is left pointing at a file under the upload directory
+     */
+    private boolean migrateLegacyCertificates() {
+        int migrated = 0;
+        int failed = 0;
+        String lastId = "";
+        List<Map<String, Object>> batch;
+        do {
+            batch = jdbcTemplate.queryForList(
+                    "SELECT certificate_id, file_path FROM certificate " +
+                    "WHERE content_hash IS NULL AND file_path IS NOT NULL AND certificate_id > ? " +
+                    "ORDER BY certificate_id LIMIT " + BATCH_SIZE,
+                    lastId);
+            for (Map<String, Object> row : batch) {
+                String certificateId = (String) row.get("certificate_id");
+                String storedPath = (String) row.get("file_path");
+                Path path = legacyFile(storedPath, "Certificate " + certificateId);
+                if (path != null) {
+                    String fileType = detectType(path);
+                    // file_path keeps the original name, as it does for certificates uploaded since.
+                    // Every certificate saved with the same path shares the file, so all move together.
+                    if (migrateFile(path, UploadService.isCompressible(fileType), blob -> jdbcTemplate.update(
+                            "UPDATE certificate SET content_hash = ?, file_size = ?, file_type = ?, file_path = ? " +
+                            "WHERE file_path = ? AND content_hash IS NULL",
+                            blob.hash(), blob.size(), fileType, path.getFileName().toString(), storedPath))) {
+                        migrated++;
+                    } else {
+                        failed++;
+                    }
+                }
+                lastId = certificateId;
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (migrated > 0 || failed > 0) {
+            logger.info("Moved {} legacy certificate files into the blob store, {} failed", migrated, failed);
+        }
+        return failed == 0;
+    }
+
+    /**
+     * Resolve a stored path to a file under the upload directory, or null if it is missing,
+     * elsewhere, or not a path at all (such as a URL). Rows left behind are logged.
+     */
+    private Path legacyFile(String storedPath, String owner) {
+        Path path = resolve(storedPath);
+        if (path == null || !path.startsWith(uploadRoot)) {
+            logger.debug("{} keeps its file path {}: not under the upload directory", owner, storedPath);
+            return null;
+        }
+        if (!Files.isRegularFile(path)) {
+            logger.warn("{} points at {}, which does not exist; left unmigrated", owner, storedPath);
+            return null;
+        }
+        return path;
+    }
+
+    private static Path resolve(String storedPath) {
+        try {
+            return Paths.get(storedPath).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copy a legacy file into the blob store, point the rows stored with its path at the blob,
+     * then delete the file. The file is kept while any unmigrated row still resolves to it, for
+     * example through a differently written path, so that row can still be moved on a later pass.
+     */
+    private boolean migrateFile(Path path, boolean compressible, ToIntFunction<BlobStore.StoredBlob> updateRows) {
+        try {
+            BlobStore.StoredBlob blob;
+            try (InputStream in = Files.newInputStream(path)) {
+                blob = blobStore.put(in, compressible);
+            }
+            if (updateRows.applyAsInt(blob) > 0 && !isReferencedByUnmigratedRows(path)) {
+                Files.deleteIfExists(path);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to move {} into the blob store: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isReferencedByUnmigratedRows(Path path) {
+        // LIKE only narrows the candidates; '_' or '%' in the name just match more, and the
+        // resolved paths are compared exactly below
+        String pattern = "%" + path.getFileName();
+        List<String> storedPaths = jdbcTemplate.queryForList(
+                "SELECT resume_pdf_path FROM applicant WHERE resume_content_hash IS NULL AND resume_pdf_path LIKE ? " +
+                "UNION ALL " +
+                "SELECT file_path FROM certificate WHERE content_hash IS NULL AND file_path LIKE ?",
+                String.class, pattern, pattern);
+        return storedPaths.stream().anyMatch(storedPath -> path.equals(resolve(storedPath)));
+    }
+
+    private String detectType(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return UploadService.detectType(in.readNBytes(12), null);
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
+
+    private boolean hasLegacyColumn(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE LOWER(table_name) = ? AND LOWER(column_name) = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
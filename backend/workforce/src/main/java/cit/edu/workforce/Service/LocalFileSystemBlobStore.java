@@ -0,0 +1,305 @@
+package cit.edu.workforce.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * LocalFileSystemBlobStore - BlobStore on the local filesystem
+ * New file: A blob with hash abcdef... is stored at {root}/ab/cd/abcdef..., keeping every
+ * directory small. Content is written to {root}/tmp first and moved into place atomically,
+ * so readers never see a partial file.
+ * Compressible content is gzipped to {root}/ab/cd/abcdef....gz when that saves at least a tenth
+ * of its size. The hash is always that of the original bytes, and reads decompress on the fly.
+ */
+@Service
+public class LocalFileSystemBlobStore implements BlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[0-9a-f]{64}(\\.gz)?");
+    private static final String GZIP_SUFFIX = ".gz";
+
+    // Small files gain little and compressed files must shrink by at least 10% to be kept
+    private static final long MIN_COMPRESS_SIZE = 4 * 1024;
+    private static final double MAX_COMPRESSED_RATIO = 0.9;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public LocalFileSystemBlobStore(@Value("${app.blob-store.root:uploads/blobs}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve("tmp");
+        Files.createDirectories(tempDirectory);
+    }
+
+    @Override
+    public StoredBlob put(InputStream content, boolean compressible) throws IOException {
+        Path temp = tempDirectory.resolve(UUID.randomUUID() + ".tmp");
+        Path compressedTemp = tempDirectory.resolve(UUID.randomUUID() + ".tmp" + GZIP_SUFFIX);
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path existing = storedPath(hash);
+            if (existing != null) {
+                // Refresh the timestamp so the garbage collector's grace period covers the
+                // row that is about to reference this blob again
+                touch(existing);
+                return new StoredBlob(hash, size);
+            }
+
+            Path target = pathFor(hash);
+            Files.createDirectories(target.getParent());
+            if (compressible && size >= MIN_COMPRESS_SIZE && compress(temp, compressedTemp) <= size * MAX_COMPRESSED_RATIO) {
+                moveIntoPlace(compressedTemp, compressedPathFor(hash));
+            } else {
+                moveIntoPlace(temp, target);
+            }
+            return new StoredBlob(hash, size);
+        } finally {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(compressedTemp);
+        }
+    }
+
+    @Override
+    public InputStream open(String hash) throws IOException {
+        try {
+            return Files.newInputStream(pathFor(hash));
+        } catch (NoSuchFileException e) {
+            try {
+                return gunzip(compressedPathFor(hash));
+            } catch (NoSuchFileException ignored) {
+                throw new IOException("Blob not found: " + hash, e);
+            }
+        }
+    }
+
+    @Override
+    public Resource resource(String hash) {
+        Path path = pathFor(hash);
+        Path compressed = compressedPathFor(hash);
+        if (!Files.exists(path) && Files.exists(compressed)) {
+            return new CompressedBlobResource(hash, compressed);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return storedPath(hash) != null;
+    }
+
+    @Override
+    public boolean delete(String hash) throws IOException {
+        // Non-short-circuit |, so both variants are removed
+        return Files.deleteIfExists(pathFor(hash)) | Files.deleteIfExists(compressedPathFor(hash));
+    }
+
+    @Override
+    public Stream<BlobInfo> list() throws IOException {
+        // {root}/ab/cd/<blob>, skipping {root}/tmp and anything else that is not a blob
+        return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                        && FILE_NAME_PATTERN.matcher(path.getFileName().toString()).matches()
+                        && !path.startsWith(tempDirectory))
+                .map(this::describe)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Resolve the sharded path of a blob
+     */
+    Path pathFor(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path compressedPathFor(String hash) {
+        Path path = pathFor(hash);
+        return path.resolveSibling(path.getFileName() + GZIP_SUFFIX);
+    }
+
+    /**
+     * The file holding a blob, or null if it is not stored
+     */
+    private Path storedPath(String hash) {
+        Path path = pathFor(hash);
+        if (Files.exists(path)) {
+            return path;
+        }
+        Path compressed = compressedPathFor(hash);
+        return Files.exists(compressed) ? compressed : null;
+    }
+
+    /**
+     * Describe a blob file, or return null if it was deleted while listing
+     */
+    private BlobInfo describe(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            long storedSize = Files.size(path);
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+            if (name.endsWith(GZIP_SUFFIX)) {
+                String hash = name.substring(0, name.length() - GZIP_SUFFIX.length());
+                return new BlobInfo(hash, uncompressedSize(path), storedSize, lastModified);
+            }
+            return new BlobInfo(name, storedSize, storedSize, lastModified);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read blob " + path, e);
+        }
+    }
+
+    /**
+     * Gzip a file and return the compressed size
+     */
+    private static long compress(Path source, Path target) throws IOException {
+        try (InputStream in = Files.newInputStream(source);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(target), BUFFER_SIZE)) {
+            in.transferTo(out);
+        }
+        return Files.size(target);
+    }
+
+    private static InputStream gunzip(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        try {
+            return new GZIPInputStream(new BufferedInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The original size, from the ISIZE field of the gzip trailer.
+     * It is stored modulo 2^32, which is exact for anything the upload limits allow.
+     */
+    private static long uncompressedSize(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(trailer, channel.size() - 4);
+            trailer.flip();
+            return Integer.toUnsignedLong(trailer.getInt());
+        }
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException ignored) {
+            // Only shortens the grace period for this blob
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same content got there first
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Same as above
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A gzipped blob exposed with its original length and content. It is not a file Resource,
+     * so downloads stream the decompressed bytes instead of using sendfile.
+     */
+    private static class CompressedBlobResource extends AbstractResource {
+
+        private final String hash;
+        private final Path path;
+
+        CompressedBlobResource(String hash, Path path) {
+            this.hash = hash;
+            this.path = path;
+        }
+
+        @Override
+        public boolean exists() {
+            return Files.exists(path);
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return uncompressedSize(path);
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return Files.getLastModifiedTime(path).toMillis();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return gunzip(path);
+            } catch (NoSuchFileException e) {
+                throw new FileNotFoundException("Blob not found: " + hash);
+            }
+        }
+
+        @Override
+        public String getFilename() {
+            return hash;
+        }
+
+        @Override
+        public String getDescription() {
+            return "compressed blob [" + hash + "]";
+        }
+    }
+}
@@ -34,15 +34,21 @@ public class OvertimeService {
     private final OvertimeRequestRepository overtimeRepository;
     private final EmployeeRepository employeeRepository;
     private final UserAccountRepository userAccountRepository;
+    private final BusinessCalendarService businessCalendarService;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public OvertimeService(
             OvertimeRequestRepository overtimeRepository,
             EmployeeRepository employeeRepository,
-            UserAccountRepository userAccountRepository) {
+            UserAccountRepository userAccountRepository,
+            BusinessCalendarService businessCalendarService,
+            ApprovalInboxService approvalInboxService) {
         this.overtimeRepository = overtimeRepository;
         this.employeeRepository = employeeRepository;
         this.userAccountRepository = userAccountRepository;
+        this.businessCalendarService = businessCalendarService;
+        this.approvalInboxService = approvalInboxService;
     }
 
     /**
@@ -91,6 +97,7 @@ public class OvertimeService {
         overtimeRequest.setStatus("PENDING");
         
         OvertimeRequestEntity savedRequest = overtimeRepository.save(overtimeRequest);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.OVERTIME, null, savedRequest.getStatus());
         return convertToDTO(savedRequest);
     }
 
@@ -163,6 +170,7 @@ public class OvertimeService {
         overtimeRequest.setStatus("CANCELED");
         
         OvertimeRequestEntity updatedRequest = overtimeRepository.save(overtimeRequest);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.OVERTIME, "PENDING", updatedRequest.getStatus());
         return convertToDTO(updatedRequest);
     }
 
@@ -258,6 +266,7 @@ public class OvertimeService {
         overtimeRequest.setReviewedAt(LocalDateTime.now());
         
         OvertimeRequestEntity updatedRequest = overtimeRepository.save(overtimeRequest);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.OVERTIME, "PENDING", status);
         return convertToDTO(updatedRequest);
     }
 
@@ -285,7 +294,7 @@ public class OvertimeService {
     /**
      * Convert OvertimeRequestEntity to OvertimeRequestDTO
      */
-    private OvertimeRequestDTO convertToDTO(OvertimeRequestEntity entity) {
+    OvertimeRequestDTO convertToDTO(OvertimeRequestEntity entity) {
         if (entity == null) {
             return null;
         }
@@ -298,6 +307,7 @@ public class OvertimeService {
         dto.setStartTime(entity.getStartTime());
         dto.setEndTime(entity.getEndTime());
         dto.setTotalHours(entity.getTotalHours());
+        dto.setRestDay(!businessCalendarService.isWorkingDay(entity.getEmployee().getEmployeeId(), entity.getDate()));
         dto.setReason(entity.getReason());
         dto.setStatus(entity.getStatus());
         
@@ -0,0 +1,262 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.DTO.RecruitmentFunnelDTO;
+import cit.edu.workforce.DTO.StageDurationDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RecruitmentFunnelService - Per-listing recruitment funnel from incremental counters
+ * New file: Submitting an application and changing its status update per-listing, per-status
+ * counters and, when an application leaves a status, a logarithmic histogram of how long it
+ * stayed there. The funnel endpoint reads only these small tables. A nightly pass recounts the
+ * current counts from application_record to repair drift from deleted applicants and listings.
+ */
+@Service
+public class RecruitmentFunnelService {
+
+    public static final List<String> STAGES = List.of("PENDING", "SHORTLISTED", "HIRED", "REJECTED");
+
+    // Only these statuses are left for another; HIRED and REJECTED are final in practice
+    private static final List<String> TIMED_STAGES = List.of("PENDING", "SHORTLISTED");
+
+    // Bucket 0 is under an hour, bucket n is [2^(n-1), 2^n) hours; the last one is open-ended
+    private static final int MAX_BUCKET = 16;
+
+    private static final String COUNTER_UPSERT_SQL =
+            "INSERT INTO application_funnel_counter (job_id, status, current_count, entered_count) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (job_id, status) DO UPDATE SET " +
+            "current_count = application_funnel_counter.current_count + EXCLUDED.current_count, " +
+            "entered_count = application_funnel_counter.entered_count + EXCLUDED.entered_count";
+    private static final String COUNTER_UPDATE_SQL =
+            "UPDATE application_funnel_counter SET current_count = current_count + ?, entered_count = entered_count + ? " +
+            "WHERE job_id = ? AND status = ?";
+    private static final String COUNTER_INSERT_SQL =
+            "INSERT INTO application_funnel_counter (job_id, status, current_count, entered_count) VALUES (?, ?, ?, ?)";
+
+    private static final String BUCKET_UPSERT_SQL =
+            "INSERT INTO application_stage_duration (job_id, stage, bucket, sample_count) VALUES (?, ?, ?, 1) " +
+            "ON CONFLICT (job_id, stage, bucket) DO UPDATE SET " +
+            "sample_count = application_stage_duration.sample_count + 1";
+    private static final String BUCKET_UPDATE_SQL =
+            "UPDATE application_stage_duration SET sample_count = sample_count + 1 WHERE job_id = ? AND stage = ? AND bucket = ?";
+    private static final String BUCKET_INSERT_SQL =
+            "INSERT INTO application_stage_duration (job_id, stage, bucket, sample_count) VALUES (?, ?, ?, 1)";
+
+    private static final String COUNTERS_SQL =
+            "SELECT c.job_id, j.title, c.status, c.current_count, c.entered_count FROM application_funnel_counter c " +
+            "JOIN job_listing j ON j.job_id = c.job_id ";
+    private static final String BUCKETS_SQL =
+            "SELECT job_id, stage, bucket, sample_count FROM application_stage_duration ";
+
+    // Nightly repair: recount current counts, add pairs the counters never saw, drop deleted listings
+    private static final String RECOUNT_SQL =
+            "UPDATE application_funnel_counter c SET current_count = " +
+            "(SELECT COUNT(*) FROM application_record a WHERE a.job_id = c.job_id AND UPPER(a.status) = c.status)";
+    private static final String MISSING_COUNTERS_SQL =
+            "INSERT INTO application_funnel_counter (job_id, status, current_count, entered_count) " +
+            "SELECT a.job_id, UPPER(a.status), COUNT(*), COUNT(*) FROM application_record a " +
+            "WHERE NOT EXISTS (SELECT 1 FROM application_funnel_counter c WHERE c.job_id = a.job_id AND c.status = UPPER(a.status)) " +
+            "GROUP BY a.job_id, UPPER(a.status)";
+    private static final String REMOVED_COUNTERS_SQL =
+            "DELETE FROM application_funnel_counter c WHERE NOT EXISTS (SELECT 1 FROM job_listing j WHERE j.job_id = c.job_id)";
+    private static final String REMOVED_BUCKETS_SQL =
+            "DELETE FROM application_stage_duration d WHERE NOT EXISTS (SELECT 1 FROM job_listing j WHERE j.job_id = d.job_id)";
+
+    // Applications from before stage timestamps were recorded; the best available estimate
+    private static final String STAGE_ENTERED_SQL =
+            "UPDATE application_record a SET stage_entered_at = COALESCE(a.reviewed_at, " +
+            "(SELECT CAST(p.application_date AS TIMESTAMP) FROM applicant p WHERE p.applicant_id = a.applicant_id)) " +
+            "WHERE a.stage_entered_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+
+    @Autowired
+    public RecruitmentFunnelService(JdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+    }
+
+    /**
+     * Count a new application, in the caller's transaction
+     */
+    public void recordSubmission(String jobId) {
+        addToCounter(jobId, "PENDING", 1, 1);
+    }
+
+    /**
+     * Count a status change and how long the application spent in its previous status,
+     * in the caller's transaction
+     *
+     * @param jobId          Job listing of the application
+     * @param fromStatus     Previous status
+     * @param toStatus       New status
+     * @param stageEnteredAt When the application entered the previous status; null if unknown
+     * @param changedAt      When the status changed
+     */
+    public void recordTransition(String jobId, String fromStatus, String toStatus,
+                                 LocalDateTime stageEnteredAt, LocalDateTime changedAt) {
+        String from = fromStatus.toUpperCase();
+        String to = toStatus.toUpperCase();
+        if (from.equals(to)) {
+            return;
+        }
+        addToCounter(jobId, from, -1, 0);
+        addToCounter(jobId, to, 1, 1);
+        if (stageEnteredAt != null) {
+            addToHistogram(jobId, from, bucketOf(Duration.between(stageEnteredAt, changedAt)));
+        }
+    }
+
+    /**
+     * Get the recruitment funnel of every job listing with applications, or of one listing
+     *
+     * @param jobId Only this listing, if set
+     * @return Funnels ordered by listing title
+     */
+    @Transactional(readOnly = true)
+    public List<RecruitmentFunnelDTO> getFunnels(String jobId) {
+        Map<String, RecruitmentFunnelDTO> funnels = new LinkedHashMap<>();
+        Object[] args = jobId != null ? new Object[]{jobId} : new Object[0];
+
+        jdbcTemplate.query(COUNTERS_SQL + (jobId != null ? "WHERE c.job_id = ? " : "") + "ORDER BY j.title, c.job_id", rs -> {
+            RecruitmentFunnelDTO funnel = funnels.computeIfAbsent(rs.getString("job_id"), id -> newFunnel(id));
+            funnel.setJobTitle(rs.getString("title"));
+            funnel.getCurrentCounts().merge(rs.getString("status"), rs.getLong("current_count"), Long::sum);
+            funnel.getEnteredCounts().merge(rs.getString("status"), rs.getLong("entered_count"), Long::sum);
+        }, args);
+
+        Map<String, long[]> histograms = new HashMap<>();
+        jdbcTemplate.query(BUCKETS_SQL + (jobId != null ? "WHERE job_id = ?" : ""), rs -> {
+            long[] histogram = histograms.computeIfAbsent(rs.getString("job_id") + "|" + rs.getString("stage"),
+                    key -> new long[MAX_BUCKET + 1]);
+            histogram[Math.min(rs.getInt("bucket"), MAX_BUCKET)] += rs.getLong("sample_count");
+        }, args);
+
+        List<RecruitmentFunnelDTO> result = new ArrayList<>(funnels.values());
+        for (RecruitmentFunnelDTO funnel : result) {
+            // Every application was submitted, including those counted before entered counts existed
+            long applications = Math.max(funnel.getEnteredCounts().get("PENDING"),
+                    funnel.getCurrentCounts().values().stream().mapToLong(Long::longValue).sum());
+            funnel.setShortlistRate(rate(funnel.getEnteredCounts().get("SHORTLISTED"), applications));
+            funnel.setHireRate(rate(funnel.getEnteredCounts().get("HIRED"), applications));
+            funnel.setRejectionRate(rate(funnel.getEnteredCounts().get("REJECTED"), applications));
+            for (String stage : TIMED_STAGES) {
+                long[] histogram = histograms.getOrDefault(funnel.getJobId() + "|" + stage, new long[MAX_BUCKET + 1]);
+                funnel.getTimeInStage().put(stage, summarize(histogram));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Recount current counts from the applications themselves.
+     * Also seeds the counters on first start; entered counts of applications that existed
+     * before counting began can only be inferred from their current status, and their
+     * time in the current stage is measured from their review or application date.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 15 1 * * *", zone = "Asia/Manila")
+    @Transactional
+    public void reconcileCounters() {
+        jdbcTemplate.update(REMOVED_COUNTERS_SQL);
+        jdbcTemplate.update(REMOVED_BUCKETS_SQL);
+        jdbcTemplate.update(RECOUNT_SQL);
+        jdbcTemplate.update(MISSING_COUNTERS_SQL);
+        jdbcTemplate.update(STAGE_ENTERED_SQL);
+    }
+
+    private void addToCounter(String jobId, String status, long currentDelta, long enteredDelta) {
+        if (databaseVendor.isPostgres()) {
+            jdbcTemplate.update(COUNTER_UPSERT_SQL, jobId, status, currentDelta, enteredDelta);
+        } else if (jdbcTemplate.update(COUNTER_UPDATE_SQL, currentDelta, enteredDelta, jobId, status) == 0) {
+            jdbcTemplate.update(COUNTER_INSERT_SQL, jobId, status, currentDelta, enteredDelta);
+        }
+    }
+
+    private void addToHistogram(String jobId, String stage, int bucket) {
+        if (databaseVendor.isPostgres()) {
+            jdbcTemplate.update(BUCKET_UPSERT_SQL, jobId, stage, bucket);
+        } else if (jdbcTemplate.update(BUCKET_UPDATE_SQL, jobId, stage, bucket) == 0) {
+            jdbcTemplate.update(BUCKET_INSERT_SQL, jobId, stage, bucket);
+        }
+    }
+
+    static int bucketOf(Duration duration) {
+        long hours = Math.max(duration.toHours(), 0);
+        if (hours == 0) {
+            return 0;
+        }
+        return Math.min(64 - Long.numberOfLeadingZeros(hours), MAX_BUCKET);
+    }
+
+    private static StageDurationDTO summarize(long[] histogram) {
+        long samples = 0;
+        for (long count : histogram) {
+            samples += count;
+        }
+        if (samples == 0) {
+            return new StageDurationDTO(0, null, null, null);
+        }
+        return new StageDurationDTO(samples,
+                percentile(histogram, samples, 0.5),
+                percentile(histogram, samples, 0.9),
+                percentile(histogram, samples, 0.99));
+    }
+
+    /**
+     * Estimate a percentile in hours, interpolating geometrically inside the bucket that holds it
+     */
+    private static double percentile(long[] histogram, long samples, double quantile) {
+        double rank = quantile * samples;
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            if (histogram[bucket] == 0) {
+                continue;
+            }
+            if (seen + histogram[bucket] >= rank) {
+                double position = (rank - seen) / histogram[bucket];
+                double hours = bucket == 0
+                        ? position
+                        : Math.pow(2, bucket - 1) * Math.pow(2, position);
+                return Math.round(hours * 10) / 10.0;
+            }
+            seen += histogram[bucket];
+        }
+        return Math.pow(2, MAX_BUCKET - 1);
+    }
+
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : Math.round(count * 10000.0 / total) / 10000.0;
+    }
+
+    private static RecruitmentFunnelDTO newFunnel(String jobId) {
+        RecruitmentFunnelDTO funnel = new RecruitmentFunnelDTO();
+        funnel.setJobId(jobId);
+        funnel.setCurrentCounts(zeroCounts());
+        funnel.setEnteredCounts(zeroCounts());
+        funnel.setTimeInStage(new LinkedHashMap<>());
+        return funnel;
+    }
+
+    private static Map<String, Long> zeroCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        STAGES.forEach(stage -> counts.put(stage, 0L));
+        return counts;
+    }
+}
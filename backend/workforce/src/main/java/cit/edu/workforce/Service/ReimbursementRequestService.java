@@ -1,10 +1,13 @@
 package cit.edu.workforce.Service;
 
+import cit.edu.workforce.DTO.ReimbursementReceiptDTO;
 import cit.edu.workforce.DTO.ReimbursementRequestDTO;
 import cit.edu.workforce.Entity.EmployeeEntity;
+import cit.edu.workforce.Entity.ReimbursementReceiptEntity;
 import cit.edu.workforce.Entity.ReimbursementRequestEntity;
 import cit.edu.workforce.Entity.UserAccountEntity;
 import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.ReimbursementReceiptRepository;
 import cit.edu.workforce.Repository.ReimbursementRequestRepository;
 import cit.edu.workforce.Repository.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +19,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,15 +41,27 @@ public class ReimbursementRequestService {
     private final ReimbursementRequestRepository reimbursementRequestRepository;
     private final EmployeeRepository employeeRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ReimbursementReceiptRepository reimbursementReceiptRepository;
+    private final UploadService uploadService;
+    private final BlobStore blobStore;
+    private final ApprovalInboxService approvalInboxService;
 
     @Autowired
     public ReimbursementRequestService(
             ReimbursementRequestRepository reimbursementRequestRepository,
             EmployeeRepository employeeRepository,
-            UserAccountRepository userAccountRepository) {
+            UserAccountRepository userAccountRepository,
+            ReimbursementReceiptRepository reimbursementReceiptRepository,
+            UploadService uploadService,
+            BlobStore blobStore,
+            ApprovalInboxService approvalInboxService) {
         this.reimbursementRequestRepository = reimbursementRequestRepository;
         this.employeeRepository = employeeRepository;
         this.userAccountRepository = userAccountRepository;
+        this.reimbursementReceiptRepository = reimbursementReceiptRepository;
+        this.uploadService = uploadService;
+        this.blobStore = blobStore;
+        this.approvalInboxService = approvalInboxService;
     }
 
     /**
@@ -53,9 +71,7 @@ public class ReimbursementRequestService {
      */
     public List<ReimbursementRequestDTO> getCurrentEmployeeReimbursementRequests() {
         EmployeeEntity employee = getCurrentEmployee();
-        return reimbursementRequestRepository.findByEmployee(employee).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return convertToDTOs(reimbursementRequestRepository.findByEmployee(employee));
     }
 
     /**
@@ -66,8 +82,7 @@ public class ReimbursementRequestService {
      */
     public Page<ReimbursementRequestDTO> getCurrentEmployeeReimbursementRequests(Pageable pageable) {
         EmployeeEntity employee = getCurrentEmployee();
-        return reimbursementRequestRepository.findByEmployee(employee, pageable)
-                .map(this::convertToDTO);
+        return convertToDTOs(reimbursementRequestRepository.findByEmployee(employee, pageable));
     }
 
     /**
@@ -106,7 +121,7 @@ public class ReimbursementRequestService {
             requests = reimbursementRequestRepository.findAll(pageable);
         }
         
-        return requests.map(this::convertToDTO);
+        return convertToDTOs(requests);
     }
 
     /**
@@ -124,11 +139,9 @@ public class ReimbursementRequestService {
                         HttpStatus.NOT_FOUND, "Employee not found with ID: " + employeeId));
 
         if (status != null && !status.isEmpty()) {
-            return reimbursementRequestRepository.findByEmployeeAndStatus(employee, status, pageable)
-                    .map(this::convertToDTO);
+            return convertToDTOs(reimbursementRequestRepository.findByEmployeeAndStatus(employee, status, pageable));
         } else {
-            return reimbursementRequestRepository.findByEmployee(employee, pageable)
-                    .map(this::convertToDTO);
+            return convertToDTOs(reimbursementRequestRepository.findByEmployee(employee, pageable));
         }
     }
 
@@ -136,12 +149,18 @@ public class ReimbursementRequestService {
      * Create a new reimbursement request for the current employee
      *
      * @param reimbursementRequestDTO Reimbursement request information
+     * @param receiptImage1           First receipt (required)
+     * @param receiptImage2           Second receipt (optional)
      * @return Created reimbursement request DTO
      */
     @Transactional
-    public ReimbursementRequestDTO createReimbursementRequest(ReimbursementRequestDTO reimbursementRequestDTO) {
+    public ReimbursementRequestDTO createReimbursementRequest(
+            ReimbursementRequestDTO reimbursementRequestDTO, MultipartFile receiptImage1, MultipartFile receiptImage2) {
         // Validate request
         validateReimbursementRequest(reimbursementRequestDTO);
+        if (receiptImage1 == null || receiptImage1.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one receipt image is required");
+        }
         
         EmployeeEntity employee = getCurrentEmployee();
 
@@ -150,12 +169,15 @@ public class ReimbursementRequestService {
         request.setRequestDate(LocalDate.now());
         request.setExpenseDate(reimbursementRequestDTO.getExpenseDate());
         request.setAmountRequested(reimbursementRequestDTO.getAmountRequested());
-        request.setReceiptImage1(reimbursementRequestDTO.getReceiptImage1());
-        request.setReceiptImage2(reimbursementRequestDTO.getReceiptImage2());
         request.setReason(reimbursementRequestDTO.getReason());
         request.setStatus("PENDING");
+        attachReceipt(request, 1, receiptImage1);
+        if (receiptImage2 != null && !receiptImage2.isEmpty()) {
+            attachReceipt(request, 2, receiptImage2);
+        }
 
         ReimbursementRequestEntity savedRequest = reimbursementRequestRepository.save(request);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.REIMBURSEMENT, null, savedRequest.getStatus());
         return convertToDTO(savedRequest);
     }
 
@@ -171,6 +193,9 @@ public class ReimbursementRequestService {
             String employeeId, ReimbursementRequestDTO reimbursementRequestDTO) {
         // Validate request
         validateReimbursementRequest(reimbursementRequestDTO);
+        if (reimbursementRequestDTO.getReceiptImage1() == null || reimbursementRequestDTO.getReceiptImage1().length == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one receipt image is required");
+        }
         
         EmployeeEntity employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResponseStatusException(
@@ -181,12 +206,15 @@ public class ReimbursementRequestService {
         request.setRequestDate(LocalDate.now());
         request.setExpenseDate(reimbursementRequestDTO.getExpenseDate());
         request.setAmountRequested(reimbursementRequestDTO.getAmountRequested());
-        request.setReceiptImage1(reimbursementRequestDTO.getReceiptImage1());
-        request.setReceiptImage2(reimbursementRequestDTO.getReceiptImage2());
         request.setReason(reimbursementRequestDTO.getReason());
         request.setStatus("PENDING");
+        attachReceipt(request, 1, reimbursementRequestDTO.getReceiptImage1());
+        if (reimbursementRequestDTO.getReceiptImage2() != null && reimbursementRequestDTO.getReceiptImage2().length > 0) {
+            attachReceipt(request, 2, reimbursementRequestDTO.getReceiptImage2());
+        }
 
         ReimbursementRequestEntity savedRequest = reimbursementRequestRepository.save(request);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.REIMBURSEMENT, null, savedRequest.getStatus());
         return convertToDTO(savedRequest);
     }
 
@@ -226,12 +254,12 @@ public class ReimbursementRequestService {
             request.setAmountRequested(reimbursementRequestDTO.getAmountRequested());
         }
         
-        if (reimbursementRequestDTO.getReceiptImage1() != null) {
-            request.setReceiptImage1(reimbursementRequestDTO.getReceiptImage1());
+        if (reimbursementRequestDTO.getReceiptImage1() != null && reimbursementRequestDTO.getReceiptImage1().length > 0) {
+            attachReceipt(request, 1, reimbursementRequestDTO.getReceiptImage1());
         }
         
-        if (reimbursementRequestDTO.getReceiptImage2() != null) {
-            request.setReceiptImage2(reimbursementRequestDTO.getReceiptImage2());
+        if (reimbursementRequestDTO.getReceiptImage2() != null && reimbursementRequestDTO.getReceiptImage2().length > 0) {
+            attachReceipt(request, 2, reimbursementRequestDTO.getReceiptImage2());
         }
         
         if (reimbursementRequestDTO.getReason() != null && !reimbursementRequestDTO.getReason().trim().isEmpty()) {
@@ -267,6 +295,7 @@ public class ReimbursementRequestService {
         }
 
         reimbursementRequestRepository.delete(request);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.REIMBURSEMENT, "PENDING", null);
     }
 
     /**
@@ -298,6 +327,7 @@ public class ReimbursementRequestService {
         request.setRemarks(remarks);
 
         ReimbursementRequestEntity approvedRequest = reimbursementRequestRepository.save(request);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.REIMBURSEMENT, "PENDING", "APPROVED");
         return convertToDTO(approvedRequest);
     }
 
@@ -330,6 +360,7 @@ public class ReimbursementRequestService {
         request.setRemarks(remarks);
 
         ReimbursementRequestEntity rejectedRequest = reimbursementRequestRepository.save(request);
+        approvalInboxService.recordStatusChange(ApprovalInboxService.REIMBURSEMENT, "PENDING", "REJECTED");
         return convertToDTO(rejectedRequest);
     }
 
@@ -385,10 +416,69 @@ public class ReimbursementRequestService {
         if (reimbursementRequestDTO.getReason() == null || reimbursementRequestDTO.getReason().trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Reason is required");
         }
+    }
 
-        if (reimbursementRequestDTO.getReceiptImage1() == null || reimbursementRequestDTO.getReceiptImage1().length == 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one receipt image is required");
+    /**
+     * Get a receipt of a reimbursement request for download
+     *
+     * @param reimbursementId Reimbursement request ID
+     * @param slot            Receipt slot (1 or 2)
+     * @param version         Content hash the client asked for, if any
+     * @return The stored receipt file
+     */
+    @Transactional(readOnly = true)
+    public FileDownloadService.StoredFile getReceiptFile(String reimbursementId, int slot, String version) {
+        ReimbursementRequestEntity request = reimbursementRequestRepository.findById(reimbursementId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Reimbursement request not found with ID: " + reimbursementId));
+
+        if (!isAuthorizedToAccessRequest(request)) {
+            throw new ResponseStatusException(
+                    HttpStatus.FORBIDDEN, "You don't have permission to access this reimbursement request");
         }
+
+        ReimbursementReceiptEntity receipt = reimbursementReceiptRepository.findByReimbursementRequestAndSlot(request, slot)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Receipt not found"));
+        String hash = receipt.getContentHash();
+        return new FileDownloadService.StoredFile(
+                blobStore.resource(hash), receipt.getFileType(), receipt.getFileName(), hash, hash.equals(version));
+    }
+
+    /**
+     * Store an uploaded receipt and attach it to a slot of the request
+     */
+    private void attachReceipt(ReimbursementRequestEntity request, int slot, MultipartFile file) {
+        UploadService.StoredUpload upload = uploadService.store(file, UploadService.UploadPolicy.RECEIPT);
+        attachReceipt(request, slot, upload, file.getOriginalFilename());
+    }
+
+    /**
+     * Store a receipt sent as bytes in a JSON body and attach it to a slot of the request
+     */
+    private void attachReceipt(ReimbursementRequestEntity request, int slot, byte[] content) {
+        UploadService.StoredUpload upload = uploadService.store(
+                new ByteArrayInputStream(content), content.length, null, UploadService.UploadPolicy.RECEIPT);
+        attachReceipt(request, slot, upload, null);
+    }
+
+    private void attachReceipt(ReimbursementRequestEntity request, int slot, UploadService.StoredUpload upload, String fileName) {
+        // Replace the receipt in the slot, if any. Its blob may be shared, so it is left
+        // for the unreferenced blob sweep.
+        ReimbursementReceiptEntity receipt = request.getReceipts().stream()
+                .filter(r -> r.getSlot() == slot)
+                .findFirst()
+                .orElseGet(() -> {
+                    ReimbursementReceiptEntity created = new ReimbursementReceiptEntity();
+                    created.setReimbursementRequest(request);
+                    created.setSlot(slot);
+                    request.getReceipts().add(created);
+                    return created;
+                });
+        receipt.setContentHash(upload.hash());
+        receipt.setFileSize(upload.size());
+        receipt.setFileType(upload.contentType());
+        receipt.setFileName(fileName != null ? fileName : "receipt-" + slot);
+        receipt.setUploadedAt(LocalDateTime.now());
     }
 
     /**
@@ -446,6 +536,38 @@ public class ReimbursementRequestService {
      * @return Reimbursement request DTO
      */
     private ReimbursementRequestDTO convertToDTO(ReimbursementRequestEntity request) {
+        return convertToDTO(request, request.getReceipts());
+    }
+
+    /**
+     * Convert a list of requests, loading the receipt metadata of all rows in one query
+     */
+    private List<ReimbursementRequestDTO> convertToDTOs(List<ReimbursementRequestEntity> requests) {
+        Map<String, List<ReimbursementReceiptEntity>> receipts = loadReceipts(requests);
+        return requests.stream()
+                .map(request -> convertToDTO(request, receipts.getOrDefault(request.getReimbursementId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a page of requests, loading the receipt metadata of all rows in one query
+     */
+    private Page<ReimbursementRequestDTO> convertToDTOs(Page<ReimbursementRequestEntity> requests) {
+        Map<String, List<ReimbursementReceiptEntity>> receipts = loadReceipts(requests.getContent());
+        return requests.map(request ->
+                convertToDTO(request, receipts.getOrDefault(request.getReimbursementId(), List.of())));
+    }
+
+    private Map<String, List<ReimbursementReceiptEntity>> loadReceipts(List<ReimbursementRequestEntity> requests) {
+        if (requests.isEmpty()) {
+            return Map.of();
+        }
+        return reimbursementReceiptRepository.findByReimbursementRequestInOrderBySlotAsc(requests).stream()
+                .collect(Collectors.groupingBy(receipt -> receipt.getReimbursementRequest().getReimbursementId()));
+    }
+
+    private ReimbursementRequestDTO convertToDTO(
+            ReimbursementRequestEntity request, List<ReimbursementReceiptEntity> receipts) {
         ReimbursementRequestDTO dto = new ReimbursementRequestDTO();
         dto.setReimbursementId(request.getReimbursementId());
         dto.setEmployeeId(request.getEmployee().getEmployeeId());
@@ -453,8 +575,15 @@ public class ReimbursementRequestService {
         dto.setRequestDate(request.getRequestDate());
         dto.setExpenseDate(request.getExpenseDate());
         dto.setAmountRequested(request.getAmountRequested());
-        dto.setReceiptImage1(request.getReceiptImage1());
-        dto.setReceiptImage2(request.getReceiptImage2());
+        dto.setReceipts(receipts.stream()
+                .map(receipt -> new ReimbursementReceiptDTO(
+                        receipt.getSlot(),
+                        receipt.getFileName(),
+                        receipt.getFileType(),
+                        receipt.getFileSize(),
+                        receipt.getContentHash(),
+                        receipt.getUploadedAt()))
+                .collect(Collectors.toList()));
         dto.setReason(request.getReason());
         dto.setStatus(request.getStatus());
         
@@ -0,0 +1,339 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.DTO.ApplicantSearchResultDTO;
+import cit.edu.workforce.Entity.ResumeTextEntity;
+import cit.edu.workforce.Repository.ResumeTextRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * ResumeIndexService - Full-text index over applicant resumes
+ * New file: Text is extracted from resume PDFs with PDFBox on a background worker and stored in
+ * resume_text, where PostgreSQL tokenizes and stems it into a GIN-indexed tsvector. Saving a
+ * resume queues its applicant once the transaction commits, and a periodic sweep indexes anything
+ * the queue missed (restarts, a full queue, resumes moved over by the legacy migration).
+ * Searches use websearch_to_tsquery, so recruiters can type quoted phrases, OR and -exclusions.
+ * Other databases fall back to a substring match over the extracted text.
+ */
+@Service
+public class ResumeIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeIndexService.class);
+
+    // Resumes are a few pages; stop early on anything longer and keep well under the
+    // 1MB tsvector limit
+    private static final int MAX_PAGES = 20;
+    private static final int MAX_TEXT_LENGTH = 200_000;
+    private static final int SWEEP_BATCH_SIZE = 100;
+    private static final int QUEUE_CAPACITY = 1000;
+
+    // Unlikely in resume text; replaced by <mark> tags after the fragments are HTML-escaped
+    private static final String START_SEL = "[[[";
+    private static final String STOP_SEL = "]]]";
+    private static final String HEADLINE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL
+            + ", MaxFragments=3, MaxWords=18, MinWords=6, FragmentDelimiter=\" ... \"";
+
+    private static final String SEARCH_SQL =
+            "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query), " +
+            "ranked AS (" +
+            "  SELECT r.applicant_id, ts_rank_cd(r.search_vector, q.query, 32) AS rank " +
+            "  FROM resume_text r JOIN applicant a ON a.applicant_id = r.applicant_id, q " +
+            "  WHERE r.search_vector @@ q.query " +
+            "  ORDER BY rank DESC, r.applicant_id LIMIT ? OFFSET ?) " +
+            // Headlines are expensive, so they are built only for the rows on this page
+            "SELECT a.applicant_id, a.full_name, a.email, a.is_internal, a.resume_content_hash, ranked.rank, " +
+            "  ts_headline('english', r.resume_text, q.query, '" + HEADLINE_OPTIONS + "') AS highlight " +
+            "FROM ranked JOIN resume_text r ON r.applicant_id = ranked.applicant_id " +
+            "JOIN applicant a ON a.applicant_id = ranked.applicant_id, q " +
+            "ORDER BY ranked.rank DESC, ranked.applicant_id";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM resume_text r JOIN applicant a ON a.applicant_id = r.applicant_id " +
+            "WHERE r.search_vector @@ websearch_to_tsquery('english', ?)";
+
+    // Characters of resume text kept on each side of a substring match
+    private static final int FRAGMENT_CONTEXT = 60;
+
+    // Portable search: the whole query as a case-insensitive substring, unranked
+    private static final String SUBSTRING_SEARCH_SQL =
+            "SELECT a.applicant_id, a.full_name, a.email, a.is_internal, a.resume_content_hash, r.resume_text " +
+            "FROM resume_text r JOIN applicant a ON a.applicant_id = r.applicant_id " +
+            "WHERE LOWER(r.resume_text) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "ORDER BY a.full_name, a.applicant_id LIMIT ? OFFSET ?";
+
+    private static final String SUBSTRING_COUNT_SQL =
+            "SELECT COUNT(*) FROM resume_text r JOIN applicant a ON a.applicant_id = r.applicant_id " +
+            "WHERE LOWER(r.resume_text) LIKE LOWER(CONCAT('%', ?, '%'))";
+
+    // Applicants whose current resume has not been indexed yet
+    private static final String STALE_SQL =
+            "SELECT a.applicant_id FROM applicant a " +
+            "LEFT JOIN resume_text r ON r.applicant_id = a.applicant_id " +
+            "WHERE a.resume_content_hash IS NOT NULL " +
+            "AND (r.applicant_id IS NULL OR r.content_hash <> a.resume_content_hash) " +
+            "ORDER BY a.applicant_id LIMIT " + SWEEP_BATCH_SIZE;
+
+    private static final String REMOVED_SQL =
+            "DELETE FROM resume_text r WHERE NOT EXISTS " +
+            "(SELECT 1 FROM applicant a WHERE a.applicant_id = r.applicant_id AND a.resume_content_hash IS NOT NULL)";
+
+    private final ResumeTextRepository resumeTextRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+    private final DatabaseVendor databaseVendor;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ResumeIndexService(ResumeTextRepository resumeTextRepository, JdbcTemplate jdbcTemplate,
+                              BlobStore blobStore, DatabaseVendor databaseVendor) {
+        this.resumeTextRepository = resumeTextRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.blobStore = blobStore;
+        this.databaseVendor = databaseVendor;
+        // One worker: extraction is CPU bound and resumes arrive a few at a time
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resume-indexer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queue an applicant's resume for indexing once the current transaction commits
+     */
+    public void requestIndexing(String applicantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(applicantId);
+                }
+            });
+        } else {
+            submit(applicantId);
+        }
+    }
+
+    /**
+     * Drop an applicant from the index, in the caller's transaction
+     */
+    public void removeFromIndex(String applicantId) {
+        if (resumeTextRepository.existsById(applicantId)) {
+            resumeTextRepository.deleteById(applicantId);
+        }
+    }
+
+    /**
+     * Search resume text.
+     * On PostgreSQL this is a ranked full-text search; other databases fall back to an unranked
+     * substring match ordered by applicant name.
+     *
+     * @param query    Search terms in web search syntax
+     * @param pageable Pagination information; sorting is by relevance
+     * @return Matching applicants, best match first
+     */
+    public Page<ApplicantSearchResultDTO> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        if (!databaseVendor.isPostgres()) {
+            return searchBySubstring(query.trim(), pageable);
+        }
+
+        List<ApplicantSearchResultDTO> results = jdbcTemplate.query(SEARCH_SQL,
+                (rs, rowNum) -> new ApplicantSearchResultDTO(
+                        rs.getString("applicant_id"),
+                        rs.getString("full_name"),
+                        rs.getString("email"),
+                        rs.getBoolean("is_internal"),
+                        rs.getString("resume_content_hash"),
+                        rs.getDouble("rank"),
+                        highlight(rs.getString("highlight"))),
+                query, pageable.getPageSize(), pageable.getOffset());
+        return page(results, pageable, () -> countMatches(COUNT_SQL, query));
+    }
+
+    private Page<ApplicantSearchResultDTO> searchBySubstring(String query, Pageable pageable) {
+        List<ApplicantSearchResultDTO> results = jdbcTemplate.query(SUBSTRING_SEARCH_SQL,
+                (rs, rowNum) -> new ApplicantSearchResultDTO(
+                        rs.getString("applicant_id"),
+                        rs.getString("full_name"),
+                        rs.getString("email"),
+                        rs.getBoolean("is_internal"),
+                        rs.getString("resume_content_hash"),
+                        0,
+                        substringHighlight(rs.getString("resume_text"), query)),
+                query, pageable.getPageSize(), pageable.getOffset());
+        return page(results, pageable, () -> countMatches(SUBSTRING_COUNT_SQL, query));
+    }
+
+    private static Page<ApplicantSearchResultDTO> page(List<ApplicantSearchResultDTO> results, Pageable pageable,
+                                                       LongSupplier count) {
+        // A short first page already holds every match, so the count query is skipped
+        long total = pageable.getOffset() == 0 && results.size() < pageable.getPageSize()
+                ? results.size()
+                : count.getAsLong();
+        return new PageImpl<>(results, pageable, total);
+    }
+
+    private long countMatches(String countSql, String query) {
+        Long count = jdbcTemplate.queryForObject(countSql, Long.class, query);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Index resumes the queue missed and drop rows of applicants without a resume
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelay = 300_000)
+    public void indexStaleResumes() {
+        jdbcTemplate.update(REMOVED_SQL);
+        List<String> batch;
+        do {
+            batch = jdbcTemplate.queryForList(STALE_SQL, String.class);
+            // Indexed inline; failures are recorded as FAILED rows, so the loop always ends
+            batch.forEach(this::index);
+        } while (batch.size() == SWEEP_BATCH_SIZE);
+    }
+
+    private void submit(String applicantId) {
+        if (!queued.add(applicantId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                queued.remove(applicantId);
+                index(applicantId);
+            });
+        } catch (RejectedExecutionException e) {
+            // Picked up by the next sweep
+            queued.remove(applicantId);
+        }
+    }
+
+    /**
+     * Extract and store the text of an applicant's current resume
+     */
+    private void index(String applicantId) {
+        List<String> hashes = jdbcTemplate.queryForList(
+                "SELECT resume_content_hash FROM applicant WHERE applicant_id = ?", String.class, applicantId);
+        String hash = hashes.isEmpty() ? null : hashes.get(0);
+        if (hash == null) {
+            return;
+        }
+        ResumeTextEntity current = resumeTextRepository.findById(applicantId).orElse(null);
+        if (current != null && hash.equals(current.getContentHash())) {
+            return;
+        }
+
+        ResumeTextEntity resumeText = current != null ? current : new ResumeTextEntity();
+        resumeText.setApplicantId(applicantId);
+        resumeText.setContentHash(hash);
+        try {
+            resumeText.setResumeText(extractText(blobStore.resource(hash)));
+            resumeText.setStatus(ResumeTextEntity.INDEXED);
+        } catch (IOException | RuntimeException e) {
+            // Recorded so the sweep does not retry it until a new resume is uploaded
+            logger.warn("Failed to extract text from the resume of applicant {}: {}", applicantId, e.getMessage());
+            resumeText.setResumeText(null);
+            resumeText.setStatus(ResumeTextEntity.FAILED);
+        }
+
+        try {
+            resumeTextRepository.save(resumeText);
+        } catch (DataIntegrityViolationException e) {
+            // The applicant was deleted, or another instance indexed it first
+            logger.debug("Skipped indexing the resume of applicant {}: {}", applicantId, e.getMessage());
+        }
+    }
+
+    private static String extractText(Resource resource) throws IOException {
+        try (PDDocument document = resource.isFile()
+                ? Loader.loadPDF(resource.getFile())
+                : Loader.loadPDF(new RandomAccessReadBuffer(resource.getInputStream()))) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            stripper.setEndPage(MAX_PAGES);
+            String text = stripper.getText(document)
+                    // PostgreSQL text cannot hold NUL characters
+                    .replace('\u0000', ' ')
+                    .replaceAll("[ \\t\\x0B\\f\\r]+", " ");
+            return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        }
+    }
+
+    /**
+     * Cut a fragment around the first match out of the resume text and mark the match,
+     * in the same form as the ts_headline fragments
+     */
+    private static String substringHighlight(String text, String query) {
+        if (text == null) {
+            return null;
+        }
+        int start = -1;
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                start = i;
+                break;
+            }
+        }
+        if (start < 0) {
+            return null;
+        }
+        int end = start + query.length();
+        int from = Math.max(0, start - FRAGMENT_CONTEXT);
+        int to = Math.min(text.length(), end + FRAGMENT_CONTEXT);
+        return highlight((from > 0 ? "... " : "") + text.substring(from, start)
+                + START_SEL + text.substring(start, end) + STOP_SEL
+                + text.substring(end, to) + (to < text.length() ? " ..." : ""));
+    }
+
+    /**
+     * Escape the resume text, which comes from an untrusted file, then mark the matches
+     */
+    private static String highlight(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(START_SEL, "<mark>")
+                .replace(STOP_SEL, "</mark>");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,169 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.DTO.ScheduledJobRunDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduledJobService - Runs scheduled jobs once across all instances
+ * New file: Every instance fires the same @Scheduled methods, so jobs that change data take a
+ * PostgreSQL session advisory lock named after the job. The instance that gets it runs the job
+ * on that same connection and the others skip the run; the lock is released when the job ends,
+ * or by the database if the connection dies. Other databases are assumed to be single-instance
+ * and only guard against overlapping runs. Durations and affected rows are published as
+ * Micrometer metrics, and the last run of each job is kept for the admin API.
+ */
+@Service
+public class ScheduledJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledJobService.class);
+
+    public static final String COMPLETED = "COMPLETED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String FAILED = "FAILED";
+
+    /**
+     * Work done under the lock
+     */
+    @FunctionalInterface
+    public interface Job {
+
+        /**
+         * @param jdbcTemplate Runs statements on the connection holding the lock, each one
+         *                     committed on its own
+         * @return Number of rows affected
+         */
+        int run(JdbcTemplate jdbcTemplate);
+    }
+
+    private static final class Stats {
+        private volatile ScheduledJobRunDTO lastRun;
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseVendor databaseVendor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ScheduledJobService(JdbcTemplate jdbcTemplate, DatabaseVendor databaseVendor, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseVendor = databaseVendor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Run a job unless it is already running here or on another instance.
+     * Failures are logged and recorded rather than thrown, like any scheduled method.
+     *
+     * @param jobName Unique job name; also the lock and metric tag
+     * @param job     The work
+     * @return Rows affected, or -1 if the job was skipped or failed
+     */
+    public int runExclusively(String jobName, Job job) {
+        Stats jobStats = stats.computeIfAbsent(jobName, name -> new Stats());
+        if (!running.add(jobName)) {
+            record(jobName, jobStats, SKIPPED, LocalDateTime.now(), 0, 0, null);
+            return -1;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        try {
+            Integer rows = databaseVendor.isPostgres()
+                    ? jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                        JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                        if (!Boolean.TRUE.equals(locked.queryForObject(
+                                "SELECT pg_try_advisory_lock(hashtext(?))", Boolean.class, lockName(jobName)))) {
+                            return null;
+                        }
+                        try {
+                            return job.run(locked);
+                        } finally {
+                            locked.queryForObject("SELECT pg_advisory_unlock(hashtext(?))", Boolean.class, lockName(jobName));
+                        }
+                    })
+                    : Integer.valueOf(job.run(jdbcTemplate));
+            long durationNanos = System.nanoTime() - start;
+
+            if (rows == null) {
+                logger.debug("Skipped {}: running on another instance", jobName);
+                record(jobName, jobStats, SKIPPED, startedAt, durationNanos, 0, null);
+                return -1;
+            }
+            record(jobName, jobStats, COMPLETED, startedAt, durationNanos, rows, null);
+            if (rows > 0) {
+                logger.info("{} updated {} rows", jobName, rows);
+            }
+            return rows;
+        } catch (RuntimeException e) {
+            logger.error("Scheduled job {} failed: {}", jobName, e.getMessage(), e);
+            record(jobName, jobStats, FAILED, startedAt, System.nanoTime() - start, 0, e.getMessage());
+            return -1;
+        } finally {
+            running.remove(jobName);
+        }
+    }
+
+    /**
+     * Last run of every job that has run on this instance
+     */
+    public List<ScheduledJobRunDTO> getLastRuns() {
+        return stats.values().stream()
+                .map(jobStats -> jobStats.lastRun)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(ScheduledJobRunDTO::getJobName))
+                .toList();
+    }
+
+    private void record(String jobName, Stats jobStats, String outcome, LocalDateTime startedAt,
+                        long durationNanos, int rows, String error) {
+        switch (outcome) {
+            case COMPLETED -> jobStats.completed.incrementAndGet();
+            case SKIPPED -> jobStats.skipped.incrementAndGet();
+            default -> jobStats.failed.incrementAndGet();
+        }
+        jobStats.lastRun = new ScheduledJobRunDTO(jobName, outcome, startedAt, durationNanos / 1_000_000, rows, error,
+                jobStats.completed.get(), jobStats.skipped.get(), jobStats.failed.get());
+
+        Timer.builder("scheduled.job.duration")
+                .description("Scheduled job run time")
+                .tag("job", jobName)
+                .tag("outcome", outcome.toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(durationNanos));
+        Counter.builder("scheduled.job.rows")
+                .description("Rows changed by scheduled jobs")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    private static String lockName(String jobName) {
+        return "workforce.job." + jobName;
+    }
+}
@@ -0,0 +1,325 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.SyncResponseDTO;
+import cit.edu.workforce.Entity.ChangeTracked;
+import cit.edu.workforce.Entity.EmployeeEntity;
+import cit.edu.workforce.Entity.SyncTombstoneEntity;
+import cit.edu.workforce.Repository.BenefitEnrollmentRepository;
+import cit.edu.workforce.Repository.BenefitPlanRepository;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.LeaveRequestRepository;
+import cit.edu.workforce.Repository.OvertimeRequestRepository;
+import cit.edu.workforce.Repository.SyncTombstoneRepository;
+import cit.edu.workforce.Repository.TrainingEnrollmentRepository;
+import cit.edu.workforce.Repository.TrainingProgramRepository;
+import cit.edu.workforce.Utils.ChangeVersionClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SyncService - Service for delta sync of mobile client data
+ * New file: Returns the rows of a resource changed or deleted after a client's last
+ * change version, so clients refresh incrementally instead of re-downloading lists.
+ * HR and admins sync every row; employees sync their own rows plus shared catalogs.
+ */
+@Service
+public class SyncService {
+
+    public static final List<String> RESOURCES = List.of(
+            "employees", "leave-requests", "overtime-requests", "benefit-plans",
+            "benefit-enrollments", "training-programs", "training-enrollments");
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
+    // Versions are stamped before commit, so a row can become visible with a version
+    // slightly older than rows already synced. The high-water mark trails the clock by
+    // this window so such late commits are re-sent instead of skipped.
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(30);
+
+    // Clients whose last sync is older than this may have missed purged tombstones
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(90);
+
+    private static final int DEFAULT_LIMIT = 200;
+    private static final int MAX_LIMIT = 1000;
+
+    private static final List<String> TRACKED_TABLES = List.of(
+            "employee", "leave_request", "overtime_request", "benefit_plan",
+            "benefit_enrollment", "training_program", "training_enrollment");
+
+    private final EmployeeRepository employeeRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final OvertimeRequestRepository overtimeRequestRepository;
+    private final BenefitPlanRepository benefitPlanRepository;
+    private final BenefitEnrollmentRepository benefitEnrollmentRepository;
+    private final TrainingProgramRepository trainingProgramRepository;
+    private final TrainingEnrollmentRepository trainingEnrollmentRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final EmployeeService employeeService;
+    private final LeaveService leaveService;
+    private final OvertimeService overtimeService;
+    private final BenefitPlanService benefitPlanService;
+    private final BenefitEnrollmentService benefitEnrollmentService;
+    private final TrainingProgramService trainingProgramService;
+    private final TrainingEnrollmentService trainingEnrollmentService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SyncService(
+            EmployeeRepository employeeRepository,
+            LeaveRequestRepository leaveRequestRepository,
+            OvertimeRequestRepository overtimeRequestRepository,
+            BenefitPlanRepository benefitPlanRepository,
+            BenefitEnrollmentRepository benefitEnrollmentRepository,
+            TrainingProgramRepository trainingProgramRepository,
+            TrainingEnrollmentRepository trainingEnrollmentRepository,
+            SyncTombstoneRepository syncTombstoneRepository,
+            EmployeeService employeeService,
+            LeaveService leaveService,
+            OvertimeService overtimeService,
+            BenefitPlanService benefitPlanService,
+            BenefitEnrollmentService benefitEnrollmentService,
+            TrainingProgramService trainingProgramService,
+            TrainingEnrollmentService trainingEnrollmentService,
+            JdbcTemplate jdbcTemplate) {
+        this.employeeRepository = employeeRepository;
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.overtimeRequestRepository = overtimeRequestRepository;
+        this.benefitPlanRepository = benefitPlanRepository;
+        this.benefitEnrollmentRepository = benefitEnrollmentRepository;
+        this.trainingProgramRepository = trainingProgramRepository;
+        this.trainingEnrollmentRepository = trainingEnrollmentRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.employeeService = employeeService;
+        this.leaveService = leaveService;
+        this.overtimeService = overtimeService;
+        this.benefitPlanService = benefitPlanService;
+        this.benefitEnrollmentService = benefitEnrollmentService;
+        this.trainingProgramService = trainingProgramService;
+        this.trainingEnrollmentService = trainingEnrollmentService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get the changes of a resource after the given sync position.
+     * A since of 0 performs the initial full download, paged by limit.
+     * sinceId is the high-water mark id of the previous page, or null when the mark ends a whole version.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDTO<?> getChanges(String resource, long since, String sinceId, Integer limit) {
+        if (since < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "since must not be negative");
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        boolean privileged = isHrOrAdmin();
+        EmployeeEntity employee = privileged ? null : getCurrentEmployee();
+        String ownerId = privileged ? null : employee.getEmployeeId();
+
+        switch (resource) {
+            case "employees":
+                return buildChanges(resource, since, sinceId, pageSize, ownerId,
+                        (version, afterId, page) -> privileged
+                                ? employeeRepository.findChangedAfter(version, afterId, page)
+                                : changedAfter(employee, version, afterId),
+                        employeeService::convertToDTO);
+            case "leave-requests":
+                return buildChanges(resource, since, sinceId, pageSize, ownerId,
+                        (version, afterId, page) -> privileged
+                                ? leaveRequestRepository.findChangedAfter(version, afterId, page)
+                                : leaveRequestRepository.findChangedAfterByEmployee(employee, version, afterId, page),
+                        leaveService::convertToDTO);
+            case "overtime-requests":
+                return buildChanges(resource, since, sinceId, pageSize, ownerId,
+                        (version, afterId, page) -> privileged
+                                ? overtimeRequestRepository.findChangedAfter(version, afterId, page)
+                                : overtimeRequestRepository.findChangedAfterByEmployee(employee, version, afterId, page),
+                        overtimeService::convertToDTO);
+            case "benefit-plans":
+                return buildChanges(resource, since, sinceId, pageSize, null,
+                        benefitPlanRepository::findChangedAfter,
+                        benefitPlanService::convertToDTO);
+            case "benefit-enrollments":
+                return buildChanges(resource, since, sinceId, pageSize, ownerId,
+                        (version, afterId, page) -> privileged
+                                ? benefitEnrollmentRepository.findChangedAfter(version, afterId, page)
+                                : benefitEnrollmentRepository.findChangedAfterByEmployee(employee, version, afterId, page),
+                        benefitEnrollmentService::convertToDTO);
+            case "training-programs":
+                return buildChanges(resource, since, sinceId, pageSize, null,
+                        trainingProgramRepository::findChangedAfter,
+                        trainingProgramService::convertToDTO);
+            case "training-enrollments":
+                return buildChanges(resource, since, sinceId, pageSize, ownerId,
+                        (version, afterId, page) -> privileged
+                                ? trainingEnrollmentRepository.findChangedAfter(version, afterId, page)
+                                : trainingEnrollmentRepository.findChangedAfterByEmployee(employee, version, afterId, page),
+                        trainingEnrollmentService::convertToDTO);
+            default:
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Unknown sync resource: " + resource + ". Supported: " + String.join(", ", RESOURCES));
+        }
+    }
+
+    /**
+     * Backfill a change version for rows written before change tracking existed,
+     * so the initial sync (since = 0) still returns them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillChangeVersions() {
+        for (String table : TRACKED_TABLES) {
+            jdbcTemplate.update("UPDATE " + table + " SET change_version = 1 WHERE change_version IS NULL");
+        }
+    }
+
+    /**
+     * Purge tombstones older than the retention window.
+     * Clients that last synced before the window are told to resync fully.
+     */
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Manila")
+    @Transactional
+    public int purgeExpiredTombstones() {
+        return syncTombstoneRepository.deleteByDeletedAtBefore(
+                LocalDateTime.now(ZONE_ID).minus(TOMBSTONE_RETENTION));
+    }
+
+    private <E extends ChangeTracked, D> SyncResponseDTO<D> buildChanges(
+            String resource, long since, String sinceId, int limit, String ownerId,
+            ChangeLoader<E> loader, Function<E, D> converter) {
+        Instant now = Instant.now();
+        // Marks with an id are only handed out mid-walk and may sit deep in old rows, such as
+        // backfilled ones; only a version mark dates the client's last completed sync
+        boolean fullResync = sinceId == null && since > 0
+                && since < ChangeVersionClock.toVersion(now.minus(TOMBSTONE_RETENTION));
+        SyncPosition from = fullResync ? new SyncPosition(0, null) : new SyncPosition(since, sinceId);
+
+        // Fetch one extra row to learn whether another page follows
+        Pageable window = PageRequest.of(0, limit + 1);
+        long afterVersion = from.afterVersion();
+        String afterId = from.afterId();
+        List<E> rows = loader.load(afterVersion, afterId, window);
+        List<SyncTombstoneEntity> tombstones = from.version() == 0
+                ? List.of()
+                : ownerId == null
+                        ? syncTombstoneRepository.findChangedAfter(resource, afterVersion, afterId, window)
+                        : syncTombstoneRepository.findChangedAfterByOwner(resource, ownerId, afterVersion, afterId, window);
+
+        // Upserts and deletes are paged together: stop both at the lower of the two page ends.
+        // Pages end on a (version, id) position, so many rows sharing one version, such as
+        // backfilled rows or rows stamped on different nodes, still span several pages.
+        SyncPosition cut = null;
+        if (rows.size() > limit) {
+            E last = rows.get(limit - 1);
+            cut = new SyncPosition(last.getChangeVersion(), last.syncId());
+        }
+        if (tombstones.size() > limit) {
+            SyncTombstoneEntity last = tombstones.get(limit - 1);
+            cut = SyncPosition.min(cut, new SyncPosition(last.getChangeVersion(), last.getEntityId()));
+        }
+        boolean hasMore = cut != null;
+        SyncPosition pageEnd = cut;
+
+        SyncPosition lagged = new SyncPosition(ChangeVersionClock.toVersion(now.minus(COMMIT_LAG)), null);
+        SyncPosition highWaterMark = hasMore ? SyncPosition.min(cut, lagged) : lagged;
+        if (highWaterMark.compareTo(from) <= 0) {
+            // Never hand back a mark that would make the client fetch the same page again
+            highWaterMark = hasMore ? cut : from;
+        }
+
+        SyncResponseDTO<D> response = new SyncResponseDTO<>();
+        response.setResource(resource);
+        response.setSince(since);
+        response.setHighWaterMark(highWaterMark.version());
+        response.setHighWaterMarkId(highWaterMark.id());
+        response.setHasMore(hasMore);
+        response.setFullResync(fullResync);
+        response.setUpserts(rows.stream()
+                .filter(row -> pageEnd == null || new SyncPosition(row.getChangeVersion(), row.syncId()).compareTo(pageEnd) <= 0)
+                .map(converter)
+                .collect(Collectors.toList()));
+        response.setDeletedIds(tombstones.stream()
+                .filter(tombstone -> pageEnd == null
+                        || new SyncPosition(tombstone.getChangeVersion(), tombstone.getEntityId()).compareTo(pageEnd) <= 0)
+                .map(SyncTombstoneEntity::getEntityId)
+                .distinct()
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    private List<EmployeeEntity> changedAfter(EmployeeEntity employee, long version, String afterId) {
+        Long changeVersion = employee.getChangeVersion();
+        return changeVersion != null && (changeVersion > version
+                || changeVersion == version && employee.getEmployeeId().compareTo(afterId) > 0)
+                ? List.of(employee)
+                : List.of();
+    }
+
+    private boolean isHrOrAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_HR"));
+    }
+
+    private EmployeeEntity getCurrentEmployee() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return employeeRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Employee not found"));
+    }
+
+    @FunctionalInterface
+    private interface ChangeLoader<E> {
+        List<E> load(long version, String afterId, Pageable page);
+    }
+
+    /**
+     * A position in the change feed: everything up to (version, id) has been delivered.
+     * A null id means the whole version has been delivered.
+     */
+    private record SyncPosition(long version, String id) implements Comparable<SyncPosition> {
+
+        static SyncPosition min(SyncPosition a, SyncPosition b) {
+            return a == null || b.compareTo(a) < 0 ? b : a;
+        }
+
+        // Versions are whole numbers, so "after all of version v" is "from the first id of v + 1"
+        long afterVersion() {
+            return id == null ? version + 1 : version;
+        }
+
+        String afterId() {
+            return id == null ? "" : id;
+        }
+
+        @Override
+        public int compareTo(SyncPosition other) {
+            if (version != other.version) {
+                return Long.compare(version, other.version);
+            }
+            if (id == null || other.id == null) {
+                return id == null ? (other.id == null ? 0 : 1) : -1;
+            }
+            return id.compareTo(other.id);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.BlobThumbnailEntity;
+import cit.edu.workforce.Repository.BlobThumbnailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ThumbnailService - Background thumbnail generation for uploaded files
+ * New file: Reviewers glance at receipts, documents and certificates far more often than they
+ * read them, so a small JPEG preview is rendered after upload: a downscaled copy for images and
+ * the first page for PDFs. Work runs on a small bounded pool after the upload commits, never on
+ * the request thread. A thumbnail requested before it is ready waits briefly for the render.
+ * Metrics: thumbnails.queue.size, thumbnails.active, thumbnails.generation (timer by outcome)
+ * and thumbnails.rejected.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private static final int MAX_EDGE = 320;
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final Set<String> IMAGE_TYPES = Set.of("image/png", "image/jpeg", "image/gif");
+    private static final String PDF = "application/pdf";
+
+    // Rendering is CPU and memory heavy; keep it off most cores and cap the backlog
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 500;
+    private static final long REQUEST_WAIT_SECONDS = 5;
+
+    private final BlobStore blobStore;
+    private final BlobThumbnailRepository blobThumbnailRepository;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<BlobThumbnailEntity>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    @Autowired
+    public ThumbnailService(BlobStore blobStore, BlobThumbnailRepository blobThumbnailRepository,
+                            MeterRegistry meterRegistry) {
+        this.blobStore = blobStore;
+        this.blobThumbnailRepository = blobThumbnailRepository;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(WORKERS, WORKERS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("thumbnails.queue.size", executor, e -> e.getQueue().size())
+                .description("Thumbnails waiting to be generated")
+                .register(meterRegistry);
+        Gauge.builder("thumbnails.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Thumbnails being generated")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("thumbnails.rejected")
+                .description("Thumbnail jobs dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a thumbnail can be generated for this file type
+     */
+    public static boolean supports(String contentType) {
+        return contentType != null && (IMAGE_TYPES.contains(contentType) || PDF.equals(contentType));
+    }
+
+    /**
+     * Queue thumbnail generation for a stored blob once the current transaction commits
+     */
+    public void requestThumbnail(String sourceHash, String contentType) {
+        if (!supports(contentType)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(sourceHash, contentType);
+                }
+            });
+        } else {
+            submit(sourceHash, contentType);
+        }
+    }
+
+    /**
+     * Get the thumbnail of a file that the caller has already resolved and authorized
+     *
+     * @param source  The original file, whose ETag is its content hash
+     * @param version Source content hash the client asked for, if any
+     */
+    public FileDownloadService.StoredFile getThumbnailFile(FileDownloadService.StoredFile source, String version) {
+        return getThumbnailFile(source.etag(), source.contentType(), source.fileName(), version);
+    }
+
+    /**
+     * Get the thumbnail of a stored blob for download
+     *
+     * @param sourceHash  Content hash of the original file
+     * @param contentType Type of the original file
+     * @param fileName    Name of the original file
+     * @param version     Source content hash the client asked for, if any
+     */
+    public FileDownloadService.StoredFile getThumbnailFile(String sourceHash, String contentType, String fileName,
+                                                           String version) {
+        if (sourceHash == null || !supports(contentType)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No thumbnail for this file type");
+        }
+
+        BlobThumbnailEntity thumbnail = blobThumbnailRepository.findById(sourceHash)
+                .orElseGet(() -> awaitThumbnail(sourceHash, contentType));
+        if (!BlobThumbnailEntity.READY.equals(thumbnail.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Thumbnail could not be generated for this file");
+        }
+
+        String baseName = fileName != null && fileName.contains(".")
+                ? fileName.substring(0, fileName.lastIndexOf('.'))
+                : (fileName != null ? fileName : sourceHash);
+        return new FileDownloadService.StoredFile(
+                blobStore.resource(thumbnail.getThumbnailHash()),
+                "image/jpeg",
+                baseName + "-thumbnail.jpg",
+                thumbnail.getThumbnailHash(),
+                sourceHash.equals(version));
+    }
+
+    private BlobThumbnailEntity awaitThumbnail(String sourceHash, String contentType) {
+        CompletableFuture<BlobThumbnailEntity> future = submit(sourceHash, contentType);
+        try {
+            return future.get(REQUEST_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Thumbnail is not ready yet");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Thumbnail is not ready yet");
+        }
+    }
+
+    /**
+     * Submit a job unless one is already queued or running for the same source
+     */
+    private CompletableFuture<BlobThumbnailEntity> submit(String sourceHash, String contentType) {
+        CompletableFuture<BlobThumbnailEntity> created = new CompletableFuture<>();
+        CompletableFuture<BlobThumbnailEntity> existing = inFlight.putIfAbsent(sourceHash, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(generate(sourceHash, contentType));
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(sourceHash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Generated on the next request for it instead
+            rejected.increment();
+            inFlight.remove(sourceHash);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private BlobThumbnailEntity generate(String sourceHash, String contentType) {
+        Optional<BlobThumbnailEntity> existing = blobThumbnailRepository.findById(sourceHash);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        BlobThumbnailEntity thumbnail = new BlobThumbnailEntity();
+        thumbnail.setSourceHash(sourceHash);
+        try {
+            BufferedImage image = PDF.equals(contentType)
+                    ? renderFirstPage(blobStore.resource(sourceHash))
+                    : readImage(blobStore.resource(sourceHash));
+            if (image == null) {
+                thumbnail.setStatus(BlobThumbnailEntity.FAILED);
+            } else {
+                BufferedImage scaled = scale(image);
+                BlobStore.StoredBlob blob = blobStore.put(new ByteArrayInputStream(toJpeg(scaled)));
+                thumbnail.setThumbnailHash(blob.hash());
+                thumbnail.setWidth(scaled.getWidth());
+                thumbnail.setHeight(scaled.getHeight());
+                thumbnail.setStatus(BlobThumbnailEntity.READY);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to generate thumbnail for blob {}: {}", sourceHash, e.getMessage());
+            thumbnail.setStatus(BlobThumbnailEntity.FAILED);
+        } finally {
+            sample.stop(meterRegistry.timer("thumbnails.generation",
+                    "type", PDF.equals(contentType) ? "pdf" : "image",
+                    "outcome", thumbnail.getStatus() == null ? "error" : thumbnail.getStatus().toLowerCase()));
+        }
+
+        try {
+            return blobThumbnailRepository.save(thumbnail);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored it first
+            return blobThumbnailRepository.findById(sourceHash).orElse(thumbnail);
+        }
+    }
+
+    /**
+     * Decode an image, subsampling large sources while reading so a full resolution copy
+     * never has to fit in memory
+     */
+    private BufferedImage readImage(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream();
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // Keep about twice the target size so the final scale step stays smooth
+                int step = Math.max(1, longest / (MAX_EDGE * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage renderFirstPage(Resource resource) throws IOException {
+        try (PDDocument document = resource.isFile()
+                ? Loader.loadPDF(resource.getFile())
+                : Loader.loadPDF(new RandomAccessReadBuffer(resource.getInputStream()))) {
+            if (document.getNumberOfPages() == 0) {
+                return null;
+            }
+            PDRectangle box = document.getPage(0).getCropBox();
+            float scale = MAX_EDGE / Math.max(box.getWidth(), box.getHeight());
+            return new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source) {
+        double factor = Math.min(1.0, (double) MAX_EDGE / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * factor));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha channel, so transparent areas become white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
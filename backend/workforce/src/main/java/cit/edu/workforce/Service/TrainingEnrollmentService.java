@@ -20,6 +20,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
@@ -41,6 +42,8 @@ public class TrainingEnrollmentService {
     private final TrainingProgramRepository trainingProgramRepository;
     private final EventRepository eventRepository;
     private final CertificateRepository certificateRepository;
+    private final UploadService uploadService;
+    private final BlobStore blobStore;
     
     /**
      * Create a new training enrollment for a training program
@@ -288,6 +291,74 @@ public class TrainingEnrollmentService {
         certificate.setRemarks(certificateDTO.getRemarks());
         certificate.setTrainingEnrollment(enrollment);
         
+        return saveCertificate(enrollment, certificate);
+    }
+
+    /**
+     * Upload a certificate file to an enrollment
+     *
+     * @param enrollmentId The enrollment ID
+     * @param file The certificate file (PDF or image)
+     * @param remarks Optional remarks
+     * @return The updated enrollment DTO
+     */
+    @Transactional
+    public TrainingEnrollmentDTO uploadCertificate(String enrollmentId, MultipartFile file, String remarks) {
+        TrainingEnrollmentEntity enrollment = trainingEnrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Enrollment not found"));
+
+        UploadService.StoredUpload upload = uploadService.store(file, UploadService.UploadPolicy.CERTIFICATE);
+
+        CertificateEntity certificate = new CertificateEntity();
+        certificate.setFilePath(file.getOriginalFilename() != null ? file.getOriginalFilename() : upload.hash());
+        certificate.setContentHash(upload.hash());
+        certificate.setFileSize(upload.size());
+        certificate.setFileType(upload.contentType());
+        certificate.setStatus("Pending");
+        certificate.setRemarks(remarks);
+        certificate.setTrainingEnrollment(enrollment);
+
+        return saveCertificate(enrollment, certificate);
+    }
+
+    /**
+     * Get an uploaded certificate file for download
+     *
+     * @param certificateId The certificate ID
+     * @param version Content hash the client asked for, if any
+     * @return The stored certificate file
+     */
+    @Transactional(readOnly = true)
+    public FileDownloadService.StoredFile getCertificateFile(String certificateId, String version) {
+        CertificateEntity certificate = certificateRepository.findById(certificateId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificate not found"));
+        if (certificate.getContentHash() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Certificate has no uploaded file");
+        }
+
+        String hash = certificate.getContentHash();
+        return new FileDownloadService.StoredFile(
+                blobStore.resource(hash), certificate.getFileType(), certificate.getFilePath(), hash, hash.equals(version));
+    }
+
+    /**
+     * Check if the current user is the employee enrolled for a certificate
+     *
+     * @param certificateId The certificate ID
+     * @return true if the certificate belongs to the current user's enrollment
+     */
+    @Transactional(readOnly = true)
+    public boolean isCertificateOwner(String certificateId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        return certificateRepository.findById(certificateId)
+                .map(certificate -> certificate.getTrainingEnrollment().getEmployee().getEmail().equals(authentication.getName()))
+                .orElse(false);
+    }
+
+    private TrainingEnrollmentDTO saveCertificate(TrainingEnrollmentEntity enrollment, CertificateEntity certificate) {
         certificateRepository.save(certificate);
         
         // Update enrollment status to completed
@@ -314,7 +385,7 @@ public class TrainingEnrollmentService {
      * @param entity The entity to convert
      * @return The converted DTO
      */
-    private TrainingEnrollmentDTO convertToDTO(TrainingEnrollmentEntity entity) {
+    TrainingEnrollmentDTO convertToDTO(TrainingEnrollmentEntity entity) {
         TrainingEnrollmentDTO dto = new TrainingEnrollmentDTO();
         dto.setEnrollmentId(entity.getEnrollmentId());
         dto.setEnrolledDate(entity.getEnrolledDate());
@@ -362,6 +433,8 @@ public class TrainingEnrollmentService {
         CertificateDTO dto = new CertificateDTO();
         dto.setCertificateId(entity.getCertificateId());
         dto.setFilePath(entity.getFilePath());
+        dto.setContentHash(entity.getContentHash());
+        dto.setFileSize(entity.getFileSize());
         dto.setUploadedAt(entity.getUploadedAt());
         dto.setStatus(entity.getStatus());
         dto.setVerifiedAt(entity.getVerifiedAt());
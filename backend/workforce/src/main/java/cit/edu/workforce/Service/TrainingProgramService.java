@@ -16,8 +16,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -35,7 +37,11 @@ public class TrainingProgramService {
     private final TrainingEnrollmentRepository trainingEnrollmentRepository;
     private final UserAccountRepository userAccountRepository;
     private final EmployeeRepository employeeRepository;
+    private final JsonStreamingService jsonStreamingService;
     
+    // Same zone as the date in ConditionalRequestInterceptor's ETags for this collection
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Manila");
+
     private static final List<String> VALID_TRAINING_MODES = Arrays.asList("Online", "In-person", "Hybrid");
 
     /**
@@ -173,14 +179,13 @@ public class TrainingProgramService {
     }
 
     /**
-     * Get all training programs
+     * Stream all training programs as a JSON array or NDJSON
      * 
-     * @return List of training program DTOs
+     * @param ndjson Write one object per line instead of a JSON array
+     * @return Response body that streams the training programs
      */
-    public List<TrainingProgramDTO> getAllTrainingPrograms() {
-        return trainingProgramRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public StreamingResponseBody streamAllTrainingPrograms(boolean ndjson) {
+        return jsonStreamingService.stream(trainingProgramRepository::streamAll, this::convertToDTO, ndjson);
     }
 
     /**
@@ -216,7 +221,7 @@ public class TrainingProgramService {
      */
     @Transactional(readOnly = true)
     public List<TrainingProgramDTO> getActiveAndNotEndedTrainingPrograms() {
-        return trainingProgramRepository.findActiveAndNotEndedTrainingPrograms().stream()
+        return trainingProgramRepository.findActiveAndNotEndedTrainingPrograms(LocalDate.now(ZONE_ID)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -226,7 +231,7 @@ public class TrainingProgramService {
      */
     @Transactional(readOnly = true)
     public Page<TrainingProgramDTO> getActiveAndNotEndedTrainingPrograms(Pageable pageable) {
-        return trainingProgramRepository.findActiveAndNotEndedTrainingPrograms(pageable)
+        return trainingProgramRepository.findActiveAndNotEndedTrainingPrograms(LocalDate.now(ZONE_ID), pageable)
                 .map(this::convertToDTO);
     }
 
@@ -290,7 +295,7 @@ public class TrainingProgramService {
      * @param entity The entity to map
      * @return The mapped DTO
      */
-    private TrainingProgramDTO convertToDTO(TrainingProgramEntity entity) {
+    TrainingProgramDTO convertToDTO(TrainingProgramEntity entity) {
         TrainingProgramDTO dto = new TrainingProgramDTO();
         dto.setTrainingId(entity.getTrainingId());
         dto.setTitle(entity.getTitle());
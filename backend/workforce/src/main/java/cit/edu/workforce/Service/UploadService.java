@@ -0,0 +1,264 @@
+package cit.edu.workforce.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * UploadService - Single pass upload pipeline into the BlobStore
+ * New file: Reads an uploaded file once, without buffering it in memory. The first bytes are
+ * sniffed to detect the real file type before anything is written, then the rest is streamed
+ * into the blob store, which hashes it on the way. Size limits are enforced while reading, so
+ * an oversized upload is rejected as soon as it crosses the limit.
+ * Multipart parts themselves are spooled to disk by the servlet container, not kept in the heap.
+ */
+@Service
+public class UploadService {
+
+    private static final long MB = 1024 * 1024;
+
+    private static final String PDF = "application/pdf";
+    private static final String PNG = "image/png";
+    private static final String JPEG = "image/jpeg";
+    private static final String GIF = "image/gif";
+    private static final String WEBP = "image/webp";
+    private static final String DOC = "application/msword";
+    private static final String XLS = "application/vnd.ms-excel";
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String OLE = "application/x-ole-storage";
+    private static final String ZIP = "application/zip";
+    private static final String UNKNOWN = "application/octet-stream";
+
+    // PDFs and the old binary Office formats usually shrink under gzip; images, .docx and
+    // .xlsx are already compressed
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(PDF, DOC, XLS);
+
+    // Enough for every signature below
+    private static final int SNIFF_LENGTH = 12;
+
+    /**
+     * What an upload may contain. A policy without allowed types accepts any file, as employee
+     * documents always have; content it cannot recognise is stored as application/octet-stream.
+     */
+    public enum UploadPolicy {
+        DOCUMENT(10 * MB, "files", null, true),
+        RESUME(10 * MB, "PDF files", Set.of(PDF), false),
+        CERTIFICATE(10 * MB, "PDF or image files", Set.of(PDF, PNG, JPEG), true),
+        RECEIPT(5 * MB, "PDF or image files", Set.of(PDF, PNG, JPEG, WEBP), true);
+
+        private final long maxBytes;
+        private final String description;
+        private final Set<String> allowedTypes;
+        private final boolean thumbnails;
+
+        UploadPolicy(long maxBytes, String description, Set<String> allowedTypes, boolean thumbnails) {
+            this.maxBytes = maxBytes;
+            this.description = description;
+            this.allowedTypes = allowedTypes;
+            this.thumbnails = thumbnails;
+        }
+    }
+
+    /**
+     * A stored upload
+     *
+     * @param contentType The detected type, not the one claimed by the client
+     */
+    public record StoredUpload(String hash, long size, String contentType) {
+    }
+
+    private final BlobStore blobStore;
+    private final ThumbnailService thumbnailService;
+
+    @Autowired
+    public UploadService(BlobStore blobStore, ThumbnailService thumbnailService) {
+        this.blobStore = blobStore;
+        this.thumbnailService = thumbnailService;
+    }
+
+    /**
+     * Validate and store an uploaded file
+     *
+     * @param file   The uploaded file
+     * @param policy Limits the file must satisfy
+     * @return Hash, size and detected type of the stored content
+     */
+    public StoredUpload store(MultipartFile file, UploadPolicy policy) {
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is required");
+        }
+        try {
+            return store(file.getInputStream(), file.getSize(), file.getContentType(), policy);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validate and store file content that did not arrive as a multipart part
+     *
+     * @param content      The file content; closed when done
+     * @param declaredSize Size claimed by the client, or -1 if unknown
+     * @param declaredType MIME type claimed by the client, if any
+     * @param policy       Limits the file must satisfy
+     * @return Hash, size and detected type of the stored content
+     */
+    public StoredUpload store(InputStream content, long declaredSize, String declaredType, UploadPolicy policy) {
+        // The declared size is known up front for spooled parts, so most oversized files stop here
+        if (declaredSize > policy.maxBytes) {
+            closeQuietly(content);
+            throw tooLarge(policy);
+        }
+
+        try (PushbackInputStream in = new PushbackInputStream(content, SNIFF_LENGTH)) {
+            byte[] header = in.readNBytes(SNIFF_LENGTH);
+            if (header.length == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "File is required");
+            }
+            String contentType = detectType(header, declaredType);
+            if (policy.allowedTypes != null && !policy.allowedTypes.contains(contentType)) {
+                throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                        "Only " + policy.description + " are allowed");
+            }
+            in.unread(header);
+
+            BlobStore.StoredBlob blob = blobStore.put(new SizeLimitedInputStream(in, policy.maxBytes),
+                    isCompressible(contentType));
+            if (policy.thumbnails) {
+                // Rendered in the background once the upload's transaction commits
+                thumbnailService.requestThumbnail(blob.hash(), contentType);
+            }
+            return new StoredUpload(blob.hash(), blob.size(), contentType);
+        } catch (UploadTooLargeException e) {
+            throw tooLarge(policy);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether content of this type is worth compressing at rest
+     */
+    static boolean isCompressible(String contentType) {
+        return contentType != null && COMPRESSIBLE_TYPES.contains(contentType);
+    }
+
+    /**
+     * Detect the file type from its leading bytes. Office files share container formats
+     * (OLE for .doc/.xls, ZIP for .docx/.xlsx), so for those the declared type picks the variant.
+     * Anything else is application/octet-stream: a declared type that cannot be verified is not
+     * trusted, so an HTML or SVG upload is never served back as markup.
+     */
+    static String detectType(byte[] header, String declaredType) {
+        if (startsWith(header, '%', 'P', 'D', 'F', '-')) {
+            return PDF;
+        }
+        if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(header, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (startsWith(header, 'R', 'I', 'F', 'F') && header.length >= 12
+                && Arrays.equals(header, 8, 12, new byte[] {'W', 'E', 'B', 'P'}, 0, 4)) {
+            return WEBP;
+        }
+        if (startsWith(header, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return DOC.equals(declaredType) || XLS.equals(declaredType) ? declaredType : OLE;
+        }
+        if (startsWith(header, 'P', 'K', 0x03, 0x04)) {
+            return DOCX.equals(declaredType) || XLSX.equals(declaredType) ? declaredType : ZIP;
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean startsWith(byte[] header, int... signature) {
+        if (header.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // Nothing was read from it
+        }
+    }
+
+    private static ResponseStatusException tooLarge(UploadPolicy policy) {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "File exceeds the maximum size of " + policy.maxBytes / MB + "MB");
+    }
+
+    private static class UploadTooLargeException extends IOException {
+        UploadTooLargeException() {
+            super("Upload exceeds the size limit");
+        }
+    }
+
+    /**
+     * Fails the read that crosses the limit, which aborts the blob store write
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) throws UploadTooLargeException {
+            count += n;
+            if (count > maxBytes) {
+                throw new UploadTooLargeException();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cit.edu.workforce.Utils;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChangeVersionClock - Monotonic source of change versions for delta sync
+ * New file: Versions are epoch microseconds bumped past the last issued value, so they
+ * never go backwards within a node and still read as a timestamp. That lets the sync
+ * API reason about commit lag and tombstone retention directly from a version.
+ */
+public final class ChangeVersionClock {
+
+    private static final AtomicLong LAST_VERSION = new AtomicLong();
+
+    private ChangeVersionClock() {
+    }
+
+    /**
+     * Issue the next change version, strictly greater than any version issued before
+     */
+    public static long next() {
+        long wallClock = toVersion(Instant.now());
+        return LAST_VERSION.updateAndGet(last -> Math.max(last + 1, wallClock));
+    }
+
+    /**
+     * Convert a point in time to the version the clock would have issued at that time
+     */
+    public static long toVersion(Instant instant) {
+        return TimeUnit.SECONDS.toMicros(instant.getEpochSecond())
+                + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+    }
+}
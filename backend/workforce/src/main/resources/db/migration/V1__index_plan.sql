@@ -0,0 +1,128 @@
+-- Index plan derived from the repository finders.
+--
+-- Columns already declared unique on the entities (employee.email, employee.id_number,
+-- user_account.email_address, applicant.email, refresh_token.token, refresh_token.user_id,
+-- email_domain_list.domain_name) are backed by their unique constraints and are not repeated here.
+-- Boolean flags (is_active, employee.status) are too unselective to index on their own.
+-- Tiny lookup tables (role, job_title, benefit_plan) are left to sequential scans.
+
+-- attendance_record: findByEmployeeAndDate, findByEmployee, findByEmployeeAndDateBetween,
+-- countByEmployeeAndDateBetweenAndStatus, overtime hour sums per employee and date range
+CREATE INDEX IF NOT EXISTS idx_attendance_record_emp_id_date ON attendance_record (emp_id, date);
+-- findByDate, findByDateAndStatus (daily attendance board)
+CREATE INDEX IF NOT EXISTS idx_attendance_record_date_status ON attendance_record (date, status);
+
+-- leave_request: findByEmployee, countActiveLeaveRequests
+CREATE INDEX IF NOT EXISTS idx_leave_request_emp_id_dates ON leave_request (emp_id, start_date, end_date);
+-- findByStatus (HR review queue)
+CREATE INDEX IF NOT EXISTS idx_leave_request_status ON leave_request (status);
+
+-- overtime_request: findByEmployee, findByEmployeeAndDate, approved hour sums per date range
+CREATE INDEX IF NOT EXISTS idx_overtime_request_emp_id_date ON overtime_request (emp_id, date);
+-- findByStatus (HR review queue)
+CREATE INDEX IF NOT EXISTS idx_overtime_request_status ON overtime_request (status);
+
+-- reimbursement_request: findByEmployee, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_reimbursement_request_emp_id_status ON reimbursement_request (emp_id, status);
+-- findByStatus (HR review queue)
+CREATE INDEX IF NOT EXISTS idx_reimbursement_request_status ON reimbursement_request (status);
+-- findByExpenseDateBetween
+CREATE INDEX IF NOT EXISTS idx_reimbursement_request_expense_date ON reimbursement_request (expense_date);
+
+-- employee: findByUserAccount (every authenticated request resolves the employee)
+CREATE INDEX IF NOT EXISTS idx_employee_user_id ON employee (user_id);
+-- foreign keys used by headcount grouping, department search and parent deletes
+CREATE INDEX IF NOT EXISTS idx_employee_department_id ON employee (department_id);
+CREATE INDEX IF NOT EXISTS idx_employee_job_id ON employee (job_id);
+CREATE INDEX IF NOT EXISTS idx_employee_role_id ON employee (role_id);
+
+-- department: findByDepartmentName
+CREATE INDEX IF NOT EXISTS idx_department_department_name ON department (department_name);
+
+-- job_title: parent lookups from department
+CREATE INDEX IF NOT EXISTS idx_job_title_department_id ON job_title (department_id);
+
+-- application_record: findByJobListing, countByJobListing, findByJobListingAndStatus,
+-- countByJobListingAndStatus, findByJobListingAndStatusAndReviewedAtBetween
+CREATE INDEX IF NOT EXISTS idx_application_record_job_id_status ON application_record (job_id, status);
+-- findByApplicant, countByApplicant, findByApplicantAndJobListing
+CREATE INDEX IF NOT EXISTS idx_application_record_applicant_id_job_id ON application_record (applicant_id, job_id);
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_application_record_status ON application_record (status);
+-- findByReviewedBy
+CREATE INDEX IF NOT EXISTS idx_application_record_reviewed_by ON application_record (reviewed_by);
+
+-- applicant: findByUser
+CREATE INDEX IF NOT EXISTS idx_applicant_user_id ON applicant (user_id);
+-- findByApplicationDateBetween
+CREATE INDEX IF NOT EXISTS idx_applicant_application_date ON applicant (application_date);
+
+-- job_listing: findByIsActiveTrue, findByApplicationDeadlineAfterAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_job_listing_active_deadline ON job_listing (is_active, application_deadline);
+-- findByDepartment, findByDepartmentAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_job_listing_department_id ON job_listing (department_id);
+
+-- benefit_enrollment: findByEmployee, findByEmployeeAndBenefitPlan, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_benefit_enrollment_emp_id_plan_id ON benefit_enrollment (emp_id, plan_id);
+-- findByBenefitPlan, enrollment counts per plan
+CREATE INDEX IF NOT EXISTS idx_benefit_enrollment_plan_id ON benefit_enrollment (plan_id);
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_benefit_enrollment_status ON benefit_enrollment (status);
+
+-- benefit_dependent: findByBenefitEnrollment, countByBenefitEnrollment
+CREATE INDEX IF NOT EXISTS idx_benefit_dependent_enrollment_id ON benefit_dependent (enrollment_id);
+
+-- training_enrollment: findByEmployee, findByEmployeeAndTrainingProgram, findByEmployeeAndEvent
+CREATE INDEX IF NOT EXISTS idx_training_enrollment_emp_id ON training_enrollment (emp_id);
+-- findByTrainingProgram, countByTrainingProgram, ...AndStatus variants
+CREATE INDEX IF NOT EXISTS idx_training_enrollment_training_id_status ON training_enrollment (training_id, status);
+-- findByEvent, countByEvent, ...AndStatus variants
+CREATE INDEX IF NOT EXISTS idx_training_enrollment_event_id_status ON training_enrollment (event_id, status);
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_training_enrollment_status ON training_enrollment (status);
+
+-- training_program: findByStartDateBetween
+CREATE INDEX IF NOT EXISTS idx_training_program_start_date ON training_program (start_date);
+
+-- certificate: findByTrainingEnrollment, findByTrainingEnrollmentAndStatus, countByTrainingEnrollmentAndStatus
+CREATE INDEX IF NOT EXISTS idx_certificate_enrollment_id_status ON certificate (enrollment_id, status);
+-- findByStatus, findPendingCertificates, countPendingCertificates
+CREATE INDEX IF NOT EXISTS idx_certificate_status ON certificate (status);
+
+-- employee_certification: findByEmployee, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_employee_certification_employee_id_status ON employee_certification (employee_id, status);
+
+-- event: findByEventDatetimeBetween, findActiveAndUpcomingEvents
+CREATE INDEX IF NOT EXISTS idx_event_event_datetime ON event (event_datetime);
+-- findByCreatedBy
+CREATE INDEX IF NOT EXISTS idx_event_created_by ON event (created_by);
+
+-- feedback_complaint: findByEmployee, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_feedback_complaint_emp_id_status ON feedback_complaint (emp_id, status);
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_feedback_complaint_status ON feedback_complaint (status);
+-- findByResolver
+CREATE INDEX IF NOT EXISTS idx_feedback_complaint_resolver_id ON feedback_complaint (resolver_id);
+
+-- improvement_plan: findByEmployee, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_improvement_plan_emp_id_status ON improvement_plan (emp_id, status);
+-- findByStatus, findPlansExpiringBy
+CREATE INDEX IF NOT EXISTS idx_improvement_plan_status_end_date ON improvement_plan (status, end_date);
+
+-- performance_evaluation: findByEmployee
+CREATE INDEX IF NOT EXISTS idx_performance_evaluation_emp_id ON performance_evaluation (emp_id);
+-- findByReviewer
+CREATE INDEX IF NOT EXISTS idx_performance_evaluation_reviewer_id ON performance_evaluation (reviewer_id);
+-- findByEvaluationDateBetween
+CREATE INDEX IF NOT EXISTS idx_performance_evaluation_evaluation_date ON performance_evaluation (evaluation_date);
+
+-- documents: findByEmployee, findByEmployeeAndDocumentType, findByEmployeeAndStatus
+CREATE INDEX IF NOT EXISTS idx_documents_employee_id ON documents (employee_id);
+
+-- employee profile child tables: findByEmployee
+CREATE INDEX IF NOT EXISTS idx_educational_background_employee_id ON educational_background (employee_id);
+CREATE INDEX IF NOT EXISTS idx_emergency_contact_employee_id ON emergency_contact (employee_id);
+CREATE INDEX IF NOT EXISTS idx_identification_record_employee_id ON identification_record (employee_id);
+
+-- leave_balance: findByEmployeeEmployeeIdAndLeaveType returns a single row per employee and type
+CREATE UNIQUE INDEX IF NOT EXISTS uk_leave_balance_emp_id_leave_type ON leave_balance (emp_id, leave_type);
@@ -0,0 +1,5 @@
+-- leave_request: existsActiveOverlap.
+-- Reads an employee's requests ending on or after the new start date, so the scan covers only
+-- current and future leave rather than the employee's whole history as (emp_id, start_date) would.
+-- Schemas updated by Hibernate before this migration existed already have it.
+CREATE INDEX IF NOT EXISTS idx_leave_request_emp_id_end_date ON leave_request (emp_id, end_date);
@@ -0,0 +1,124 @@
+package cit.edu.workforce.Config;
+
+import cit.edu.workforce.Service.HeadcountAnalyticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.dao.support.PersistenceExceptionTranslationInterceptor;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * An in-memory database with the schema Hibernate generates from the entities, plus the
+ * repositories and transaction manager the application would use on it, without starting
+ * the application context. Exceptions from repositories are translated as in the application.
+ * Entity listeners record sync tombstones as usual; cache evictions go to mocks.
+ */
+public final class HibernateSchemaDatabase implements AutoCloseable {
+
+    private final DataSource dataSource;
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private final JpaTransactionManager transactionManager;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    private HibernateSchemaDatabase(String name, Map<String, Object> properties, UnaryOperator<DataSource> decorator) {
+        dataSource = decorator.apply(new DriverManagerDataSource("jdbc:h2:mem:" + name
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+                "sa", ""));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("jdbcTemplate", new JdbcTemplate(dataSource));
+        beanFactory.registerSingleton("headcountAnalyticsService", Mockito.mock(HeadcountAnalyticsService.class));
+        beanFactory.registerSingleton("resourceVersionRegistry", Mockito.mock(ResourceVersionRegistry.class));
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("cit.edu.workforce.Entity");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        Map<String, Object> jpaProperties = new HashMap<>(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.resource.beans.container", new SpringBeanContainer(beanFactory)));
+        jpaProperties.putAll(properties);
+        entityManagerFactoryBean.setJpaPropertyMap(jpaProperties);
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+        repositoryFactory.addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+            factory.addAdvice(new PersistenceExceptionTranslationInterceptor(entityManagerFactoryBean));
+            factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        });
+    }
+
+    /**
+     * Create the schema in a new in-memory database
+     *
+     * @param name Database name, unique per test class
+     */
+    public static HibernateSchemaDatabase create(String name) {
+        return new HibernateSchemaDatabase(name, Map.of(), UnaryOperator.identity());
+    }
+
+    /**
+     * Create the schema without foreign key constraints, for checking query plans.
+     * H2 indexes every foreign key on its own and PostgreSQL does not, so with them in place
+     * lookups by a foreign key would use an index even where the index plan has none.
+     *
+     * @param name      Database name, unique per test class
+     * @param decorator Wraps the data source the repositories use, e.g. to record statements
+     */
+    static HibernateSchemaDatabase createWithoutForeignKeys(String name, UnaryOperator<DataSource> decorator) {
+        return new HibernateSchemaDatabase(name, Map.of("hibernate.hbm2ddl.default_constraint_mode", "NO_CONSTRAINT"), decorator);
+    }
+
+    public <R> R repository(Class<R> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate(dataSource);
+    }
+
+    public JpaTransactionManager transactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * Runs work in a transaction, as a @Transactional service method would
+     */
+    public TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactoryBean.destroy();
+        jdbcTemplate().execute("SHUTDOWN");
+    }
+}
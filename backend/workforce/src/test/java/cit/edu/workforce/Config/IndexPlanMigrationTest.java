@@ -0,0 +1,333 @@
+package cit.edu.workforce.Config;
+
+import cit.edu.workforce.Entity.ApplicantEntity;
+import cit.edu.workforce.Entity.EmployeeEntity;
+import cit.edu.workforce.Entity.JobListingEntity;
+import cit.edu.workforce.Entity.TrainingProgramEntity;
+import cit.edu.workforce.Entity.UserAccountEntity;
+import cit.edu.workforce.Repository.ApplicantRepository;
+import cit.edu.workforce.Repository.ApplicationRecordRepository;
+import cit.edu.workforce.Repository.AttendanceRecordRepository;
+import cit.edu.workforce.Repository.DocumentRepository;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.EventRepository;
+import cit.edu.workforce.Repository.ImprovementPlanRepository;
+import cit.edu.workforce.Repository.JobListingRepository;
+import cit.edu.workforce.Repository.LeaveRequestRepository;
+import cit.edu.workforce.Repository.TrainingEnrollmentRepository;
+import cit.edu.workforce.Repository.TrainingProgramRepository;
+import cit.edu.workforce.Repository.UserAccountRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the portable index plan (db/migration) on top of the schema Hibernate generates, seeds
+ * it, then runs repository finders and checks with EXPLAIN that the SQL they actually sent, with
+ * the values they bound, is answered from an index rather than a table scan.
+ */
+class IndexPlanMigrationTest {
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE (?:UNIQUE )?INDEX IF NOT EXISTS (\\w+) ON (\\w+) \\(([^)]+)\\)", Pattern.CASE_INSENSITIVE);
+
+    private static final int EMPLOYEES = 200;
+
+    private record IndexDefinition(String name, String table) {
+    }
+
+    private static final StatementRecorder recorder = new StatementRecorder();
+    private static HibernateSchemaDatabase database;
+
+    @BeforeAll
+    static void migrate() {
+        database = HibernateSchemaDatabase.createWithoutForeignKeys("index_plan", recorder);
+
+        // Same baseline as FlywayConfig: the tables exist before the first migration runs
+        Flyway.configure()
+                .dataSource(database.dataSource())
+                .initSql("SET NON_KEYWORDS DATE")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        seed();
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        database.close();
+    }
+
+    @Test
+    void migrationCreatesEveryIndexInThePlan() throws IOException {
+        List<IndexDefinition> indexes = readIndexPlan();
+        assertFalse(indexes.isEmpty());
+        Set<String> created = new LinkedHashSet<>(database.jdbcTemplate().queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes", String.class));
+        for (IndexDefinition index : indexes) {
+            assertTrue(created.contains(index.name().toLowerCase(Locale.ROOT)), index.name() + " on " + index.table() + " was not created");
+        }
+    }
+
+    /**
+     * Runs after the schema is seeded; the entities passed to the finders are loaded here so
+     * their own queries are not mistaken for the finder's
+     */
+    static Stream<Arguments> finders() {
+        LocalDate today = LocalDate.now();
+        EmployeeEntity employee = repository(EmployeeRepository.class).findById("E7").orElseThrow();
+        UserAccountEntity userAccount = repository(UserAccountRepository.class).findById("U7").orElseThrow();
+        JobListingEntity jobListing = repository(JobListingRepository.class).findById("J7").orElseThrow();
+        ApplicantEntity applicant = repository(ApplicantRepository.class).findById("AP7").orElseThrow();
+        TrainingProgramEntity trainingProgram = repository(TrainingProgramRepository.class).findById("T7").orElseThrow();
+        return Stream.of(
+                Arguments.of("AttendanceRecordRepository.findByEmployeeAndDateBetween", (Runnable) () ->
+                        repository(AttendanceRecordRepository.class).findByEmployeeAndDateBetween(
+                                employee, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                        "idx_attendance_record_emp_id_date"),
+                Arguments.of("AttendanceRecordRepository.findByDateAndStatus", (Runnable) () ->
+                        repository(AttendanceRecordRepository.class).findByDateAndStatus(LocalDate.of(2024, 1, 3), "PRESENT"),
+                        "idx_attendance_record_date_status"),
+                Arguments.of("LeaveRequestRepository.findByEmployee", (Runnable) () ->
+                        repository(LeaveRequestRepository.class).findByEmployee(employee, PageRequest.of(0, 10)),
+                        null),
+                Arguments.of("LeaveRequestRepository.existsActiveOverlap", (Runnable) () ->
+                        repository(LeaveRequestRepository.class).existsActiveOverlap(
+                                employee, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 5), ""),
+                        // H2 does not estimate how selective a date range is, so it may pick either
+                        // (emp_id, ...) index; PostgreSQL's statistics favour (emp_id, end_date)
+                        null),
+                Arguments.of("LeaveRequestRepository.findByStatus", (Runnable) () ->
+                        repository(LeaveRequestRepository.class).findByStatus("PENDING", PageRequest.of(0, 10)),
+                        "idx_leave_request_status"),
+                Arguments.of("EmployeeRepository.findByUserAccount", (Runnable) () ->
+                        repository(EmployeeRepository.class).findByUserAccount(userAccount),
+                        // Current Hibernate versions make the one-to-one column unique as well
+                        null),
+                Arguments.of("ApplicationRecordRepository.findByJobListingAndStatus", (Runnable) () ->
+                        repository(ApplicationRecordRepository.class).findByJobListingAndStatus(jobListing, "PENDING"),
+                        "idx_application_record_job_id_status"),
+                Arguments.of("ApplicationRecordRepository.findByApplicant", (Runnable) () ->
+                        repository(ApplicationRecordRepository.class).findByApplicant(applicant),
+                        null),
+                Arguments.of("JobListingRepository.findByApplicationDeadlineAfterAndIsActiveTrue", (Runnable) () ->
+                        repository(JobListingRepository.class).findByApplicationDeadlineAfterAndIsActiveTrue(
+                                today.plusDays(80), PageRequest.of(0, 10)),
+                        "idx_job_listing_active_deadline"),
+                Arguments.of("EventRepository.findActiveAndUpcomingEvents", (Runnable) () ->
+                        repository(EventRepository.class).findActiveAndUpcomingEvents(LocalDateTime.now().plusDays(900)),
+                        "idx_event_event_datetime"),
+                Arguments.of("ImprovementPlanRepository.findPlansExpiringBy", (Runnable) () ->
+                        repository(ImprovementPlanRepository.class).findPlansExpiringBy(today.plusDays(7)),
+                        "idx_improvement_plan_status_end_date"),
+                Arguments.of("TrainingEnrollmentRepository.countByTrainingProgramAndStatus", (Runnable) () ->
+                        repository(TrainingEnrollmentRepository.class).countByTrainingProgramAndStatus(trainingProgram, "Enrolled"),
+                        "idx_training_enrollment_training_id_status"),
+                Arguments.of("DocumentRepository.findByEmployee", (Runnable) () ->
+                        repository(DocumentRepository.class).findByEmployee(employee),
+                        "idx_documents_employee_id"));
+    }
+
+    /**
+     * @param index Index the plan must name; null when several indexes serve the lookup equally
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderIsServedByAnIndex(String finder, Runnable call, String index) throws Throwable {
+        recorder.drain();
+        call.run();
+        List<RecordedQuery> queries = recorder.drain();
+        assertFalse(queries.isEmpty(), finder + " ran no query");
+
+        List<String> plans = new ArrayList<>();
+        for (RecordedQuery query : queries) {
+            String plan = explain(query).toLowerCase(Locale.ROOT);
+            assertFalse(plan.contains(".tablescan"), () -> finder + " scans a whole table:\n" + plan);
+            plans.add(plan);
+        }
+        if (index != null) {
+            assertTrue(plans.stream().anyMatch(plan -> plan.contains(index)),
+                    () -> finder + " does not use " + index + ":\n" + String.join("\n", plans));
+        }
+    }
+
+    /**
+     * Enough rows per table, spread over many keys, that an index lookup is cheaper than a scan
+     */
+    private static void seed() {
+        String now = "CURRENT_TIMESTAMP";
+        String[] statements = {
+                "INSERT INTO user_account (user_id, email_address, is_active, created_at) "
+                        + "SELECT 'U' || x, 'user' || x || '@cit.edu', TRUE, " + now + " FROM SYSTEM_RANGE(1, " + EMPLOYEES + ") r(x)",
+                "INSERT INTO employee (employee_id, user_id, email, first_name, last_name, hire_date, status, employment_status, created_at) "
+                        + "SELECT 'E' || x, 'U' || x, 'employee' || x || '@cit.edu', 'Juan', 'Dela Cruz', DATE '2020-01-06', TRUE, 'ACTIVE', "
+                        + now + " FROM SYSTEM_RANGE(1, " + EMPLOYEES + ") r(x)",
+                "INSERT INTO attendance_record (attendance_id, emp_id, \"date\", status, approved_by_manager, created_at) "
+                        + "SELECT 'A' || x, 'E' || MOD(x, " + EMPLOYEES + "), DATEADD(DAY, x / " + EMPLOYEES + ", DATE '2024-01-01'), "
+                        + "CASE MOD(x, 3) WHEN 0 THEN 'PRESENT' WHEN 1 THEN 'LATE' ELSE 'ABSENT' END, FALSE, " + now
+                        + " FROM SYSTEM_RANGE(1, 6000) r(x)",
+                "INSERT INTO leave_request (leave_id, emp_id, leave_type, start_date, end_date, total_days, reason, status, created_at) "
+                        + "SELECT 'L' || x, 'E' || MOD(x, " + EMPLOYEES + "), 'Vacation Leave (VL)', "
+                        + "DATEADD(DAY, x / " + EMPLOYEES + " * 7, DATE '2023-01-02'), DATEADD(DAY, x / " + EMPLOYEES + " * 7 + 1, DATE '2023-01-02'), "
+                        + "2, 'Family trip', CASE MOD(x, 5) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'REJECTED' ELSE 'APPROVED' END, " + now
+                        + " FROM SYSTEM_RANGE(1, 6000) r(x)",
+                "INSERT INTO job_listing (job_id, title, employment_type, job_type, date_posted, application_deadline, is_active) "
+                        + "SELECT 'J' || x, 'Position ' || x, 'FULL_TIME', 'EXTERNAL', DATEADD(DAY, -x, CURRENT_DATE), "
+                        + "DATEADD(DAY, x - 500, CURRENT_DATE), MOD(x, 4) = 0 FROM SYSTEM_RANGE(1, 600) r(x)",
+                "INSERT INTO applicant (applicant_id, full_name, email, application_date, is_internal) "
+                        + "SELECT 'AP' || x, 'Applicant ' || x, 'applicant' || x || '@gmail.com', DATE '2024-01-01', FALSE "
+                        + "FROM SYSTEM_RANGE(1, 2000) r(x)",
+                "INSERT INTO application_record (application_id, applicant_id, job_id, status) "
+                        + "SELECT 'R' || x, 'AP' || MOD(x, 2000), 'J' || (x / 2000 * 100 + MOD(x, 100)), "
+                        + "CASE MOD(x, 3) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'REVIEWED' ELSE 'REJECTED' END FROM SYSTEM_RANGE(1, 6000) r(x)",
+                "INSERT INTO event (event_id, title, event_type, location, event_datetime, duration_hours, is_active, created_by) "
+                        + "SELECT 'EV' || x, 'Event ' || x, 'Seminar', 'Cebu', DATEADD(DAY, x - 3000, CURRENT_TIMESTAMP), 2, TRUE, "
+                        + "'E' || MOD(x, " + EMPLOYEES + ") FROM SYSTEM_RANGE(1, 4000) r(x)",
+                "INSERT INTO improvement_plan (plan_id, emp_id, initiator_id, reason, action_steps, start_date, end_date, status) "
+                        + "SELECT 'IP' || x, 'E' || MOD(x, " + EMPLOYEES + "), 'E1', 'Attendance', 'Coaching', "
+                        + "DATEADD(DAY, -90, CURRENT_DATE), DATEADD(DAY, x - 2000, CURRENT_DATE), "
+                        + "CASE MOD(x, 3) WHEN 0 THEN 'Open' WHEN 1 THEN 'Completed' ELSE 'Cancelled' END FROM SYSTEM_RANGE(1, 4000) r(x)",
+                "INSERT INTO training_program (training_id, title, training_mode, start_date, end_date, is_active) "
+                        + "SELECT 'T' || x, 'Training ' || x, 'ONLINE', DATE '2024-01-01', DATE '2024-01-05', TRUE FROM SYSTEM_RANGE(1, 100) r(x)",
+                "INSERT INTO training_enrollment (enrollment_id, emp_id, training_id, enrollment_type, enrolled_date, status) "
+                        + "SELECT 'TE' || x, 'E' || MOD(x, " + EMPLOYEES + "), 'T' || MOD(x, 100), 'Self', DATE '2024-01-01', "
+                        + "CASE MOD(x, 3) WHEN 0 THEN 'Enrolled' WHEN 1 THEN 'Completed' ELSE 'Dropped' END FROM SYSTEM_RANGE(1, 6000) r(x)",
+                "INSERT INTO documents (document_id, employee_id, document_type, status, uploaded_at) "
+                        + "SELECT 'D' || x, 'E' || MOD(x, " + EMPLOYEES + "), 'Resume', 'APPROVED', " + now + " FROM SYSTEM_RANGE(1, 6000) r(x)",
+                "ANALYZE"
+        };
+        for (String statement : statements) {
+            database.jdbcTemplate().execute(statement);
+        }
+    }
+
+    private static <R> R repository(Class<R> repositoryInterface) {
+        return database.repository(repositoryInterface);
+    }
+
+    /**
+     * EXPLAIN a recorded query with the values it was run with
+     */
+    private static String explain(RecordedQuery query) throws Throwable {
+        try (Connection connection = database.dataSource().getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            for (Binding binding : query.bindings()) {
+                invoke(binding.setter(), explain, binding.args());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                assertTrue(plan.next());
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private static List<IndexDefinition> readIndexPlan() throws IOException {
+        List<IndexDefinition> definitions = new ArrayList<>();
+        for (Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+            Matcher matcher = CREATE_INDEX.matcher(migration.getContentAsString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                definitions.add(new IndexDefinition(matcher.group(1), matcher.group(2)));
+            }
+        }
+        return definitions;
+    }
+
+    private record Binding(Method setter, Object[] args) {
+    }
+
+    private record RecordedQuery(String sql, List<Binding> bindings) {
+    }
+
+    /**
+     * Wraps the data source so every query Hibernate runs is recorded with its bound parameters
+     */
+    private static final class StatementRecorder implements UnaryOperator<DataSource> {
+
+        private final List<RecordedQuery> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public DataSource apply(DataSource dataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(method, dataSource, args);
+                return result instanceof Connection connection ? recording(connection) : result;
+            });
+        }
+
+        List<RecordedQuery> drain() {
+            List<RecordedQuery> drained = List.copyOf(queries);
+            queries.clear();
+            return drained;
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(method, connection, args);
+                return method.getName().equals("prepareStatement")
+                        ? recording((PreparedStatement) result, (String) args[0])
+                        : result;
+            });
+        }
+
+        private PreparedStatement recording(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (method.getName().equals("clearParameters")) {
+                    bindings.clear();
+                } else if (method.getName().equals("executeQuery")) {
+                    queries.add(new RecordedQuery(sql, List.copyOf(bindings)));
+                }
+                return invoke(method, statement, args);
+            });
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(IndexPlanMigrationTest.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
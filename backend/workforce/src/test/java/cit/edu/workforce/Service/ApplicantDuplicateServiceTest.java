@@ -0,0 +1,166 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.ApplicantDuplicateEntity;
+import cit.edu.workforce.Repository.ApplicantDuplicateRepository;
+import cit.edu.workforce.Repository.ApplicantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApplicantDuplicateServiceTest {
+
+    private record Applicant(String applicantId, String fullName, String email, String phoneNumber, LocalDate applicationDate) {
+    }
+
+    private final List<Applicant> applicants = new ArrayList<>();
+    private final List<ApplicantDuplicateEntity> saved = new ArrayList<>();
+
+    private ApplicantDuplicateRepository applicantDuplicateRepository;
+    private ApplicantDuplicateService applicantDuplicateService;
+
+    @BeforeEach
+    void setUp() {
+        applicantDuplicateRepository = mock(ApplicantDuplicateRepository.class);
+        when(applicantDuplicateRepository.save(any(ApplicantDuplicateEntity.class))).thenAnswer(invocation -> {
+            saved.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(applicantDuplicateRepository.findInvolving(anyList())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            return saved.stream()
+                    .filter(duplicate -> ids.contains(duplicate.getApplicantId()) || ids.contains(duplicate.getDuplicateOfId()))
+                    .toList();
+        });
+        applicantDuplicateService = new ApplicantDuplicateService(
+                applicantDuplicateRepository, mock(ApplicantRepository.class), new ApplicantJdbcTemplate());
+    }
+
+    @Test
+    void normalizedDetailsMatchExactly() {
+        applicantDuplicateService.indexAfterCommit("A1", "José dela Cruz", "jdelacruz+jobs@gmail.com", "+63 917 123 4567");
+
+        // Word order, accents, punctuation, mail provider, plus tag and phone prefix are all ignored
+        List<ApplicantDuplicateService.Candidate> candidates =
+                applicantDuplicateService.findSimilar("Cruz, Jose Dela", "j.delacruz@yahoo.com", "0917-123-4567");
+
+        assertEquals(List.of(new ApplicantDuplicateService.Candidate("A1", 1.0)), candidates);
+    }
+
+    @Test
+    void nearDuplicateIsFoundWithAnEstimateCloseToItsJaccardSimilarity() {
+        applicantDuplicateService.indexAfterCommit("A1", "Maria Santos", "maria.santos@gmail.com", "09171234567");
+
+        List<ApplicantDuplicateService.Candidate> candidates =
+                applicantDuplicateService.findSimilar("Maria Santoz", "maria.santos@gmail.com", "09171234567");
+
+        // 9 of 11 name shingles, all 9 email and all 8 phone shingles are shared: 26 / 28
+        assertEquals(1, candidates.size());
+        assertEquals("A1", candidates.get(0).applicantId());
+        double similarity = candidates.get(0).similarity();
+        assertTrue(Math.abs(similarity - 26.0 / 28) <= 0.15, () -> "estimate " + similarity);
+    }
+
+    @Test
+    void applicantsBelowTheThresholdAreNotCandidates() {
+        applicantDuplicateService.indexAfterCommit("A1", "Maria Santos", "maria.santos@gmail.com", "09171234567");
+        applicantDuplicateService.indexAfterCommit("A2", "Pedro Reyes", "preyes@gmail.com", "09181112222");
+
+        // Same phone number only
+        assertTrue(applicantDuplicateService.findSimilar("Ana Lim", "ana.lim@gmail.com", "09171234567").isEmpty());
+        assertTrue(applicantDuplicateService.findSimilar("Juan Bautista", "jbautista@gmail.com", null).isEmpty());
+    }
+
+    @Test
+    void candidatesAreOrderedBySimilarity() {
+        applicantDuplicateService.indexAfterCommit("A-EXACT", "Maria Santos", "maria.santos@gmail.com", "09171234567");
+        applicantDuplicateService.indexAfterCommit("A-TYPO", "Maria Santoz", "maria.santos@gmail.com", "09171234567");
+
+        List<ApplicantDuplicateService.Candidate> candidates =
+                applicantDuplicateService.findSimilar("Maria Santos", "maria.santos@gmail.com", "09171234567");
+
+        assertEquals(List.of("A-EXACT", "A-TYPO"), candidates.stream().map(ApplicantDuplicateService.Candidate::applicantId).toList());
+        assertEquals(1.0, candidates.get(0).similarity());
+    }
+
+    @Test
+    void detailsWithNothingToCompareMatchNobody() {
+        applicantDuplicateService.indexAfterCommit("A1", "", "@", "12");
+
+        assertTrue(applicantDuplicateService.findSimilar("", "@", "12").isEmpty());
+        assertTrue(applicantDuplicateService.findSimilar(null, null, null).isEmpty());
+    }
+
+    @Test
+    void reindexingReplacesTheOldSignatureAndRemovingDropsIt() {
+        applicantDuplicateService.indexAfterCommit("A1", "Maria Santos", "maria.santos@gmail.com", "09171234567");
+        applicantDuplicateService.indexAfterCommit("A1", "Pedro Reyes", "preyes@gmail.com", "09181112222");
+
+        assertTrue(applicantDuplicateService.findSimilar("Maria Santos", "maria.santos@gmail.com", "09171234567").isEmpty());
+        assertEquals(1, applicantDuplicateService.findSimilar("Pedro Reyes", "preyes@gmail.com", "09181112222").size());
+
+        applicantDuplicateService.remove("A1");
+
+        verify(applicantDuplicateRepository).deleteInvolving("A1");
+        assertTrue(applicantDuplicateService.findSimilar("Pedro Reyes", "preyes@gmail.com", "09181112222").isEmpty());
+    }
+
+    @Test
+    void scanFlagsEachClusterMemberAgainstTheEarliestRegistrationOnce() {
+        applicants.add(new Applicant("A-SECOND", "Maria Santos", "maria.santos@yahoo.com", "0917 123 4567", LocalDate.of(2024, 3, 1)));
+        applicants.add(new Applicant("A-FIRST", "Santos, Maria", "maria.santos@gmail.com", "+639171234567", LocalDate.of(2024, 1, 15)));
+        applicants.add(new Applicant("A-THIRD", "Maria Santoz", "mariasantos+2@gmail.com", "09171234567", LocalDate.of(2024, 5, 20)));
+        applicants.add(new Applicant("A-OTHER", "Pedro Reyes", "preyes@gmail.com", "09181112222", LocalDate.of(2024, 2, 2)));
+
+        Map<String, Integer> result = applicantDuplicateService.scanAll();
+
+        assertEquals(1, result.get("clusters"));
+        assertEquals(2, result.get("flagged"));
+        assertEquals(List.of("A-SECOND", "A-THIRD"), saved.stream().map(ApplicantDuplicateEntity::getApplicantId).sorted().toList());
+        assertTrue(saved.stream().allMatch(duplicate -> duplicate.getDuplicateOfId().equals("A-FIRST")));
+
+        // Pairs already recorded are not flagged again
+        assertEquals(0, applicantDuplicateService.scanAll().get("flagged"));
+        assertEquals(2, saved.size());
+    }
+
+    /**
+     * Answers the applicant table scan from the list above
+     */
+    private class ApplicantJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            try {
+                for (Applicant applicant : applicants) {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getString("applicant_id")).thenReturn(applicant.applicantId());
+                    when(rs.getString("full_name")).thenReturn(applicant.fullName());
+                    when(rs.getString("email")).thenReturn(applicant.email());
+                    when(rs.getString("phone_number")).thenReturn(applicant.phoneNumber());
+                    when(rs.getObject(anyString(), eq(LocalDate.class))).thenReturn(applicant.applicationDate());
+                    rch.processRow(rs);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
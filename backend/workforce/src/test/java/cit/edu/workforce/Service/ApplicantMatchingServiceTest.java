@@ -0,0 +1,192 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.ApplicationScoreEntity;
+import cit.edu.workforce.Repository.ApplicationScoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Scores applications through the stale sweep against an in-memory stand-in for the
+ * application_record, job_listing and resume_text tables.
+ */
+class ApplicantMatchingServiceTest {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 3;
+
+    private record Listing(String title, String qualifications, String description) {
+    }
+
+    private record Application(String jobId, String resumeText) {
+    }
+
+    private final Map<String, Listing> listings = new HashMap<>();
+    private final Map<String, Application> applications = new LinkedHashMap<>();
+    private final Map<String, ApplicationScoreEntity> scores = new HashMap<>();
+
+    private ApplicantMatchingService applicantMatchingService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationScoreRepository repository = mock(ApplicationScoreRepository.class);
+        when(repository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<ApplicationScoreEntity> saved = invocation.getArgument(0);
+            saved.forEach(score -> scores.put(score.getApplicationId(), score));
+            return saved;
+        });
+        applicantMatchingService = new ApplicantMatchingService(repository, new TableJdbcTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicantMatchingService.shutdown();
+    }
+
+    @Test
+    void scoreMatchesTheBm25Formula() {
+        listings.put("J1", new Listing("Kotlin", null, null));
+        applications.put("APP-1", new Application("J1", "kotlin kotlin"));
+        applications.put("APP-2", new Application("J1", "python ruby"));
+
+        applicantMatchingService.scoreStaleApplications();
+
+        // Two resumes of two terms each; "kotlin" appears twice in one of them
+        double idf = Math.log(1 + (2 - 1 + 0.5) / (1 + 0.5));
+        double lengthNorm = K1 * (1 - B + B * 2 / 2.0);
+        double expected = TITLE_WEIGHT * idf * 2 * (K1 + 1) / (2 + lengthNorm);
+        assertEquals(expected, scores.get("APP-1").getScore(), 1e-9);
+        assertEquals("kotlin", scores.get("APP-1").getMatchedTerms());
+        assertEquals(0, scores.get("APP-2").getScore());
+        assertNull(scores.get("APP-2").getMatchedTerms());
+    }
+
+    @Test
+    void applicantsAreRankedByHowMuchOfTheListingTheyCover() {
+        listings.put("J1", new Listing("Java Developer", "Spring Boot, PostgreSQL", "Build backend services"));
+        applications.put("APP-FULL", new Application("J1", "Java developer with Spring Boot and PostgreSQL experience"));
+        applications.put("APP-PART", new Application("J1", "Junior Java programmer"));
+        applications.put("APP-NONE", new Application("J1", "Graphic designer skilled in Photoshop"));
+        applications.put("APP-NO-RESUME", new Application("J1", null));
+
+        applicantMatchingService.scoreStaleApplications();
+
+        double full = scores.get("APP-FULL").getScore();
+        double partial = scores.get("APP-PART").getScore();
+        assertTrue(full > partial, () -> full + " <= " + partial);
+        assertTrue(partial > 0);
+        assertEquals(0, scores.get("APP-NONE").getScore());
+        assertEquals(0, scores.get("APP-NO-RESUME").getScore());
+        assertNull(scores.get("APP-NO-RESUME").getMatchedTerms());
+        // A title term only this resume has contributes the most; "java" is common, so it comes last
+        assertEquals("developer, spring, boot, postgresql, java", scores.get("APP-FULL").getMatchedTerms());
+    }
+
+    @Test
+    void titleTermsOutweighDescriptionTerms() {
+        listings.put("J1", new Listing("Accountant", null, "Prepare payroll"));
+        applications.put("APP-TITLE", new Application("J1", "accountant"));
+        applications.put("APP-DESCRIPTION", new Application("J1", "payroll"));
+        applications.put("APP-OTHER", new Application("J1", "nurse"));
+
+        applicantMatchingService.scoreStaleApplications();
+
+        assertTrue(scores.get("APP-TITLE").getScore() > scores.get("APP-DESCRIPTION").getScore());
+    }
+
+    @Test
+    void repeatedTermsSaturateAndLongResumesAreNormalized() {
+        listings.put("J1", new Listing("Welder", null, null));
+        applications.put("APP-ONCE", new Application("J1", "welder"));
+        applications.put("APP-REPEATED", new Application("J1", "welder ".repeat(50)));
+        applications.put("APP-LONG", new Application("J1", "welder " + "forklift crane rigging scaffolding ".repeat(10)));
+        applications.put("APP-OTHER", new Application("J1", "nurse"));
+
+        applicantMatchingService.scoreStaleApplications();
+
+        double once = scores.get("APP-ONCE").getScore();
+        double repeated = scores.get("APP-REPEATED").getScore();
+        double ceiling = TITLE_WEIGHT * Math.log(1 + (4 - 3 + 0.5) / (3 + 0.5)) * (K1 + 1);
+        assertTrue(repeated > once);
+        assertTrue(repeated < ceiling, () -> repeated + " >= " + ceiling);
+        assertTrue(scores.get("APP-LONG").getScore() < once);
+    }
+
+    /**
+     * Answers the service's queries from the maps above
+     */
+    private class TableJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public int update(String sql) {
+            return 0;
+        }
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType) {
+            return applications.keySet().stream()
+                    .filter(applicationId -> !scores.containsKey(applicationId))
+                    .map(elementType::cast)
+                    .toList();
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            // Corpus statistics cover every indexed resume
+            for (Application application : applications.values()) {
+                if (application.resumeText() != null) {
+                    process(rch, Map.of("resume_text", application.resumeText()));
+                }
+            }
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            String id = (String) args[0];
+            if (sql.contains("FROM job_listing")) {
+                Listing listing = listings.get(id);
+                Map<String, String> row = new HashMap<>();
+                row.put("title", listing.title());
+                row.put("qualifications", listing.qualifications());
+                row.put("job_description", listing.description());
+                process(rch, row);
+                return;
+            }
+            Application application = applications.get(id);
+            Map<String, String> row = new HashMap<>();
+            row.put("application_id", id);
+            row.put("job_id", application.jobId());
+            row.put("content_hash", application.resumeText() != null ? Integer.toHexString(application.resumeText().hashCode()) : null);
+            row.put("resume_text", application.resumeText());
+            process(rch, row);
+        }
+
+        private void process(RowCallbackHandler rch, Map<String, String> row) {
+            try {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+                rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
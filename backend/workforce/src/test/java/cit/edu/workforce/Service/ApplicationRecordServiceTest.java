@@ -0,0 +1,178 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.Config.HibernateSchemaDatabase;
+import cit.edu.workforce.DTO.ApplicationRecordDTO;
+import cit.edu.workforce.Entity.ApplicantEntity;
+import cit.edu.workforce.Entity.JobListingEntity;
+import cit.edu.workforce.Repository.ApplicantRepository;
+import cit.edu.workforce.Repository.ApplicationRecordRepository;
+import cit.edu.workforce.Repository.IdempotencyKeyRepository;
+import cit.edu.workforce.Repository.JobListingRepository;
+import cit.edu.workforce.Repository.UserAccountRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Submits the same application from concurrent requests against the schema Hibernate generates,
+ * with its unique (applicant_id, job_id) constraint, once through INSERT ... ON CONFLICT and once
+ * through the portable insert.
+ */
+class ApplicationRecordServiceTest {
+
+    private static final int REQUESTS = 8;
+
+    private static HibernateSchemaDatabase database;
+
+    private String applicantId;
+    private String jobId;
+
+    @BeforeAll
+    static void createSchema() {
+        database = HibernateSchemaDatabase.create("application_record_service");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        database.close();
+    }
+
+    @BeforeEach
+    void seed() {
+        database.jdbcTemplate().update("DELETE FROM idempotency_key");
+        database.jdbcTemplate().update("DELETE FROM application_record");
+
+        ApplicantEntity applicant = new ApplicantEntity();
+        applicant.setFullName("Maria Santos");
+        applicant.setEmail("maria.santos+" + System.nanoTime() + "@gmail.com");
+        applicantId = database.repository(ApplicantRepository.class).save(applicant).getApplicantId();
+
+        JobListingEntity jobListing = new JobListingEntity();
+        jobListing.setTitle("Payroll Specialist");
+        jobListing.setEmploymentType("Full-time");
+        jobListing.setJobType("EXTERNAL");
+        jobListing.setApplicationDeadline(LocalDate.now().plusDays(30));
+        jobId = database.repository(JobListingRepository.class).save(jobListing).getJobId();
+    }
+
+    @ParameterizedTest(name = "postgres = {0}")
+    @ValueSource(booleans = {true, false})
+    void retriesWithTheSameKeyAllGetTheOneApplication(boolean postgres) throws Exception {
+        ApplicationRecordService service = service(postgres);
+
+        List<Object> results = submitConcurrently(service, "submit-1");
+
+        assertEquals(1, applicationCount());
+        String applicationId = database.jdbcTemplate().queryForObject("SELECT application_id FROM application_record", String.class);
+        for (Object result : results) {
+            assertEquals(applicationId, assertInstanceOf(ApplicationRecordDTO.class, result).getApplicationId());
+        }
+        assertEquals(1, database.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM idempotency_key", Integer.class));
+    }
+
+    @ParameterizedTest(name = "postgres = {0}")
+    @ValueSource(booleans = {true, false})
+    void doubleSubmissionsWithoutAKeyCreateOneApplication(boolean postgres) throws Exception {
+        ApplicationRecordService service = service(postgres);
+
+        List<Object> results = submitConcurrently(service, null);
+
+        assertEquals(1, applicationCount());
+        assertEquals(1, results.stream().filter(ApplicationRecordDTO.class::isInstance).count());
+        for (Object result : results) {
+            if (!(result instanceof ApplicationRecordDTO)) {
+                ResponseStatusException e = assertInstanceOf(ResponseStatusException.class, result);
+                assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+                assertEquals("You have already applied for this job", e.getReason());
+            }
+        }
+    }
+
+    /**
+     * Each request runs in its own transaction, as through the service's proxy. The first insert's
+     * transaction stays open a while so the others run into its uncommitted row.
+     */
+    private List<Object> submitConcurrently(ApplicationRecordService service, String idempotencyKey) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(REQUESTS);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return database.transactionTemplate().execute(status ->
+                                service.createApplication(applicantId, jobId, idempotencyKey));
+                    } catch (ResponseStatusException e) {
+                        return e;
+                    }
+                }));
+            }
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    results.add(future.get(60, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    throw new AssertionError("Request failed unexpectedly", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ApplicationRecordService service(boolean postgres) {
+        DatabaseVendor databaseVendor = mock(DatabaseVendor.class);
+        when(databaseVendor.isPostgres()).thenReturn(postgres);
+
+        JobListingService jobListingService = mock(JobListingService.class);
+        when(jobListingService.getApplicationEligibility(anyString())).thenReturn(
+                new JobListingService.ApplicationEligibility(true, LocalDate.now().plusDays(30), "EXTERNAL"));
+
+        RecruitmentFunnelService recruitmentFunnelService = mock(RecruitmentFunnelService.class);
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            return null;
+        }).when(recruitmentFunnelService).recordSubmission(anyString());
+
+        return new ApplicationRecordService(
+                database.repository(ApplicationRecordRepository.class),
+                database.repository(ApplicantRepository.class),
+                database.repository(JobListingRepository.class),
+                database.repository(UserAccountRepository.class),
+                mock(JsonStreamingService.class),
+                mock(ApplicantMatchingService.class),
+                jobListingService,
+                new IdempotencyService(database.repository(IdempotencyKeyRepository.class)),
+                databaseVendor,
+                recruitmentFunnelService,
+                database.transactionManager());
+    }
+
+    private static int applicationCount() {
+        return database.jdbcTemplate().queryForObject("SELECT COUNT(*) FROM application_record", Integer.class);
+    }
+}
@@ -0,0 +1,156 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.HolidayDTO;
+import cit.edu.workforce.Entity.HolidayEntity;
+import cit.edu.workforce.Entity.WorkScheduleEntity;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.HolidayRepository;
+import cit.edu.workforce.Repository.WorkScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BusinessCalendarServiceTest {
+
+    private static final LocalDate NEW_YEAR_2024 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate CHRISTMAS_2024 = LocalDate.of(2024, 12, 25);
+    private static final LocalDate NEW_YEAR_2025 = LocalDate.of(2025, 1, 1);
+    // A Saturday, so it only matters for weeks that include Saturdays
+    private static final LocalDate SATURDAY_HOLIDAY_2026 = LocalDate.of(2026, 6, 13);
+
+    private static final Set<DayOfWeek> TUESDAY_TO_SATURDAY = EnumSet.range(DayOfWeek.TUESDAY, DayOfWeek.SATURDAY);
+
+    private final List<HolidayEntity> holidays = new ArrayList<>();
+
+    private BusinessCalendarService businessCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        when(holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(any(LocalDate.class), any(LocalDate.class)))
+                .thenAnswer(invocation -> {
+                    LocalDate from = invocation.getArgument(0);
+                    LocalDate to = invocation.getArgument(1);
+                    return holidays.stream()
+                            .filter(holiday -> !holiday.getHolidayDate().isBefore(from) && !holiday.getHolidayDate().isAfter(to))
+                            .toList();
+                });
+        when(holidayRepository.existsByHolidayDate(any(LocalDate.class))).thenAnswer(invocation ->
+                holidays.stream().anyMatch(holiday -> holiday.getHolidayDate().equals(invocation.getArgument(0))));
+        when(holidayRepository.save(any(HolidayEntity.class))).thenAnswer(invocation -> {
+            holidays.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        WorkScheduleRepository workScheduleRepository = mock(WorkScheduleRepository.class);
+        WorkScheduleEntity schedule = new WorkScheduleEntity();
+        schedule.setEmployeeId("E-SHIFT");
+        schedule.setWorkDays(mask(TUESDAY_TO_SATURDAY));
+        when(workScheduleRepository.findById(any(String.class))).thenReturn(Optional.empty());
+        when(workScheduleRepository.findById("E-SHIFT")).thenReturn(Optional.of(schedule));
+
+        for (LocalDate date : List.of(NEW_YEAR_2024, CHRISTMAS_2024, NEW_YEAR_2025, SATURDAY_HOLIDAY_2026)) {
+            HolidayEntity holiday = new HolidayEntity();
+            holiday.setHolidayDate(date);
+            holidays.add(holiday);
+        }
+        businessCalendarService = new BusinessCalendarService(
+                holidayRepository, workScheduleRepository, mock(EmployeeRepository.class));
+    }
+
+    @Test
+    void countsWeekdaysLessHolidaysWithinAMonth() {
+        // January 2024 starts on a Monday and has 23 weekdays, one of them New Year's Day
+        assertEquals(22, businessCalendarService.countWorkingDays(null, NEW_YEAR_2024, LocalDate.of(2024, 1, 31)));
+        // Tuesday to Saturday: 22 such days; New Year's Day is a Monday, already a rest day
+        assertEquals(22, businessCalendarService.countWorkingDays("E-SHIFT", NEW_YEAR_2024, LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    void countsWholeYearsIncludingLeapDays() {
+        // 2024 is a leap year starting on a Monday: 262 weekdays, less two holidays on weekdays
+        assertEquals(260, businessCalendarService.countWorkingDays(null, NEW_YEAR_2024, LocalDate.of(2024, 12, 31)));
+        // 2023 has 260 weekdays and no holidays here
+        assertEquals(260, businessCalendarService.countWorkingDays(null, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)));
+        // Thursday, February 29
+        assertTrue(businessCalendarService.isWorkingDay(null, LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    void rangeAcrossYearsAddsTheEndsAndTheFullYearsBetween() {
+        // Friday, December 29 to Tuesday, January 2: Friday and Tuesday, New Year's Day is a holiday
+        assertEquals(2, businessCalendarService.countWorkingDays(null, LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 2)));
+        // One day at the end of 2023, all of 2024, and January 2, 2025 after New Year's Day
+        assertEquals(1 + 260 + 1,
+                businessCalendarService.countWorkingDays(null, LocalDate.of(2023, 12, 29), LocalDate.of(2025, 1, 2)));
+    }
+
+    @Test
+    void singleDaysAndEmptyRanges() {
+        assertFalse(businessCalendarService.isWorkingDay(null, NEW_YEAR_2024));
+        assertFalse(businessCalendarService.isWorkingDay(null, LocalDate.of(2024, 1, 6)));
+        assertTrue(businessCalendarService.isWorkingDay("E-SHIFT", LocalDate.of(2024, 1, 6)));
+        assertFalse(businessCalendarService.isWorkingDay("E-SHIFT", SATURDAY_HOLIDAY_2026));
+        assertTrue(businessCalendarService.isWorkingDay(null, LocalDate.of(2024, 12, 31)));
+        assertEquals(0, businessCalendarService.countWorkingDays(null, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 9)));
+    }
+
+    @Test
+    void prefixSumsAgreeWithCountingDayByDay() {
+        Random random = new Random(42);
+        LocalDate origin = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < 500; i++) {
+            LocalDate start = origin.plusDays(random.nextInt(4 * 365));
+            LocalDate end = start.plusDays(random.nextInt(800));
+            String employeeId = random.nextBoolean() ? null : "E-SHIFT";
+            Set<DayOfWeek> workDays = employeeId == null ? EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY) : TUESDAY_TO_SATURDAY;
+
+            int expected = 0;
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (workDays.contains(date.getDayOfWeek()) && !isHoliday(date)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, businessCalendarService.countWorkingDays(employeeId, start, end),
+                    employeeId + " " + start + ".." + end);
+        }
+    }
+
+    @Test
+    void addingAHolidayEvictsTheCachedYear() {
+        LocalDate laborDay = LocalDate.of(2024, 5, 1);
+        assertTrue(businessCalendarService.isWorkingDay(null, laborDay));
+
+        businessCalendarService.createHoliday(new HolidayDTO(null, laborDay, "Labor Day"));
+
+        assertFalse(businessCalendarService.isWorkingDay(null, laborDay));
+        assertEquals(259, businessCalendarService.countWorkingDays(null, NEW_YEAR_2024, LocalDate.of(2024, 12, 31)));
+    }
+
+    private boolean isHoliday(LocalDate date) {
+        return holidays.stream().anyMatch(holiday -> holiday.getHolidayDate().equals(date));
+    }
+
+    private static int mask(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+}
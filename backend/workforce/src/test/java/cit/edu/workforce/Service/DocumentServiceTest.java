@@ -0,0 +1,105 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.DocumentEntity;
+import cit.edu.workforce.Repository.DocumentRepository;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DocumentServiceTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4\nCertificate of Employment\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final String BLOB_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    private final LocalDateTime uploadedAt = LocalDateTime.of(2022, 6, 1, 9, 30);
+
+    private DocumentRepository documentRepository;
+    private BlobStore blobStore;
+    private LegacyBlobMigrationService legacyBlobMigrationService;
+    private DocumentService documentService;
+
+    @BeforeEach
+    void setUp() {
+        documentRepository = mock(DocumentRepository.class);
+        blobStore = mock(BlobStore.class);
+        legacyBlobMigrationService = mock(LegacyBlobMigrationService.class);
+        documentService = new DocumentService(documentRepository, mock(EmployeeRepository.class), blobStore,
+                mock(UploadService.class), mock(ApprovalInboxService.class), legacyBlobMigrationService);
+    }
+
+    @Test
+    void movedDocumentsAreServedFromTheBlobStore() {
+        document("DOC-1", BLOB_HASH);
+        FileSystemResource resource = new FileSystemResource("/blobs/" + BLOB_HASH);
+        when(blobStore.resource(BLOB_HASH)).thenReturn(resource);
+
+        FileDownloadService.StoredFile file = documentService.getDocumentFile("DOC-1", BLOB_HASH);
+
+        assertSame(resource, file.resource());
+        assertEquals(BLOB_HASH, file.etag());
+        assertTrue(file.immutable());
+    }
+
+    @Test
+    void legacyDocumentsAreServedFromTheirOldColumnWithTheirFutureHash() throws Exception {
+        document("DOC-2", null);
+        when(legacyBlobMigrationService.readLegacyDocument("DOC-2")).thenReturn(CONTENT);
+
+        FileDownloadService.StoredFile file = documentService.getDocumentFile("DOC-2", null);
+
+        assertArrayEquals(CONTENT, file.resource().getContentAsByteArray());
+        assertEquals(CONTENT.length, file.resource().contentLength());
+        assertEquals(uploadedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), file.resource().lastModified());
+        assertEquals("application/pdf", file.contentType());
+        assertEquals("coe.pdf", file.fileName());
+        assertEquals(sha256(CONTENT), file.etag());
+        assertFalse(file.immutable());
+
+        assertTrue(documentService.getDocumentFile("DOC-2", sha256(CONTENT)).immutable());
+    }
+
+    @Test
+    void documentsWithoutAnyContentAreNotFound() {
+        document("DOC-3", null);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> documentService.getDocumentFile("DOC-3", null));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+        assertEquals("Document content not found", e.getReason());
+    }
+
+    private void document(String documentId, String contentHash) {
+        DocumentEntity document = new DocumentEntity();
+        document.setDocumentId(documentId);
+        document.setFileName("coe.pdf");
+        document.setFileType("application/pdf");
+        document.setContentHash(contentHash);
+        document.setUploadedAt(uploadedAt);
+        when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,152 @@
+package cit.edu.workforce.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FileDownloadServiceTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-06-03T08:15:30Z");
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US).withZone(ZoneId.of("GMT"));
+
+    private final FileDownloadService fileDownloadService = new FileDownloadService();
+
+    @TempDir
+    Path uploadDir;
+
+    private FileDownloadService.StoredFile file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path path = Files.writeString(uploadDir.resolve("resume.pdf"), CONTENT, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(path, FileTime.from(LAST_MODIFIED));
+        file = new FileDownloadService.StoredFile(new FileSystemResource(path), "application/pdf", "resume.pdf", "abc123", false);
+    }
+
+    @Test
+    void withoutRangeTheWholeFileIsSent() throws IOException {
+        MockHttpServletResponse response = send(get(null, null));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(CONTENT, response.getContentAsString());
+    }
+
+    @Test
+    void closedRangeIsServedAsPartialContent() throws IOException {
+        MockHttpServletResponse response = send(get("bytes=2-5", null));
+
+        assertPartial(response, "bytes 2-5/10", "2345");
+    }
+
+    @Test
+    void openEndedAndSuffixRangesAreResolvedAgainstTheLength() throws IOException {
+        assertPartial(send(get("bytes=7-", null)), "bytes 7-9/10", "789");
+        assertPartial(send(get("bytes=-3", null)), "bytes 7-9/10", "789");
+        // An end past the last byte is clamped to it
+        assertPartial(send(get("bytes=8-100", null)), "bytes 8-9/10", "89");
+    }
+
+    @Test
+    void rangeStartingPastTheEndIsNotSatisfiable() throws IOException {
+        MockHttpServletResponse response = send(get("bytes=10-20", null));
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void malformedAndMultipleRangesFallBackToTheWholeFile() throws IOException {
+        for (String range : new String[]{"bytes=abc", "items=0-1", "bytes=5-2", "bytes=0-1,4-5"}) {
+            MockHttpServletResponse response = send(get(range, null));
+
+            assertEquals(200, response.getStatus(), range);
+            assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+            assertEquals(CONTENT, response.getContentAsString(), range);
+        }
+    }
+
+    @Test
+    void ifRangeWithTheCurrentEtagKeepsTheRange() throws IOException {
+        assertPartial(send(get("bytes=0-3", "\"abc123\"")), "bytes 0-3/10", "0123");
+    }
+
+    @Test
+    void ifRangeWithAnOutdatedOrWeakEtagSendsTheWholeFile() throws IOException {
+        for (String ifRange : new String[]{"\"old\"", "W/\"abc123\""}) {
+            MockHttpServletResponse response = send(get("bytes=0-3", ifRange));
+
+            assertEquals(200, response.getStatus(), ifRange);
+            assertEquals(CONTENT, response.getContentAsString(), ifRange);
+        }
+    }
+
+    @Test
+    void ifRangeDateIsComparedToTheSecond() throws IOException {
+        assertPartial(send(get("bytes=0-3", HTTP_DATE.format(LAST_MODIFIED))), "bytes 0-3/10", "0123");
+
+        MockHttpServletResponse outdated = send(get("bytes=0-3", HTTP_DATE.format(LAST_MODIFIED.minusSeconds(1))));
+        assertEquals(200, outdated.getStatus());
+        assertEquals(CONTENT, outdated.getContentAsString());
+
+        MockHttpServletResponse unparsable = send(get("bytes=0-3", "yesterday"));
+        assertEquals(200, unparsable.getStatus());
+        assertEquals(CONTENT, unparsable.getContentAsString());
+    }
+
+    @Test
+    void headRangeSendsHeadersOnly() throws IOException {
+        MockHttpServletRequest request = get("bytes=2-5", null);
+        request.setMethod("HEAD");
+        MockHttpServletResponse response = send(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletRequest get(String range, String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/resume.pdf");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        if (ifRange != null) {
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileDownloadService.send(request, response, file, true);
+        return response;
+    }
+
+    private static void assertPartial(MockHttpServletResponse response, String contentRange, String body) throws IOException {
+        assertEquals(206, response.getStatus());
+        assertEquals(contentRange, response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(body.length(), response.getContentLengthLong());
+        assertEquals(body, response.getContentAsString());
+    }
+}
@@ -0,0 +1,124 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.IdempotencyKeyEntity;
+import cit.edu.workforce.Repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    // Stands in for the primary key constraint on idempotency_key
+    private final Map<String, IdempotencyKeyEntity> table = new ConcurrentHashMap<>();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+        when(repository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(table.get(invocation.<String>getArgument(0))));
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> {
+            IdempotencyKeyEntity entity = invocation.getArgument(0);
+            if (table.putIfAbsent(entity.getKeyHash(), entity) != null) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+            }
+            return entity;
+        });
+        idempotencyService = new IdempotencyService(repository);
+    }
+
+    @Test
+    void concurrentRequestsWithTheSameKeyRecordExactlyOnce() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                String resourceId = "APP-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        idempotencyService.recordResource("retry-key", resourceId, "createApplication", "A1", "J1");
+                        return resourceId;
+                    } catch (ResponseStatusException e) {
+                        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<String> recorded = new ArrayList<>();
+            for (Future<String> result : results) {
+                String resourceId = result.get(10, TimeUnit.SECONDS);
+                if (resourceId != null) {
+                    recorded.add(resourceId);
+                }
+            }
+            assertEquals(1, recorded.size());
+            assertEquals(1, table.size());
+            assertEquals(recorded.get(0),
+                    idempotencyService.findResource("retry-key", "createApplication", "A1", "J1"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void retryReturnsTheOriginalResource() {
+        assertNull(idempotencyService.findResource("key-1", "createApplication", "A1", "J1"));
+        idempotencyService.recordResource("key-1", "APP-1", "createApplication", "A1", "J1");
+
+        assertEquals("APP-1", idempotencyService.findResource("key-1", "createApplication", "A1", "J1"));
+        assertEquals("APP-1", idempotencyService.findResource(" key-1 ", "createApplication", "A1", "J1"));
+    }
+
+    @Test
+    void reusingAKeyForADifferentRequestIsRejected() {
+        idempotencyService.recordResource("key-1", "APP-1", "createApplication", "A1", "J1");
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> idempotencyService.findResource("key-1", "createApplication", "A1", "J2"));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, e.getStatusCode());
+    }
+
+    @Test
+    void missingKeyIsIgnored() {
+        idempotencyService.recordResource(null, "APP-1", "createApplication", "A1", "J1");
+        idempotencyService.recordResource("  ", "APP-1", "createApplication", "A1", "J1");
+
+        assertTrue(table.isEmpty());
+        assertNull(idempotencyService.findResource(null, "createApplication", "A1", "J1"));
+    }
+
+    @Test
+    void overlongKeyIsRejected() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> idempotencyService.findResource("k".repeat(256), "createApplication", "A1", "J1"));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+}
@@ -0,0 +1,142 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.JobListingDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Serves the public board and the signed-in listing reads from one snapshot of the active listings
+ */
+class JobBoardServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private JobListingService jobListingService;
+    private JobBoardService jobBoardService;
+
+    @BeforeEach
+    void setUp() {
+        List<JobListingDTO> listings = new ArrayList<>();
+        listings.add(listing("JOB-1", "Payroll Specialist", "EXTERNAL", "FULL_TIME", TODAY.minusDays(3), 12));
+        listings.add(listing("JOB-2", "Senior Payroll Lead", "INTERNAL", "FULL_TIME", TODAY.minusDays(1), 4));
+        listings.add(listing("JOB-3", "Recruitment Officer", "BOTH", "CONTRACT", TODAY, 7));
+        listings.add(listing("JOB-4", "Accounts Clerk", "EXTERNAL", "PART_TIME", null, 0));
+
+        jobListingService = mock(JobListingService.class);
+        when(jobListingService.getActiveJobListings()).thenReturn(listings);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        jobBoardService = new JobBoardService(jobListingService, objectMapper, transactionManager);
+    }
+
+    @Test
+    void publicBoardLeavesOutInternalListingsAndApplicationCounts() throws IOException {
+        JsonNode board = objectMapper.readTree(jobBoardService.getBoard(null, null, null).json());
+
+        assertEquals(List.of("JOB-3", "JOB-1", "JOB-4"), jobIds(board));
+        board.forEach(listing -> assertFalse(listing.has("totalApplications"), listing.toString()));
+
+        assertEquals(0, objectMapper.readTree(jobBoardService.getBoard("internal", null, null).json()).size());
+        assertEquals(List.of("JOB-1"), jobIds(objectMapper.readTree(jobBoardService.getBoard(null, null, "payroll").json())));
+    }
+
+    @Test
+    void activeListingsArePagedAndSortedFromTheSnapshot() {
+        Page<JobListingDTO> newest = jobBoardService.getActiveListings(null,
+                PageRequest.of(0, 2, Sort.Direction.DESC, "datePosted"));
+        assertEquals(List.of("JOB-3", "JOB-2"), newest.map(JobListingDTO::getJobId).getContent());
+        assertEquals(4, newest.getTotalElements());
+        assertEquals(12, jobBoardService.getActiveListings(null, PageRequest.of(0, 1, Sort.Direction.DESC, "totalApplications"))
+                .getContent().get(0).getTotalApplications());
+
+        // Listings without a posting date sort last either way, as on the database
+        assertEquals(List.of("JOB-4"), jobBoardService.getActiveListings(null,
+                PageRequest.of(1, 3, Sort.Direction.ASC, "datePosted")).map(JobListingDTO::getJobId).getContent());
+
+        assertEquals(List.of("JOB-2"), jobBoardService.getActiveListings("internal",
+                PageRequest.of(0, 10, Sort.Direction.DESC, "datePosted")).map(JobListingDTO::getJobId).getContent());
+
+        verify(jobListingService, times(1)).getActiveJobListings();
+    }
+
+    @Test
+    void sortingByAnUnknownPropertyIsABadRequest() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> jobBoardService.getActiveListings(null,
+                PageRequest.of(0, 10, Sort.Direction.ASC, "department")));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    @Test
+    void searchMatchesTheTermAndFilters() {
+        PageRequest byTitle = PageRequest.of(0, 10, Sort.Direction.ASC, "title");
+
+        assertEquals(List.of("JOB-1", "JOB-2"), jobBoardService.search("PAYROLL", null, null, null, byTitle)
+                .map(JobListingDTO::getJobId).getContent());
+        assertEquals(List.of("JOB-2"), jobBoardService.search("payroll", null, "Internal", null, byTitle)
+                .map(JobListingDTO::getJobId).getContent());
+        assertEquals(List.of("JOB-3"), jobBoardService.search("screening", "DEPT-HR", null, "contract", byTitle)
+                .map(JobListingDTO::getJobId).getContent());
+    }
+
+    @Test
+    void rankedIdsAreResolvedInTheirOrderSkippingDeactivatedListings() {
+        Page<String> ranked = new PageImpl<>(List.of("JOB-3", "JOB-9", "JOB-1"), PageRequest.of(0, 3), 5);
+
+        Page<JobListingDTO> listings = jobBoardService.getListings(ranked);
+
+        assertEquals(List.of("JOB-3", "JOB-1"), listings.map(JobListingDTO::getJobId).getContent());
+        assertEquals(5, listings.getTotalElements());
+    }
+
+    private static JobListingDTO listing(String jobId, String title, String jobType, String employmentType,
+                                         LocalDate datePosted, int totalApplications) {
+        JobListingDTO listing = new JobListingDTO();
+        listing.setJobId(jobId);
+        listing.setTitle(title);
+        listing.setDepartmentId(title.contains("Recruitment") ? "DEPT-HR" : "DEPT-FIN");
+        listing.setJobDescription("Join the " + title + " team");
+        listing.setQualifications(title.contains("Recruitment") ? "Candidate screening experience" : "Bookkeeping");
+        listing.setJobType(jobType);
+        listing.setEmploymentType(employmentType);
+        listing.setDatePosted(datePosted);
+        listing.setApplicationDeadline(TODAY.plusDays(30));
+        listing.setActive(true);
+        listing.setTotalApplications(totalApplications);
+        return listing;
+    }
+
+    private static List<String> jobIds(JsonNode board) {
+        List<String> jobIds = new ArrayList<>();
+        board.forEach(listing -> jobIds.add(listing.get("jobId").asText()));
+        return jobIds;
+    }
+}
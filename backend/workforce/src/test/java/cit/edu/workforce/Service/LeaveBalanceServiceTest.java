@@ -0,0 +1,182 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Entity.EmployeeEntity;
+import cit.edu.workforce.Entity.LeaveBalanceEntity;
+import cit.edu.workforce.Entity.LeaveLedgerEntryEntity;
+import cit.edu.workforce.Entity.LeaveRequestEntity;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.LeaveBalanceRepository;
+import cit.edu.workforce.Repository.LeaveLedgerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Deducts and reverses leave requests as the web client submits them, against in-memory balances
+ */
+class LeaveBalanceServiceTest {
+
+    private static final String EMPLOYEE_ID = "EMP-2024-00001";
+
+    private final Map<String, LeaveBalanceEntity> balances = new HashMap<>();
+    private final List<LeaveLedgerEntryEntity> ledger = new ArrayList<>();
+
+    private EmployeeEntity employee;
+    private LeaveBalanceService leaveBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        employee = new EmployeeEntity();
+        employee.setEmployeeId(EMPLOYEE_ID);
+
+        LeaveBalanceRepository leaveBalanceRepository = mock(LeaveBalanceRepository.class);
+        when(leaveBalanceRepository.findByEmployeeEmployeeIdAndLeaveType(anyString(), anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(balances.get(invocation.<String>getArgument(1))));
+        when(leaveBalanceRepository.saveAndFlush(any(LeaveBalanceEntity.class))).thenAnswer(invocation -> {
+            LeaveBalanceEntity balance = invocation.getArgument(0);
+            balance.setBalanceId("LB-" + balance.getLeaveType());
+            balances.put(balance.getLeaveType(), balance);
+            return balance;
+        });
+        when(leaveBalanceRepository.deduct(anyString(), any(BigDecimal.class), any())).thenAnswer(invocation -> {
+            LeaveBalanceEntity balance = byId(invocation.getArgument(0));
+            BigDecimal days = invocation.getArgument(1);
+            if (balance.getRemainingDays().compareTo(days) < 0) {
+                return 0;
+            }
+            balance.setUsedDays(balance.getUsedDays().add(days));
+            balance.setRemainingDays(balance.getRemainingDays().subtract(days));
+            return 1;
+        });
+        when(leaveBalanceRepository.reverse(anyString(), any(BigDecimal.class), any())).thenAnswer(invocation -> {
+            LeaveBalanceEntity balance = byId(invocation.getArgument(0));
+            BigDecimal days = invocation.getArgument(1);
+            balance.setUsedDays(balance.getUsedDays().subtract(days));
+            balance.setRemainingDays(balance.getRemainingDays().add(days));
+            return 1;
+        });
+
+        LeaveLedgerEntryRepository leaveLedgerEntryRepository = mock(LeaveLedgerEntryRepository.class);
+        when(leaveLedgerEntryRepository.saveAndFlush(any(LeaveLedgerEntryEntity.class))).thenAnswer(invocation -> {
+            ledger.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(leaveLedgerEntryRepository.existsByEntryKey(anyString())).thenAnswer(invocation ->
+                ledger.stream().anyMatch(entry -> entry.getEntryKey().equals(invocation.getArgument(0))));
+
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.getReferenceById(EMPLOYEE_ID)).thenReturn(employee);
+
+        leaveBalanceService = new LeaveBalanceService(leaveBalanceRepository, leaveLedgerEntryRepository,
+                employeeRepository, mock(ScheduledJobService.class), mock(PlatformTransactionManager.class));
+
+        addBalance("Vacation", "10");
+        addBalance("Sick", "10");
+        addBalance("Emergency", "3");
+    }
+
+    @Test
+    void clientLabelsAreDeductedFromTheirTrackedBalance() {
+        leaveBalanceService.deduct(request("LV-1", "Vacation Leave (VL)", "2"));
+        leaveBalanceService.deduct(request("LV-2", "Sick Leave (SL)", "1.5"));
+        leaveBalanceService.deduct(request("LV-3", "Emergency Leave", "1"));
+        leaveBalanceService.deduct(request("LV-4", "VL", "1"));
+        leaveBalanceService.deduct(request("LV-5", " vacation ", "1"));
+
+        assertEquals(new BigDecimal("6"), balances.get("Vacation").getRemainingDays());
+        assertEquals(new BigDecimal("8.5"), balances.get("Sick").getRemainingDays());
+        assertEquals(new BigDecimal("2"), balances.get("Emergency").getRemainingDays());
+        assertEquals(5, ledger.size());
+        assertTrue(ledger.stream().allMatch(entry -> entry.getEntryType().equals(LeaveLedgerEntryEntity.DEDUCTION)));
+    }
+
+    @Test
+    void untrackedLeaveTypesLeaveBalancesAlone() {
+        for (String leaveType : List.of("Maternity Leave", "Bereavement Leave", "Public Holidays (Holiday Leave)",
+                "Special Leave for Women", "Other")) {
+            leaveBalanceService.deduct(request("LV-" + leaveType, leaveType, "1"));
+        }
+
+        assertTrue(ledger.isEmpty());
+        assertEquals(new BigDecimal("10"), balances.get("Vacation").getRemainingDays());
+    }
+
+    @Test
+    void cancellingGivesTheDeductedDaysBack() {
+        LeaveRequestEntity leave = request("LV-1", "Sick Leave (SL)", "3");
+        leaveBalanceService.deduct(leave);
+        leaveBalanceService.reverse(leave);
+
+        assertEquals(new BigDecimal("10"), balances.get("Sick").getRemainingDays());
+        assertEquals(List.of(LeaveLedgerEntryEntity.DEDUCTION, LeaveLedgerEntryEntity.REVERSAL),
+                ledger.stream().map(LeaveLedgerEntryEntity::getEntryType).toList());
+    }
+
+    @Test
+    void overdrawingIsRejected() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> leaveBalanceService.deduct(request("LV-1", "Emergency Leave", "4")));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertEquals(new BigDecimal("3"), balances.get("Emergency").getRemainingDays());
+    }
+
+    @Test
+    void employeeHiredSinceTheLastAccrualGetsAZeroOpeningBalance() {
+        balances.clear();
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> leaveBalanceService.deduct(request("LV-1", "Vacation Leave (VL)", "1")));
+
+        // Insufficient balance rather than a missing one
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+        assertTrue(e.getReason().startsWith("Insufficient Vacation leave balance"), e.getReason());
+        LeaveBalanceEntity opened = balances.get("Vacation");
+        assertEquals(BigDecimal.ZERO, opened.getRemainingDays());
+        assertEquals(employee, opened.getEmployee());
+    }
+
+    private LeaveRequestEntity request(String leaveId, String leaveType, String days) {
+        LeaveRequestEntity leave = new LeaveRequestEntity();
+        leave.setLeaveId(leaveId);
+        leave.setEmployee(employee);
+        leave.setLeaveType(leaveType);
+        leave.setTotalDays(new BigDecimal(days));
+        return leave;
+    }
+
+    private void addBalance(String leaveType, String days) {
+        LeaveBalanceEntity balance = new LeaveBalanceEntity();
+        balance.setBalanceId("LB-" + leaveType);
+        balance.setEmployee(employee);
+        balance.setLeaveType(leaveType);
+        balance.setAllocatedDays(new BigDecimal(days));
+        balance.setUsedDays(BigDecimal.ZERO);
+        balance.setRemainingDays(new BigDecimal(days));
+        balances.put(leaveType, balance);
+    }
+
+    private LeaveBalanceEntity byId(String balanceId) {
+        return balances.values().stream()
+                .filter(balance -> balance.getBalanceId().equals(balanceId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
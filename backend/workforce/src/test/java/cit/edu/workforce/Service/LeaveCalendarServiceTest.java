@@ -0,0 +1,91 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Repository.LeaveRequestRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LeaveCalendarServiceTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2024, 2, 1);
+    private static final LocalDate LAST = LocalDate.of(2024, 2, 29);
+
+    private record Interval(LocalDate getStartDate, LocalDate getEndDate)
+            implements LeaveRequestRepository.LeaveInterval {
+    }
+
+    private static Interval interval(int startDay, int endDay) {
+        return new Interval(FIRST.withDayOfMonth(startDay), FIRST.withDayOfMonth(endDay));
+    }
+
+    @Test
+    void noIntervalsMeansNobodyOnLeave() {
+        int[] counts = LeaveCalendarService.countPerDay(List.of(), FIRST, LAST);
+
+        assertEquals(29, counts.length);
+        assertArrayEquals(new int[29], counts);
+    }
+
+    @Test
+    void overlappingIntervalsAddUp() {
+        int[] counts = LeaveCalendarService.countPerDay(
+                List.of(interval(3, 7), interval(5, 10), interval(6, 6)), FIRST, LAST);
+
+        assertEquals(0, counts[1]);  // Feb 2
+        assertEquals(1, counts[2]);  // Feb 3
+        assertEquals(1, counts[3]);  // Feb 4
+        assertEquals(2, counts[4]);  // Feb 5
+        assertEquals(3, counts[5]);  // Feb 6
+        assertEquals(2, counts[6]);  // Feb 7
+        assertEquals(1, counts[7]);  // Feb 8
+        assertEquals(1, counts[9]);  // Feb 10
+        assertEquals(0, counts[10]); // Feb 11
+    }
+
+    @Test
+    void singleDayIntervalCoversOnlyThatDay() {
+        int[] counts = LeaveCalendarService.countPerDay(List.of(interval(15, 15)), FIRST, LAST);
+
+        int[] expected = new int[29];
+        expected[14] = 1;
+        assertArrayEquals(expected, counts);
+    }
+
+    @Test
+    void intervalsAreClippedToTheWindow() {
+        int[] counts = LeaveCalendarService.countPerDay(List.of(
+                new Interval(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 2)),
+                new Interval(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 5)),
+                new Interval(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31))), FIRST, LAST);
+
+        assertEquals(2, counts[0]);
+        assertEquals(2, counts[1]);
+        assertEquals(1, counts[2]);
+        assertEquals(1, counts[26]);
+        assertEquals(2, counts[27]);
+        assertEquals(2, counts[28]);
+    }
+
+    @Test
+    void intervalsOutsideTheWindowAreIgnored() {
+        int[] counts = LeaveCalendarService.countPerDay(List.of(
+                new Interval(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                new Interval(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1))), FIRST, LAST);
+
+        assertArrayEquals(new int[29], counts);
+    }
+
+    @Test
+    void singleDayWindowOnItsEdges() {
+        LocalDate day = LocalDate.of(2024, 2, 29);
+        int[] counts = LeaveCalendarService.countPerDay(List.of(
+                new Interval(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1)),
+                new Interval(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29))), day, day);
+
+        assertArrayEquals(new int[]{2}, counts);
+    }
+}
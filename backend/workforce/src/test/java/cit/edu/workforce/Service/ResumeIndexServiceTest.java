@@ -0,0 +1,109 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.Config.DatabaseVendor;
+import cit.edu.workforce.Config.HibernateSchemaDatabase;
+import cit.edu.workforce.DTO.ApplicantSearchResultDTO;
+import cit.edu.workforce.Repository.ResumeTextRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Searches resumes on a database without PostgreSQL full-text search, as the application does on H2
+ */
+class ResumeIndexServiceTest {
+
+    private static HibernateSchemaDatabase database;
+
+    private ResumeIndexService resumeIndexService;
+
+    @BeforeAll
+    static void createSchema() {
+        database = HibernateSchemaDatabase.create("resume_index_service");
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        database.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        database.jdbcTemplate().update("DELETE FROM resume_text");
+        database.jdbcTemplate().update("DELETE FROM applicant");
+        addResume("AP-1", "Maria Santos", "Payroll specialist. Prepared <b>BIR</b> filings and reconciled the General Ledger monthly.");
+        addResume("AP-2", "Jose Rizal", "Recruitment officer handling campus hiring and onboarding.");
+        addResume("AP-3", "Andres Bonifacio", "Accountant; owned the general ledger close and audit schedules.");
+
+        DatabaseVendor databaseVendor = mock(DatabaseVendor.class);
+        when(databaseVendor.isPostgres()).thenReturn(false);
+        resumeIndexService = new ResumeIndexService(database.repository(ResumeTextRepository.class),
+                database.jdbcTemplate(), mock(BlobStore.class), databaseVendor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resumeIndexService.shutdown();
+    }
+
+    @Test
+    void matchesTheQueryAsACaseInsensitiveSubstring() {
+        Page<ApplicantSearchResultDTO> results = resumeIndexService.search(" General Ledger ", PageRequest.of(0, 10));
+
+        assertEquals(List.of("Andres Bonifacio", "Maria Santos"),
+                results.map(ApplicantSearchResultDTO::getFullName).getContent());
+        assertEquals(2, results.getTotalElements());
+        assertEquals("Accountant; owned the <mark>general ledger</mark> close and audit schedules.",
+                results.getContent().get(0).getHighlight());
+    }
+
+    @Test
+    void highlightsAreEscapedAndCutAroundTheMatch() {
+        ApplicantSearchResultDTO result = resumeIndexService.search("reconciled", PageRequest.of(0, 10)).getContent().get(0);
+
+        assertEquals("AP-1", result.getApplicantId());
+        assertEquals("Payroll specialist. Prepared &lt;b&gt;BIR&lt;/b&gt; filings and <mark>reconciled</mark> the General Ledger monthly.",
+                result.getHighlight());
+
+        String longResume = "x".repeat(200) + " onboarding " + "y".repeat(200);
+        database.jdbcTemplate().update("UPDATE resume_text SET resume_text = ? WHERE applicant_id = 'AP-2'", longResume);
+        String highlight = resumeIndexService.search("onboarding", PageRequest.of(0, 10)).getContent().get(0).getHighlight();
+        assertEquals("... " + "x".repeat(59) + " <mark>onboarding</mark> " + "y".repeat(59) + " ...", highlight);
+    }
+
+    @Test
+    void laterPagesCountEveryMatch() {
+        Page<ApplicantSearchResultDTO> second = resumeIndexService.search("the", PageRequest.of(1, 1));
+
+        assertEquals(List.of("Maria Santos"), second.map(ApplicantSearchResultDTO::getFullName).getContent());
+        assertEquals(2, second.getTotalElements());
+        assertEquals(0, resumeIndexService.search("payroll clerk", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void resumesWithoutTextAreNotMatched() {
+        database.jdbcTemplate().update("UPDATE resume_text SET resume_text = NULL, status = 'FAILED' WHERE applicant_id = 'AP-1'");
+
+        Page<ApplicantSearchResultDTO> results = resumeIndexService.search("ledger", PageRequest.of(0, 10));
+
+        assertEquals(List.of("AP-3"), results.map(ApplicantSearchResultDTO::getApplicantId).getContent());
+    }
+
+    private static void addResume(String applicantId, String fullName, String text) {
+        database.jdbcTemplate().update("INSERT INTO applicant (applicant_id, full_name, email, application_date, is_internal, "
+                        + "resume_content_hash) VALUES (?, ?, ?, CURRENT_DATE, FALSE, ?)",
+                applicantId, fullName, applicantId.toLowerCase() + "@gmail.com", "hash-" + applicantId);
+        database.jdbcTemplate().update("INSERT INTO resume_text (applicant_id, content_hash, resume_text, status, indexed_at) "
+                + "VALUES (?, ?, ?, 'INDEXED', CURRENT_TIMESTAMP)", applicantId, "hash-" + applicantId, text);
+    }
+}
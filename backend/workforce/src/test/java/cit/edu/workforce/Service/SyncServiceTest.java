@@ -0,0 +1,294 @@
+package cit.edu.workforce.Service;
+
+import cit.edu.workforce.DTO.BenefitPlanDTO;
+import cit.edu.workforce.DTO.SyncResponseDTO;
+import cit.edu.workforce.Entity.BenefitPlanEntity;
+import cit.edu.workforce.Entity.SyncTombstoneEntity;
+import cit.edu.workforce.Repository.BenefitEnrollmentRepository;
+import cit.edu.workforce.Repository.BenefitPlanRepository;
+import cit.edu.workforce.Repository.EmployeeRepository;
+import cit.edu.workforce.Repository.LeaveRequestRepository;
+import cit.edu.workforce.Repository.OvertimeRequestRepository;
+import cit.edu.workforce.Repository.SyncTombstoneRepository;
+import cit.edu.workforce.Repository.TrainingEnrollmentRepository;
+import cit.edu.workforce.Repository.TrainingProgramRepository;
+import cit.edu.workforce.Utils.ChangeVersionClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Walks the benefit-plans feed, a catalog every role syncs in full, against in-memory rows and tombstones
+ */
+class SyncServiceTest {
+
+    private static final String RESOURCE = "benefit-plans";
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(30);
+
+    private final List<BenefitPlanEntity> plans = new ArrayList<>();
+    private final List<SyncTombstoneEntity> tombstones = new ArrayList<>();
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        BenefitPlanRepository benefitPlanRepository = mock(BenefitPlanRepository.class);
+        when(benefitPlanRepository.findChangedAfter(anyLong(), anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> plans.stream()
+                        .filter(plan -> after(plan.getChangeVersion(), plan.getPlanId(),
+                                invocation.getArgument(0), invocation.getArgument(1)))
+                        .sorted(Comparator.comparing(BenefitPlanEntity::getChangeVersion).thenComparing(BenefitPlanEntity::getPlanId))
+                        .limit(invocation.<Pageable>getArgument(2).getPageSize())
+                        .toList());
+
+        SyncTombstoneRepository syncTombstoneRepository = mock(SyncTombstoneRepository.class);
+        when(syncTombstoneRepository.findChangedAfter(eq(RESOURCE), anyLong(), anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> tombstones.stream()
+                        .filter(tombstone -> after(tombstone.getChangeVersion(), tombstone.getEntityId(),
+                                invocation.getArgument(1), invocation.getArgument(2)))
+                        .sorted(Comparator.comparing(SyncTombstoneEntity::getChangeVersion).thenComparing(SyncTombstoneEntity::getEntityId))
+                        .limit(invocation.<Pageable>getArgument(3).getPageSize())
+                        .toList());
+
+        BenefitPlanService benefitPlanService = mock(BenefitPlanService.class);
+        when(benefitPlanService.convertToDTO(any(BenefitPlanEntity.class))).thenAnswer(invocation -> {
+            BenefitPlanDTO dto = new BenefitPlanDTO();
+            dto.setPlanId(invocation.<BenefitPlanEntity>getArgument(0).getPlanId());
+            return dto;
+        });
+
+        syncService = new SyncService(
+                mock(EmployeeRepository.class), mock(LeaveRequestRepository.class), mock(OvertimeRequestRepository.class),
+                benefitPlanRepository, mock(BenefitEnrollmentRepository.class), mock(TrainingProgramRepository.class),
+                mock(TrainingEnrollmentRepository.class), syncTombstoneRepository, mock(EmployeeService.class),
+                mock(LeaveService.class), mock(OvertimeService.class), benefitPlanService,
+                mock(BenefitEnrollmentService.class), mock(TrainingProgramService.class),
+                mock(TrainingEnrollmentService.class), mock(JdbcTemplate.class));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "hr@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_HR"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pagesDeliverEveryChangeOnceAndEndPastTheLastChange() {
+        long base = versionAgo(Duration.ofHours(1));
+        for (int i = 1; i <= 25; i++) {
+            addPlan("P" + i, base + i * 10);
+        }
+        for (int i = 1; i <= 7; i++) {
+            addTombstone("D" + i, base + i * 35 + 5);
+        }
+
+        List<String> upserts = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        long since = base;
+        String sinceId = null;
+        int pages = 0;
+        SyncResponseDTO<?> response;
+        do {
+            response = syncService.getChanges(RESOURCE, since, sinceId, 10);
+            response.getUpserts().forEach(dto -> upserts.add(((BenefitPlanDTO) dto).getPlanId()));
+            deletes.addAll(response.getDeletedIds());
+            assertTrue(response.getHighWaterMark() > since, "the mark must move forward while pages remain");
+            since = response.getHighWaterMark();
+            sinceId = response.getHighWaterMarkId();
+            pages++;
+        } while (response.isHasMore());
+
+        assertEquals(3, pages);
+        assertEquals(25, upserts.size());
+        assertEquals(25, new HashSet<>(upserts).size());
+        assertEquals(List.of("D1", "D2", "D3", "D4", "D5", "D6", "D7"), deletes);
+        // The last page ends at the clock less the commit lag, past every change
+        assertTrue(since >= base + 250 && since <= versionAgo(COMMIT_LAG));
+        assertNull(sinceId);
+        assertFalse(response.isFullResync());
+
+        // Nothing changed since: an empty page that does not move the mark back
+        SyncResponseDTO<?> empty = syncService.getChanges(RESOURCE, since, null, 10);
+        assertTrue(empty.getUpserts().isEmpty());
+        assertTrue(empty.getDeletedIds().isEmpty());
+        assertTrue(empty.getHighWaterMark() >= since);
+    }
+
+    @Test
+    void pageStopsBothStreamsAtTheLowerPageEnd() {
+        long base = versionAgo(Duration.ofHours(1));
+        for (int i = 1; i <= 3; i++) {
+            addPlan("P" + i, base + i * 100);
+        }
+        for (int i = 1; i <= 4; i++) {
+            addTombstone("D" + i, base + i);
+        }
+
+        SyncResponseDTO<?> response = syncService.getChanges(RESOURCE, base, null, 2);
+
+        // The tombstone page ends at D2, so P1 (after D2) waits for the next page
+        assertTrue(response.isHasMore());
+        assertEquals(base + 2, response.getHighWaterMark());
+        assertEquals("D2", response.getHighWaterMarkId());
+        assertTrue(response.getUpserts().isEmpty());
+        assertEquals(List.of("D1", "D2"), response.getDeletedIds());
+    }
+
+    @Test
+    void rowsSharingOneVersionArePagedById() {
+        // Rows written before change tracking are all backfilled to version 1
+        for (int i = 1; i <= 25; i++) {
+            addPlan(String.format("P%02d", i), 1);
+        }
+        long base = versionAgo(Duration.ofHours(1));
+        addPlan("P-NEW", base);
+        addTombstone("D1", base + 1);
+
+        List<String> upserts = new ArrayList<>();
+        long since = 0;
+        String sinceId = null;
+        SyncResponseDTO<?> response;
+        do {
+            response = syncService.getChanges(RESOURCE, since, sinceId, 10);
+            response.getUpserts().forEach(dto -> upserts.add(((BenefitPlanDTO) dto).getPlanId()));
+            since = response.getHighWaterMark();
+            sinceId = response.getHighWaterMarkId();
+        } while (response.isHasMore());
+
+        assertEquals(26, upserts.size());
+        assertEquals(26, new HashSet<>(upserts).size());
+        assertNull(sinceId);
+
+        // A client resuming inside version 1 gets the rest of it, then the later changes
+        SyncResponseDTO<?> resumed = syncService.getChanges(RESOURCE, 1, "P20", 10);
+        List<String> rest = new ArrayList<>();
+        resumed.getUpserts().forEach(dto -> rest.add(((BenefitPlanDTO) dto).getPlanId()));
+        assertEquals(List.of("P21", "P22", "P23", "P24", "P25", "P-NEW"), rest);
+        assertEquals(List.of("D1"), resumed.getDeletedIds());
+        assertFalse(resumed.isHasMore());
+    }
+
+    @Test
+    void markTrailsTheClockSoLateCommitsAreNotSkipped() {
+        long since = versionAgo(Duration.ofMinutes(5));
+        addPlan("P-RECENT", versionAgo(Duration.ofSeconds(5)));
+
+        SyncResponseDTO<?> first = syncService.getChanges(RESOURCE, since, null, 10);
+        assertEquals(1, first.getUpserts().size());
+        assertFalse(first.isHasMore());
+        long mark = first.getHighWaterMark();
+        assertTrue(mark < versionAgo(COMMIT_LAG.minusSeconds(1)), "the mark must trail the clock by the commit lag");
+
+        // A row stamped before P-RECENT whose transaction commits after the first sync
+        addPlan("P-LATE", versionAgo(Duration.ofSeconds(10)));
+        SyncResponseDTO<?> second = syncService.getChanges(RESOURCE, mark, first.getHighWaterMarkId(), 10);
+
+        Set<String> planIds = new HashSet<>();
+        second.getUpserts().forEach(dto -> planIds.add(((BenefitPlanDTO) dto).getPlanId()));
+        assertEquals(Set.of("P-LATE", "P-RECENT"), planIds);
+    }
+
+    @Test
+    void markNeverMovesBackwards() {
+        long since = versionAgo(Duration.ofSeconds(5));
+        addPlan("P1", versionAgo(Duration.ofSeconds(1)));
+
+        SyncResponseDTO<?> response = syncService.getChanges(RESOURCE, since, null, 10);
+
+        assertEquals(1, response.getUpserts().size());
+        assertEquals(since, response.getHighWaterMark());
+    }
+
+    @Test
+    void fullPageOfRecentChangesStillAdvancesTheMark() {
+        long since = versionAgo(Duration.ofSeconds(10));
+        addPlan("P1", versionAgo(Duration.ofSeconds(8)));
+        addPlan("P2", versionAgo(Duration.ofSeconds(6)));
+        addPlan("P3", versionAgo(Duration.ofSeconds(4)));
+
+        SyncResponseDTO<?> response = syncService.getChanges(RESOURCE, since, null, 2);
+
+        assertTrue(response.isHasMore());
+        assertEquals(plans.get(1).getChangeVersion(), response.getHighWaterMark());
+        assertEquals("P2", response.getHighWaterMarkId());
+        assertEquals(2, response.getUpserts().size());
+    }
+
+    @Test
+    void clientOlderThanTheTombstoneRetentionResyncsFromTheStart() {
+        addPlan("P1", versionAgo(Duration.ofDays(200)));
+        addPlan("P2", versionAgo(Duration.ofDays(1)));
+        addTombstone("D1", versionAgo(Duration.ofDays(2)));
+
+        SyncResponseDTO<?> response = syncService.getChanges(RESOURCE, versionAgo(Duration.ofDays(120)), null, 10);
+
+        assertTrue(response.isFullResync());
+        assertEquals(2, response.getUpserts().size());
+        // A full download replaces the client's copy, so deletions are implied
+        assertTrue(response.getDeletedIds().isEmpty());
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> syncService.getChanges(RESOURCE, -1, null, 10)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> syncService.getChanges(RESOURCE, 0, null, 0)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> syncService.getChanges(RESOURCE, 0, null, 1001)).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, assertThrows(ResponseStatusException.class,
+                () -> syncService.getChanges("payslips", 0, null, 10)).getStatusCode());
+    }
+
+    private void addPlan(String planId, long changeVersion) {
+        BenefitPlanEntity plan = new BenefitPlanEntity();
+        plan.setPlanId(planId);
+        plan.setChangeVersion(changeVersion);
+        plans.add(plan);
+    }
+
+    private void addTombstone(String entityId, long changeVersion) {
+        SyncTombstoneEntity tombstone = new SyncTombstoneEntity();
+        tombstone.setResource(RESOURCE);
+        tombstone.setEntityId(entityId);
+        tombstone.setChangeVersion(changeVersion);
+        tombstones.add(tombstone);
+    }
+
+    private static boolean after(long version, String id, long afterVersion, String afterId) {
+        return version > afterVersion || version == afterVersion && id.compareTo(afterId) > 0;
+    }
+
+    private static long versionAgo(Duration age) {
+        return ChangeVersionClock.toVersion(Instant.now().minus(age));
+    }
+}
@@ -0,0 +1,87 @@
+package cit.edu.workforce.Service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadServiceTest {
+
+    private static final byte[] PDF = "%PDF-1.7\n%âã\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04, 0x14, 0, 0, 0, 0x08, 0, 0, 0};
+    private static final byte[] CSV = "name,amount\nAna,100\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HTML = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+
+    private UploadService uploadService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        BlobStore blobStore = mock(BlobStore.class);
+        when(blobStore.put(any(InputStream.class), anyBoolean())).thenAnswer(invocation ->
+                new BlobStore.StoredBlob("hash", invocation.<InputStream>getArgument(0).readAllBytes().length));
+        uploadService = new UploadService(blobStore, mock(ThumbnailService.class));
+    }
+
+    @Test
+    void documentsAcceptAnyFile() {
+        assertEquals("application/pdf", store(PDF, "application/pdf", UploadService.UploadPolicy.DOCUMENT).contentType());
+        assertEquals("application/zip", store(ZIP, "application/zip", UploadService.UploadPolicy.DOCUMENT).contentType());
+        assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                store(ZIP, "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+                        UploadService.UploadPolicy.DOCUMENT).contentType());
+
+        UploadService.StoredUpload csv = store(CSV, "text/csv", UploadService.UploadPolicy.DOCUMENT);
+        assertEquals("application/octet-stream", csv.contentType());
+        assertEquals(CSV.length, csv.size());
+    }
+
+    @Test
+    void unrecognisedContentIsNotStoredUnderItsDeclaredType() {
+        assertEquals("application/octet-stream", store(HTML, "text/html", UploadService.UploadPolicy.DOCUMENT).contentType());
+        // Recognised content is labelled by what it is, not by what the client claims
+        assertEquals("image/png", store(PNG, "application/pdf", UploadService.UploadPolicy.DOCUMENT).contentType());
+    }
+
+    @Test
+    void restrictedPoliciesRejectOtherTypes() {
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, assertThrows(ResponseStatusException.class,
+                () -> store(CSV, "text/csv", UploadService.UploadPolicy.RESUME)).getStatusCode());
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, assertThrows(ResponseStatusException.class,
+                () -> store(PNG, "application/pdf", UploadService.UploadPolicy.RESUME)).getStatusCode());
+        assertEquals("image/png", store(PNG, "image/png", UploadService.UploadPolicy.RECEIPT).contentType());
+    }
+
+    @Test
+    void oversizedAndEmptyUploadsAreRejected() {
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, assertThrows(ResponseStatusException.class,
+                () -> uploadService.store(new ByteArrayInputStream(PDF), 6L * 1024 * 1024, "application/pdf",
+                        UploadService.UploadPolicy.RECEIPT)).getStatusCode());
+
+        byte[] oversized = new byte[5 * 1024 * 1024 + 1];
+        System.arraycopy(PDF, 0, oversized, 0, PDF.length);
+        // The declared size is unknown, so the limit is enforced while reading
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, assertThrows(ResponseStatusException.class,
+                () -> uploadService.store(new ByteArrayInputStream(oversized), -1, "application/pdf",
+                        UploadService.UploadPolicy.RECEIPT)).getStatusCode());
+
+        assertEquals(HttpStatus.BAD_REQUEST, assertThrows(ResponseStatusException.class,
+                () -> store(new byte[0], "text/plain", UploadService.UploadPolicy.DOCUMENT)).getStatusCode());
+    }
+
+    private UploadService.StoredUpload store(byte[] content, String declaredType, UploadService.UploadPolicy policy) {
+        return uploadService.store(new ByteArrayInputStream(content), content.length, declaredType, policy);
+    }
+}
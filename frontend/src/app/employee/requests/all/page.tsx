@@ -68,8 +68,13 @@ interface Request {
   totalHours?: number
   reason?: string
   // Reimbursement specific fields
-  receiptImage1?: string
-  receiptImage2?: string
+  reimbursementId?: string
+  receipts?: { slot: number; fileType: string; contentHash: string }[]
+}
+
+interface ReceiptImage {
+  url: string
+  fileType: string
 }
 
 export default function AllRequestsPage() {
@@ -80,8 +85,8 @@ export default function AllRequestsPage() {
   const [activeTab, setActiveTab] = useState("all")
   const [statusFilter, setStatusFilter] = useState("all")
   const [searchTerm, setSearchTerm] = useState("")
-  const [selectedImages, setSelectedImages] = useState<{ image1?: string; image2?: string } | null>(null)
-  const [selectedImage, setSelectedImage] = useState<string | null>(null)
+  const [selectedImages, setSelectedImages] = useState<{ image1?: ReceiptImage; image2?: ReceiptImage } | null>(null)
+  const [selectedImage, setSelectedImage] = useState<ReceiptImage | null>(null)
   const [zoom, setZoom] = useState(1)
   const [rotation, setRotation] = useState(0)
   const [position, setPosition] = useState({ x: 0, y: 0 })
@@ -151,8 +156,8 @@ export default function AllRequestsPage() {
             date: req.requestDate || new Date().toISOString(),
             amount: req.amountRequested,
             description: req.reason,
-            receiptImage1: req.receiptImage1,
-            receiptImage2: req.receiptImage2,
+            reimbursementId: req.reimbursementId,
+            receipts: req.receipts || [],
           })),
         ]
 
@@ -282,18 +287,48 @@ export default function AllRequestsPage() {
     return filteredRequests.slice(startIndex, endIndex)
   }
 
-  // Add this function to handle viewing receipts
-  const handleViewReceipts = (image1?: string, image2?: string) => {
-    setSelectedImages({ image1, image2 })
+  // Receipts are served by their own endpoint; load them with the token and show them from blob URLs
+  const handleViewReceipts = async (request: Request) => {
+    const token = authService.getToken()
+    if (!token || !request.reimbursementId) return
+
+    const loadReceipt = async (slot: number): Promise<ReceiptImage | undefined> => {
+      const receipt = request.receipts?.find((r) => r.slot === slot)
+      if (!receipt) return undefined
+      const response = await fetch(
+        `/api/reimbursement-requests/${request.reimbursementId}/receipts/${slot}?v=${receipt.contentHash}`,
+        { headers: { Authorization: `Bearer ${token}` } },
+      )
+      if (!response.ok) {
+        throw new Error("Failed to fetch receipt")
+      }
+      const blob = await response.blob()
+      return { url: window.URL.createObjectURL(blob), fileType: blob.type || receipt.fileType }
+    }
+
+    try {
+      const [image1, image2] = await Promise.all([loadReceipt(1), loadReceipt(2)])
+      setSelectedImages({ image1, image2 })
+    } catch (err) {
+      console.error("Error fetching receipts:", err)
+      toast.error("Failed to load receipts")
+    }
   }
 
   // Add this function to close the modal
   const handleCloseModal = () => {
+    if (selectedImages?.image1) window.URL.revokeObjectURL(selectedImages.image1.url)
+    if (selectedImages?.image2) window.URL.revokeObjectURL(selectedImages.image2.url)
     setSelectedImages(null)
   }
 
   // Add this function to handle viewing individual images
-  const handleViewImage = (image: string) => {
+  const handleViewImage = (image: ReceiptImage) => {
+    // The image viewer cannot zoom a PDF; let the browser's viewer show it instead
+    if (image.fileType === "application/pdf") {
+      window.open(image.url, "_blank")
+      return
+    }
     setSelectedImage(image)
   }
 
@@ -468,7 +503,7 @@ export default function AllRequestsPage() {
               }}
             >
               <img
-                src={`data:image/jpeg;base64,${selectedImage}`}
+                src={selectedImage.url}
                 alt="Receipt"
                 className="w-full h-auto rounded-lg shadow-2xl transition-all duration-200"
                 style={{
@@ -513,11 +548,19 @@ export default function AllRequestsPage() {
                   className="relative group cursor-pointer overflow-hidden rounded-xl"
                   onClick={() => handleViewImage(selectedImages.image1!)}
                 >
-                  <img
-                    src={`data:image/jpeg;base64,${selectedImages.image1}`}
-                    alt="Receipt 1"
-                    className="w-full h-auto rounded-xl border border-slate-200 dark:border-slate-700 transition-transform duration-300 group-hover:scale-[1.03]"
-                  />
+                  {selectedImages.image1.fileType === "application/pdf" ? (
+                    <iframe
+                      src={selectedImages.image1.url}
+                      title="Receipt 1"
+                      className="w-full h-80 rounded-xl border border-slate-200 dark:border-slate-700 pointer-events-none"
+                    />
+                  ) : (
+                    <img
+                      src={selectedImages.image1.url}
+                      alt="Receipt 1"
+                      className="w-full h-auto rounded-xl border border-slate-200 dark:border-slate-700 transition-transform duration-300 group-hover:scale-[1.03]"
+                    />
+                  )}
                   <div className="absolute inset-0 bg-black/0 group-hover:bg-black/20 transition-colors rounded-xl flex items-center justify-center">
                     <div className="opacity-0 group-hover:opacity-100 transition-opacity transform translate-y-4 group-hover:translate-y-0 duration-300">
                       <div className="bg-white/90 dark:bg-slate-800/90 rounded-full p-3">
@@ -535,11 +578,19 @@ export default function AllRequestsPage() {
                   className="relative group cursor-pointer overflow-hidden rounded-xl"
                   onClick={() => handleViewImage(selectedImages.image2!)}
                 >
-                  <img
-                    src={`data:image/jpeg;base64,${selectedImages.image2}`}
-                    alt="Receipt 2"
-                    className="w-full h-auto rounded-xl border border-slate-200 dark:border-slate-700 transition-transform duration-300 group-hover:scale-[1.03]"
-                  />
+                  {selectedImages.image2.fileType === "application/pdf" ? (
+                    <iframe
+                      src={selectedImages.image2.url}
+                      title="Receipt 2"
+                      className="w-full h-80 rounded-xl border border-slate-200 dark:border-slate-700 pointer-events-none"
+                    />
+                  ) : (
+                    <img
+                      src={selectedImages.image2.url}
+                      alt="Receipt 2"
+                      className="w-full h-auto rounded-xl border border-slate-200 dark:border-slate-700 transition-transform duration-300 group-hover:scale-[1.03]"
+                    />
+                  )}
                   <div className="absolute inset-0 bg-black/0 group-hover:bg-black/20 transition-colors rounded-xl flex items-center justify-center">
                     <div className="opacity-0 group-hover:opacity-100 transition-opacity transform translate-y-4 group-hover:translate-y-0 duration-300">
                       <div className="bg-white/90 dark:bg-slate-800/90 rounded-full p-3">
@@ -978,12 +1029,12 @@ export default function AllRequestsPage() {
 
                               {request.type === "REIMBURSEMENT" && (
                                 <>
-                                  {(request.receiptImage1 || request.receiptImage2) && (
+                                  {request.receipts && request.receipts.length > 0 && (
                                     <Button
                                       variant="outline"
                                       size="sm"
                                       className="mt-2 w-full border-slate-200 dark:border-slate-700 hover:border-amber-500 dark:hover:border-amber-500 text-slate-600 dark:text-slate-300 rounded-full"
-                                      onClick={() => handleViewReceipts(request.receiptImage1, request.receiptImage2)}
+                                      onClick={() => handleViewReceipts(request)}
                                     >
                                       <FileText className="h-4 w-4 mr-2 text-amber-500" />
                                       View Receipts
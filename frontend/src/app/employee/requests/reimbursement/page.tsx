@@ -19,6 +19,9 @@ import {
 } from "@/components/ui/popover"
 import Image from "next/image"
 
+// Image types the server accepts for receipts (UploadService.UploadPolicy.RECEIPT)
+const RECEIPT_IMAGE_TYPES = ["image/png", "image/jpeg", "image/webp"]
+
 interface ReimbursementRequestForm {
   expenseDate: Date | undefined
   amountRequested: string
@@ -47,8 +50,8 @@ export default function ReimbursementRequestPage() {
         toast.error("Image size should be less than 5MB")
         return
       }
-      if (!file.type.startsWith("image/")) {
-        toast.error("Please upload an image file")
+      if (!RECEIPT_IMAGE_TYPES.includes(file.type)) {
+        toast.error("Please upload a PNG, JPEG or WebP image")
         return
       }
 
@@ -214,7 +217,7 @@ export default function ReimbursementRequestPage() {
                     <div className="flex items-center gap-4">
                       <Input
                         type="file"
-                        accept="image/*"
+                        accept={RECEIPT_IMAGE_TYPES.join(",")}
                         className="border-[#E5E7EB] dark:border-[#374151] bg-white dark:bg-[#111827]"
                         onChange={(e) => handleImageChange(e, 1)}
                       />
@@ -238,7 +241,7 @@ export default function ReimbursementRequestPage() {
                     <div className="flex items-center gap-4">
                       <Input
                         type="file"
-                        accept="image/*"
+                        accept={RECEIPT_IMAGE_TYPES.join(",")}
                         className="border-[#E5E7EB] dark:border-[#374151] bg-white dark:bg-[#111827]"
                         onChange={(e) => handleImageChange(e, 2)}
                       />
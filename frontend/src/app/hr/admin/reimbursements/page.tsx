@@ -18,6 +18,15 @@ import { Table, TableBody, TableCell, TableHead, TableHeader, TableRow } from "@
 import { Dialog, DialogContent, DialogHeader, DialogTitle, DialogTrigger } from "@/components/ui/dialog"
 import { Label } from "@/components/ui/label"
 
+interface ReimbursementReceipt {
+  slot: number
+  fileName: string
+  fileType: string
+  fileSize: number
+  contentHash: string
+  uploadedAt: string
+}
+
 interface ReimbursementRequest {
   reimbursementId: string
   employeeId: string
@@ -25,8 +34,7 @@ interface ReimbursementRequest {
   requestDate: string
   expenseDate: string
   amountRequested: number
-  receiptImage1: string
-  receiptImage2: string | null
+  receipts: ReimbursementReceipt[]
   reason: string
   status: string
   reviewedById: string | null
@@ -54,7 +62,7 @@ export default function ReimbursementRequestsPage() {
     approved: 0,
     rejected: 0
   })
-  const [selectedReceipt, setSelectedReceipt] = useState<string | null>(null)
+  const [selectedReceipt, setSelectedReceipt] = useState<{ url: string; fileType: string } | null>(null)
   const [remarks, setRemarks] = useState("")
   const [zoom, setZoom] = useState(1)
   const [rotation, setRotation] = useState(0)
@@ -64,6 +72,62 @@ export default function ReimbursementRequestsPage() {
   const [dragStart, setDragStart] = useState({ x: 0, y: 0 })
   const contentRef = useRef<HTMLDivElement>(null)
 
+  // Receipts are served by their own endpoint; load them with the token and show them from a blob URL
+  const openReceipt = async (request: ReimbursementRequest, slot: number) => {
+    const receipt = request.receipts?.find((r) => r.slot === slot)
+    if (!receipt) return
+
+    setSelectedReceipt(null)
+    try {
+      const token = authService.getToken()
+      if (!token) {
+        router.push("/")
+        return
+      }
+
+      const response = await fetch(
+        `${process.env.NEXT_PUBLIC_API_URL}/reimbursement-requests/${request.reimbursementId}/receipts/${slot}?v=${receipt.contentHash}`,
+        { headers: { Authorization: `Bearer ${token}` } }
+      )
+      if (!response.ok) {
+        throw new Error("Failed to fetch receipt")
+      }
+
+      const blob = await response.blob()
+      setSelectedReceipt({ url: window.URL.createObjectURL(blob), fileType: blob.type || receipt.fileType })
+    } catch (err) {
+      console.error("Error fetching receipt:", err)
+      toast.error("Failed to load receipt")
+    }
+  }
+
+  // Release the previous receipt whenever another one is shown, and on unmount
+  useEffect(() => {
+    return () => {
+      if (selectedReceipt) window.URL.revokeObjectURL(selectedReceipt.url)
+    }
+  }, [selectedReceipt])
+
+  const renderReceipt = (alt: string) => {
+    if (!selectedReceipt) {
+      return <Skeleton className="h-[60vh] w-[60vw]" />
+    }
+    if (selectedReceipt.fileType === "application/pdf") {
+      return <iframe src={selectedReceipt.url} title={alt} className="w-full h-full border-0" />
+    }
+    return (
+      <img
+        src={selectedReceipt.url}
+        alt={alt}
+        className="max-w-full max-h-full object-contain select-none"
+        style={{
+          transform: `scale(${zoom}) rotate(${rotation}deg) translate(${position.x}px, ${position.y}px)`,
+          transition: isDragging ? 'none' : 'transform 0.3s ease',
+        }}
+      />
+    )
+  }
+
   const fetchCounts = async () => {
     try {
       const token = authService.getToken()
@@ -673,7 +737,8 @@ export default function ReimbursementRequestsPage() {
                                   variant="outline"
                                   size="sm"
                                   className="border-[#E5E7EB] dark:border-[#374151] hover:border-[#3B82F6] dark:hover:border-[#3B82F6]"
-                                  onClick={() => setSelectedReceipt(request.receiptImage1)}
+                                  disabled={!request.receipts?.some((r) => r.slot === 1)}
+                                  onClick={() => openReceipt(request, 1)}
                                 >
                                   Receipt 1
                                 </Button>
@@ -708,27 +773,19 @@ export default function ReimbursementRequestsPage() {
                                     onMouseUp={handleMouseUp}
                                     style={{ cursor: zoom > 1 ? (isDragging ? 'grabbing' : 'grab') : 'default' }}
                                   >
-                                    <img
-                                      src={`data:image/jpeg;base64,${request.receiptImage1}`}
-                                      alt="Receipt 1"
-                                      className="max-w-full max-h-full object-contain select-none"
-                                      style={{
-                                        transform: `scale(${zoom}) rotate(${rotation}deg) translate(${position.x}px, ${position.y}px)`,
-                                        transition: isDragging ? 'none' : 'transform 0.3s ease',
-                                      }}
-                                    />
+                                    {renderReceipt("Receipt 1")}
                                   </div>
                                 </div>
                               </DialogContent>
                             </Dialog>
-                            {request.receiptImage2 && (
+                            {request.receipts?.some((r) => r.slot === 2) && (
                               <Dialog>
                                 <DialogTrigger asChild>
                                   <Button
                                     variant="outline"
                                     size="sm"
                                     className="border-[#E5E7EB] dark:border-[#374151] hover:border-[#3B82F6] dark:hover:border-[#3B82F6]"
-                                    onClick={() => setSelectedReceipt(request.receiptImage2)}
+                                    onClick={() => openReceipt(request, 2)}
                                   >
                                     Receipt 2
                                   </Button>
@@ -763,15 +820,7 @@ export default function ReimbursementRequestsPage() {
                                       onMouseUp={handleMouseUp}
                                       style={{ cursor: zoom > 1 ? (isDragging ? 'grabbing' : 'grab') : 'default' }}
                                     >
-                                      <img
-                                        src={`data:image/jpeg;base64,${request.receiptImage2}`}
-                                        alt="Receipt 2"
-                                        className="max-w-full max-h-full object-contain select-none"
-                                        style={{
-                                          transform: `scale(${zoom}) rotate(${rotation}deg) translate(${position.x}px, ${position.y}px)`,
-                                          transition: isDragging ? 'none' : 'transform 0.3s ease',
-                                        }}
-                                      />
+                                      {renderReceipt("Receipt 2")}
                                     </div>
                                   </div>
                                 </DialogContent>